@@ -24,6 +24,7 @@ package com.itextpdf.io.font;
 
 import com.itextpdf.io.exceptions.IOException;
 import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 
@@ -1578,8 +1579,18 @@ public class CFFFont {
     RandomAccessSourceFactory rasFactory = new RandomAccessSourceFactory();
 
     public CFFFont(byte[] cff) {
+        this(new RandomAccessSourceFactory().createSource(cff));
+    }
+
+    /**
+     * Creates a new {@link CFFFont} instance which reads the font data from the passed source
+     * without copying it to memory.
+     *
+     * @param cff the source of the CFF font data
+     */
+    public CFFFont(IRandomAccessSource cff) {
         //System.err.println("CFF: nStdString = "+standardStrings.length);
-        buf = new RandomAccessFileOrArray(rasFactory.createSource(cff));
+        buf = new RandomAccessFileOrArray(cff);
         seek(0);
 
         int major, minor;
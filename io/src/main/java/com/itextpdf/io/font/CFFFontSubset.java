@@ -24,7 +24,9 @@ package com.itextpdf.io.font;
 
 import com.itextpdf.io.exceptions.IOException;
 import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.util.GenericArray;
 
 import java.util.ArrayList;
@@ -155,6 +157,24 @@ public class CFFFontSubset extends CFFFont {
     }
 
     CFFFontSubset(byte[] cff, Set<Integer> GlyphsUsed, boolean isCidParsingRequired) {
+        this(new RandomAccessSourceFactory().createSource(cff), GlyphsUsed, isCidParsingRequired);
+    }
+
+    /**
+     * C'tor for CFFFontSubset which reads the font data from the passed source without copying it to memory.
+     *
+     * @param cff        - The source of the font data
+     * @param GlyphsUsed - The glyphs used in the text
+     */
+    public CFFFontSubset(IRandomAccessSource cff, Set<Integer> GlyphsUsed) {
+        this(cff, GlyphsUsed, false);
+    }
+
+    CFFFontSubset(IRandomAccessSource cff) {
+        this(cff, Collections.<Integer>emptySet(), true);
+    }
+
+    CFFFontSubset(IRandomAccessSource cff, Set<Integer> GlyphsUsed, boolean isCidParsingRequired) {
         // Use CFFFont c'tor in order to parse the font file.
         super(cff);
         this.GlyphsUsed = GlyphsUsed;
@@ -46,6 +46,10 @@ public final class FontProgramFactory {
 
     private static FontRegisterProvider fontRegisterProvider = new FontRegisterProvider();
 
+    private static volatile boolean lazyTablesLoading = false;
+
+    private static volatile boolean memoryMappedFontSources = false;
+
     private FontProgramFactory() {
     }
 
@@ -189,7 +193,7 @@ public final class FontProgramFactory {
                     } else if (Woff2Converter.isWoff2Font(fontProgram)) {
                         fontProgram = Woff2Converter.convert(fontProgram);
                     }
-                    fontBuilt = new TrueTypeFont(fontProgram);
+                    fontBuilt = new TrueTypeFont(fontProgram, lazyTablesLoading);
                 } catch (Exception ignored) {
                 }
                 if (fontBuilt == null) {
@@ -211,9 +215,9 @@ public final class FontProgramFactory {
                 fontBuilt = new CidFont(name, cmap, CjkResourceLoader.getCompatibleCmaps(baseName));
             } else if (".ttf".equals(fontFileExtension) || ".otf".equals(fontFileExtension)) {
                 if (fontProgram != null) {
-                    fontBuilt = new TrueTypeFont(fontProgram);
+                    fontBuilt = new TrueTypeFont(fontProgram, lazyTablesLoading);
                 } else {
-                    fontBuilt = new TrueTypeFont(name);
+                    fontBuilt = new TrueTypeFont(name, lazyTablesLoading, memoryMappedFontSources);
                 }
             } else if (".woff".equals(fontFileExtension) || ".woff2".equals(fontFileExtension)) {
                 if (fontProgram == null) {
@@ -234,7 +238,7 @@ public final class FontProgramFactory {
                         throw new IOException(IoExceptionMessageConstant.INVALID_WOFF2_FONT_FILE, woff2Exception);
                     }
                 }
-                fontBuilt = new TrueTypeFont(fontProgram);
+                fontBuilt = new TrueTypeFont(fontProgram, lazyTablesLoading);
             } else {
                 int ttcSplit = baseName.toLowerCase().indexOf(".ttc,");
                 if (ttcSplit > 0) {
@@ -245,7 +249,7 @@ public final class FontProgramFactory {
 
                         // count(.ttc,) = 5)
                         int ttcIndex = Integer.parseInt(baseName.substring(ttcSplit + 5));
-                        fontBuilt = new TrueTypeFont(ttcName, ttcIndex);
+                        fontBuilt = new TrueTypeFont(ttcName, ttcIndex, lazyTablesLoading, memoryMappedFontSources);
                     } catch (NumberFormatException nfe) {
                         throw new IOException(nfe.getMessage(), nfe);
                     }
@@ -331,7 +335,34 @@ public final class FontProgramFactory {
                 return fontFound;
             }
         }
-        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex);
+        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex, lazyTablesLoading, memoryMappedFontSources);
+        return cached ? FontCache.saveFont(fontBuilt, fontCacheKey) : fontBuilt;
+    }
+
+    /**
+     * Creates a new TrueType font program from the already opened source of ttc (TrueType Collection) file.
+     * The created font program reads the font data through a view of the passed source, so that
+     * all the members of the collection share the same source.
+     *
+     * @param ttcSource the source of a TrueType Collection file (*.ttc)
+     * @param ttcPath  the path of the TrueType Collection file, used as a cache key
+     * @param ttcIndex the index of the font file from the collection to be read
+     * @param cached   true if the font comes from the cache or is added to
+     *                 the cache if new, false if the font is always created new
+     * @return returns a new {@link FontProgram} instance. This font may come from the cache but only if cached
+     * is true, otherwise it will always be created new
+     * @throws java.io.IOException exception is thrown in case an I/O error occurs when reading the file
+     */
+    static FontProgram createFont(RandomAccessFileOrArray ttcSource, String ttcPath, int ttcIndex, boolean cached)
+            throws java.io.IOException {
+        FontCacheKey fontCacheKey = FontCacheKey.create(ttcPath, ttcIndex);
+        if (cached) {
+            FontProgram fontFound = FontCache.getFont(fontCacheKey);
+            if (fontFound != null) {
+                return fontFound;
+            }
+        }
+        FontProgram fontBuilt = new TrueTypeFont(ttcSource, ttcIndex, lazyTablesLoading);
         return cached ? FontCache.saveFont(fontBuilt, fontCacheKey) : fontBuilt;
     }
 
@@ -354,10 +385,63 @@ public final class FontProgramFactory {
                 return fontFound;
             }
         }
-        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex);
+        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex, lazyTablesLoading);
         return cached ? FontCache.saveFont(fontBuilt, fontKey) : fontBuilt;
     }
 
+    /**
+     * Sets whether TrueType and OpenType font programs created by this factory read their kerning
+     * and OpenType layout ('GDEF', 'GSUB', 'GPOS') tables on first use rather than on creation.
+     * <p>
+     * This reduces memory footprint and creation time for fonts which are loaded but rarely or never used,
+     * e.g. when a large font library is registered. Such font programs keep the font source open
+     * until {@link TrueTypeFont#close()} is called. Fonts already created, including the cached ones, are not affected.
+     *
+     * @param lazyTablesLoading {@code true} to read the tables on first use, {@code false} to read them on creation
+     */
+    public static void setLazyTablesLoading(boolean lazyTablesLoading) {
+        FontProgramFactory.lazyTablesLoading = lazyTablesLoading;
+    }
+
+    /**
+     * Checks whether TrueType and OpenType font programs created by this factory read their kerning
+     * and OpenType layout tables on first use.
+     *
+     * @return {@code true} if the tables are read on first use, {@code false} otherwise
+     * @see #setLazyTablesLoading(boolean)
+     */
+    public static boolean isLazyTablesLoading() {
+        return lazyTablesLoading;
+    }
+
+    /**
+     * Sets whether TrueType and OpenType font programs created by this factory from font files
+     * read the font data from memory-mapped files on demand instead of keeping it in memory.
+     * <p>
+     * In this mode the heap usage of a font program doesn't depend on the font file size, which matters for
+     * large CJK fonts and TrueType collections. {@link TrueTypeCollection} instances created from a file path
+     * in this mode share a single memory-mapped source between all the fonts of the collection.
+     * The whole font data is still copied to heap once a font is embedded without subsetting.
+     * Fonts already created, including the cached ones, are not affected.
+     *
+     * @param memoryMappedFontSources {@code true} to read font data from memory-mapped files on demand,
+     *                                {@code false} to keep it in memory
+     */
+    public static void setMemoryMappedFontSources(boolean memoryMappedFontSources) {
+        FontProgramFactory.memoryMappedFontSources = memoryMappedFontSources;
+    }
+
+    /**
+     * Checks whether TrueType and OpenType font programs created by this factory from font files
+     * read the font data from memory-mapped files on demand.
+     *
+     * @return {@code true} if font data is read from memory-mapped files on demand, {@code false} otherwise
+     * @see #setMemoryMappedFontSources(boolean)
+     */
+    public static boolean isMemoryMappedFontSources() {
+        return memoryMappedFontSources;
+    }
+
     /**
      * Creates a FontProgram from the font file that has been previously registered.
      *
@@ -25,8 +25,10 @@ package com.itextpdf.io.font;
 import com.itextpdf.io.exceptions.IOException;
 import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
 import com.itextpdf.io.font.constants.FontStretches;
+import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.io.source.WindowRandomAccessSource;
 import com.itextpdf.io.util.IntHashtable;
 
 import java.io.Closeable;
@@ -207,18 +209,58 @@ class OpenTypeParser implements Closeable {
     }
 
     public OpenTypeParser(String ttcPath, int ttcIndex) throws java.io.IOException {
+        this(ttcPath, ttcIndex, false);
+    }
+
+    public OpenTypeParser(String name) throws java.io.IOException {
+        this(name, false);
+    }
+
+    /**
+     * Creates a parser for a font from a TrueType Collection file.
+     *
+     * @param ttcPath the path to the collection file
+     * @param ttcIndex the index of the font in the collection
+     * @param memoryMapped if true, the file is memory-mapped even if reading files to memory is forced by default
+     *
+     * @throws java.io.IOException in case the font file cannot be read
+     */
+    OpenTypeParser(String ttcPath, int ttcIndex, boolean memoryMapped) throws java.io.IOException {
         this.ttcIndex = ttcIndex;
-        raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(ttcPath));
+        raf = new RandomAccessFileOrArray(createSourceFactory(memoryMapped).createBestSource(ttcPath));
         initializeSfntTables();
     }
 
-    public OpenTypeParser(String name) throws java.io.IOException {
+    /**
+     * Creates a parser for a font file.
+     *
+     * @param name the path to the font file, a path to a collection file may be followed by a comma and font index
+     * @param memoryMapped if true, the file is memory-mapped even if reading files to memory is forced by default
+     *
+     * @throws java.io.IOException in case the font file cannot be read
+     */
+    OpenTypeParser(String name, boolean memoryMapped) throws java.io.IOException {
         String ttcName = getTTCName(name);
         this.fileName = ttcName;
         if (ttcName.length() < name.length()) {
             ttcIndex = Integer.parseInt(name.substring(ttcName.length() + 1));
         }
-        raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(fileName));
+        raf = new RandomAccessFileOrArray(createSourceFactory(memoryMapped).createBestSource(fileName));
+        initializeSfntTables();
+    }
+
+    /**
+     * Creates a parser for a font from a TrueType Collection which reads the data through an independent view
+     * of the passed collection source. The source is not closed when the parser is closed.
+     *
+     * @param ttcSource the source of the whole collection
+     * @param ttcIndex the index of the font in the collection
+     *
+     * @throws java.io.IOException in case the font data cannot be read
+     */
+    OpenTypeParser(RandomAccessFileOrArray ttcSource, int ttcIndex) throws java.io.IOException {
+        this.ttcIndex = ttcIndex;
+        raf = ttcSource.createView();
         initializeSfntTables();
     }
 
@@ -348,6 +390,18 @@ class OpenTypeParser implements Closeable {
         }
     }
 
+    /**
+     * Creates the view of the 'CFF ' table data without reading it to memory.
+     *
+     * @return the source of the CFF font data or {@code null} if the font is not CFF-based
+     */
+    IRandomAccessSource createCffSource() {
+        if (!isCff()) {
+            return null;
+        }
+        return new WindowRandomAccessSource(raf.createSourceView(), cffOffset, cffLength);
+    }
+
     byte[] getSubset(Set<Integer> glyphs, boolean subset) throws java.io.IOException {
         TrueTypeFontSubset sb = new TrueTypeFontSubset(fileName,
                 raf.createView(), glyphs, directoryOffset, subset);
@@ -362,6 +416,14 @@ class OpenTypeParser implements Closeable {
         raf = null;
     }
 
+    private static RandomAccessSourceFactory createSourceFactory(boolean memoryMapped) {
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        if (memoryMapped) {
+            factory.setForceRead(false);
+        }
+        return factory;
+    }
+
     private void initializeSfntTables() throws java.io.IOException {
         tables = new LinkedHashMap<>();
         if (ttcIndex >= 0) {
@@ -38,6 +38,7 @@ public class TrueTypeCollection {
     private String ttcPath;
     private byte[] ttc;
     private boolean cached = true;
+    private boolean memoryMapped = false;
 
     /**
      * Creates a new {@link TrueTypeCollection} instance by its bytes.
@@ -53,16 +54,36 @@ public class TrueTypeCollection {
 
     /**
      * Creates a new {@link TrueTypeCollection} instance by its file path.
+     * <p>
+     * If {@link FontProgramFactory#isMemoryMappedFontSources()} is set, the collection file is memory-mapped
+     * and the mapping is shared by all the fonts created by {@link #getFontByTccIndex(int)}.
      *
      * @param ttcPath the path of the collection
      * @throws java.io.IOException in case the input in mal-formatted
      */
     public TrueTypeCollection(String ttcPath) throws java.io.IOException {
+        this(ttcPath, FontProgramFactory.isMemoryMappedFontSources());
+    }
+
+    /**
+     * Creates a new {@link TrueTypeCollection} instance by its file path.
+     *
+     * @param ttcPath the path of the collection
+     * @param memoryMapped if true, the collection file is memory-mapped and the mapping is shared by all the fonts
+     *                     created by {@link #getFontByTccIndex(int)}, which read the font data from it on demand
+     * @throws java.io.IOException in case the input in mal-formatted
+     */
+    public TrueTypeCollection(String ttcPath, boolean memoryMapped) throws java.io.IOException {
         if (!FileUtil.fileExists(ttcPath)) {
             throw new IOException(IoExceptionMessageConstant.FONT_FILE_NOT_FOUND).setMessageParams(ttcPath);
         }
-        raf = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(ttcPath));
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        if (memoryMapped) {
+            factory.setForceRead(false);
+        }
+        raf = new RandomAccessFileOrArray(factory.createBestSource(ttcPath));
         this.ttcPath = ttcPath;
+        this.memoryMapped = memoryMapped;
         initFontSize();
     }
 
@@ -78,7 +99,9 @@ public class TrueTypeCollection {
             throw new IOException(IoExceptionMessageConstant.TTC_INDEX_DOESNT_EXIST_IN_THIS_TTC_FILE);
         }
 
-        if (ttcPath != null) {
+        if (ttcPath != null && memoryMapped) {
+            return FontProgramFactory.createFont(raf, ttcPath, ttcIndex, cached);
+        } else if (ttcPath != null) {
             return FontProgramFactory.createFont(ttcPath, ttcIndex, cached);
         } else {
             return FontProgramFactory.createFont(ttc, ttcIndex, cached);
@@ -112,6 +135,16 @@ public class TrueTypeCollection {
         this.cached = cached;
     }
 
+    /**
+     * Indicates if fonts created by the call to {@link #getFontByTccIndex(int)} share the memory-mapped
+     * source of this collection.
+     *
+     * @return <code>true</code> if the created fonts share the memory-mapped source, <code>false</code> otherwise
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
     private void initFontSize() throws java.io.IOException {
         String mainTag = raf.readString(4, PdfEncodings.WINANSI);
         if (!mainTag.equals("ttcf")) {
@@ -31,6 +31,7 @@ import com.itextpdf.io.font.otf.GlyphPositioningTableReader;
 import com.itextpdf.io.font.otf.GlyphSubstitutionTableReader;
 import com.itextpdf.io.font.otf.OpenTypeGdefTableReader;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.util.IntHashtable;
 
 import java.util.ArrayList;
@@ -68,9 +69,22 @@ public class TrueTypeFont extends FontProgram {
 
     private byte[] fontStreamBytes;
 
-    private TrueTypeFont(OpenTypeParser fontParser) throws java.io.IOException {
+    /**
+     * Indicates whether 'kern', 'GDEF', 'GSUB' and 'GPOS' tables are still to be read on first use.
+     */
+    private volatile boolean lazyTablesPending;
+
+    /**
+     * Indicates whether the font data is read from the font source on demand rather than kept in memory.
+     */
+    private boolean memoryMapped;
+
+    private TrueTypeFont(OpenTypeParser fontParser, boolean lazyTablesLoading, boolean memoryMapped)
+            throws java.io.IOException {
         this.fontParser = fontParser;
         this.fontParser.loadTables(true);
+        this.lazyTablesPending = lazyTablesLoading;
+        this.memoryMapped = memoryMapped;
         initializeFontProperties();
     }
 
@@ -79,23 +93,93 @@ public class TrueTypeFont extends FontProgram {
     }
 
     public TrueTypeFont(String path) throws java.io.IOException {
-        this(new OpenTypeParser(path));
+        this(path, false);
     }
 
     public TrueTypeFont(byte[] ttf) throws java.io.IOException {
-        this(new OpenTypeParser(ttf));
+        this(ttf, false);
+    }
+
+    /**
+     * Creates a new {@link TrueTypeFont} instance by the font file path.
+     * <p>
+     * If lazy tables loading is requested, only the tables required for glyph mapping and font metrics
+     * are read up front, while 'kern', 'GDEF', 'GSUB' and 'GPOS' tables are read from the retained font
+     * source on first use. Such a font keeps its source open until {@link #close()} is called.
+     *
+     * @param path the path to the font file
+     * @param lazyTablesLoading whether kerning and OpenType layout tables shall be read on first use
+     * @throws java.io.IOException in case the font file cannot be read
+     */
+    public TrueTypeFont(String path, boolean lazyTablesLoading) throws java.io.IOException {
+        this(path, lazyTablesLoading, false);
+    }
+
+    /**
+     * Creates a new {@link TrueTypeFont} instance by the font file path.
+     * <p>
+     * If memory-mapped mode is requested, the font file is memory-mapped and the font data needed for
+     * subsetting is read from the mapping on demand instead of being kept in heap, so memory usage of
+     * the font program doesn't depend on the font file size. The whole font data is copied to heap only
+     * if it is requested via {@link #getFontStreamBytes()}, e.g. to embed the font without subsetting,
+     * and is kept for the subsequent calls.
+     * See {@link #TrueTypeFont(String, boolean)} for the description of lazy tables loading.
+     *
+     * @param path the path to the font file
+     * @param lazyTablesLoading whether kerning and OpenType layout tables shall be read on first use
+     * @param memoryMapped whether the font data shall be read from the memory-mapped file on demand
+     * @throws java.io.IOException in case the font file cannot be read
+     */
+    public TrueTypeFont(String path, boolean lazyTablesLoading, boolean memoryMapped) throws java.io.IOException {
+        this(new OpenTypeParser(path, memoryMapped), lazyTablesLoading, memoryMapped);
+    }
+
+    /**
+     * Creates a new {@link TrueTypeFont} instance by the font file bytes.
+     * <p>
+     * See {@link #TrueTypeFont(String, boolean)} for the description of lazy tables loading.
+     *
+     * @param ttf the content of the font file
+     * @param lazyTablesLoading whether kerning and OpenType layout tables shall be read on first use
+     * @throws java.io.IOException in case the font file cannot be read
+     */
+    public TrueTypeFont(byte[] ttf, boolean lazyTablesLoading) throws java.io.IOException {
+        this(new OpenTypeParser(ttf), lazyTablesLoading, false);
     }
 
     TrueTypeFont(String ttcPath, int ttcIndex) throws java.io.IOException {
-        this(new OpenTypeParser(ttcPath, ttcIndex));
+        this(ttcPath, ttcIndex, false);
+    }
+
+    TrueTypeFont(String ttcPath, int ttcIndex, boolean lazyTablesLoading) throws java.io.IOException {
+        this(ttcPath, ttcIndex, lazyTablesLoading, false);
+    }
+
+    TrueTypeFont(String ttcPath, int ttcIndex, boolean lazyTablesLoading, boolean memoryMapped)
+            throws java.io.IOException {
+        this(new OpenTypeParser(ttcPath, ttcIndex, memoryMapped), lazyTablesLoading, memoryMapped);
+    }
+
+    /**
+     * Creates a font from a TrueType Collection which shares the passed collection source with other
+     * collection members. The font data is read from the source on demand.
+     */
+    TrueTypeFont(RandomAccessFileOrArray ttcSource, int ttcIndex, boolean lazyTablesLoading)
+            throws java.io.IOException {
+        this(new OpenTypeParser(ttcSource, ttcIndex), lazyTablesLoading, true);
     }
 
     TrueTypeFont(byte[] ttc, int ttcIndex) throws java.io.IOException {
-        this(new OpenTypeParser(ttc, ttcIndex));
+        this(ttc, ttcIndex, false);
+    }
+
+    TrueTypeFont(byte[] ttc, int ttcIndex, boolean lazyTablesLoading) throws java.io.IOException {
+        this(new OpenTypeParser(ttc, ttcIndex), lazyTablesLoading, false);
     }
 
     @Override
     public boolean hasKernPairs() {
+        ensureLazyTablesLoaded();
         return kerning.size() > 0;
     }
 
@@ -111,6 +195,7 @@ public class TrueTypeFont extends FontProgram {
         if (first == null || second == null) {
             return 0;
         }
+        ensureLazyTablesLoaded();
         return kerning.get((first.getCode() << 16) + second.getCode());
     }
 
@@ -149,6 +234,34 @@ public class TrueTypeFont extends FontProgram {
         return fontStreamBytes;
     }
 
+    /**
+     * Creates a subset of the CFF font data which contains only the passed glyphs.
+     * The font data is read directly from the font source if it isn't kept in memory.
+     *
+     * @param gids a set of glyph ids (GID) to be kept in the subset
+     *
+     * @return the subset font data or {@code null} if the font is not CFF-based
+     */
+    public byte[] getCffSubset(Set<Integer> gids) {
+        if (!isCff()) {
+            return null;
+        }
+        if (fontStreamBytes != null) {
+            return new CFFFontSubset(fontStreamBytes, gids).Process();
+        }
+        return new CFFFontSubset(fontParser.createCffSource(), gids).Process();
+    }
+
+    /**
+     * Checks whether the font data is read from the memory-mapped font source on demand rather than kept in memory.
+     * See {@link #TrueTypeFont(String, boolean, boolean)} for the details.
+     *
+     * @return {@code true} if the font data isn't kept in memory, {@code false} otherwise
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public int getPdfFontFlags() {
         int flags = 0;
@@ -176,17 +289,30 @@ public class TrueTypeFont extends FontProgram {
     }
 
     public GlyphSubstitutionTableReader getGsubTable() {
+        ensureLazyTablesLoaded();
         return gsubTable;
     }
 
     public GlyphPositioningTableReader getGposTable() {
+        ensureLazyTablesLoaded();
         return gposTable;
     }
 
     public OpenTypeGdefTableReader getGdefTable() {
+        ensureLazyTablesLoaded();
         return gdefTable;
     }
 
+    /**
+     * Checks whether kerning and OpenType layout tables of this font are read on first use
+     * and haven't been read yet.
+     *
+     * @return {@code true} if the tables are still to be read, {@code false} otherwise
+     */
+    public boolean isLazyTablesLoadingPending() {
+        return lazyTablesPending;
+    }
+
     public byte[] getSubset(Set<Integer> glyphs, boolean subset) {
         try {
             return fontParser.getSubset(glyphs, subset);
@@ -249,7 +375,9 @@ public class TrueTypeFont extends FontProgram {
         OpenTypeParser.WindowsMetrics os_2 = fontParser.getOs_2Table();
         OpenTypeParser.PostTable post = fontParser.getPostTable();
         isFontSpecific = fontParser.getCmapTable().fontSpecific;
-        kerning = fontParser.readKerning(head.unitsPerEm);
+        if (!lazyTablesPending) {
+            kerning = fontParser.readKerning(head.unitsPerEm);
+        }
         bBoxes = fontParser.readBbox(head.unitsPerEm);
 
         // font names group
@@ -305,7 +433,8 @@ public class TrueTypeFont extends FontProgram {
         avgWidth = 0;
         CFFFontSubset cffFontSubset = null;
         if (isCff()) {
-            cffFontSubset = new CFFFontSubset(getFontStreamBytes());
+            cffFontSubset = memoryMapped ? new CFFFontSubset(fontParser.createCffSource())
+                    : new CFFFontSubset(getFontStreamBytes());
         }
         for (int charCode : cmap.keySet()) {
             int index = cmap.get(charCode)[0];
@@ -350,11 +479,34 @@ public class TrueTypeFont extends FontProgram {
             avgWidth /= codeToGlyph.size();
         }
 
+        if (!lazyTablesPending) {
+            readOpenTypeLayoutTables();
+        }
+
+        isVertical = false;
+    }
+
+    private void readOpenTypeLayoutTables() throws java.io.IOException {
         readGdefTable();
         readGsubTable();
         readGposTable();
+    }
 
-        isVertical = false;
+    private void ensureLazyTablesLoaded() {
+        if (!lazyTablesPending) {
+            return;
+        }
+        synchronized (this) {
+            if (lazyTablesPending) {
+                try {
+                    kerning = fontParser.readKerning(fontParser.getHeadTable().unitsPerEm);
+                    readOpenTypeLayoutTables();
+                } catch (java.io.IOException e) {
+                    throw new IOException(IoExceptionMessageConstant.IO_EXCEPTION, e);
+                }
+                lazyTablesPending = false;
+            }
+        }
     }
 
     /**
@@ -389,6 +541,8 @@ public class TrueTypeFont extends FontProgram {
 
     public void close() throws java.io.IOException {
         if (fontParser != null) {
+            // the font source is not available after closing, so the pending tables are read now
+            ensureLazyTablesLoaded();
             fontParser.close();
         }
         fontParser = null;
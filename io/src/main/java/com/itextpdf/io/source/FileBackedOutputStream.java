@@ -0,0 +1,192 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Output stream which keeps written data in memory until its size exceeds the given threshold and then moves
+ * the data to a temporary file. All subsequent data are appended to that file.
+ *
+ * <p>
+ * The temporary file is deleted on {@link #reset()} and {@link #close()}.
+ */
+public class FileBackedOutputStream extends OutputStream {
+
+    private static final String TEMP_FILE_PREFIX = "itext-stream";
+    private static final String TEMP_FILE_POSTFIX = ".tmp";
+    private static final int COPY_BUFFER_SIZE = 0x8000;
+
+    private final int memoryThreshold;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private File file;
+    private OutputStream fileStream;
+    private long size;
+
+    /**
+     * Creates a new {@link FileBackedOutputStream} instance.
+     *
+     * @param memoryThreshold the maximum number of bytes kept in memory before the data are moved to a temporary file
+     */
+    public FileBackedOutputStream(int memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    /**
+     * Gets the maximum number of bytes kept in memory before the data are moved to a temporary file.
+     *
+     * @return the memory threshold in bytes
+     */
+    public int getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    /**
+     * Gets the number of bytes written to this stream.
+     *
+     * @return the number of bytes written to this stream
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the data are still kept in memory.
+     *
+     * @return {@code true} if no temporary file was created yet, {@code false} otherwise
+     */
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(1).write(b);
+        ++size;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureCapacity(len).write(b, off, len);
+        size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileStream != null) {
+            fileStream.flush();
+        }
+    }
+
+    /**
+     * Writes the complete content of this stream to the specified output stream.
+     *
+     * @param out the output stream to which to write the data
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (isInMemory()) {
+            memory.writeTo(out);
+            return;
+        }
+        fileStream.flush();
+        try (InputStream in = FileUtil.getInputStreamForFile(file)) {
+            byte[] buf = new byte[COPY_BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Gets the complete content of this stream as a byte array.
+     *
+     * @return the content of this stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public byte[] toByteArray() throws IOException {
+        if (isInMemory()) {
+            return memory.toByteArray();
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream((int) size);
+        writeTo(baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Discards all written data and deletes the temporary file, if any.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void reset() throws IOException {
+        releaseFile();
+        memory = new ByteArrayOutputStream();
+        size = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseFile();
+        memory = null;
+    }
+
+    private OutputStream ensureCapacity(int len) throws IOException {
+        if (fileStream != null) {
+            return fileStream;
+        }
+        if (memory == null) {
+            throw new IOException(IoExceptionMessageConstant.ALREADY_CLOSED);
+        }
+        if (size + len <= memoryThreshold) {
+            return memory;
+        }
+        file = FileUtil.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_POSTFIX);
+        fileStream = new BufferedOutputStream(FileUtil.getFileOutputStream(file), COPY_BUFFER_SIZE);
+        memory.writeTo(fileStream);
+        memory = new ByteArrayOutputStream(0);
+        return fileStream;
+    }
+
+    private void releaseFile() throws IOException {
+        if (file == null) {
+            return;
+        }
+        try {
+            fileStream.close();
+        } finally {
+            FileUtil.deleteFile(file);
+            fileStream = null;
+            file = null;
+        }
+    }
+}
@@ -384,6 +384,14 @@ public class HighPrecisionOutputStream<T extends java.io.OutputStream> extends j
         if (outputStream instanceof ByteArrayOutputStream) {
             ((ByteArrayOutputStream) outputStream).assignBytes(bytes, count);
             currentPos = count;
+        } else if (outputStream instanceof FileBackedOutputStream) {
+            try {
+                ((FileBackedOutputStream) outputStream).reset();
+                outputStream.write(bytes, 0, count);
+            } catch (java.io.IOException e) {
+                throw new IOException(IoExceptionMessageConstant.CANNOT_WRITE_BYTES, e);
+            }
+            currentPos = count;
         } else {
             throw new IOException(IoExceptionMessageConstant.BYTES_CAN_BE_ASSIGNED_TO_BYTE_ARRAY_OUTPUT_STREAM_ONLY);
         }
@@ -393,12 +401,19 @@ public class HighPrecisionOutputStream<T extends java.io.OutputStream> extends j
      * See {@link ByteArrayOutputStream#reset()}.
      *
      * @throws com.itextpdf.io.exceptions.IOException if internal {@link HighPrecisionOutputStream} is not
-     * a {@link ByteArrayOutputStream} instance.
+     * a {@link ByteArrayOutputStream} or {@link FileBackedOutputStream} instance.
      */
     public void reset() {
         if (outputStream instanceof ByteArrayOutputStream) {
             ((ByteArrayOutputStream) outputStream).reset();
             currentPos = 0;
+        } else if (outputStream instanceof FileBackedOutputStream) {
+            try {
+                ((FileBackedOutputStream) outputStream).reset();
+            } catch (java.io.IOException e) {
+                throw new IOException(IoExceptionMessageConstant.CANNOT_WRITE_BYTES, e);
+            }
+            currentPos = 0;
         } else {
             throw new IOException(IoExceptionMessageConstant.BYTES_CAN_BE_RESET_IN_BYTE_ARRAY_OUTPUT_STREAM_ONLY);
         }
@@ -109,6 +109,78 @@ public class TrueTypeFontTest extends ExtendedITextTest {
         checkCmapTableEntry(fontProgram, 'i', 3);
     }
 
+    @Test
+    public void lazyTablesLoadingTest() throws IOException {
+        String fontPath = "./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf";
+        TrueTypeFont eagerFont = new TrueTypeFont(fontPath);
+        TrueTypeFont lazyFont = new TrueTypeFont(fontPath, true);
+
+        Assertions.assertFalse(eagerFont.isLazyTablesLoadingPending());
+        Assertions.assertTrue(lazyFont.isLazyTablesLoadingPending());
+        Assertions.assertEquals(eagerFont.getGlyph('A').getWidth(), lazyFont.getGlyph('A').getWidth());
+
+        Assertions.assertEquals(eagerFont.hasKernPairs(), lazyFont.hasKernPairs());
+        Assertions.assertFalse(lazyFont.isLazyTablesLoadingPending());
+        Assertions.assertEquals(eagerFont.getKerning('A', 'V'), lazyFont.getKerning('A', 'V'));
+        Assertions.assertEquals(eagerFont.getGsubTable() == null, lazyFont.getGsubTable() == null);
+        Assertions.assertEquals(eagerFont.getGposTable() == null, lazyFont.getGposTable() == null);
+    }
+
+    @Test
+    public void lazyTablesLoadedOnCloseTest() throws IOException {
+        TrueTypeFont lazyFont = new TrueTypeFont("./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf", true);
+        lazyFont.close();
+
+        Assertions.assertFalse(lazyFont.isLazyTablesLoadingPending());
+        Assertions.assertNotNull(lazyFont.getGdefTable());
+    }
+
+    @Test
+    public void factoryLazyTablesLoadingTest() throws IOException {
+        Assertions.assertFalse(FontProgramFactory.isLazyTablesLoading());
+        FontProgramFactory.setLazyTablesLoading(true);
+        try {
+            TrueTypeFont font = (TrueTypeFont) FontProgramFactory.createFont(
+                    "./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf", false);
+            Assertions.assertTrue(font.isLazyTablesLoadingPending());
+        } finally {
+            FontProgramFactory.setLazyTablesLoading(false);
+        }
+    }
+
+    @Test
+    public void memoryMappedCffFontTest() throws IOException {
+        TrueTypeFont font = new TrueTypeFont(SOURCE_FOLDER + "Puritan2.otf");
+        TrueTypeFont mappedFont = new TrueTypeFont(SOURCE_FOLDER + "Puritan2.otf", false, true);
+
+        Assertions.assertFalse(font.isMemoryMapped());
+        Assertions.assertTrue(mappedFont.isMemoryMapped());
+        Assertions.assertTrue(mappedFont.isCff());
+        Assertions.assertArrayEquals(font.getFontStreamBytes(), mappedFont.getFontStreamBytes());
+        Set<Integer> gids = new HashSet<>(Arrays.asList(1, 2, 3));
+        Assertions.assertArrayEquals(font.getCffSubset(gids), mappedFont.getCffSubset(gids));
+    }
+
+    @Test
+    public void memoryMappedTrueTypeFontTest() throws IOException {
+        TrueTypeFont font = new TrueTypeFont(SOURCE_FOLDER + "glyphs.ttf");
+        TrueTypeFont mappedFont = new TrueTypeFont(SOURCE_FOLDER + "glyphs.ttf", false, true);
+
+        Assertions.assertNull(mappedFont.getCffSubset(Collections.singleton(1)));
+        Set<Integer> glyphs = new HashSet<>(Arrays.asList(2, 3));
+        Assertions.assertArrayEquals(font.getSubset(glyphs, true), mappedFont.getSubset(glyphs, true));
+    }
+
+    @Test
+    public void memoryMappedFontStreamBytesAreReadOnceTest() throws IOException {
+        TrueTypeFont font = new TrueTypeFont(SOURCE_FOLDER + "glyphs.ttf");
+        TrueTypeFont mappedFont = new TrueTypeFont(SOURCE_FOLDER + "glyphs.ttf", false, true);
+
+        byte[] fontStreamBytes = mappedFont.getFontStreamBytes();
+        Assertions.assertArrayEquals(font.getFontStreamBytes(), fontStreamBytes);
+        Assertions.assertSame(fontStreamBytes, mappedFont.getFontStreamBytes());
+    }
+
     private void checkCmapTableEntry(FontProgram fontProgram, char uniChar, int expectedGlyphId) {
 
         Glyph glyph = fontProgram.getGlyph(uniChar);
@@ -0,0 +1,109 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class FileBackedOutputStreamTest extends ExtendedITextTest {
+
+    @Test
+    public void dataBelowThresholdIsKeptInMemoryTest() throws IOException {
+        try (FileBackedOutputStream stream = new FileBackedOutputStream(8)) {
+            stream.write(bytes("12345678"));
+            Assertions.assertTrue(stream.isInMemory());
+            Assertions.assertEquals(8, stream.size());
+            Assertions.assertArrayEquals(bytes("12345678"), stream.toByteArray());
+        }
+    }
+
+    @Test
+    public void dataAboveThresholdIsMovedToFileTest() throws IOException {
+        try (FileBackedOutputStream stream = new FileBackedOutputStream(8)) {
+            stream.write(bytes("12345"));
+            stream.write(bytes("67890"));
+            stream.write('a');
+            Assertions.assertFalse(stream.isInMemory());
+            Assertions.assertEquals(11, stream.size());
+            Assertions.assertArrayEquals(bytes("1234567890a"), stream.toByteArray());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            stream.writeTo(out);
+            Assertions.assertArrayEquals(bytes("1234567890a"), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void resetMovesDataBackToMemoryTest() throws IOException {
+        try (FileBackedOutputStream stream = new FileBackedOutputStream(4)) {
+            stream.write(bytes("123456"));
+            Assertions.assertFalse(stream.isInMemory());
+            stream.reset();
+            Assertions.assertTrue(stream.isInMemory());
+            Assertions.assertEquals(0, stream.size());
+            stream.write(bytes("ab"));
+            Assertions.assertArrayEquals(bytes("ab"), stream.toByteArray());
+        }
+    }
+
+    @Test
+    public void zeroThresholdTest() throws IOException {
+        try (FileBackedOutputStream stream = new FileBackedOutputStream(0)) {
+            Assertions.assertTrue(stream.isInMemory());
+            stream.write('a');
+            Assertions.assertFalse(stream.isInMemory());
+            Assertions.assertArrayEquals(bytes("a"), stream.toByteArray());
+        }
+    }
+
+    @Test
+    public void writeToClosedStreamTest() throws IOException {
+        FileBackedOutputStream stream = new FileBackedOutputStream(4);
+        stream.write(bytes("123456"));
+        stream.close();
+        Assertions.assertThrows(IOException.class, () -> stream.write('a'));
+    }
+
+    @Test
+    public void assignBytesTest() throws IOException {
+        try (FileBackedOutputStream stream = new FileBackedOutputStream(4);
+                HighPrecisionOutputStream<FileBackedOutputStream> output = new HighPrecisionOutputStream<>(stream)) {
+            output.writeString("123456");
+            output.assignBytes(bytes("abc"), 2);
+            Assertions.assertArrayEquals(bytes("ab"), stream.toByteArray());
+            Assertions.assertEquals(2, output.getCurrentPos());
+            output.reset();
+            Assertions.assertEquals(0, stream.size());
+        }
+    }
+
+    private static byte[] bytes(String str) {
+        return str.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
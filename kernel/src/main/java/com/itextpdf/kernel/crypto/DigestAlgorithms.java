@@ -24,6 +24,7 @@ package com.itextpdf.kernel.crypto;
 
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 
@@ -95,6 +96,11 @@ public class DigestAlgorithms {
      */
     public static final String SHAKE256 = "SHAKE256";
 
+    /**
+     * The maximum size of the blocks in which byte ranges are read for digesting.
+     */
+    private static final int BYTE_RANGE_BLOCK_SIZE = 1 << 20;
+
     /**
      * Maps the digest IDs with the human-readable name of the digest algorithm.
      */
@@ -285,6 +291,65 @@ public class DigestAlgorithms {
         return messageDigest.digest();
     }
 
+    /**
+     * Creates digests of the byte range of the source, e.g. the signed bytes of a PDF document,
+     * using several digest algorithms at once. The source is read only once, directly and in large blocks.
+     *
+     * @param source         {@link IRandomAccessSource} to read the data from
+     * @param byteRange      pairs of offsets and lengths which define the parts of the source to be digested
+     * @param messageDigests algorithms to be used
+     *
+     * @return digests of the data in the same order as the passed message digests
+     *
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static byte[][] digest(IRandomAccessSource source, long[] byteRange, MessageDigest... messageDigests)
+            throws IOException {
+        updateDigests(source, byteRange, messageDigests);
+        byte[][] digests = new byte[messageDigests.length][];
+        for (int i = 0; i < messageDigests.length; i++) {
+            digests[i] = messageDigests[i].digest();
+        }
+        return digests;
+    }
+
+    /**
+     * Updates message digests with the byte range of the source without completing them.
+     * The source is read only once, directly and in large blocks.
+     *
+     * @param source         {@link IRandomAccessSource} to read the data from
+     * @param byteRange      pairs of offsets and lengths which define the parts of the source to be digested
+     * @param messageDigests message digests to be updated
+     *
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static void updateDigests(IRandomAccessSource source, long[] byteRange, MessageDigest... messageDigests)
+            throws IOException {
+        long totalLength = 0;
+        for (int i = 1; i < byteRange.length; i += 2) {
+            totalLength += byteRange[i];
+        }
+        if (totalLength <= 0) {
+            return;
+        }
+        byte[] buf = new byte[(int) Math.min(totalLength, BYTE_RANGE_BLOCK_SIZE)];
+        for (int i = 0; i + 1 < byteRange.length; i += 2) {
+            long position = byteRange[i];
+            long remaining = byteRange[i + 1];
+            while (remaining > 0) {
+                int read = source.get(position, buf, 0, (int) Math.min(buf.length, remaining));
+                if (read <= 0) {
+                    break;
+                }
+                for (MessageDigest messageDigest : messageDigests) {
+                    messageDigest.update(buf, 0, read);
+                }
+                position += read;
+                remaining -= read;
+            }
+        }
+    }
+
     /**
      * Gets the digest name for a certain id.
      *
@@ -26,6 +26,7 @@ import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.source.DeflaterOutputStream;
+import com.itextpdf.io.source.FileBackedOutputStream;
 import com.itextpdf.io.source.HighPrecisionOutputStream;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.crypto.OutputStreamEncryption;
@@ -313,10 +314,17 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
                     pdfStream.getOutputStream().write(bytes);
                 }
                 assert pdfStream.getOutputStream() != null : "PdfStream lost OutputStream";
+                boolean compress = toCompress && !containsFlateFilter(pdfStream)
+                        && decodeParamsArrayNotFlushed(pdfStream) && (allowCompression || userDefinedCompression);
+                java.io.OutputStream content = pdfStream.getOutputStream().getOutputStream();
+                if (document != null && content instanceof FileBackedOutputStream
+                        && !((FileBackedOutputStream) content).isInMemory()) {
+                    writeFileBackedStream(pdfStream, (FileBackedOutputStream) content, compress);
+                    return;
+                }
                 ByteArrayOutputStream byteArrayStream;
                 try {
-                    if (toCompress && !containsFlateFilter(pdfStream) && decodeParamsArrayNotFlushed(pdfStream)
-                            && (allowCompression || userDefinedCompression)) {
+                    if (compress) {
                         // compress
                         updateCompressionFilter(pdfStream);
                         byteArrayStream = new ByteArrayOutputStream();
@@ -327,7 +335,11 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
                             ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(zip);
                         } else {
                             assert pdfStream.getOutputStream() != null : "Error in outputStream";
-                            ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).writeTo(zip);
+                            if (content instanceof FileBackedOutputStream) {
+                                ((FileBackedOutputStream) content).writeTo(zip);
+                            } else {
+                                ((ByteArrayOutputStream) content).writeTo(zip);
+                            }
                         }
                         zip.finish();
                     } else {
@@ -338,7 +350,12 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
                             ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(byteArrayStream);
                         } else {
                             assert pdfStream.getOutputStream() != null : "Error in outputStream";
-                            byteArrayStream = (ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream();
+                            if (content instanceof FileBackedOutputStream) {
+                                byteArrayStream = new ByteArrayOutputStream();
+                                ((FileBackedOutputStream) content).writeTo(byteArrayStream);
+                            } else {
+                                byteArrayStream = (ByteArrayOutputStream) content;
+                            }
                         }
                     }
                     if (checkEncryption(pdfStream)) {
@@ -364,6 +381,44 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
         }
     }
 
+    /**
+     * Writes the stream which content was moved to a temporary file directly to the output,
+     * compressing and encrypting it on the fly. The length of the written data is not known in advance,
+     * that's why it is written as an indirect object.
+     */
+    private void writeFileBackedStream(PdfStream pdfStream, FileBackedOutputStream content, boolean compress)
+            throws IOException {
+        boolean encrypt = checkEncryption(pdfStream);
+        if (compress) {
+            updateCompressionFilter(pdfStream);
+        }
+        PdfNumber length = (PdfNumber) new PdfNumber(-1).makeIndirect(document);
+        pdfStream.put(PdfName.Length, length);
+        this.write((PdfDictionary) pdfStream);
+        writeBytes(PdfOutputStream.stream);
+        long beginStreamContent = getCurrentPos();
+        // Encryption stream may write initialization vector right away, so it's created after the dictionary
+        java.io.OutputStream fout = this;
+        DeflaterOutputStream def = null;
+        OutputStreamEncryption ose = null;
+        if (encrypt) {
+            fout = ose = crypto.getEncryptionStream(fout);
+        }
+        if (compress) {
+            fout = def = new DeflaterOutputStream(fout, pdfStream.getCompressionLevel(), 0x8000);
+        }
+        content.writeTo(fout);
+        if (def != null) {
+            def.finish();
+        }
+        if (ose != null) {
+            ose.finish();
+        }
+        length.setValue((int) (getCurrentPos() - beginStreamContent));
+        pdfStream.updateLength(length.intValue());
+        writeBytes(PdfOutputStream.endstream);
+    }
+
     protected boolean checkEncryption(PdfStream pdfStream) {
         if (crypto == null || (crypto.isEmbeddedFilesOnly() && !document.doesStreamBelongToEmbeddedFile(pdfStream))) {
             return false;
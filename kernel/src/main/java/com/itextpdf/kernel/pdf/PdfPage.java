@@ -24,6 +24,7 @@ package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.source.FileBackedOutputStream;
 import com.itextpdf.kernel.pdf.event.PdfDocumentEvent;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.PdfException;
@@ -103,7 +104,7 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
 
     protected PdfPage(PdfDocument pdfDocument, PageSize pageSize) {
         this((PdfDictionary) new PdfDictionary().makeIndirect(pdfDocument));
-        PdfStream contentStream = (PdfStream) new PdfStream().makeIndirect(pdfDocument);
+        PdfStream contentStream = createContentStream(pdfDocument);
         getPdfObject().put(PdfName.Contents, contentStream);
         getPdfObject().put(PdfName.Type, PdfName.Page);
         getPdfObject().put(PdfName.MediaBox, new PdfArray(pageSize));
@@ -1339,6 +1340,14 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
         return null;
     }
 
+    private static PdfStream createContentStream(PdfDocument pdfDocument) {
+        PdfWriter writer = pdfDocument.getWriter();
+        int memoryThreshold = writer != null ? writer.getProperties().contentStreamMemoryThreshold : -1;
+        PdfStream contentStream = memoryThreshold < 0 ? new PdfStream()
+                : new PdfStream(new FileBackedOutputStream(memoryThreshold));
+        return (PdfStream) contentStream.makeIndirect(pdfDocument);
+    }
+
     private PdfStream newContentStream(boolean before) {
         PdfObject contents = getPdfObject().get(PdfName.Contents);
         PdfArray array;
@@ -1356,7 +1365,7 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
         } else {
             array = null;
         }
-        PdfStream contentStream = (PdfStream) new PdfStream().makeIndirect(getDocument());
+        PdfStream contentStream = createContentStream(getDocument());
         if (array != null) {
             if (before) {
                 array.add(0, contentStream);
@@ -23,6 +23,7 @@
 package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.FileBackedOutputStream;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.utils.ICopyFilter;
@@ -229,10 +230,15 @@ public class PdfStream extends PdfDictionary {
         byte[] bytes = null;
         if (outputStream != null && outputStream.getOutputStream() != null) {
             assert outputStream.getOutputStream() instanceof ByteArrayOutputStream
-                    : "Invalid OutputStream: ByteArrayByteArrayOutputStream expected";
+                    || outputStream.getOutputStream() instanceof FileBackedOutputStream
+                    : "Invalid OutputStream: ByteArrayOutputStream or FileBackedOutputStream expected";
             try {
                 outputStream.getOutputStream().flush();
-                bytes = ((ByteArrayOutputStream) outputStream.getOutputStream()).toByteArray();
+                if (outputStream.getOutputStream() instanceof FileBackedOutputStream) {
+                    bytes = ((FileBackedOutputStream) outputStream.getOutputStream()).toByteArray();
+                } else {
+                    bytes = ((ByteArrayOutputStream) outputStream.getOutputStream()).toByteArray();
+                }
                 if (decoded && containsKey(PdfName.Filter)) {
                     bytes = PdfReader.decodeBytes(bytes, this);
                 }
@@ -56,9 +56,15 @@ public class WriterProperties {
      */
     protected PdfString modifiedDocumentId;
 
+    /**
+     * The maximum number of bytes of a new page content stream kept in memory. Negative value means no limit.
+     */
+    protected int contentStreamMemoryThreshold;
+
     public WriterProperties() {
         smartMode = false;
         compressionLevel = CompressionConstants.DEFAULT_COMPRESSION;
+        contentStreamMemoryThreshold = -1;
         isFullCompression = null;
         encryptionProperties = new EncryptionProperties();
     }
@@ -167,6 +173,23 @@ public class WriterProperties {
         return this;
     }
 
+    /**
+     * Defines the maximum number of bytes of a page content stream which are kept in memory.
+     * Content streams of new pages which grow bigger are moved to a temporary file and written
+     * to the output document directly from that file, compressing the data on the fly.
+     * This is useful for documents with huge pages, e.g. posters or long receipts, which content
+     * would otherwise be fully held in memory until the page is flushed.
+     * By default, the size is not limited.
+     *
+     * @param contentStreamMemoryThreshold the maximum number of bytes kept in memory,
+     *                                     negative value means no limit
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties setContentStreamMemoryThreshold(int contentStreamMemoryThreshold) {
+        this.contentStreamMemoryThreshold = contentStreamMemoryThreshold;
+        return this;
+    }
+
     /**
      * Sets the encryption options for the document.
      *
@@ -0,0 +1,158 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleIntegrationTest")
+public class FileBackedContentStreamTest extends ExtendedITextTest {
+
+    private static final int RECTANGLES_COUNT = 2000;
+
+    @Test
+    public void hugeContentIsWrittenFromFileTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setContentStreamMemoryThreshold(1024));
+        byte[] expectedPdf = createDocument(new WriterProperties());
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)));
+                PdfDocument expectedDocument = new PdfDocument(
+                        new PdfReader(new ByteArrayInputStream(expectedPdf)))) {
+            PdfStream contentStream = pdfDocument.getPage(1).getFirstContentStream();
+            Assertions.assertEquals(PdfName.FlateDecode, contentStream.getAsName(PdfName.Filter));
+            Assertions.assertTrue(contentStream.get(PdfName.Length, false).isIndirectReference());
+            Assertions.assertArrayEquals(expectedDocument.getPage(1).getContentBytes(),
+                    pdfDocument.getPage(1).getContentBytes());
+        }
+    }
+
+    @Test
+    public void smallContentIsKeptInMemoryTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setContentStreamMemoryThreshold(1024 * 1024));
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            PdfStream contentStream = pdfDocument.getPage(1).getFirstContentStream();
+            Assertions.assertEquals(PdfName.FlateDecode, contentStream.getAsName(PdfName.Filter));
+            Assertions.assertFalse(contentStream.get(PdfName.Length, false).isIndirectReference());
+            Assertions.assertEquals(createExpectedContent(), new String(pdfDocument.getPage(1).getContentBytes(),
+                    StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    public void uncompressedHugeContentTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setContentStreamMemoryThreshold(1024)
+                .setCompressionLevel(CompressionConstants.NO_COMPRESSION));
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            PdfStream contentStream = pdfDocument.getPage(1).getFirstContentStream();
+            Assertions.assertNull(contentStream.get(PdfName.Filter));
+            Assertions.assertEquals(createExpectedContent(), new String(pdfDocument.getPage(1).getContentBytes(),
+                    StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    public void encryptedHugeContentTest() throws IOException {
+        byte[] password = "password".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] pdf = createDocument(new WriterProperties().setContentStreamMemoryThreshold(1024)
+                .setStandardEncryption(password, password, 0, EncryptionConstants.ENCRYPTION_AES_128));
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setPassword(password)))) {
+            Assertions.assertEquals(createExpectedContent(), new String(pdfDocument.getPage(1).getContentBytes(),
+                    StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    public void getBytesAndSetDataOnSpilledStreamTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos,
+                new WriterProperties().setContentStreamMemoryThreshold(16)))) {
+            PdfPage page = pdfDocument.addNewPage();
+            drawRectangles(page);
+            PdfStream contentStream = page.getFirstContentStream();
+            Assertions.assertEquals(createExpectedContent(), new String(contentStream.getBytes(),
+                    StandardCharsets.ISO_8859_1));
+
+            contentStream.setData("0 0 m\n10 10 l\nS\n".getBytes(StandardCharsets.ISO_8859_1));
+            contentStream.setData("0 0 10 10 re\nf\n".getBytes(StandardCharsets.ISO_8859_1), true);
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals("0 0 m\n10 10 l\nS\n0 0 10 10 re\nf\n",
+                    new String(pdfDocument.getPage(1).getContentBytes(), StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    public void appendModeHugeContentTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)),
+                new PdfWriter(baos, new WriterProperties().setContentStreamMemoryThreshold(1024)),
+                new StampingProperties().useAppendMode())) {
+            drawRectangles(pdfDocument.addNewPage());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals(2, pdfDocument.getNumberOfPages());
+            Assertions.assertEquals(createExpectedContent(), new String(pdfDocument.getPage(2).getContentBytes(),
+                    StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private static byte[] createDocument(WriterProperties properties) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, properties))) {
+            drawRectangles(pdfDocument.addNewPage(new PageSize(200, RECTANGLES_COUNT * 10)));
+        }
+        return baos.toByteArray();
+    }
+
+    private static void drawRectangles(PdfPage page) {
+        PdfCanvas canvas = new PdfCanvas(page);
+        for (int i = 0; i < RECTANGLES_COUNT; ++i) {
+            canvas.rectangle(10, i * 10, 100, 5).fill();
+        }
+        canvas.release();
+    }
+
+    private static String createExpectedContent() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECTANGLES_COUNT; ++i) {
+            sb.append("10 ").append(i * 10).append(" 100 5 re\nf\n");
+        }
+        return sb.toString();
+    }
+}
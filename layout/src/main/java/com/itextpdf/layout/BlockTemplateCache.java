@@ -0,0 +1,209 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.CanvasArtifact;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.renderer.DrawContext;
+import com.itextpdf.layout.renderer.IRenderer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lays out repeated blocks, e.g. headers, footers or letterheads, once into {@link PdfFormXObject} templates
+ * and places the templates by reference on the pages.
+ * <p>
+ * A template is created for each pair of block element and available width, so the same element placed
+ * on every page is laid out and drawn only once and each page content stream gets only a single
+ * XObject invocation. Elements are distinguished by identity, therefore an element shall not be modified
+ * after its template was created. Templates are laid out on a standalone {@link Canvas}, so they don't
+ * inherit properties of the {@link Document} and links or other annotations inside them are not supported.
+ * <p>
+ * Templates are not tagged: if the document is tagged, they are placed as artifacts.
+ * This class is not thread-safe, the same as the {@link PdfDocument} it creates the templates for.
+ */
+public class BlockTemplateCache {
+
+    private static final float DEFAULT_MAX_TEMPLATE_HEIGHT = 14400;
+
+    private final PdfDocument pdfDocument;
+
+    private final Map<TemplateKey, PdfFormXObject> templates = new HashMap<>();
+
+    private float maxTemplateHeight = DEFAULT_MAX_TEMPLATE_HEIGHT;
+
+    /**
+     * Creates a {@link BlockTemplateCache} instance which creates templates for the given document.
+     *
+     * @param pdfDocument the document the templates will be written to
+     */
+    public BlockTemplateCache(PdfDocument pdfDocument) {
+        this.pdfDocument = pdfDocument;
+    }
+
+    /**
+     * Gets the maximum height of the area the templates are laid out in.
+     *
+     * @return the maximum template height
+     */
+    public float getMaxTemplateHeight() {
+        return maxTemplateHeight;
+    }
+
+    /**
+     * Sets the maximum height of the area the templates are laid out in. The templates which were already
+     * created are not affected.
+     *
+     * @param maxTemplateHeight the maximum template height
+     *
+     * @return this {@link BlockTemplateCache} instance
+     */
+    public BlockTemplateCache setMaxTemplateHeight(float maxTemplateHeight) {
+        this.maxTemplateHeight = maxTemplateHeight;
+        return this;
+    }
+
+    /**
+     * Gets the template of the block element laid out in the given width. The template is laid out
+     * and drawn on the first request, the subsequent requests return the same {@link PdfFormXObject}.
+     * The bounding box of the template has the given width and the height of the laid out element.
+     *
+     * @param element the block element to get the template of
+     * @param width the available width of the element
+     *
+     * @return the template of the element
+     *
+     * @throws PdfException if the element doesn't fit into the area of the given width and the maximum
+     * template height
+     */
+    public PdfFormXObject getTemplate(IBlockElement element, float width) {
+        TemplateKey key = new TemplateKey(element, width);
+        PdfFormXObject template = templates.get(key);
+        if (template == null) {
+            template = createTemplate(element, width);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Places the template of the block element on the canvas, so that the top left corner
+     * of the template is at the given point.
+     *
+     * @param canvas the canvas to place the template on
+     * @param element the block element to place the template of
+     * @param x the x coordinate of the left edge of the template
+     * @param top the y coordinate of the top edge of the template
+     * @param width the available width of the element
+     *
+     * @return the area occupied by the placed template
+     *
+     * @see #getTemplate(IBlockElement, float)
+     */
+    public Rectangle showTemplate(PdfCanvas canvas, IBlockElement element, float x, float top, float width) {
+        PdfFormXObject template = getTemplate(element, width);
+        float height = template.getHeight();
+        boolean isTagged = pdfDocument.isTagged();
+        if (isTagged) {
+            canvas.openTag(new CanvasArtifact());
+        }
+        canvas.addXObjectAt(template, x, top - height);
+        if (isTagged) {
+            canvas.closeTag();
+        }
+        return new Rectangle(x, top - height, width, height);
+    }
+
+    /**
+     * Gets the number of the created templates.
+     *
+     * @return the number of the created templates
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Removes all the created templates from this cache. The removed templates stay valid
+     * in the pages they were already placed on.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private PdfFormXObject createTemplate(IBlockElement element, float width) {
+        Rectangle area = new Rectangle(0, 0, width, maxTemplateHeight);
+        PdfFormXObject template = new PdfFormXObject(area);
+        PdfCanvas templateCanvas = new PdfCanvas(template, pdfDocument);
+        Canvas canvas = new Canvas(templateCanvas, area);
+        IRenderer renderer = element.createRendererSubTree().setParent(canvas.getRenderer());
+        LayoutResult result = renderer.layout(new LayoutContext(new LayoutArea(1, area.clone())));
+        if (result.getStatus() != LayoutResult.FULL) {
+            throw new PdfException(LayoutExceptionMessageConstant.TEMPLATE_DOES_NOT_FIT)
+                    .setMessageParams(width, maxTemplateHeight);
+        }
+        Rectangle occupiedArea = result.getOccupiedArea().getBBox();
+        template.setBBox(new PdfArray(new Rectangle(0, occupiedArea.getBottom(), width,
+                occupiedArea.getHeight())));
+        renderer.draw(new DrawContext(pdfDocument, templateCanvas, false));
+        return template;
+    }
+
+    private static final class TemplateKey {
+        private final IBlockElement element;
+        private final float width;
+
+        TemplateKey(IBlockElement element, float width) {
+            this.element = element;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return element == that.element && Float.compare(width, that.width) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(element) + Float.floatToIntBits(width);
+        }
+    }
+}
@@ -186,6 +186,41 @@ public class Document extends RootElement<Document> {
         }
     }
 
+    /**
+     * Performs a recalculation of the document flow which only lays out again the content
+     * affected by changed target pages, i.e. the pages requested via
+     * {@link com.itextpdf.layout.renderer.AbstractRenderer#resolveTargetPageNumber(String)}
+     * which differ from the values returned during the previous layout (e.g. "page X of Y" or table of contents).
+     * <p>
+     * The child elements added before the first element which depends on a changed target page are not laid out
+     * again, as well as their pages. If nothing depends on changed target pages, nothing is relaid out at all.
+     * If the layout state can't be restored at the affected point (e.g. the document is tagged, margins collapsing
+     * is enabled or the previous element is kept with the next one), the entire document flow is recalculated
+     * as by {@link #relayout()}.
+     * <p>
+     * Unlike {@link #relayout()}, this method doesn't take into account modifications of the already added
+     * elements, which are not related to target pages.
+     * <p>
+     * Do not use when you have set {@link #immediateFlush} to <code>true</code>.
+     */
+    public void incrementalRelayout() {
+        if (immediateFlush) {
+            throw new IllegalStateException("Operation not supported with immediate flush");
+        }
+
+        int firstElementToRelayout = -1;
+        if (rootRenderer instanceof DocumentRenderer) {
+            firstElementToRelayout = ((DocumentRenderer) rootRenderer).prepareIncrementalRelayout(childElements.size());
+        }
+        if (firstElementToRelayout == -1) {
+            relayout();
+            return;
+        }
+        for (int i = firstElementToRelayout; i < childElements.size(); i++) {
+            createAndAddRendererSubTree(childElements.get(i));
+        }
+    }
+
     /**
      * Gets the left margin, measured in points
      *
@@ -0,0 +1,39 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+/**
+ * Provides the content of an independent document section, see {@link ParallelSectionLayout}.
+ */
+public interface ISectionContentProvider {
+
+    /**
+     * Adds the content of the section to the given document. The document is created for the section only,
+     * so it shall be configured (e.g. margins, fonts, font provider) here. The method may be called
+     * concurrently for different sections, so it shall not share any {@link com.itextpdf.kernel.font.PdfFont}
+     * or other PDF objects with the other sections.
+     *
+     * @param document the document of the section
+     */
+    void addContent(Document document);
+}
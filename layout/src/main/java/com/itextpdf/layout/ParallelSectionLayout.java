@@ -0,0 +1,279 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
+import com.itextpdf.layout.renderer.AbstractRenderer;
+import com.itextpdf.layout.renderer.DocumentRenderer;
+import com.itextpdf.layout.renderer.IRenderer;
+import com.itextpdf.layout.renderer.TargetCounterHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lays out independent document sections concurrently and merges them into the {@link PdfDocument} in order.
+ * <p>
+ * Each section always starts on a new page, e.g. a chapter of a book, and is laid out into its own in-memory
+ * document by a separate task. When all the sections are laid out, the pages of the renderers with id
+ * are resolved for the whole document and the sections which requested the pages of the changed ids
+ * (see {@link AbstractRenderer#resolveTargetPageNumber(String)}) are relaid out, so that target-counters
+ * refer to the pages of the final document. Then the pages of the sections are copied to the document.
+ * <p>
+ * Each section embeds its own fonts and resources, so the resulting document may be bigger than the one
+ * laid out sequentially. Document-level objects of the sections, e.g. outlines, are not copied.
+ */
+public class ParallelSectionLayout {
+
+    private static final int MAX_RELAYOUT_PASSES = 5;
+
+    private final PdfDocument pdfDocument;
+
+    private final List<ISectionContentProvider> sections = new ArrayList<>();
+
+    private ExecutorService executorService;
+
+    /**
+     * Creates a {@link ParallelSectionLayout} instance which merges the sections into the given document.
+     * The sections are laid out with the default page size of the document.
+     *
+     * @param pdfDocument the document to merge the sections into
+     */
+    public ParallelSectionLayout(PdfDocument pdfDocument) {
+        this.pdfDocument = pdfDocument;
+    }
+
+    /**
+     * Adds the section to be laid out after the previously added ones.
+     *
+     * @param section the provider of the section content
+     * @return this {@link ParallelSectionLayout} instance
+     */
+    public ParallelSectionLayout addSection(ISectionContentProvider section) {
+        sections.add(section);
+        return this;
+    }
+
+    /**
+     * Sets the executor to lay out the sections with. If not set, a fixed thread pool sized to the number
+     * of available processors is created for each {@link #layout()} call and shut down afterwards.
+     *
+     * @param executorService the executor to lay out the sections with
+     * @return this {@link ParallelSectionLayout} instance
+     */
+    public ParallelSectionLayout setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Lays out all the added sections and appends their pages to the document in order of addition.
+     *
+     * @return the numbers of the first pages of the sections in the document
+     */
+    public List<Integer> layout() {
+        if (sections.isEmpty()) {
+            return Collections.<Integer>emptyList();
+        }
+        ExecutorService executor = executorService;
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(
+                    Math.min(Runtime.getRuntime().availableProcessors(), sections.size()));
+        }
+        try {
+            List<SectionLayout> sectionLayouts = new ArrayList<>(sections.size());
+            for (ISectionContentProvider section : sections) {
+                sectionLayouts.add(new SectionLayout(section));
+            }
+            List<Callable<Object>> tasks = new ArrayList<>(sectionLayouts.size());
+            for (SectionLayout sectionLayout : sectionLayouts) {
+                tasks.add(sectionLayout.createLayoutTask());
+            }
+            runTasks(executor, tasks);
+
+            for (int pass = 0; pass < MAX_RELAYOUT_PASSES; pass++) {
+                Map<String, Integer> renderersPages = resolveRenderersPages(sectionLayouts);
+                tasks.clear();
+                for (SectionLayout sectionLayout : sectionLayouts) {
+                    if (sectionLayout.isRelayoutRequired(renderersPages)) {
+                        tasks.add(sectionLayout.createRelayoutTask(renderersPages));
+                    }
+                }
+                if (tasks.isEmpty()) {
+                    break;
+                }
+                runTasks(executor, tasks);
+            }
+
+            List<Integer> startPages = new ArrayList<>(sectionLayouts.size());
+            for (SectionLayout sectionLayout : sectionLayouts) {
+                startPages.add(pdfDocument.getNumberOfPages() + 1);
+                sectionLayout.copyTo(pdfDocument);
+            }
+            return startPages;
+        } finally {
+            if (executor != executorService) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static Map<String, Integer> resolveRenderersPages(List<SectionLayout> sectionLayouts) {
+        Map<String, Integer> renderersPages = new HashMap<>();
+        int pageNumberOffset = 0;
+        for (SectionLayout sectionLayout : sectionLayouts) {
+            sectionLayout.startPageNumberOffset = pageNumberOffset;
+            TargetCounterHandler handler = sectionLayout.getTargetCounterHandler();
+            if (handler != null) {
+                for (Map.Entry<String, Integer> rendererPage : handler.getRenderersPages().entrySet()) {
+                    // Only the section which contains the renderer knows its actual page, the pages of the
+                    // foreign ids may be outdated. The first renderer with the id in the document order wins,
+                    // as in the sequential layout
+                    if (sectionLayout.ownIds.contains(rendererPage.getKey())
+                            && !renderersPages.containsKey(rendererPage.getKey())) {
+                        renderersPages.put(rendererPage.getKey(),
+                                rendererPage.getValue() - handler.getPageNumberOffset() + pageNumberOffset);
+                    }
+                }
+            }
+            pageNumberOffset += sectionLayout.getNumberOfPages();
+        }
+        return renderersPages;
+    }
+
+    private static void runTasks(ExecutorService executor, List<Callable<Object>> tasks) {
+        List<Future<Object>> futures;
+        try {
+            futures = executor.invokeAll(tasks);
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(LayoutExceptionMessageConstant.SECTION_LAYOUT_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PdfException(LayoutExceptionMessageConstant.SECTION_LAYOUT_FAILED, e.getCause());
+        }
+    }
+
+    private final class SectionLayout {
+        private final ISectionContentProvider section;
+        private ByteArrayOutputStream output;
+        private Document document;
+        private int startPageNumberOffset;
+        private Set<String> ownIds = Collections.<String>emptySet();
+
+        SectionLayout(ISectionContentProvider section) {
+            this.section = section;
+        }
+
+        Callable<Object> createLayoutTask() {
+            return () -> {
+                output = new ByteArrayOutputStream();
+                PdfDocument sectionPdfDocument = new PdfDocument(new PdfWriter(output));
+                if (pdfDocument.isTagged()) {
+                    sectionPdfDocument.setTagged();
+                }
+                // Immediate flush is disabled to make the relayout possible
+                document = new Document(sectionPdfDocument, pdfDocument.getDefaultPageSize(), false);
+                section.addContent(document);
+                TargetCounterHandler handler = getTargetCounterHandler();
+                if (handler != null) {
+                    // Nothing but the ids of the section itself is known to the handler after the first layout
+                    ownIds = new HashSet<>(handler.getRenderersPages().keySet());
+                }
+                return null;
+            };
+        }
+
+        Callable<Object> createRelayoutTask(Map<String, Integer> renderersPages) {
+            return () -> {
+                TargetCounterHandler handler = getTargetCounterHandler();
+                handler.setPageNumberOffset(startPageNumberOffset);
+                handler.updateRenderersPages(renderersPages);
+                document.relayout();
+                // Forget the pages of the foreign ids, so that they can't be taken for the actual ones later
+                Map<String, Integer> ownRenderersPages = new HashMap<>();
+                for (Map.Entry<String, Integer> rendererPage : handler.getRenderersPages().entrySet()) {
+                    if (ownIds.contains(rendererPage.getKey())) {
+                        ownRenderersPages.put(rendererPage.getKey(), rendererPage.getValue());
+                    }
+                }
+                handler.updateRenderersPages(ownRenderersPages);
+                return null;
+            };
+        }
+
+        boolean isRelayoutRequired(Map<String, Integer> renderersPages) {
+            TargetCounterHandler handler = getTargetCounterHandler();
+            return handler != null && handler.isRelayoutRequired(renderersPages);
+        }
+
+        TargetCounterHandler getTargetCounterHandler() {
+            IRenderer renderer = document.getRenderer();
+            return renderer instanceof DocumentRenderer ? ((DocumentRenderer) renderer).getTargetCounterHandler()
+                    : null;
+        }
+
+        int getNumberOfPages() {
+            return document.getPdfDocument().getNumberOfPages();
+        }
+
+        void copyTo(PdfDocument destination) {
+            final int numberOfPages = getNumberOfPages();
+            if (numberOfPages == 0) {
+                // Empty document can't be closed, there is nothing to copy anyway
+                return;
+            }
+            document.close();
+            try (PdfDocument sectionPdfDocument = new PdfDocument(
+                    new PdfReader(new ByteArrayInputStream(output.toByteArray())))) {
+                sectionPdfDocument.copyPagesTo(1, numberOfPages, destination);
+            } catch (IOException e) {
+                throw new PdfException(LayoutExceptionMessageConstant.SECTION_LAYOUT_FAILED, e);
+            }
+            document = null;
+            output = null;
+        }
+    }
+}
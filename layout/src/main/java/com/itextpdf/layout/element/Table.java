@@ -69,6 +69,8 @@ public class Table extends BlockElement<Table> implements ILargeElement {
     private Document document;
     private Cell[] lastAddedRow;
     private Div caption;
+    private int autoFlushRowCount = 0;
+    private int autoLayoutRowCount = 0;
 
     /**
      * Constructs a {@code Table} with the preferable column widths.
@@ -597,6 +599,7 @@ public class Table extends BlockElement<Table> implements ILargeElement {
             }
         }
         currentColumn += cell.getColspan();
+        autoFlushIfNeeded();
         return this;
     }
 
@@ -753,18 +756,25 @@ public class Table extends BlockElement<Table> implements ILargeElement {
         int firstRow = lastAddedRowGroups.get(0).startRow;
         int lastRow = lastAddedRowGroups.get(lastAddedRowGroups.size() - 1).finishRow;
 
-        List<IElement> toRemove = new ArrayList<>();
+        // Rebuild the lists instead of removing elements one by one, so that flushing is linear
+        // in the number of rows kept in memory.
+        List<IElement> remainingCells = new ArrayList<>();
         for (IElement cell : childElements) {
-            if (((Cell) cell).getRow() >= firstRow && ((Cell) cell).getRow() <= lastRow) {
-                toRemove.add(cell);
+            if (((Cell) cell).getRow() < firstRow || ((Cell) cell).getRow() > lastRow) {
+                remainingCells.add(cell);
             }
         }
-        childElements.removeAll(toRemove);
-
-        for (int i = 0; i < lastRow - firstRow; i++) {
-            rows.remove(firstRow - rowWindowStart);
+        childElements.clear();
+        childElements.addAll(remainingCells);
+
+        lastAddedRow = rows.get(lastRow - rowWindowStart);
+        List<Cell[]> remainingRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (i < firstRow - rowWindowStart || i > lastRow - rowWindowStart) {
+                remainingRows.add(rows.get(i));
+            }
         }
-        lastAddedRow = rows.remove(firstRow - rowWindowStart);
+        rows = remainingRows;
         rowWindowStart = lastAddedRowGroups.get(lastAddedRowGroups.size() - 1).getFinishRow() + 1;
 
         lastAddedRowGroups = null;
@@ -775,6 +785,68 @@ public class Table extends BlockElement<Table> implements ILargeElement {
         this.document = document;
     }
 
+    /**
+     * Sets the number of rows kept in memory after which a large table automatically flushes
+     * its complete row groups to the document, see {@link #flush()}.
+     * <p>
+     * This allows to stream a large table to the document: row groups are laid out, drawn and released
+     * as the cells are added, so the memory consumption doesn't depend on the total number of rows.
+     * Header and footer are repeated and collapsed borders are resolved in the same way as for the
+     * explicit {@link #flush()} calls, i.e. only the bottom border of the last flushed row is retained.
+     * The automatic flushing starts once the table has been added to the {@link Document}.
+     * The value is ignored for tables which are not large, see {@link #Table(UnitValue[], boolean)}.
+     *
+     * @param autoFlushRowCount the number of rows after which the table is flushed,
+     *                          0 or negative value disables automatic flushing
+     * @return this {@link Table}
+     */
+    public Table setAutoFlushRowCount(int autoFlushRowCount) {
+        this.autoFlushRowCount = autoFlushRowCount;
+        return this;
+    }
+
+    /**
+     * Gets the number of rows kept in memory after which a large table automatically flushes
+     * its complete row groups to the document.
+     *
+     * @return the number of rows after which the table is flushed, 0 or negative value if automatic
+     * flushing is disabled
+     * @see #setAutoFlushRowCount(int)
+     */
+    public int getAutoFlushRowCount() {
+        return autoFlushRowCount;
+    }
+
+    /**
+     * Limits the number of body rows which content is measured to calculate the column widths
+     * in the automatic table layout.
+     * <p>
+     * By default, the automatic layout measures the content of every cell before the first row is laid out,
+     * which is expensive for tables with a lot of rows. If the rows are uniform, the column widths can be
+     * derived from the first rows only. Header and footer rows are always measured. The content of the
+     * other rows doesn't affect the column widths, so it may not fit into the columns. If the column widths
+     * are known in advance, consider the fixed layout instead, see {@link #setFixedLayout()}.
+     *
+     * @param autoLayoutRowCount the number of the first body rows to measure,
+     *                           0 or negative value means that all the rows are measured
+     * @return this {@link Table}
+     */
+    public Table setAutoLayoutRowCount(int autoLayoutRowCount) {
+        this.autoLayoutRowCount = autoLayoutRowCount;
+        return this;
+    }
+
+    /**
+     * Gets the number of body rows which content is measured to calculate the column widths
+     * in the automatic table layout.
+     *
+     * @return the number of the first body rows to measure, 0 or negative value if all the rows are measured
+     * @see #setAutoLayoutRowCount(int)
+     */
+    public int getAutoLayoutRowCount() {
+        return autoLayoutRowCount;
+    }
+
     /**
      * Gets the markup properties of the bottom border of the (current) last row.
      *
@@ -953,6 +1025,17 @@ public class Table extends BlockElement<Table> implements ILargeElement {
         return rowGroups;
     }
 
+    private void autoFlushIfNeeded() {
+        // Only flush after a row is filled completely, otherwise there is nothing new to lay out.
+        if (isComplete || document == null || autoFlushRowCount <= 0 || currentColumn < columnWidths.length
+                || currentRow - rowWindowStart + 1 < autoFlushRowCount) {
+            return;
+        }
+        if (!getRowGroups().isEmpty()) {
+            flush();
+        }
+    }
+
     private void initializeRows() {
         rows = new ArrayList<>();
         currentColumn = -1;
@@ -41,6 +41,12 @@ public final class LayoutExceptionMessageConstant {
     public static final String FONT_PROVIDER_NOT_SET_FONT_FAMILY_NOT_RESOLVED = "FontProvider and FontSet are empty. "
             + "Cannot resolve font family name (see ElementPropertyContainer#setFontFamily) without initialized "
             + "FontProvider (see RootElement#setFontProvider).";
+    public static final String FONT_SELECTOR_CACHE_FONT_SET_MISMATCH = "FontSelectorCache can only be used by "
+            + "FontProvider created for the same FontSet.";
+    public static final String FONT_SELECTOR_CACHE_FONT_SET_CANNOT_BE_NULL = "FontSelectorCache cannot be created "
+            + "without a FontSet.";
+    public static final String FONT_SELECTOR_CACHE_MAX_SIZE_SHALL_BE_POSITIVE = "FontSelectorCache maximum size "
+            + "shall be a positive number.";
     public static final String IO_EXCEPTION_WHILE_CREATING_FONT = "I/O exception while creating Font";
     public static final String NONINVERTIBLE_MATRIX_CANNOT_BE_PROCESSED = "A noninvertible matrix has been parsed. "
             + "The behaviour is unpredictable.";
@@ -48,6 +54,10 @@ public final class LayoutExceptionMessageConstant {
             + "role.";
     public static final String ROLE_IN_NAMESPACE_IS_NOT_MAPPED_TO_ANY_STANDARD_ROLE = "Role \"{0}\" in namespace {1} "
             + "is not mapped to any standard role.";
+    public static final String SECTION_LAYOUT_FAILED = "Document section couldn't be laid out.";
+    public static final String SECTION_LAYOUT_INTERRUPTED = "Document sections layout was interrupted.";
+    public static final String TEMPLATE_DOES_NOT_FIT = "Template content doesn't fit into the area of "
+            + "{0} x {1} points.";
     public static final String INLINE_VERTICAL_ALIGNMENT_DOESN_T_NEED_A_VALUE =
             "Inline vertical alignment \"{0}\" doesn't need a value";
 
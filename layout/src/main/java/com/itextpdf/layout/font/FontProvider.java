@@ -52,6 +52,8 @@ import java.util.Map;
  * FontProvider depends on {@link PdfDocument} due to {@link PdfFont}, so it cannot be reused for different documents
  * unless reset with {@link FontProvider#reset()} or recreated with {@link FontProvider#getFontSet()}.
  * In the former case the {@link FontSelectorCache} is reused and in the latter it's reinitialised.
+ * {@link FontSelectorCache} is thread-safe and can also be shared between several {@link FontProvider} instances
+ * created over the same {@link FontSet}, see {@link #FontProvider(FontSet, String, FontSelectorCache)}.
  * FontProvider the only end point for creating {@link PdfFont}.
  * <p>
  * It is allowed to use only one {@link FontProvider} per document. If additional fonts per element needed,
@@ -106,9 +108,29 @@ public class FontProvider {
      * @param defaultFontFamily default font family.
      */
     public FontProvider(FontSet fontSet, String defaultFontFamily) {
+        this(fontSet, defaultFontFamily, null);
+    }
+
+    /**
+     * Creates a new instance of FontProvider which uses the passed {@link FontSelectorCache}.
+     * <p>
+     * The cache may be shared between several {@link FontProvider} instances (including ones used concurrently
+     * for different documents) as long as they are created for the same {@link FontSet} and create
+     * {@link FontSelector}s in the same way, i.e. {@link #createFontSelector(Collection, List, FontCharacteristics)}
+     * is not overridden differently. {@link PdfFont} instances are still created per {@link FontProvider}.
+     *
+     * @param fontSet predefined set of fonts, could be null only if the cache is null.
+     * @param defaultFontFamily default font family.
+     * @param fontSelectorCache cache of {@link FontSelector}s to use, could be null
+     *                          in which case a new cache is created.
+     */
+    public FontProvider(FontSet fontSet, String defaultFontFamily, FontSelectorCache fontSelectorCache) {
+        if (fontSelectorCache != null && fontSet != fontSelectorCache.getFontSet()) {
+            throw new PdfException(LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_FONT_SET_MISMATCH);
+        }
         this.fontSet = fontSet != null ? fontSet : new FontSet();
         pdfFonts = new HashMap<>();
-        fontSelectorCache = new FontSelectorCache(this.fontSet);
+        this.fontSelectorCache = fontSelectorCache != null ? fontSelectorCache : new FontSelectorCache(this.fontSet);
         this.defaultFontFamily = defaultFontFamily;
         this.fontSelectorStrategyFactory = new BestMatchFontSelectorStrategyFactory();
     }
@@ -307,6 +329,16 @@ public class FontProvider {
         return fontSet;
     }
 
+    /**
+     * Gets {@link FontSelectorCache} which can be shared with other {@link FontProvider} instances
+     * created for the same {@link FontSet}.
+     *
+     * @return the font selector cache
+     */
+    public FontSelectorCache getFontSelectorCache() {
+        return fontSelectorCache;
+    }
+
     /**
      * Gets the default font-family.
      *
@@ -398,7 +430,7 @@ public class FontProvider {
      * @see #getFontSelector(List, FontCharacteristics, FontSet)
      */
     public final FontSelector getFontSelector(List<String> fontFamilies, FontCharacteristics fc) {
-        FontSelectorKey key = new FontSelectorKey(fontFamilies, fc);
+        FontSelectorKey key = new FontSelectorKey(fontFamilies, fc, defaultFontFamily);
         FontSelector fontSelector = fontSelectorCache.get(key);
         if (fontSelector == null) {
             fontSelector = createFontSelector(fontSet.getFonts(), fontFamilies, fc);
@@ -422,7 +454,7 @@ public class FontProvider {
      */
     public final FontSelector getFontSelector(List<String> fontFamilies, FontCharacteristics fc,
                                               FontSet additionalFonts) {
-        FontSelectorKey key = new FontSelectorKey(fontFamilies, fc);
+        FontSelectorKey key = new FontSelectorKey(fontFamilies, fc, defaultFontFamily);
         FontSelector fontSelector = fontSelectorCache.get(key, additionalFonts);
         if (fontSelector == null) {
             fontSelector = createFontSelector(fontSet.getFonts(additionalFonts), fontFamilies, fc);
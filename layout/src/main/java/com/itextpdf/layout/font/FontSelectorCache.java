@@ -22,20 +22,81 @@
  */
 package com.itextpdf.layout.font;
 
-import java.util.HashMap;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
+
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe bounded cache of {@link FontSelector} instances built for a particular {@link FontSet}.
+ * <p>
+ * {@link FontSelector} instances are immutable and do not depend on {@link com.itextpdf.kernel.pdf.PdfDocument},
+ * so a single cache can be shared by several {@link FontProvider} instances created over the same {@link FontSet},
+ * e.g. one provider per converted document, see {@link FontProvider#FontProvider(FontSet, String, FontSelectorCache)}.
+ * {@link com.itextpdf.kernel.font.PdfFont} creation still happens per {@link FontProvider}.
+ * <p>
+ * Cached selectors are dropped once the {@link FontSet} size changes. When the number of cached selectors
+ * exceeds the limit, the corresponding part of the cache is cleared.
+ */
+public final class FontSelectorCache {
 
-class FontSelectorCache {
+    /**
+     * The default maximum number of selectors cached per {@link FontSet}.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
 
     private final FontSetSelectors defaultSelectors;
     private final FontSet defaultFontSet;
-    private final Map<Long, FontSetSelectors> caches = new HashMap<>();
+    private final Map<Long, FontSetSelectors> caches = new ConcurrentHashMap<>();
+    private final int maxSize;
 
-    FontSelectorCache(FontSet defaultFontSet) {
-        assert defaultFontSet != null;
+    /**
+     * Creates a new instance of {@link FontSelectorCache} with {@link #DEFAULT_MAX_SIZE} limit.
+     *
+     * @param defaultFontSet the font set for which selectors are cached
+     */
+    public FontSelectorCache(FontSet defaultFontSet) {
+        this(defaultFontSet, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new instance of {@link FontSelectorCache}.
+     *
+     * @param defaultFontSet the font set for which selectors are cached
+     * @param maxSize maximum number of selectors cached per font set, also used as the maximum number of
+     *                additional font sets tracked by the cache
+     */
+    public FontSelectorCache(FontSet defaultFontSet, int maxSize) {
+        if (defaultFontSet == null) {
+            throw new IllegalArgumentException(
+                    LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_FONT_SET_CANNOT_BE_NULL);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(
+                    LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_MAX_SIZE_SHALL_BE_POSITIVE);
+        }
         this.defaultSelectors = new FontSetSelectors();
         this.defaultSelectors.update(defaultFontSet);
         this.defaultFontSet = defaultFontSet;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the {@link FontSet} for which selectors are cached.
+     *
+     * @return the font set of this cache
+     */
+    public FontSet getFontSet() {
+        return defaultFontSet;
+    }
+
+    /**
+     * Gets the maximum number of selectors cached per font set.
+     *
+     * @return the cache size limit
+     */
+    public int getMaxSize() {
+        return maxSize;
     }
 
     FontSelector get(FontSelectorKey key) {
@@ -50,10 +111,7 @@ class FontSelectorCache {
         if (additionalFonts == null) {
             return get(key);
         } else {
-            FontSetSelectors selectors = caches.get(additionalFonts.getId());
-            if (selectors == null) {
-                caches.put(additionalFonts.getId(), selectors = new FontSetSelectors());
-            }
+            FontSetSelectors selectors = getSelectors(additionalFonts);
             if (update(selectors, additionalFonts)) {
                 return null;
             } else {
@@ -65,23 +123,35 @@ class FontSelectorCache {
     void put(FontSelectorKey key, FontSelector fontSelector) {
         //update defaultSelectors to reset counter before pushing if needed.
         update(null, null);
-        defaultSelectors.map.put(key, fontSelector);
+        defaultSelectors.put(key, fontSelector, maxSize);
     }
 
     void put(FontSelectorKey key, FontSelector fontSelector, FontSet fontSet) {
         if (fontSet == null) {
             put(key, fontSelector);
         } else {
-            FontSetSelectors selectors = caches.get(fontSet.getId());
-            if (selectors == null) {
-                caches.put(fontSet.getId(), selectors = new FontSetSelectors());
-            }
+            FontSetSelectors selectors = getSelectors(fontSet);
             //update selectors and defaultSelectors to reset counter before pushing if needed.
             update(selectors, fontSet);
-            selectors.map.put(key, fontSelector);
+            selectors.put(key, fontSelector, maxSize);
         }
     }
 
+    private FontSetSelectors getSelectors(FontSet fontSet) {
+        FontSetSelectors selectors = caches.get(fontSet.getId());
+        if (selectors == null) {
+            if (caches.size() >= maxSize) {
+                caches.clear();
+            }
+            selectors = new FontSetSelectors();
+            FontSetSelectors existing = caches.putIfAbsent(fontSet.getId(), selectors);
+            if (existing != null) {
+                selectors = existing;
+            }
+        }
+        return selectors;
+    }
+
     private boolean update(FontSetSelectors selectors, FontSet fontSet) {
         boolean updated = false;
         if (defaultSelectors.update(defaultFontSet)) {
@@ -94,10 +164,10 @@ class FontSelectorCache {
     }
 
     private static class FontSetSelectors {
-        final Map<FontSelectorKey, FontSelector> map = new HashMap<>();
+        final Map<FontSelectorKey, FontSelector> map = new ConcurrentHashMap<>();
         private int fontSetSize = -1;
 
-        boolean update(FontSet fontSet) {
+        synchronized boolean update(FontSet fontSet) {
             assert fontSet != null;
             if (fontSetSize == fontSet.size()) {
                 return false;
@@ -107,5 +177,12 @@ class FontSelectorCache {
                 return true;
             }
         }
+
+        void put(FontSelectorKey key, FontSelector fontSelector, int maxSize) {
+            if (map.size() >= maxSize) {
+                map.clear();
+            }
+            map.put(key, fontSelector);
+        }
     }
 }
@@ -33,10 +33,16 @@ import java.util.List;
 final class FontSelectorKey {
     private List<String> fontFamilies;
     private FontCharacteristics fc;
+    private String defaultFontFamily;
 
     FontSelectorKey(List<String> fontFamilies, FontCharacteristics fc) {
+        this(fontFamilies, fc, null);
+    }
+
+    FontSelectorKey(List<String> fontFamilies, FontCharacteristics fc, String defaultFontFamily) {
         this.fontFamilies = new ArrayList<>(fontFamilies);
         this.fc = fc;
+        this.defaultFontFamily = defaultFontFamily;
     }
 
     @Override
@@ -46,13 +52,16 @@ final class FontSelectorKey {
         FontSelectorKey that = (FontSelectorKey) o;
 
         return fontFamilies.equals(that.fontFamilies)
-                && (fc != null ? fc.equals(that.fc) : that.fc == null);
+                && (fc != null ? fc.equals(that.fc) : that.fc == null)
+                && (defaultFontFamily != null ? defaultFontFamily.equals(that.defaultFontFamily)
+                        : that.defaultFontFamily == null);
     }
 
     @Override
     public int hashCode() {
         int result = fontFamilies != null ? fontFamilies.hashCode() : 0;
         result = 31 * result + (fc != null ? fc.hashCode() : 0);
+        result = 31 * result + (defaultFontFamily != null ? defaultFontFamily.hashCode() : 0);
         return result;
     }
 }
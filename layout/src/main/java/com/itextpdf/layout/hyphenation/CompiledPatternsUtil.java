@@ -0,0 +1,142 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.hyphenation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Helper methods to write and read the primitive parts of the compiled hyphenation patterns.
+ * All the numbers are stored in big-endian order.
+ */
+final class CompiledPatternsUtil {
+
+    /**
+     * The ternary tree addresses its nodes and the packed values with chars, so neither the stored arrays
+     * nor the strings and the lists of the hyphenation exceptions can be longer in valid patterns.
+     */
+    static final int MAX_LENGTH = Character.MAX_VALUE + 1;
+
+    private CompiledPatternsUtil() {
+        // Empty constructor
+    }
+
+    static void writeInt(OutputStream out, int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    static int readInt(InputStream in) throws IOException {
+        return (readByte(in) << 24) | (readByte(in) << 16) | (readByte(in) << 8) | readByte(in);
+    }
+
+    static void writeChars(OutputStream out, char[] chars, int length) throws IOException {
+        writeInt(out, length);
+        for (int i = 0; i < length; i++) {
+            out.write(chars[i] >>> 8);
+            out.write(chars[i]);
+        }
+    }
+
+    static char[] readChars(InputStream in) throws IOException {
+        final char[] chars = new char[readLength(in)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ((readByte(in) << 8) | readByte(in));
+        }
+        return chars;
+    }
+
+    static void writeBytes(OutputStream out, byte[] bytes, int length) throws IOException {
+        writeInt(out, length);
+        out.write(bytes, 0, length);
+    }
+
+    static byte[] readBytes(InputStream in) throws IOException {
+        final byte[] bytes = new byte[readLength(in)];
+        int offset = 0;
+        while (offset < bytes.length) {
+            final int read = in.read(bytes, offset, bytes.length - offset);
+            if (read <= 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    static void writeString(OutputStream out, String str) throws IOException {
+        if (str == null) {
+            writeInt(out, -1);
+        } else {
+            writeChars(out, str.toCharArray(), str.length());
+        }
+    }
+
+    static String readString(InputStream in) throws IOException {
+        final int length = readInt(in);
+        if (length < 0) {
+            return null;
+        }
+        final char[] chars = new char[checkLength(length)];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ((readByte(in) << 8) | readByte(in));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Reads the length of an array or a list, which is validated before anything is allocated for it,
+     * so that malformed data can't make the reader allocate arbitrary amounts of memory.
+     *
+     * @param in the stream to read from
+     * @return the length, which is not negative and doesn't exceed {@link #MAX_LENGTH}
+     * @throws IOException if an I/O error occurs or the length is invalid
+     */
+    static int readLength(InputStream in) throws IOException {
+        final int length = readInt(in);
+        if (length < 0) {
+            throw new IOException("Negative length in compiled hyphenation patterns");
+        }
+        return checkLength(length);
+    }
+
+    private static int checkLength(int length) throws IOException {
+        if (length > MAX_LENGTH) {
+            throw new IOException("Length " + length + " in compiled hyphenation patterns exceeds the maximum of "
+                    + MAX_LENGTH);
+        }
+        return length;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        final int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+}
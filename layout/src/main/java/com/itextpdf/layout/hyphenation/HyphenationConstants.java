@@ -28,4 +28,15 @@ package com.itextpdf.layout.hyphenation;
 public class HyphenationConstants {
 
     public static final String HYPHENATION_DEFAULT_RESOURCE = "com/itextpdf/hyph/";
+
+    /**
+     * The extension of the files with the compiled hyphenation patterns,
+     * see {@link HyphenationTree#writeCompiledPatterns(java.io.OutputStream)}.
+     */
+    public static final String COMPILED_PATTERNS_EXTENSION = ".hyp";
+
+    /**
+     * The extension of the XML hyphenation pattern files.
+     */
+    public static final String PATTERNS_EXTENSION = ".xml";
 }
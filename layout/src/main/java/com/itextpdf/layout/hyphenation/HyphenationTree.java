@@ -23,6 +23,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +39,12 @@ import java.util.Map;
  */
 public class HyphenationTree extends TernaryTree implements IPatternConsumer {
 
+    // "ITHP" followed by the format version
+    private static final int COMPILED_PATTERNS_SIGNATURE = 0x49544850;
+    private static final int COMPILED_PATTERNS_VERSION = 1;
+
+    private static final int EXCEPTION_STRING_PART = 0;
+    private static final int EXCEPTION_HYPHEN_PART = 1;
 
     /**
      * value space: stores the interletter values
@@ -154,6 +161,83 @@ public class HyphenationTree extends TernaryTree implements IPatternConsumer {
         ivalues = null;
     }
 
+    /**
+     * Read hyphenation patterns previously written by {@link #writeCompiledPatterns(OutputStream)}.
+     * Unlike parsing of the XML pattern file, no patterns are inserted to the tree: the tree nodes
+     * are restored as they are, so the loading takes a fraction of the parsing time.
+     *
+     * @param stream the stream with the compiled patterns
+     * @param name unique key representing country-language combination
+     * @throws HyphenationException if the stream doesn't contain compiled patterns or can't be read
+     */
+    public void loadCompiledPatterns(InputStream stream, String name) throws HyphenationException {
+        try {
+            if (CompiledPatternsUtil.readInt(stream) != COMPILED_PATTERNS_SIGNATURE
+                    || CompiledPatternsUtil.readInt(stream) != COMPILED_PATTERNS_VERSION) {
+                throw new HyphenationException(name + " doesn't contain compiled hyphenation patterns");
+            }
+            readTree(stream);
+            classmap.readTree(stream);
+            vspace = new ByteVector(CompiledPatternsUtil.readBytes(stream));
+            final int exceptionsCount = CompiledPatternsUtil.readInt(stream);
+            for (int i = 0; i < exceptionsCount; i++) {
+                final String word = CompiledPatternsUtil.readString(stream);
+                final int partsCount = CompiledPatternsUtil.readLength(stream);
+                final ArrayList<Object> parts = new ArrayList<>(partsCount);
+                for (int j = 0; j < partsCount; j++) {
+                    if (CompiledPatternsUtil.readInt(stream) == EXCEPTION_HYPHEN_PART) {
+                        final String preBreak = CompiledPatternsUtil.readString(stream);
+                        final String noBreak = CompiledPatternsUtil.readString(stream);
+                        final String postBreak = CompiledPatternsUtil.readString(stream);
+                        parts.add(new Hyphen(preBreak, noBreak, postBreak));
+                    } else {
+                        parts.add(CompiledPatternsUtil.readString(stream));
+                    }
+                }
+                stoplist.put(word, parts);
+            }
+        } catch (IOException e) {
+            throw new HyphenationException("Can't read compiled hyphenation patterns " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the loaded hyphenation patterns in the compact binary form, which can be read back
+     * by {@link #loadCompiledPatterns(InputStream, String)}. The compiled patterns file can be placed
+     * next to the XML pattern file under the same name with the
+     * {@link HyphenationConstants#COMPILED_PATTERNS_EXTENSION} extension, so that {@link Hyphenator}
+     * loads it instead of parsing the XML.
+     *
+     * @param stream the stream to write the compiled patterns to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeCompiledPatterns(OutputStream stream) throws IOException {
+        CompiledPatternsUtil.writeInt(stream, COMPILED_PATTERNS_SIGNATURE);
+        CompiledPatternsUtil.writeInt(stream, COMPILED_PATTERNS_VERSION);
+        writeTree(stream);
+        classmap.writeTree(stream);
+        CompiledPatternsUtil.writeBytes(stream, vspace.getArray(), vspace.length());
+        CompiledPatternsUtil.writeInt(stream, stoplist.size());
+        for (String word : stoplist.keySet()) {
+            final List<?> parts = stoplist.get(word);
+            CompiledPatternsUtil.writeString(stream, word);
+            CompiledPatternsUtil.writeInt(stream, parts.size());
+            for (Object part : parts) {
+                if (part instanceof Hyphen) {
+                    final Hyphen hyphen = (Hyphen) part;
+                    CompiledPatternsUtil.writeInt(stream, EXCEPTION_HYPHEN_PART);
+                    CompiledPatternsUtil.writeString(stream, hyphen.preBreak);
+                    CompiledPatternsUtil.writeString(stream, hyphen.noBreak);
+                    CompiledPatternsUtil.writeString(stream, hyphen.postBreak);
+                } else {
+                    CompiledPatternsUtil.writeInt(stream, EXCEPTION_STRING_PART);
+                    CompiledPatternsUtil.writeString(stream, (String) part);
+                }
+            }
+        }
+        stream.flush();
+    }
+
     /**
      * Find pattern.
      * @param pat a pattern
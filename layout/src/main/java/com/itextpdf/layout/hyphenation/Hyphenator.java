@@ -22,6 +22,7 @@ import com.itextpdf.io.util.ResourceUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -42,12 +43,15 @@ public final class Hyphenator {
 
     private static final Object staticLock = new Object();
 
+    // Guards loading of the hyphenation trees, so that a tree requested concurrently is loaded only once
+    private static final Object loadingLock = new Object();
+
     /**
      * Logging instance.
      */
     private static Logger log = LoggerFactory.getLogger(Hyphenator.class);
 
-    private static HyphenationTreeCache hTreeCache;
+    private static volatile HyphenationTreeCache hTreeCache;
 
     private static List<String> additionalHyphenationFileDirectories;
 
@@ -106,12 +110,16 @@ public final class Hyphenator {
      * @return the default (static) hyphenation tree cache
      */
     public static HyphenationTreeCache getHyphenationTreeCache() {
-        synchronized (staticLock) {
-            if (hTreeCache == null) {
-                hTreeCache = new HyphenationTreeCache();
+        HyphenationTreeCache cache = hTreeCache;
+        if (cache == null) {
+            synchronized (staticLock) {
+                if (hTreeCache == null) {
+                    hTreeCache = new HyphenationTreeCache();
+                }
+                cache = hTreeCache;
             }
         }
-        return hTreeCache;
+        return cache;
     }
 
     /**
@@ -181,6 +189,10 @@ public final class Hyphenator {
 
     /**
      * Returns a hyphenation tree for a given language and country. The hyphenation trees are cached.
+     * <p>
+     * The tree is loaded only once even if it is requested by several threads at the same time.
+     * The compiled patterns (see {@link HyphenationConstants#COMPILED_PATTERNS_EXTENSION}) are preferred
+     * to the XML pattern file found in the same location.
      *
      * @param lang the language
      * @param country the country (may be null or "none")
@@ -188,44 +200,14 @@ public final class Hyphenator {
      * @return the hyphenation tree
      */
     public static HyphenationTree getHyphenationTree2(String lang, String country, Map<String, String> hyphPathNames) {
-        String llccKey = HyphenationTreeCache.constructLlccKey(lang, country);
-        HyphenationTreeCache cache = getHyphenationTreeCache();
-
-        HyphenationTree hTree;
         // first try to find it in the cache
-        hTree = getHyphenationTreeCache().getHyphenationTree(lang, country);
+        HyphenationTree hTree = getHyphenationTreeCache().getHyphenationTree(lang, country);
         if (hTree != null) {
             return hTree;
         }
-
-        String key = HyphenationTreeCache.constructUserKey(lang, country, hyphPathNames);
-        if (key == null) {
-            key = llccKey;
-        }
-
-        if (additionalHyphenationFileDirectories != null) {
-            for (String dir : additionalHyphenationFileDirectories) {
-                hTree = getHyphenationTree(dir, key);
-                if (hTree != null) {
-                    break;
-                }
-            }
-        }
-
-        if (hTree == null) {
-            // get from the default directory
-            InputStream defaultHyphenationResourceStream = ResourceUtil.getResourceStream(HyphenationConstants.HYPHENATION_DEFAULT_RESOURCE + key + ".xml");
-            if (defaultHyphenationResourceStream != null) {
-                hTree = getHyphenationTree(defaultHyphenationResourceStream, key);
-            }
-        }
-
-        // put it into the pattern cache
-        if (hTree != null) {
-            cache.cache(llccKey, hTree);
+        synchronized (loadingLock) {
+            return loadHyphenationTree(lang, country, hyphPathNames);
         }
-
-        return hTree;
     }
 
     /**
@@ -236,8 +218,12 @@ public final class Hyphenator {
      * @return the requested HyphenationTree or null if it is not available
      */
     public static HyphenationTree getHyphenationTree(String searchDirectory, String key) {
+        HyphenationTree hTree = getCompiledHyphenationTree(searchDirectory, key);
+        if (hTree != null) {
+            return hTree;
+        }
         // try the raw XML file
-        String name = key + ".xml";
+        String name = key + HyphenationConstants.PATTERNS_EXTENSION;
         try {
             InputStream fis = FileUtil.getInputStreamForFile(searchDirectory + File.separator + name);
             return getHyphenationTree(fis, name);
@@ -277,6 +263,35 @@ public final class Hyphenator {
         return hTree;
     }
 
+    /**
+     * Load tree from the stream with the compiled patterns,
+     * see {@link HyphenationTree#writeCompiledPatterns(java.io.OutputStream)}.
+     *
+     * @param in the input stream to load the tree from
+     * @param name unique key representing country-language combination
+     * @return the requested HyphenationTree or null if it is not available
+     */
+    public static HyphenationTree getCompiledHyphenationTree(InputStream in, String name) {
+        if (in == null) {
+            return null;
+        }
+        HyphenationTree hTree;
+        try {
+            hTree = new HyphenationTree();
+            hTree.loadCompiledPatterns(new BufferedInputStream(in), name);
+        }
+        catch (HyphenationException ex) {
+            log.error("Can't load compiled patterns from file " + name + ": " + ex.getMessage());
+            return null;
+        }
+        finally {
+            try {
+                in.close();
+            } catch (Exception ignored) {}
+        }
+        return hTree;
+    }
+
     /**
      * Hyphenates a word.
      *
@@ -354,4 +369,70 @@ public final class Hyphenator {
             return null;
         }
     }
+
+    private static HyphenationTree getCompiledHyphenationTree(String searchDirectory, String key) {
+        String name = key + HyphenationConstants.COMPILED_PATTERNS_EXTENSION;
+        String path = searchDirectory + File.separator + name;
+        if (!FileUtil.fileExists(path)) {
+            return null;
+        }
+        try {
+            return getCompiledHyphenationTree(FileUtil.getInputStreamForFile(path), name);
+        } catch (IOException ioe) {
+            if (log.isDebugEnabled()) {
+                log.debug("I/O problem while trying to load " + name + ": " + ioe.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static HyphenationTree loadHyphenationTree(String lang, String country,
+            Map<String, String> hyphPathNames) {
+        String llccKey = HyphenationTreeCache.constructLlccKey(lang, country);
+        HyphenationTreeCache cache = getHyphenationTreeCache();
+
+        // the tree could have been loaded by another thread while this one was waiting for the lock
+        HyphenationTree hTree = cache.getHyphenationTree(lang, country);
+        if (hTree != null) {
+            return hTree;
+        }
+
+        String key = HyphenationTreeCache.constructUserKey(lang, country, hyphPathNames);
+        if (key == null) {
+            key = llccKey;
+        }
+
+        if (additionalHyphenationFileDirectories != null) {
+            for (String dir : additionalHyphenationFileDirectories) {
+                hTree = getHyphenationTree(dir, key);
+                if (hTree != null) {
+                    break;
+                }
+            }
+        }
+
+        if (hTree == null) {
+            // get from the default directory
+            InputStream compiledHyphenationResourceStream = ResourceUtil.getResourceStream(
+                    HyphenationConstants.HYPHENATION_DEFAULT_RESOURCE + key + HyphenationConstants.COMPILED_PATTERNS_EXTENSION);
+            if (compiledHyphenationResourceStream != null) {
+                hTree = getCompiledHyphenationTree(compiledHyphenationResourceStream, key);
+            }
+        }
+
+        if (hTree == null) {
+            InputStream defaultHyphenationResourceStream = ResourceUtil.getResourceStream(
+                    HyphenationConstants.HYPHENATION_DEFAULT_RESOURCE + key + HyphenationConstants.PATTERNS_EXTENSION);
+            if (defaultHyphenationResourceStream != null) {
+                hTree = getHyphenationTree(defaultHyphenationResourceStream, key);
+            }
+        }
+
+        // put it into the pattern cache
+        if (hTree != null) {
+            cache.cache(llccKey, hTree);
+        }
+
+        return hTree;
+    }
 }
@@ -21,6 +21,9 @@
 
 package com.itextpdf.layout.hyphenation;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Enumeration;
 
 /**
@@ -557,6 +560,44 @@ public class TernaryTree {
         kv.trimToSize();
     }
 
+    /**
+     * Writes the nodes of the tree, so that it can be restored by {@link #readTree(InputStream)}
+     * without inserting the keys again.
+     *
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void writeTree(OutputStream out) throws IOException {
+        CompiledPatternsUtil.writeInt(out, root);
+        CompiledPatternsUtil.writeInt(out, freenode);
+        CompiledPatternsUtil.writeInt(out, length);
+        CompiledPatternsUtil.writeChars(out, lo, freenode);
+        CompiledPatternsUtil.writeChars(out, hi, freenode);
+        CompiledPatternsUtil.writeChars(out, eq, freenode);
+        CompiledPatternsUtil.writeChars(out, sc, freenode);
+        CompiledPatternsUtil.writeChars(out, kv.getArray(), kv.length());
+    }
+
+    /**
+     * Restores the nodes of the tree written by {@link #writeTree(OutputStream)}.
+     *
+     * @param in the stream to read from
+     * @throws IOException if an I/O error occurs or the data is malformed
+     */
+    void readTree(InputStream in) throws IOException {
+        root = (char) CompiledPatternsUtil.readInt(in);
+        freenode = (char) CompiledPatternsUtil.readInt(in);
+        length = CompiledPatternsUtil.readInt(in);
+        lo = CompiledPatternsUtil.readChars(in);
+        hi = CompiledPatternsUtil.readChars(in);
+        eq = CompiledPatternsUtil.readChars(in);
+        sc = CompiledPatternsUtil.readChars(in);
+        kv = new CharVector(CompiledPatternsUtil.readChars(in));
+        if (lo.length != freenode || hi.length != freenode || eq.length != freenode || sc.length != freenode) {
+            throw new IOException("Inconsistent ternary tree node arrays");
+        }
+    }
+
     private void compact(CharVector kx, TernaryTree map, char p) {
         int k;
         if (p == 0) {
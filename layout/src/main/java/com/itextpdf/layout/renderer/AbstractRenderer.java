@@ -1306,6 +1306,20 @@ public abstract class AbstractRenderer implements IRenderer {
         return isFirstOnRootArea(false);
     }
 
+    /**
+     * Gets the page on which the renderer with the given id was laid out during the previous layout
+     * of the document, e.g. to render a target-counter. Unlike
+     * {@link TargetCounterHandler#getPageByID(IRenderer, String)}, the layout of this renderer is recorded
+     * as dependent on the target page, so that {@link com.itextpdf.layout.Document#incrementalRelayout()}
+     * lays it out again if the page changes.
+     *
+     * @param targetId the id of the target renderer
+     * @return the page of the target renderer, or {@code null} if it is not known yet
+     */
+    protected Integer resolveTargetPageNumber(String targetId) {
+        return TargetCounterHandler.resolvePageByID(this, targetId);
+    }
+
     protected void applyDestinationsAndAnnotation(DrawContext drawContext) {
         applyDestination(drawContext.getDocument());
         applyAction(drawContext.getDocument());
@@ -1400,7 +1414,7 @@ public abstract class AbstractRenderer implements IRenderer {
                 offset += (float) abstractChild.getPropertyAsFloat(Property.OUTLINE_OFFSET);
             DivRenderer div = new DivRenderer(outlines);
             div.setParent(abstractChild.getParent());
-            Rectangle divOccupiedArea = abstractChild.applyMargins(abstractChild.occupiedArea.clone().getBBox(), false).moveLeft(offset).moveDown(offset);
+            Rectangle divOccupiedArea = abstractChild.applyMargins(abstractChild.occupiedArea.getBBox().clone(), false).moveLeft(offset).moveDown(offset);
             divOccupiedArea.setWidth(divOccupiedArea.getWidth() + 2 * offset).setHeight(divOccupiedArea.getHeight() + 2 * offset);
             div.occupiedArea = new LayoutArea(abstractChild.getOccupiedArea().getPageNumber(), divOccupiedArea);
             float outlineWidthTop = div.<Border>getProperty(Property.BORDER_TOP).getWidth();
@@ -2653,7 +2667,7 @@ public abstract class AbstractRenderer implements IRenderer {
      * @return {@link AffineTransform} that transforms the content and places it inside occupied area.
      */
     private AffineTransform createTransformationInsideOccupiedArea() {
-        Rectangle backgroundArea = applyMargins(occupiedArea.clone().getBBox(), false);
+        Rectangle backgroundArea = applyMargins(occupiedArea.getBBox().clone(), false);
         float x = backgroundArea.getX();
         float y = backgroundArea.getY();
         float height = backgroundArea.getHeight();
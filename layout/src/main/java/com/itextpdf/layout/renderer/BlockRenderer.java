@@ -243,7 +243,7 @@ public abstract class BlockRenderer extends AbstractRenderer {
                 childMarginsInfo = startChildMarginsHandling(childRenderer, layoutBox, marginsCollapseHandler);
             }
             Rectangle changedLayoutBox =
-                    recalculateLayoutBoxBeforeChildLayout(layoutBox, childRenderer, areas.get(0).clone());
+                    recalculateLayoutBoxBeforeChildLayout(layoutBox, childRenderer, areas.get(0));
             while ((result = childRenderer.setParent(this).layout(new LayoutContext(
                     new LayoutArea(pageNumber, changedLayoutBox),
                     childMarginsInfo,
@@ -649,6 +649,7 @@ public abstract class BlockRenderer extends AbstractRenderer {
         return marginsCollapseHandler.startChildMarginsHandling(childRenderer, layoutBox);
     }
 
+    // initialLayoutBox is the first of the element areas and is not copied, so it must not be modified
     Rectangle recalculateLayoutBoxBeforeChildLayout(Rectangle layoutBox,
                                                     IRenderer childRenderer, Rectangle initialLayoutBox) {
         return layoutBox;
@@ -36,11 +36,16 @@ import com.itextpdf.layout.properties.BorderCollapsePropertyValue;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.minmaxwidth.MinMaxWidth;
 
 /**
  * Represents a renderer for the {@link Cell} layout element.
  */
 public class CellRenderer extends BlockRenderer {
+
+    // Min/max width of the cell measured for the table columns widths calculation
+    private MinMaxWidth tableLayoutMinMaxWidth;
+
     /**
      * Creates a CellRenderer from its corresponding layout object.
      *
@@ -61,6 +66,48 @@ public class CellRenderer extends BlockRenderer {
         return super.getModelElement();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addChild(IRenderer renderer) {
+        tableLayoutMinMaxWidth = null;
+        super.addChild(renderer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setProperty(int property, Object value) {
+        tableLayoutMinMaxWidth = null;
+        super.setProperty(property, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteOwnProperty(int property) {
+        tableLayoutMinMaxWidth = null;
+        super.deleteOwnProperty(property);
+    }
+
+    /**
+     * Gets min/max width of the cell for the table columns widths calculation. The width is measured only once
+     * until the content or the own properties of the cell renderer change, so that the column widths of the rest
+     * of the table, e.g. after a page split, are recalculated without laying out the cell content again.
+     *
+     * @return a new {@link MinMaxWidth} instance, which can be modified by the caller
+     */
+    MinMaxWidth getMinMaxWidthForTableLayout() {
+        if (tableLayoutMinMaxWidth == null) {
+            tableLayoutMinMaxWidth = getMinMaxWidth();
+        }
+        return new MinMaxWidth(tableLayoutMinMaxWidth.getChildrenMinWidth(),
+                tableLayoutMinMaxWidth.getChildrenMaxWidth(), tableLayoutMinMaxWidth.getAdditionalWidth());
+    }
+
     @Override
     protected Float retrieveWidth(float parentBoxWidth) {
         return null;
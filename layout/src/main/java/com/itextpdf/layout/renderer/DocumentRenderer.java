@@ -48,6 +48,12 @@ public class DocumentRenderer extends RootRenderer {
     protected List<Integer> wrappedContentPage = new ArrayList<>();
     protected TargetCounterHandler targetCounterHandler = new TargetCounterHandler();
 
+    /**
+     * Layout states captured before adding each top-level child, null if the state couldn't be captured.
+     */
+    private final List<RelayoutCheckpoint> relayoutCheckpoints = new ArrayList<>();
+    private boolean addingChild = false;
+
     public DocumentRenderer(Document document) {
         this(document, true);
     }
@@ -76,6 +82,63 @@ public class DocumentRenderer extends RootRenderer {
         return targetCounterHandler.isRelayoutRequired();
     }
 
+    @Override
+    public void addChild(IRenderer renderer) {
+        if (addingChild) {
+            // Nested call, e.g. for floats moved to the next page, it's not a top-level child
+            super.addChild(renderer);
+            return;
+        }
+        if (!immediateFlush) {
+            storeRelayoutCheckpoint();
+        }
+        addingChild = true;
+        try {
+            super.addChild(renderer);
+        } finally {
+            addingChild = false;
+        }
+    }
+
+    /**
+     * Prepares this renderer for the incremental relayout, see {@link Document#incrementalRelayout()}.
+     * <p>
+     * Finds the first top-level child which layout depends on a page of a target which has changed since
+     * it was requested via {@link AbstractRenderer#resolveTargetPageNumber(String)}, and restores the layout
+     * state captured right before the closest preceding top-level child could be added. The children added
+     * before that point are kept as is, since they would be laid out exactly in the same way.
+     * <p>
+     * Subclasses which keep their own layout state shall override this method and return -1.
+     *
+     * @param topLevelChildrenCount the number of top-level children expected to be added to this renderer
+     * @return the index of the first top-level child which shall be added again, or -1 if the whole content
+     * shall be relaid out from scratch
+     */
+    public int prepareIncrementalRelayout(int topLevelChildrenCount) {
+        if (immediateFlush || relayoutCheckpoints.size() != topLevelChildrenCount) {
+            return -1;
+        }
+        int firstOutdatedRequestIndex = targetCounterHandler.getFirstOutdatedRequestIndex();
+        int firstChildToRelayout = topLevelChildrenCount;
+        if (firstOutdatedRequestIndex != -1) {
+            RelayoutCheckpoint checkpoint = null;
+            // The first child is always laid out from scratch, there is nothing to keep before it
+            for (int i = relayoutCheckpoints.size() - 1; i > 0 && checkpoint == null; i--) {
+                RelayoutCheckpoint candidate = relayoutCheckpoints.get(i);
+                if (candidate != null && candidate.requestedIdsCount <= firstOutdatedRequestIndex) {
+                    checkpoint = candidate;
+                    firstChildToRelayout = i;
+                }
+            }
+            if (checkpoint == null) {
+                return -1;
+            }
+            restoreRelayoutCheckpoint(checkpoint, firstChildToRelayout);
+        }
+        targetCounterHandler.prepareHandlerToRelayout();
+        return firstChildToRelayout;
+    }
+
     @Override
     public LayoutArea getOccupiedArea() {
         throw new IllegalStateException("Not applicable for DocumentRenderer");
@@ -200,6 +263,30 @@ public class DocumentRenderer extends RootRenderer {
                 pageSize.getHeight() - bottomMargin - topMargin);
     }
 
+    private void storeRelayoutCheckpoint() {
+        RelayoutCheckpoint checkpoint = null;
+        if (isLayoutStateRestorable()) {
+            LayoutArea initialArea = getInitialCurrentArea();
+            checkpoint = new RelayoutCheckpoint((RootLayoutArea) currentArea.clone(),
+                    initialArea == null ? null : initialArea.clone(), childRenderers.size(), positionedRenderers.size(),
+                    document.getPdfDocument().getNumberOfPages(), targetCounterHandler.getRequestedIdsCount());
+        }
+        relayoutCheckpoints.add(checkpoint);
+    }
+
+    private void restoreRelayoutCheckpoint(RelayoutCheckpoint checkpoint, int checkpointIndex) {
+        while (relayoutCheckpoints.size() > checkpointIndex) {
+            relayoutCheckpoints.remove(relayoutCheckpoints.size() - 1);
+        }
+        targetCounterHandler.discardRequests(checkpoint.requestedIdsCount);
+        restoreLayoutState(checkpoint.currentArea, checkpoint.initialCurrentArea,
+                checkpoint.childRenderersCount, checkpoint.positionedRenderersCount);
+        PdfDocument pdfDocument = document.getPdfDocument();
+        while (pdfDocument.getNumberOfPages() > checkpoint.numberOfPages) {
+            pdfDocument.removePage(pdfDocument.getNumberOfPages());
+        }
+    }
+
     private void possiblyFlushPreviousPage(int currentPageNumber) {
         if (immediateFlush && currentPageNumber > 1) {
             // We don't flush current page immediately, but only flush previous one
@@ -207,4 +294,23 @@ public class DocumentRenderer extends RootRenderer {
             document.getPdfDocument().getPage(currentPageNumber - 1).flush();
         }
     }
+
+    private static final class RelayoutCheckpoint {
+        private final RootLayoutArea currentArea;
+        private final LayoutArea initialCurrentArea;
+        private final int childRenderersCount;
+        private final int positionedRenderersCount;
+        private final int numberOfPages;
+        private final int requestedIdsCount;
+
+        RelayoutCheckpoint(RootLayoutArea currentArea, LayoutArea initialCurrentArea, int childRenderersCount,
+                int positionedRenderersCount, int numberOfPages, int requestedIdsCount) {
+            this.currentArea = currentArea;
+            this.initialCurrentArea = initialCurrentArea;
+            this.childRenderersCount = childRenderersCount;
+            this.positionedRenderersCount = positionedRenderersCount;
+            this.numberOfPages = numberOfPages;
+            this.requestedIdsCount = requestedIdsCount;
+        }
+    }
 }
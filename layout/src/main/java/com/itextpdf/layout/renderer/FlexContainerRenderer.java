@@ -101,7 +101,9 @@ public class FlexContainerRenderer extends DivRenderer {
     public LayoutResult layout(LayoutContext layoutContext) {
         Rectangle layoutContextRectangle = layoutContext.getArea().getBBox();
         setThisAsParent(getChildRenderers());
-        lines = FlexUtil.calculateChildrenRectangles(layoutContextRectangle, this);
+        final boolean isSplitAllowed = !layoutContext.isClippedHeight()
+                && !Boolean.TRUE.equals(this.<Boolean>getProperty(Property.FORCED_PLACEMENT));
+        lines = FlexUtil.calculateChildrenRectangles(layoutContextRectangle, this, isSplitAllowed);
         applyWrapReverse();
         List<IRenderer> renderers = getFlexItemMainDirector().applyDirection(lines);
         removeAllChildRenderers(getChildRenderers());
@@ -72,6 +72,24 @@ final class FlexUtil {
      */
     public static List<List<FlexItemInfo>> calculateChildrenRectangles(Rectangle flexContainerBBox,
                                                                        FlexContainerRenderer flexContainerRenderer) {
+        return calculateChildrenRectangles(flexContainerBBox, flexContainerRenderer, false);
+    }
+
+    /**
+     * Performs flex layout algorithm.
+     *
+     * <p>
+     * If the split of the flex container is allowed, the items which can't be placed on the current area
+     * are not processed and are returned as the last line with empty rectangles.
+     *
+     * @param flexContainerBBox     bounding box in which flex container should be rendered
+     * @param flexContainerRenderer flex container's renderer
+     * @param isSplitAllowed        {@code true} if the flex container is going to be split if its content
+     *                              doesn't fit the bounding box, {@code false} otherwise
+     * @return list of lines
+     */
+    static List<List<FlexItemInfo>> calculateChildrenRectangles(Rectangle flexContainerBBox,
+            FlexContainerRenderer flexContainerRenderer, boolean isSplitAllowed) {
         Rectangle layoutBox = flexContainerBBox.clone();
         flexContainerRenderer.applyMarginsBordersPaddings(layoutBox, false);
 
@@ -94,12 +112,6 @@ final class FlexUtil {
         float layoutBoxCrossSize = isColumnDirection(flexContainerRenderer) ?
                 layoutBox.getWidth() : layoutBox.getHeight();
         layoutBoxCrossSize = crossSize == null ? layoutBoxCrossSize : Math.min((float) crossSize, layoutBoxCrossSize);
-        List<FlexItemCalculationInfo> flexItemCalculationInfos =
-                createFlexItemCalculationInfos(flexContainerRenderer, mainSize, layoutBoxCrossSize);
-
-        determineFlexBasisAndHypotheticalMainSizeForFlexItems(flexItemCalculationInfos, layoutBoxCrossSize,
-                isColumnDirection(flexContainerRenderer));
-
         // 9.3. Main Size Determination
 
         // 5. Collect flex items into flex lines:
@@ -107,38 +119,41 @@ final class FlexUtil {
                 || FlexWrapPropertyValue.NOWRAP == flexContainerRenderer.<FlexWrapPropertyValue>getProperty(
                 Property.FLEX_WRAP);
 
-        List<List<FlexItemCalculationInfo>> lines =
-                collectFlexItemsIntoFlexLines(flexItemCalculationInfos, isColumnDirection(flexContainerRenderer) ?
-                        Math.min(mainSize, layoutBox.getHeight()) : mainSize, isSingleLine);
+        final List<AbstractRenderer> renderersOfNextAreas = new ArrayList<>();
+        List<List<FlexItemCalculationInfo>> lines;
+        if (isSplitAllowed && !isSingleLine && !isColumnDirection(flexContainerRenderer)
+                && !flexContainerRenderer.isWrapReverse() && crossSize == null && maxCrossSize == null) {
+            // Lines of a multi-line row flex container are sized independently, so the lines which start
+            // below the layout box can't be placed on the current area and are not processed at all.
+            lines = collectFlexItemsIntoFlexLinesFittingLayoutBox(flexContainerRenderer, mainSize,
+                    layoutBoxCrossSize, layoutBox.getHeight(), renderersOfNextAreas);
+        } else {
+            List<FlexItemCalculationInfo> flexItemCalculationInfos =
+                    createFlexItemCalculationInfos(flexContainerRenderer, mainSize, layoutBoxCrossSize);
 
-        // 6. Resolve the flexible lengths of all the flex items to find their used main size.
-        // See §9.7 Resolving Flexible Lengths.
+            determineFlexBasisAndHypotheticalMainSizeForFlexItems(flexItemCalculationInfos, layoutBoxCrossSize,
+                    isColumnDirection(flexContainerRenderer));
 
-        // 9.7. Resolving Flexible Lengths
-        // First, calculate max line size. For column container it should be the default size if width is not set.
-        // For row container it is not used currently.
-        float maxHypotheticalMainSize = 0;
-        for (List<FlexItemCalculationInfo> line : lines) {
-            float hypotheticalMainSizesSum = 0;
-            for (FlexItemCalculationInfo info : line) {
-                hypotheticalMainSizesSum += info.getOuterMainSize(info.hypotheticalMainSize);
+            lines = collectFlexItemsIntoFlexLines(flexItemCalculationInfos, isColumnDirection(flexContainerRenderer) ?
+                    Math.min(mainSize, layoutBox.getHeight()) : mainSize, isSingleLine);
+
+            // 6. Resolve the flexible lengths of all the flex items to find their used main size.
+            // See §9.7 Resolving Flexible Lengths.
+            if (isColumnDirection(flexContainerRenderer)) {
+                resolveFlexibleLengths(lines, layoutBox.getHeight(),
+                        calculateContainerMainSize(flexContainerRenderer, lines));
+            } else {
+                resolveFlexibleLengths(lines, mainSize);
             }
-            maxHypotheticalMainSize = Math.max(maxHypotheticalMainSize, hypotheticalMainSizesSum);
-        }
-        final float containerMainSize = getMainSize(flexContainerRenderer,
-                new Rectangle(isColumnDirection(flexContainerRenderer) ? 0 : maxHypotheticalMainSize,
-                        isColumnDirection(flexContainerRenderer) ? maxHypotheticalMainSize : 0));
-        if (isColumnDirection(flexContainerRenderer)) {
-            resolveFlexibleLengths(lines, layoutBox.getHeight(), containerMainSize);
-        } else {
-            resolveFlexibleLengths(lines, mainSize);
-        }
 
-        // 9.4. Cross Size Determination
+            // 9.4. Cross Size Determination
 
-        // 7. Determine the hypothetical cross size of each item by
-        // performing layout with the used main size and the available space, treating auto as fit-content.
-        determineHypotheticalCrossSizeForFlexItems(lines, isColumnDirection(flexContainerRenderer), layoutBoxCrossSize);
+            // 7. Determine the hypothetical cross size of each item by
+            // performing layout with the used main size and the available space, treating auto as fit-content.
+            determineHypotheticalCrossSizeForFlexItems(lines, isColumnDirection(flexContainerRenderer),
+                    layoutBoxCrossSize);
+        }
+        final float containerMainSize = calculateContainerMainSize(flexContainerRenderer, lines);
 
         // 8. Calculate the cross size of each flex line.
         List<Float> lineCrossSizes = calculateCrossSizeOfEachFlexLine(lines, minCrossSize, crossSize, maxCrossSize);
@@ -183,10 +198,139 @@ final class FlexUtil {
             }
             layoutTable.add(layoutLine);
         }
+        if (!renderersOfNextAreas.isEmpty()) {
+            // These items are going to be moved to the next area, so they are kept as a separate line
+            List<FlexItemInfo> layoutLine = new ArrayList<>();
+            for (AbstractRenderer renderer : renderersOfNextAreas) {
+                layoutLine.add(new FlexItemInfo(renderer, new Rectangle(0, 0)));
+            }
+            layoutTable.add(layoutLine);
+        }
 
         return layoutTable;
     }
 
+    /**
+     * Collects flex items of a multi-line row flex container into flex lines line by line. Each line is sized
+     * as soon as it's collected and the collection stops after the line which ends below the layout box,
+     * since the following lines can't be placed on the current area anyway. The items of the following lines
+     * are added to the list of renderers of the next areas.
+     *
+     * @param flexContainerRenderer flex container's renderer
+     * @param mainSize              flex container's main size
+     * @param crossSize             available cross size
+     * @param layoutBoxHeight       height of the layout box
+     * @param renderersOfNextAreas  list to add the items, which can't be placed on the current area, to
+     * @return list of sized lines which can be placed on the current area
+     */
+    private static List<List<FlexItemCalculationInfo>> collectFlexItemsIntoFlexLinesFittingLayoutBox(
+            FlexContainerRenderer flexContainerRenderer, float mainSize, float crossSize, float layoutBoxHeight,
+            List<AbstractRenderer> renderersOfNextAreas) {
+        final List<IRenderer> childRenderers = flexContainerRenderer.getChildRenderers();
+        List<List<FlexItemCalculationInfo>> lines = new ArrayList<>();
+        List<FlexItemCalculationInfo> currentLineInfos = new ArrayList<>();
+        float occupiedLineSpace = 0;
+        float linesCrossSize = 0;
+        for (int i = 0; i < childRenderers.size(); ++i) {
+            if (linesCrossSize > layoutBoxHeight + EPSILON) {
+                for (FlexItemCalculationInfo info : currentLineInfos) {
+                    renderersOfNextAreas.add(info.renderer);
+                }
+                for (int j = i; j < childRenderers.size(); ++j) {
+                    if (childRenderers.get(j) instanceof AbstractRenderer) {
+                        renderersOfNextAreas.add((AbstractRenderer) childRenderers.get(j));
+                    }
+                }
+                return lines;
+            }
+            if (!(childRenderers.get(i) instanceof AbstractRenderer)) {
+                continue;
+            }
+            final FlexItemCalculationInfo info = createFlexItemCalculationInfo(
+                    (AbstractRenderer) childRenderers.get(i), flexContainerRenderer, mainSize, crossSize);
+            determineFlexBasisAndHypotheticalMainSizeForFlexItems(Collections.singletonList(info), crossSize, false);
+
+            occupiedLineSpace += info.getOuterMainSize(info.hypotheticalMainSize);
+            if (occupiedLineSpace > mainSize + EPSILON) {
+                // If the very first uncollected item wouldn’t fit, collect just it into the line.
+                if (currentLineInfos.isEmpty()) {
+                    currentLineInfos.add(info);
+                    linesCrossSize += sizeFlexLine(currentLineInfos, mainSize, crossSize);
+                    lines.add(currentLineInfos);
+                    currentLineInfos = new ArrayList<>();
+                    occupiedLineSpace = 0;
+                } else {
+                    linesCrossSize += sizeFlexLine(currentLineInfos, mainSize, crossSize);
+                    lines.add(currentLineInfos);
+                    currentLineInfos = new ArrayList<>();
+                    currentLineInfos.add(info);
+                    occupiedLineSpace = info.getOuterMainSize(info.hypotheticalMainSize);
+                }
+            } else {
+                currentLineInfos.add(info);
+            }
+        }
+
+        // the last line should be added
+        if (!currentLineInfos.isEmpty()) {
+            if (linesCrossSize > layoutBoxHeight + EPSILON) {
+                for (FlexItemCalculationInfo info : currentLineInfos) {
+                    renderersOfNextAreas.add(info.renderer);
+                }
+            } else {
+                sizeFlexLine(currentLineInfos, mainSize, crossSize);
+                lines.add(currentLineInfos);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Resolves the flexible lengths and the hypothetical cross sizes of the items of a row flex line.
+     *
+     * @param line      flex line to size
+     * @param mainSize  flex container's main size
+     * @param crossSize available cross size
+     * @return the cross size of the flex line
+     */
+    private static float sizeFlexLine(List<FlexItemCalculationInfo> line, float mainSize, float crossSize) {
+        List<List<FlexItemCalculationInfo>> lines = Collections.singletonList(line);
+        // 6. Resolve the flexible lengths of all the flex items to find their used main size.
+        resolveFlexibleLengths(lines, mainSize);
+        // 7. Determine the hypothetical cross size of each item.
+        determineHypotheticalCrossSizeForFlexItems(lines, false, crossSize);
+        float largestHypotheticalCrossSize = 0;
+        for (FlexItemCalculationInfo info : line) {
+            largestHypotheticalCrossSize = Math.max(largestHypotheticalCrossSize,
+                    info.getOuterCrossSize(info.hypotheticalCrossSize));
+        }
+        return largestHypotheticalCrossSize;
+    }
+
+    /**
+     * Calculates the main size of the flex container based on the largest sum of hypothetical main sizes
+     * of a line. For column container it should be the default size if width is not set.
+     * For row container it is not used currently.
+     *
+     * @param flexContainerRenderer flex container's renderer
+     * @param lines                 flex lines
+     * @return the main size of the flex container
+     */
+    private static float calculateContainerMainSize(FlexContainerRenderer flexContainerRenderer,
+            List<List<FlexItemCalculationInfo>> lines) {
+        float maxHypotheticalMainSize = 0;
+        for (List<FlexItemCalculationInfo> line : lines) {
+            float hypotheticalMainSizesSum = 0;
+            for (FlexItemCalculationInfo info : line) {
+                hypotheticalMainSizesSum += info.getOuterMainSize(info.hypotheticalMainSize);
+            }
+            maxHypotheticalMainSize = Math.max(maxHypotheticalMainSize, hypotheticalMainSizesSum);
+        }
+        return getMainSize(flexContainerRenderer,
+                new Rectangle(isColumnDirection(flexContainerRenderer) ? 0 : maxHypotheticalMainSize,
+                        isColumnDirection(flexContainerRenderer) ? maxHypotheticalMainSize : 0));
+    }
+
     static boolean isColumnDirection(FlexContainerRenderer renderer) {
         FlexDirectionPropertyValue flexDir = (FlexDirectionPropertyValue) renderer.
                 <FlexDirectionPropertyValue>getProperty(Property.FLEX_DIRECTION, FlexDirectionPropertyValue.ROW);
@@ -871,41 +1015,42 @@ final class FlexUtil {
         final List<FlexItemCalculationInfo> flexItems = new ArrayList<>();
         for (final IRenderer renderer : childRenderers) {
             if (renderer instanceof AbstractRenderer) {
-                AbstractRenderer abstractRenderer = (AbstractRenderer) renderer;
-
-                // TODO DEVSIX-5091 improve determining of the flex base size when flex-basis: content
-                float maxMainSize = calculateMaxMainSize(abstractRenderer, flexContainerMainSize,
-                        isColumnDirection(flexContainerRenderer), crossSize);
-                float flexBasis;
-                boolean flexBasisContent = false;
-                if (renderer.<UnitValue>getProperty(Property.FLEX_BASIS) == null) {
-                    flexBasis = maxMainSize;
-                    flexBasisContent = true;
-                } else {
-                    // For column layout layoutBox height should not be taken into account while calculating flexBasis
-                    // in percents. If flex container doesn't have a definite size, flex basis percents should not be
-                    // taken into account.
-                    final float containerMainSize = isColumnDirection(flexContainerRenderer) ?
-                            getMainSize(flexContainerRenderer, new Rectangle(0, 0)) : flexContainerMainSize;
-                    flexBasis = (float) abstractRenderer.retrieveUnitValue(containerMainSize, Property.FLEX_BASIS);
-                    if (AbstractRenderer.isBorderBoxSizing(abstractRenderer)) {
-                        flexBasis -= AbstractRenderer.calculatePaddingBorderWidth(abstractRenderer);
-                    }
-                }
-                flexBasis = Math.max(flexBasis, 0);
+                flexItems.add(createFlexItemCalculationInfo((AbstractRenderer) renderer, flexContainerRenderer,
+                        flexContainerMainSize, crossSize));
+            }
+        }
+        return flexItems;
+    }
 
-                float flexGrow = (float) renderer.<Float>getProperty(Property.FLEX_GROW, FLEX_GROW_INITIAL_VALUE);
+    private static FlexItemCalculationInfo createFlexItemCalculationInfo(AbstractRenderer renderer,
+            FlexContainerRenderer flexContainerRenderer, float flexContainerMainSize, float crossSize) {
+        // TODO DEVSIX-5091 improve determining of the flex base size when flex-basis: content
+        float maxMainSize = calculateMaxMainSize(renderer, flexContainerMainSize,
+                isColumnDirection(flexContainerRenderer), crossSize);
+        float flexBasis;
+        boolean flexBasisContent = false;
+        if (renderer.<UnitValue>getProperty(Property.FLEX_BASIS) == null) {
+            flexBasis = maxMainSize;
+            flexBasisContent = true;
+        } else {
+            // For column layout layoutBox height should not be taken into account while calculating flexBasis
+            // in percents. If flex container doesn't have a definite size, flex basis percents should not be
+            // taken into account.
+            final float containerMainSize = isColumnDirection(flexContainerRenderer) ?
+                    getMainSize(flexContainerRenderer, new Rectangle(0, 0)) : flexContainerMainSize;
+            flexBasis = (float) renderer.retrieveUnitValue(containerMainSize, Property.FLEX_BASIS);
+            if (AbstractRenderer.isBorderBoxSizing(renderer)) {
+                flexBasis -= AbstractRenderer.calculatePaddingBorderWidth(renderer);
+            }
+        }
+        flexBasis = Math.max(flexBasis, 0);
 
-                float flexShrink = (float) renderer.<Float>getProperty(Property.FLEX_SHRINK, FLEX_SHRINK_INITIAL_VALUE);
+        float flexGrow = (float) renderer.<Float>getProperty(Property.FLEX_GROW, FLEX_GROW_INITIAL_VALUE);
 
-                final FlexItemCalculationInfo flexItemInfo = new FlexItemCalculationInfo((AbstractRenderer) renderer,
-                        flexBasis, flexGrow, flexShrink, flexContainerMainSize, flexBasisContent,
-                        isColumnDirection(flexContainerRenderer), crossSize);
+        float flexShrink = (float) renderer.<Float>getProperty(Property.FLEX_SHRINK, FLEX_SHRINK_INITIAL_VALUE);
 
-                flexItems.add(flexItemInfo);
-            }
-        }
-        return flexItems;
+        return new FlexItemCalculationInfo(renderer, flexBasis, flexGrow, flexShrink, flexContainerMainSize,
+                flexBasisContent, isColumnDirection(flexContainerRenderer), crossSize);
     }
 
     private static float calculateMaxMainSize(AbstractRenderer flexItemRenderer, float flexContainerMainSize,
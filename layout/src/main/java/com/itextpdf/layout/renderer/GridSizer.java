@@ -110,13 +110,9 @@ class GridSizer {
                 actualBBox.getHeight(), GridOrder.ROW);
         TrackSizingResult result = gridTrackSizer.sizeTracks();
         List<Float> rows = result.getTrackSizesAndExpandPercents(rowsValues);
+        float[] rowOffsets = calculateTrackOffsets(rows, rowGap);
         for (GridCell cell : grid.getUniqueGridCells(GridOrder.ROW)) {
-            float y = 0.0f;
-            for (int currentRow = 0; currentRow < cell.getRowStart(); ++currentRow) {
-                y += (float) rows.get(currentRow);
-                y += rowGap;
-            }
-            cell.getLayoutArea().setY(y);
+            cell.getLayoutArea().setY(rowOffsets[cell.getRowStart()]);
 
             float cellHeight = 0.0f;
             float[] rowSizes = new float[cell.getRowEnd() - cell.getRowStart()];
@@ -163,6 +159,26 @@ class GridSizer {
         return Math.max(Math.min(maxHeight, occupiedHeight), minHeight);
     }
 
+    /**
+     * Calculates start offsets of all the tracks, so that cells don't need to sum up the sizes of
+     * all the preceding tracks.
+     *
+     * @param trackSizes track sizes
+     * @param gap gap between tracks
+     * @return array of track start offsets, the last value is the offset after the last track
+     */
+    private static float[] calculateTrackOffsets(List<Float> trackSizes, float gap) {
+        float[] offsets = new float[trackSizes.size() + 1];
+        float offset = 0.0f;
+        for (int i = 0; i < trackSizes.size(); ++i) {
+            offsets[i] = offset;
+            offset += (float) trackSizes.get(i);
+            offset += gap;
+        }
+        offsets[trackSizes.size()] = offset;
+        return offsets;
+    }
+
     private float sum(List<Float> trackSizes) {
         float sum = 0.0f;
         for (Float size : trackSizes) {
@@ -188,13 +204,9 @@ class GridSizer {
                 actualBBox.getWidth(), GridOrder.COLUMN);
         List<Float> columns = gridTrackSizer.sizeTracks().getTrackSizesAndExpandPercents(colsValues);
 
+        float[] columnOffsets = calculateTrackOffsets(columns, columnGap);
         for (GridCell cell : grid.getUniqueGridCells(GridOrder.COLUMN)) {
-            float x = 0.0f;
-            for (int currentColumn = 0; currentColumn < cell.getColumnStart(); ++currentColumn) {
-                x += (float) columns.get(currentColumn);
-                x += columnGap;
-            }
-            cell.getLayoutArea().setX(x);
+            cell.getLayoutArea().setX(columnOffsets[cell.getColumnStart()]);
 
             float cellWidth = 0.0f;
             for (int i = cell.getColumnStart(); i < cell.getColumnEnd(); ++i) {
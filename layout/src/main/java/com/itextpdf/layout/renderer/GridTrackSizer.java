@@ -33,6 +33,7 @@ import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.layout.layout.LayoutArea;
 import com.itextpdf.layout.layout.LayoutContext;
 import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.minmaxwidth.MinMaxWidth;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.grid.AutoValue;
 import com.itextpdf.layout.properties.grid.BreadthValue;
@@ -48,8 +49,10 @@ import com.itextpdf.layout.renderer.Grid.GridOrder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 // 12.3. Track Sizing Algorithm https://drafts.csswg.org/css-grid-2/#algo-track-sizing
@@ -65,6 +68,7 @@ class GridTrackSizer {
     private final float availableSpace;
     private final GridOrder order;
     private final Set<Integer> percentValueIndexes = new HashSet<>();
+    private final Map<GridCell, float[]> contributionsCache = new HashMap<>();
 
     /**
      * Create a track sizing algorithm for given template.
@@ -322,31 +326,30 @@ class GridTrackSizer {
 
         // iText's comment: 2 - Size tracks to fit non-spanning items
         // iText's comment: 3 - Increase sizes to accommodate spanning items crossing content-sized tracks
-        int maxSpanCell = 0;
+        // iText's comment: items are grouped by span in a single pass instead of a pass per span size
+        List<List<GridCell>> groupsBySpan = new ArrayList<>();
+        List<GridCell> flexSpanningGroup = new ArrayList<>();
         for (GridCell cell : grid.getUniqueGridCells(order)) {
-            maxSpanCell = Math.max(maxSpanCell, cell.getGridSpan(order));
-        }
-        // First, process the items that don't span a flexible track.
-        for (int span = 1; span <= maxSpanCell; span++) {
-            List<GridCell> group = new ArrayList<>();
-            for (GridCell cell : grid.getUniqueGridCells(order)) {
-                // Each iteration considers all items with the same span size.
-                if (cell.getGridSpan(order) == span) {
-                    boolean flexTracksExist = false;
-                    List<Track> spannedTracks = getSpannedTracks(cell);
-                    for (Track track : spannedTracks) {
-                        if (track.isFlexibleTrack()) {
-                            flexTracksExist = true;
-                            break;
-                        }
-                    }
-                    if (flexTracksExist) {
-                        continue;
-                    }
-                    group.add(cell);
+            boolean flexTracksExist = false;
+            for (Track track : getSpannedTracks(cell)) {
+                if (track.isFlexibleTrack()) {
+                    flexTracksExist = true;
+                    break;
                 }
             }
-
+            if (flexTracksExist) {
+                flexSpanningGroup.add(cell);
+                continue;
+            }
+            final int span = cell.getGridSpan(order);
+            while (groupsBySpan.size() < span) {
+                groupsBySpan.add(new ArrayList<GridCell>());
+            }
+            groupsBySpan.get(span - 1).add(cell);
+        }
+        // First, process the items that don't span a flexible track.
+        // Each iteration considers all items with the same span size.
+        for (List<GridCell> group : groupsBySpan) {
             increaseTrackSizesToAccommodateGridItems(group, false, GridItemContributionType.FOR_INTRINSIC_MINIMUMS);
             increaseTrackSizesToAccommodateGridItems(group, false, GridItemContributionType.FOR_CONTENT_BASED_MINIMUMS);
             increaseTrackSizesToAccommodateGridItems(group, false, GridItemContributionType.FOR_MAX_CONTENT_MINIMUMS);
@@ -356,27 +359,15 @@ class GridTrackSizer {
 
         // iText's comment: 4 - Increase sizes to accommodate spanning items crossing flexible tracks
         // Now, process items spanning flexible tracks (if any).
-        List<GridCell> group = new ArrayList<>();
-        for (GridCell cell : grid.getUniqueGridCells(order)) {
-            List<Track> flexSpannedTracks = new ArrayList<>();
-            List<Track> spannedTracks = getSpannedTracks(cell);
-            for (Track track : spannedTracks) {
-                if (track.isFlexibleTrack()) {
-                    flexSpannedTracks.add(track);
-                }
-            }
-            if (flexSpannedTracks.isEmpty()) {
-                continue;
-            }
-
-            group.add(cell);
-        }
-        if (!group.isEmpty()) {
+        if (!flexSpanningGroup.isEmpty()) {
             // We can safely skip contributions for maximums since a <flex> definition
             // does not have an intrinsic max track sizing function.
-            increaseTrackSizesToAccommodateGridItems(group, true, GridItemContributionType.FOR_INTRINSIC_MINIMUMS);
-            increaseTrackSizesToAccommodateGridItems(group, true, GridItemContributionType.FOR_CONTENT_BASED_MINIMUMS);
-            increaseTrackSizesToAccommodateGridItems(group, true, GridItemContributionType.FOR_MAX_CONTENT_MINIMUMS);
+            increaseTrackSizesToAccommodateGridItems(flexSpanningGroup, true,
+                    GridItemContributionType.FOR_INTRINSIC_MINIMUMS);
+            increaseTrackSizesToAccommodateGridItems(flexSpanningGroup, true,
+                    GridItemContributionType.FOR_CONTENT_BASED_MINIMUMS);
+            increaseTrackSizesToAccommodateGridItems(flexSpanningGroup, true,
+                    GridItemContributionType.FOR_MAX_CONTENT_MINIMUMS);
         }
 
         // iText's comment: 5 - If any track still has an infinite growth limit
@@ -910,7 +901,8 @@ class GridTrackSizer {
     }
 
     /**
-     * Calculate min or max contribution of a cell.
+     * Calculate min or max contribution of a cell. Contributions are calculated once per cell
+     * and then taken from the cache, since the cell is sized in the same area during the whole algorithm.
      *
      * @param cell cell to calculate contribution
      * @param minTypeContribution type of contribution: min if true, max otherwise
@@ -918,11 +910,26 @@ class GridTrackSizer {
      */
     // iText's method
     private float calculateMinMaxContribution(GridCell cell, boolean minTypeContribution) {
+        float[] contributions = contributionsCache.get(cell);
+        if (contributions == null) {
+            contributions = calculateMinMaxContributions(cell);
+            contributionsCache.put(cell, contributions);
+        }
+        return minTypeContribution ? contributions[0] : contributions[1];
+    }
+
+    /**
+     * Calculate min and max contributions of a cell.
+     *
+     * @param cell cell to calculate contributions
+     * @return array, where first value is min contribution and second is max contribution
+     */
+    // iText's method
+    private float[] calculateMinMaxContributions(GridCell cell) {
         if (GridOrder.COLUMN == order) {
             if (cell.getValue() instanceof AbstractRenderer) {
-                AbstractRenderer abstractRenderer = (AbstractRenderer) cell.getValue();
-                return minTypeContribution ? abstractRenderer.getMinMaxWidth().getMinWidth()
-                                           : abstractRenderer.getMinMaxWidth().getMaxWidth();
+                MinMaxWidth minMaxWidth = ((AbstractRenderer) cell.getValue()).getMinMaxWidth();
+                return new float[] {minMaxWidth.getMinWidth(), minMaxWidth.getMaxWidth()};
             }
         } else {
             // https://drafts.csswg.org/css-sizing-3/#auto-box-sizes:
@@ -933,11 +940,12 @@ class GridTrackSizer {
             LayoutResult inifiniteHeighLayoutResult = cell.getValue().layout(layoutContext);
             if (inifiniteHeighLayoutResult.getStatus() == LayoutResult.NOTHING
                     || inifiniteHeighLayoutResult.getStatus() == LayoutResult.PARTIAL) {
-                return 0;
+                return new float[] {0, 0};
             }
-            return inifiniteHeighLayoutResult.getOccupiedArea().getBBox().getHeight();
+            final float height = inifiniteHeighLayoutResult.getOccupiedArea().getBBox().getHeight();
+            return new float[] {height, height};
         }
-        return 0;
+        return new float[] {0, 0};
     }
 
     // iText's class
@@ -32,17 +32,22 @@ class GridView {
     private final Grid grid;
     private final Grid.GridOrder iterationOrder;
     private final Cursor cursor;
+    private final boolean densePacking;
     private boolean restrictYGrow = false;
     private boolean restrictXGrow = false;
     private boolean hasNext = true;
     private int rightMargin;
     private int bottomMargin;
+    //Used only by "dense" algorithm, all the lines (rows or columns depending on the flow) before it are full,
+    //so that cells which are not fixed in flow axis don't try to fit into them again
+    private int firstNotFullLine = 0;
+    private int firstNotFullLineSize = 0;
 
     GridView(Grid grid, GridFlow iterationOrder) {
         this.iterationOrder = (GridFlow.COLUMN.equals(iterationOrder) || GridFlow.COLUMN_DENSE.equals(iterationOrder))
                 ? Grid.GridOrder.COLUMN : Grid.GridOrder.ROW;
-        this.cursor = new Cursor(GridFlow.ROW_DENSE.equals(iterationOrder)
-                || GridFlow.COLUMN_DENSE.equals(iterationOrder));
+        this.densePacking = GridFlow.ROW_DENSE.equals(iterationOrder) || GridFlow.COLUMN_DENSE.equals(iterationOrder);
+        this.cursor = new Cursor(densePacking);
         this.grid = grid;
     }
 
@@ -95,6 +100,14 @@ class GridView {
                 this.cursor.setY(0);
             }
         }
+        if (densePacking) {
+            //Don't move the cursor further than iteration over the full lines would move it
+            if (Grid.GridOrder.ROW.equals(iterationOrder) && y == -1) {
+                this.cursor.setY(Math.min(findFirstNotFullLine(), grid.getNumberOfRows() - bottomMargin + 1));
+            } else if (Grid.GridOrder.COLUMN.equals(iterationOrder) && x == -1) {
+                this.cursor.setX(Math.min(findFirstNotFullLine(), grid.getNumberOfColumns() - rightMargin + 1));
+            }
+        }
         this.rightMargin = rightMargin - 1;
         this.bottomMargin = bottomMargin - 1;
         this.restrictXGrow = x != -1;
@@ -164,6 +177,33 @@ class GridView {
         hasNext = true;
     }
 
+    /**
+     * Finds the first row for {@link Grid.GridOrder#ROW} iteration order or the first column for
+     * {@link Grid.GridOrder#COLUMN} iteration order which has an empty cell. Since cells are never removed
+     * from a grid, the search continues from the previously found line, unless the lines became longer.
+     *
+     * @return the index of the first not full line
+     */
+    private int findFirstNotFullLine() {
+        final boolean isRowOrder = Grid.GridOrder.ROW.equals(iterationOrder);
+        final int lineSize = isRowOrder ? grid.getNumberOfColumns() : grid.getNumberOfRows();
+        final int linesCount = isRowOrder ? grid.getNumberOfRows() : grid.getNumberOfColumns();
+        if (lineSize != firstNotFullLineSize) {
+            firstNotFullLine = 0;
+            firstNotFullLineSize = lineSize;
+        }
+        final GridCell[][] rows = grid.getRows();
+        while (firstNotFullLine < linesCount) {
+            for (int i = 0; i < lineSize; ++i) {
+                if ((isRowOrder ? rows[firstNotFullLine][i] : rows[i][firstNotFullLine]) == null) {
+                    return firstNotFullLine;
+                }
+            }
+            ++firstNotFullLine;
+        }
+        return firstNotFullLine;
+    }
+
     /**
      * Determines if current grid view can be iterated.
      *
@@ -84,6 +84,13 @@ public class LineRenderer extends AbstractRenderer {
     private float maxBlockAscent;
     private float maxBlockDescent;
 
+    // The number of the last child renderers which fonts have already been resolved and OTF features applied
+    // by the previous line of the same paragraph. The rest of the paragraph is passed from line to line as is,
+    // so the children are prepared for layout once per paragraph rather than once per line.
+    private int preparedChildRenderersCount = 0;
+    // Whether any of the child renderers, including the prepared ones, has its own bidi base direction
+    private boolean childRenderersHaveBaseDirection = false;
+
     @Override
     public LayoutResult layout(LayoutContext layoutContext) {
         boolean textSequenceOverflowXProcessing = false;
@@ -650,6 +657,8 @@ public class LineRenderer extends AbstractRenderer {
                     }
                 }
                 split[1].addAllChildRenderers(getChildRenderers().subList(childPos + 1, getChildRenderers().size()));
+                split[1].setPreparedChildRenderers(getChildRenderers().size() - childPos - 1,
+                        childRenderersHaveBaseDirection);
 
                 replaceSplitRendererKidFloats(floatsToNextPageSplitRenderers, split[0]);
                 split[0].removeAllChildRenderers(floatsOverflowedToNextLine);
@@ -1156,6 +1165,8 @@ public class LineRenderer extends AbstractRenderer {
         split[0].addChildRenderer(childResult.getSplitRenderer());
         split[1].addChildRenderer(childResult.getOverflowRenderer());
         split[1].addAllChildRenderers(getChildRenderers().subList(childPos + 1, getChildRenderers().size()));
+        split[1].setPreparedChildRenderers(getChildRenderers().size() - childPos - 1,
+                childRenderersHaveBaseDirection);
 
         return split;
     }
@@ -1310,8 +1321,11 @@ public class LineRenderer extends AbstractRenderer {
     }
 
     private void updateChildrenParent() {
-        for (final IRenderer renderer : getChildRenderers()) {
-            renderer.setParent(this);
+        // The prepared children have been added to this line by the previous one, so their parent is already set
+        final List<IRenderer> childRenderers = getChildRenderers();
+        final int notPreparedCount = getNotPreparedChildRenderersCount();
+        for (int i = 0; i < notPreparedCount; i++) {
+            childRenderers.get(i).setParent(this);
         }
     }
 
@@ -1354,11 +1368,25 @@ public class LineRenderer extends AbstractRenderer {
      */
     private BaseDirection applyOtf() {
         BaseDirection baseDirection = this.<BaseDirection>getProperty(Property.BASE_DIRECTION);
-        for (final IRenderer renderer : getChildRenderers()) {
+        final List<IRenderer> childRenderers = getChildRenderers();
+        final int notPreparedCount = getNotPreparedChildRenderersCount();
+        final boolean preparedChildRenderersHaveBaseDirection =
+                preparedChildRenderersCount > 0 && childRenderersHaveBaseDirection;
+        childRenderersHaveBaseDirection = false;
+        for (int i = 0; i < childRenderers.size(); i++) {
+            final IRenderer renderer = childRenderers.get(i);
+            if (i >= notPreparedCount && !preparedChildRenderersHaveBaseDirection) {
+                // OTF features are already applied to the prepared children and none of them has base direction
+                break;
+            }
             if (renderer instanceof TextRenderer) {
                 ((TextRenderer) renderer).applyOtf();
+                final BaseDirection childBaseDirection = renderer.<BaseDirection>getOwnProperty(Property.BASE_DIRECTION);
+                if (childBaseDirection != null && childBaseDirection != BaseDirection.NO_BIDI) {
+                    childRenderersHaveBaseDirection = true;
+                }
                 if (baseDirection == null || baseDirection == BaseDirection.NO_BIDI) {
-                    baseDirection = renderer.<BaseDirection>getOwnProperty(Property.BASE_DIRECTION);
+                    baseDirection = childBaseDirection;
                 }
             }
         }
@@ -1559,9 +1587,12 @@ public class LineRenderer extends AbstractRenderer {
      * While resolving TextRenderer may split into several ones with different fonts.
      */
     private void resolveChildrenFonts() {
-        final List<IRenderer> newChildRenderers = new ArrayList<>(getChildRenderers().size());
+        final List<IRenderer> childRenderers = getChildRenderers();
+        final int notPreparedCount = getNotPreparedChildRenderersCount();
+        final List<IRenderer> newChildRenderers = new ArrayList<>(childRenderers.size());
         boolean updateChildRenderers = false;
-        for (final IRenderer child : getChildRenderers()) {
+        for (int i = 0; i < notPreparedCount; i++) {
+            final IRenderer child = childRenderers.get(i);
             if (child instanceof TextRenderer) {
                 if (((TextRenderer) child).resolveFonts(newChildRenderers)) {
                     updateChildRenderers = true;
@@ -1573,10 +1604,20 @@ public class LineRenderer extends AbstractRenderer {
 
         // this mean, that some TextRenderer has been replaced.
         if (updateChildRenderers) {
+            newChildRenderers.addAll(childRenderers.subList(notPreparedCount, childRenderers.size()));
             setChildRenderers(newChildRenderers);
         }
     }
 
+    private void setPreparedChildRenderers(int preparedChildRenderersCount, boolean childRenderersHaveBaseDirection) {
+        this.preparedChildRenderersCount = preparedChildRenderersCount;
+        this.childRenderersHaveBaseDirection = childRenderersHaveBaseDirection;
+    }
+
+    private int getNotPreparedChildRenderersCount() {
+        return Math.max(0, getChildRenderers().size() - preparedChildRenderersCount);
+    }
+
     private float decreaseRelativeWidthByChildAdditionalWidth(IRenderer childRenderer, float normalizedChildWidth) {
         // Decrease the calculated width by margins, paddings and borders so that
         // even for 100% width the content definitely fits.
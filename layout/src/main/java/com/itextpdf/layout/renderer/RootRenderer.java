@@ -309,6 +309,51 @@ public abstract class RootRenderer extends AbstractRenderer {
 
     protected abstract void flushSingleRenderer(IRenderer resultRenderer);
 
+    /**
+     * Checks whether the layout state can be captured at this moment and restored later on, i.e.
+     * there are no pending renderers (keep with next, floats, waiting drawings) and no state which
+     * depends on the previously laid out siblings (floats on the current area, collapsing margins, tagging hints).
+     *
+     * @return true if the layout state can be restored, false otherwise
+     */
+    boolean isLayoutStateRestorable() {
+        return currentArea != null && keepWithNextHangingRenderer == null && waitingNextPageRenderers.isEmpty()
+                && waitingDrawingElements.isEmpty() && !floatOverflowedCompletely
+                && (floatRendererAreas == null || floatRendererAreas.isEmpty())
+                && !Boolean.TRUE.equals(getPropertyAsBoolean(Property.COLLAPSING_MARGINS))
+                && this.<LayoutTaggingHelper>getProperty(Property.TAGGING_HELPER) == null;
+    }
+
+    LayoutArea getInitialCurrentArea() {
+        return initialCurrentArea;
+    }
+
+    /**
+     * Restores the layout state captured when {@link #isLayoutStateRestorable()} was true.
+     *
+     * @param storedCurrentArea the stored current area
+     * @param storedInitialCurrentArea the stored initial current area
+     * @param childRenderersCount the number of child renderers to keep
+     * @param positionedRenderersCount the number of positioned renderers to keep
+     */
+    void restoreLayoutState(RootLayoutArea storedCurrentArea, LayoutArea storedInitialCurrentArea,
+            int childRenderersCount, int positionedRenderersCount) {
+        currentArea = (RootLayoutArea) storedCurrentArea.clone();
+        initialCurrentArea = storedInitialCurrentArea == null ? null : storedInitialCurrentArea.clone();
+        floatRendererAreas = new ArrayList<>();
+        keepWithNextHangingRenderer = null;
+        keepWithNextHangingRendererLayoutResult = null;
+        waitingNextPageRenderers.clear();
+        waitingDrawingElements.clear();
+        floatOverflowedCompletely = false;
+        while (childRenderers.size() > childRenderersCount) {
+            childRenderers.remove(childRenderers.size() - 1);
+        }
+        while (positionedRenderers.size() > positionedRenderersCount) {
+            positionedRenderers.remove(positionedRenderers.size() - 1);
+        }
+    }
+
     protected abstract LayoutArea updateCurrentArea(LayoutResult overflowResult);
 
     protected void shrinkCurrentAreaAndProcessRenderer(IRenderer renderer, List<IRenderer> resultRenderers, LayoutResult result) {
@@ -636,7 +636,7 @@ final class TableWidths {
 
         for (CellInfo cell : cells) {
             cell.setParent(tableRenderer);
-            MinMaxWidth minMax = cell.getCell().getMinMaxWidth();
+            MinMaxWidth minMax = cell.getCell().getMinMaxWidthForTableLayout();
             if (BorderCollapsePropertyValue.SEPARATE.equals(tableRenderer.<BorderCollapsePropertyValue>getProperty(Property.BORDER_COLLAPSE))) {
                 minMax.setAdditionalWidth((float) (minMax.getAdditionalWidth() - horizontalBorderSpacing));
             } else {
@@ -687,19 +687,20 @@ final class TableWidths {
     private void fillAndSortCells() {
         cells = new ArrayList<>();
         if (tableRenderer.headerRenderer != null) {
-            fillRendererCells(tableRenderer.headerRenderer, CellInfo.HEADER);
+            fillRendererCells(tableRenderer.headerRenderer, CellInfo.HEADER, 0);
         }
-        fillRendererCells(tableRenderer, CellInfo.BODY);
+        fillRendererCells(tableRenderer, CellInfo.BODY, getTable().getAutoLayoutRowCount());
         if (tableRenderer.footerRenderer != null) {
-            fillRendererCells(tableRenderer.footerRenderer, CellInfo.FOOTER);
+            fillRendererCells(tableRenderer.footerRenderer, CellInfo.FOOTER, 0);
         }
         // Cells are sorted, because we need to process cells without colspan
         // and process from top left to bottom right for other cases.
         Collections.sort(cells);
     }
 
-    private void fillRendererCells(TableRenderer renderer, byte region) {
-        for (int row = 0; row < renderer.rows.size(); row++) {
+    private void fillRendererCells(TableRenderer renderer, byte region, int rowCountLimit) {
+        final int rowCount = rowCountLimit > 0 ? Math.min(rowCountLimit, renderer.rows.size()) : renderer.rows.size();
+        for (int row = 0; row < rowCount; row++) {
             for (int col = 0; col < numberOfColumns; col++) {
                 CellRenderer cell = renderer.rows.get(row)[col];
                 if (cell != null) {
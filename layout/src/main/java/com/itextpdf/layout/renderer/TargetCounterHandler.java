@@ -24,8 +24,12 @@ package com.itextpdf.layout.renderer;
 
 import com.itextpdf.layout.properties.Property;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Handler to handle target-counter logic.
@@ -39,6 +43,16 @@ public class TargetCounterHandler {
 
     private Map<String, Integer> previousRenderersPages = new HashMap<>();
 
+    /**
+     * Ids which pages were requested during the current layout, mapped to the order of the first request.
+     */
+    private Map<String, Integer> requestedIds = new HashMap<>();
+
+    /**
+     * The number of pages preceding the laid out content, which is added to the pages of the renderers.
+     */
+    private int pageNumberOffset = 0;
+
     /**
      * Creates a copy of the given {@link TargetCounterHandler} instance.
      *
@@ -47,6 +61,7 @@ public class TargetCounterHandler {
     public TargetCounterHandler(TargetCounterHandler targetCounterHandler) {
         this.renderersPages = targetCounterHandler.renderersPages;
         this.previousRenderersPages = targetCounterHandler.previousRenderersPages;
+        this.pageNumberOffset = targetCounterHandler.pageNumberOffset;
     }
 
     /**
@@ -64,7 +79,8 @@ public class TargetCounterHandler {
         if (id != null) {
             final TargetCounterHandler targetCounterHandler = getTargetCounterHandler(renderer);
             if (targetCounterHandler != null && renderer.getOccupiedArea() != null) {
-                final int currentPageNumber = renderer.getOccupiedArea().getPageNumber();
+                final int currentPageNumber = renderer.getOccupiedArea().getPageNumber()
+                        + targetCounterHandler.pageNumberOffset;
                 targetCounterHandler.renderersPages.put(id, currentPageNumber);
             }
         }
@@ -82,6 +98,26 @@ public class TargetCounterHandler {
         return targetCounterHandler == null ? null : targetCounterHandler.previousRenderersPages.get(id);
     }
 
+    /**
+     * Gets page from renderer using given id and records that the layout of the renderer depends on it,
+     * so that the content laid out after the request is relaid out if the page changes.
+     *
+     * @param renderer renderer from which root renderer will be taken
+     * @param id key to the renderersPages Map
+     * @return page on which renderer was layouted
+     * @see AbstractRenderer#resolveTargetPageNumber(String)
+     */
+    static Integer resolvePageByID(IRenderer renderer, String id) {
+        final TargetCounterHandler targetCounterHandler = getTargetCounterHandler(renderer);
+        if (targetCounterHandler == null) {
+            return null;
+        }
+        if (!targetCounterHandler.requestedIds.containsKey(id)) {
+            targetCounterHandler.requestedIds.put(id, targetCounterHandler.requestedIds.size());
+        }
+        return targetCounterHandler.previousRenderersPages.get(id);
+    }
+
     /**
      * Indicates if page value was defined for this id.
      *
@@ -115,6 +151,107 @@ public class TargetCounterHandler {
         previousRenderersPages = new HashMap<>(renderersPages);
     }
 
+    /**
+     * Gets the number of pages preceding the laid out content in the final document.
+     *
+     * @return the page number offset
+     */
+    public int getPageNumberOffset() {
+        return pageNumberOffset;
+    }
+
+    /**
+     * Sets the number of pages preceding the laid out content in the final document, e.g. when the document
+     * is laid out in several independent parts which are merged afterwards. The offset is added to the pages
+     * of the renderers with id, so that target-counters refer to the pages of the final document.
+     *
+     * @param pageNumberOffset the page number offset
+     */
+    public void setPageNumberOffset(int pageNumberOffset) {
+        this.pageNumberOffset = pageNumberOffset;
+    }
+
+    /**
+     * Gets pages of the renderers with id which were laid out so far, including the page number offset.
+     *
+     * @return unmodifiable map of the renderers ids to their pages
+     */
+    public Map<String, Integer> getRenderersPages() {
+        return Collections.unmodifiableMap(renderersPages);
+    }
+
+    /**
+     * Replaces pages of the renderers with id with the given ones, e.g. with the pages resolved for the final
+     * document when it is laid out in several independent parts. The given pages are used by the next relayout.
+     *
+     * @param renderersPages the map of the renderers ids to their pages
+     */
+    public void updateRenderersPages(Map<String, Integer> renderersPages) {
+        this.renderersPages.clear();
+        this.renderersPages.putAll(renderersPages);
+    }
+
+    /**
+     * Indicates if relayout is required, given the actual pages of the renderers with id, i.e. if any of
+     * the pages requested during the current layout differs from the actual one.
+     *
+     * @param actualRenderersPages the map of the renderers ids to their actual pages
+     * @return true if relayout is required, false otherwise
+     */
+    public boolean isRelayoutRequired(Map<String, Integer> actualRenderersPages) {
+        for (String id : requestedIds.keySet()) {
+            if (!Objects.equals(previousRenderersPages.get(id), actualRenderersPages.get(id))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of distinct ids which pages were requested during the current layout.
+     *
+     * @return the number of requested ids
+     */
+    int getRequestedIdsCount() {
+        return requestedIds.size();
+    }
+
+    /**
+     * Gets the order of the first requested id which page differs from the value returned
+     * at the moment of the request, i.e. the first request which result is outdated.
+     *
+     * @return the order of the first outdated request, or -1 if all the requests are up to date
+     */
+    int getFirstOutdatedRequestIndex() {
+        int firstOutdatedRequestIndex = -1;
+        for (Map.Entry<String, Integer> requestedId : requestedIds.entrySet()) {
+            final String id = requestedId.getKey();
+            if (!Objects.equals(previousRenderersPages.get(id), renderersPages.get(id))
+                    && (firstOutdatedRequestIndex == -1 || requestedId.getValue() < firstOutdatedRequestIndex)) {
+                firstOutdatedRequestIndex = (int) requestedId.getValue();
+            }
+        }
+        return firstOutdatedRequestIndex;
+    }
+
+    /**
+     * Forgets the requests made starting from the given order, so that they can be tracked again
+     * when the corresponding content is relaid out.
+     *
+     * @param requestIndex the order of the first request to forget
+     */
+    void discardRequests(int requestIndex) {
+        List<String> idsToDiscard = new ArrayList<>();
+        for (Map.Entry<String, Integer> requestedId : requestedIds.entrySet()) {
+            if (requestedId.getValue() >= requestIndex) {
+                idsToDiscard.add(requestedId.getKey());
+            }
+        }
+        for (String id : idsToDiscard) {
+            requestedIds.remove(id);
+        }
+    }
+
     private static TargetCounterHandler getTargetCounterHandler(IRenderer renderer) {
         IRenderer rootRenderer = renderer;
         while (rootRenderer.getParent() != null) {
@@ -95,6 +95,15 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
     private static final float ITALIC_ANGLE = 0.21256f;
     private static final float BOLD_SIMULATION_STROKE_COEFF = 1 / 30f;
 
+    // Code points are classified as special script ones per block of 128, the classification of each block is
+    // computed once on first use and is one of the SPECIAL_SCRIPT_BLOCK_* values (0 means not computed yet)
+    private static final int SPECIAL_SCRIPT_BLOCK_SHIFT = 7;
+    private static final byte SPECIAL_SCRIPT_BLOCK_NONE = 1;
+    private static final byte SPECIAL_SCRIPT_BLOCK_ALL = 2;
+    private static final byte SPECIAL_SCRIPT_BLOCK_MIXED = 3;
+    private static final byte[] SPECIAL_SCRIPT_BLOCKS =
+            new byte[(Character.MAX_CODE_POINT >> SPECIAL_SCRIPT_BLOCK_SHIFT) + 1];
+
     protected float yLineOffset;
 
     private PdfFont font;
@@ -747,8 +756,8 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
 
     public void applyOtf() {
         updateFontAndText();
-        Character.UnicodeScript script = this.<Character.UnicodeScript>getProperty(Property.FONT_SCRIPT);
         if (!otfFeaturesApplied && TypographyUtils.isPdfCalligraphAvailable() && text.getStart() < text.getEnd()) {
+            Character.UnicodeScript script = this.<Character.UnicodeScript>getProperty(Property.FONT_SCRIPT);
             final PdfDocument pdfDocument = getPdfDocument();
             final SequenceId sequenceId = pdfDocument == null ? null : pdfDocument.getDocumentIdWrapper();
             final MetaInfoContainer metaInfoContainer = this.<MetaInfoContainer>getProperty(Property.META_INFO);
@@ -1531,7 +1540,11 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
      * @return true, if new {@link TextRenderer} has been created.
      */
     protected boolean resolveFonts(List<IRenderer> addTo) {
-        Object font = this.<Object>getProperty(Property.FONT);
+        // The own font is set once the renderer is resolved, so the inherited one is not looked up again
+        Object font = this.<Object>getOwnProperty(Property.FONT);
+        if (!(font instanceof PdfFont)) {
+            font = this.<Object>getProperty(Property.FONT);
+        }
         if (font instanceof PdfFont) {
             addTo.add(this);
             return false;
@@ -1626,6 +1639,38 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
     }
 
     static boolean codePointIsOfSpecialScript(int codePoint) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return isOfSpecialScript(codePoint);
+        }
+        int block = codePoint >> SPECIAL_SCRIPT_BLOCK_SHIFT;
+        byte blockType = SPECIAL_SCRIPT_BLOCKS[block];
+        if (blockType == 0) {
+            // Concurrent computations of the same block store the same value, so no synchronization is needed
+            blockType = computeSpecialScriptBlockType(block);
+            SPECIAL_SCRIPT_BLOCKS[block] = blockType;
+        }
+        if (blockType == SPECIAL_SCRIPT_BLOCK_MIXED) {
+            return isOfSpecialScript(codePoint);
+        }
+        return blockType == SPECIAL_SCRIPT_BLOCK_ALL;
+    }
+
+    private static byte computeSpecialScriptBlockType(int block) {
+        int firstCodePoint = block << SPECIAL_SCRIPT_BLOCK_SHIFT;
+        int specialScriptCodePoints = 0;
+        for (int i = 0; i < 1 << SPECIAL_SCRIPT_BLOCK_SHIFT; i++) {
+            if (isOfSpecialScript(firstCodePoint + i)) {
+                specialScriptCodePoints++;
+            }
+        }
+        if (specialScriptCodePoints == 0) {
+            return SPECIAL_SCRIPT_BLOCK_NONE;
+        }
+        return specialScriptCodePoints == 1 << SPECIAL_SCRIPT_BLOCK_SHIFT
+                ? SPECIAL_SCRIPT_BLOCK_ALL : SPECIAL_SCRIPT_BLOCK_MIXED;
+    }
+
+    private static boolean isOfSpecialScript(int codePoint) {
         Character.UnicodeScript glyphScript = Character.UnicodeScript.of(codePoint);
         return Character.UnicodeScript.THAI == glyphScript
                 || Character.UnicodeScript.KHMER == glyphScript
@@ -1685,22 +1730,19 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
         }
     }
 
-    private float getCharWidth(Glyph g, float fontSize, Float hScale, Float characterSpacing, Float wordSpacing) {
-        if (hScale == null)
-            hScale = 1f;
-
-        float resultWidth = g.getWidth() * fontSize * (float) hScale;
+    private float getCharWidth(Glyph g, float fontSize, float hScale, Float characterSpacing, Float wordSpacing) {
+        float resultWidth = g.getWidth() * fontSize * hScale;
         if (characterSpacing != null) {
-            resultWidth += FontProgram.convertGlyphSpaceToTextSpace((float) characterSpacing * (float) hScale);
+            resultWidth += FontProgram.convertGlyphSpaceToTextSpace((float) characterSpacing * hScale);
         }
         if (wordSpacing != null && g.getUnicode() == ' ') {
-            resultWidth += FontProgram.convertGlyphSpaceToTextSpace((float) wordSpacing * (float) hScale);
+            resultWidth += FontProgram.convertGlyphSpaceToTextSpace((float) wordSpacing * hScale);
         }
         return resultWidth;
     }
 
-    private float scaleXAdvance(float xAdvance, float fontSize, Float hScale) {
-        return xAdvance * fontSize * (float) hScale;
+    private float scaleXAdvance(float xAdvance, float fontSize, float hScale) {
+        return xAdvance * fontSize * hScale;
     }
 
     private float getGlyphLineWidth(GlyphLine glyphLine, float fontSize, float hScale, Float characterSpacing, Float wordSpacing) {
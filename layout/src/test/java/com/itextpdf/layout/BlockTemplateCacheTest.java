@@ -0,0 +1,144 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class BlockTemplateCacheTest extends ExtendedITextTest {
+
+    private static final int PAGES_COUNT = 3;
+
+    @Test
+    public void sameElementAndWidthReuseTemplateTest() {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            BlockTemplateCache cache = new BlockTemplateCache(pdfDocument);
+            Paragraph header = new Paragraph("Header");
+
+            PdfFormXObject template = cache.getTemplate(header, 200);
+            Assertions.assertSame(template, cache.getTemplate(header, 200));
+            Assertions.assertNotSame(template, cache.getTemplate(header, 300));
+            Assertions.assertNotSame(template, cache.getTemplate(new Paragraph("Header"), 200));
+            Assertions.assertEquals(3, cache.size());
+
+            cache.clear();
+            Assertions.assertEquals(0, cache.size());
+            Assertions.assertNotSame(template, cache.getTemplate(header, 200));
+        }
+    }
+
+    @Test
+    public void templateBBoxFitsLaidOutElementTest() {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            BlockTemplateCache cache = new BlockTemplateCache(pdfDocument);
+            Div div = new Div().setHeight(50).setMargin(0);
+
+            PdfFormXObject template = cache.getTemplate(div, 200);
+            Assertions.assertEquals(200, template.getWidth(), 1e-4);
+            Assertions.assertEquals(50, template.getHeight(), 1e-4);
+        }
+    }
+
+    @Test
+    public void templateDoesNotFitTest() {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            BlockTemplateCache cache = new BlockTemplateCache(pdfDocument).setMaxTemplateHeight(20);
+            Div div = new Div().setHeight(50).setMargin(0);
+
+            Exception e = Assertions.assertThrows(PdfException.class, () -> cache.getTemplate(div, 200));
+            Assertions.assertEquals(
+                    new PdfException(LayoutExceptionMessageConstant.TEMPLATE_DOES_NOT_FIT)
+                            .setMessageParams(200f, 20f).getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void templatePlacedOnEachPageByReferenceTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            BlockTemplateCache cache = new BlockTemplateCache(pdfDocument);
+            Paragraph footer = new Paragraph("Legal footer").setMargin(0);
+            for (int i = 0; i < PAGES_COUNT; i++) {
+                PdfPage page = pdfDocument.addNewPage(PageSize.A5);
+                Rectangle placed = cache.showTemplate(new PdfCanvas(page), footer, 36, 72, 300);
+                Assertions.assertEquals(72, placed.getTop(), 1e-4);
+                Assertions.assertEquals(36, placed.getLeft(), 1e-4);
+            }
+            Assertions.assertEquals(1, cache.size());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals(PAGES_COUNT, pdfDocument.getNumberOfPages());
+            int templateObjNumber = -1;
+            for (int i = 1; i <= PAGES_COUNT; i++) {
+                PdfPage page = pdfDocument.getPage(i);
+                Assertions.assertEquals("Legal footer", PdfTextExtractor.getTextFromPage(page));
+                PdfName templateName = page.getResources().getResourceNames(PdfName.XObject).iterator().next();
+                int objNumber = page.getResources().getResource(PdfName.XObject).get(templateName)
+                        .getIndirectReference().getObjNumber();
+                if (templateObjNumber == -1) {
+                    templateObjNumber = objNumber;
+                }
+                Assertions.assertEquals(templateObjNumber, objNumber);
+            }
+        }
+    }
+
+    @Test
+    public void templateIsArtifactInTaggedDocumentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            pdfDocument.setTagged();
+            BlockTemplateCache cache = new BlockTemplateCache(pdfDocument);
+            PdfPage page = pdfDocument.addNewPage();
+            cache.showTemplate(new PdfCanvas(page), new Paragraph("Header"), 36, 806, 500);
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            String content = new String(pdfDocument.getPage(1).getContentBytes());
+            Assertions.assertTrue(content.contains("/Artifact BMC"));
+            Assertions.assertEquals("Header", PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1)));
+        }
+    }
+}
@@ -55,6 +55,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 @Tag("IntegrationTest")
@@ -100,6 +101,34 @@ public class LargeElementTest extends ExtendedITextTest {
         Assertions.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
     }
 
+    @Test
+    public void largeTableAutoFlushTest() throws IOException, InterruptedException {
+        String testName = "largeTableAutoFlushTest.pdf";
+        String outFileName = destinationFolder + testName;
+        String cmpFileName = destinationFolder + "cmp_" + testName;
+
+        createLargeTableWithHeaderAndFooter(cmpFileName, false);
+        createLargeTableWithHeaderAndFooter(outFileName, true);
+
+        Assertions.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
+    }
+
+    @Test
+    public void largeTableAutoFlushRowCountTest() {
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        Document doc = new Document(pdfDoc);
+
+        Table table = new Table(UnitValue.createPercentArray(3), true).setAutoFlushRowCount(4);
+        Assertions.assertEquals(4, table.getAutoFlushRowCount());
+        doc.add(table);
+        for (int i = 0; i < 300; i++) {
+            table.addCell(new Cell().add(new Paragraph(MessageFormatUtil.format("Cell {0}", i + 1))));
+            Assertions.assertTrue(table.getNumberOfRows() <= 4);
+        }
+        table.complete();
+        doc.close();
+    }
+
     @Test
     public void largeTableTest02() throws IOException, InterruptedException {
         String testName = "largeTableTest02.pdf";
@@ -752,6 +781,31 @@ public class LargeElementTest extends ExtendedITextTest {
         Assertions.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
     }
 
+    private static void createLargeTableWithHeaderAndFooter(String fileName, boolean autoFlush)
+            throws IOException {
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(fileName));
+        Document doc = new Document(pdfDoc);
+
+        Table table = new Table(UnitValue.createPercentArray(5), true);
+        if (autoFlush) {
+            table.setAutoFlushRowCount(10);
+        }
+        table.addHeaderCell(new Cell(1, 5).add(new Paragraph("Header")));
+        table.addFooterCell(new Cell(1, 5).add(new Paragraph("Footer")));
+
+        doc.add(table);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 5; j++) {
+                table.addCell(new Cell().add(new Paragraph(MessageFormatUtil.format("Cell {0}, {1}", i + 1, j + 1))));
+            }
+            if (!autoFlush && (i + 1) % 10 == 0) {
+                table.flush();
+            }
+        }
+        table.complete();
+        doc.close();
+    }
+
     private static class DifferentPagesDocumentRenderer extends DocumentRenderer {
         private int pageNum = 0;
 
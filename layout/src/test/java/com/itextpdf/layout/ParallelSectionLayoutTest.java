@@ -0,0 +1,204 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.kernel.utils.CompareTool;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.renderer.IRenderer;
+import com.itextpdf.layout.renderer.TextRenderer;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class ParallelSectionLayoutTest extends ExtendedITextTest {
+
+    public static final String DESTINATION_FOLDER = "./target/test/com/itextpdf/layout/ParallelSectionLayoutTest/";
+
+    private static final int CHAPTERS_COUNT = 4;
+
+    @BeforeAll
+    public static void beforeClass() {
+        createDestinationFolder(DESTINATION_FOLDER);
+    }
+
+    @Test
+    public void parallelLayoutMatchesSequentialLayoutTest() throws IOException, InterruptedException {
+        String outFileName = DESTINATION_FOLDER + "parallelLayoutMatchesSequentialLayoutTest.pdf";
+        String cmpFileName = DESTINATION_FOLDER + "cmp_parallelLayoutMatchesSequentialLayoutTest.pdf";
+
+        try (Document document = new Document(new PdfDocument(new PdfWriter(cmpFileName)), PageSize.A5)) {
+            for (int i = 0; i < CHAPTERS_COUNT; i++) {
+                if (i > 0) {
+                    document.add(new AreaBreak());
+                }
+                addChapter(document, i);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(outFileName))) {
+            pdfDocument.setDefaultPageSize(PageSize.A5);
+            ParallelSectionLayout sectionLayout = new ParallelSectionLayout(pdfDocument).setExecutorService(executor);
+            for (int i = 0; i < CHAPTERS_COUNT; i++) {
+                final int chapter = i;
+                sectionLayout.addSection(document -> addChapter(document, chapter));
+            }
+            Assertions.assertEquals(Arrays.asList(1, 5, 9, 13), sectionLayout.layout());
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, DESTINATION_FOLDER));
+    }
+
+    @Test
+    public void targetCounterAcrossSectionsTest() throws IOException {
+        String outFileName = DESTINATION_FOLDER + "targetCounterAcrossSectionsTest.pdf";
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(outFileName))) {
+            pdfDocument.setDefaultPageSize(PageSize.A5);
+            ParallelSectionLayout sectionLayout = new ParallelSectionLayout(pdfDocument);
+            sectionLayout.addSection(document -> {
+                for (int i = 0; i < CHAPTERS_COUNT; i++) {
+                    Text pageNumber = new Text("x");
+                    pageNumber.setNextRenderer(new TargetCounterAwareTextRenderer(pageNumber, "chapter" + i));
+                    document.add(new Paragraph("Chapter " + i + " starts on page ").add(pageNumber));
+                }
+            });
+            for (int i = 0; i < CHAPTERS_COUNT; i++) {
+                final int chapter = i;
+                sectionLayout.addSection(document -> addChapter(document, chapter));
+            }
+            Assertions.assertEquals(Arrays.asList(1, 2, 6, 10, 14), sectionLayout.layout());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(outFileName))) {
+            Assertions.assertEquals(17, pdfDocument.getNumberOfPages());
+            String tableOfContents = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1));
+            for (int i = 0; i < CHAPTERS_COUNT; i++) {
+                Assertions.assertTrue(tableOfContents.contains("Chapter " + i + " starts on page " + (2 + 4 * i)));
+            }
+        }
+    }
+
+    @Test
+    public void targetInSectionShiftedByRelayoutTest() throws IOException {
+        String outFileName = DESTINATION_FOLDER + "targetInSectionShiftedByRelayoutTest.pdf";
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(outFileName))) {
+            pdfDocument.setDefaultPageSize(PageSize.A5);
+            ParallelSectionLayout sectionLayout = new ParallelSectionLayout(pdfDocument);
+            sectionLayout.addSection(document -> {
+                Text pageNumber = new Text("x");
+                pageNumber.setNextRenderer(new TargetCounterAwareTextRenderer(pageNumber, "target"));
+                document.add(new Paragraph("Target starts on page ").add(pageNumber));
+            });
+            // The placeholder spans several pages and is replaced with the page number during relayout,
+            // so this section shrinks and the target section moves to the earlier page.
+            sectionLayout.addSection(document -> {
+                StringBuilder placeholder = new StringBuilder();
+                for (int i = 0; i < 1000; i++) {
+                    placeholder.append("placeholder ");
+                }
+                Text pageNumber = new Text(placeholder.toString());
+                pageNumber.setNextRenderer(new TargetCounterAwareTextRenderer(pageNumber, "target"));
+                document.add(new Paragraph("Target is on page ").add(pageNumber));
+            });
+            sectionLayout.addSection(document -> {
+                Div target = new Div().add(new Paragraph("Target"));
+                target.setProperty(Property.ID, "target");
+                document.add(target);
+            });
+            Assertions.assertEquals(Arrays.asList(1, 2, 3), sectionLayout.layout());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(outFileName))) {
+            Assertions.assertEquals(3, pdfDocument.getNumberOfPages());
+            Assertions.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1))
+                    .contains("Target starts on page 3"));
+            Assertions.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(2))
+                    .contains("Target is on page 3"));
+        }
+    }
+
+    @Test
+    public void noSectionsTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(
+                DESTINATION_FOLDER + "noSectionsTest.pdf"))) {
+            Assertions.assertTrue(new ParallelSectionLayout(pdfDocument).layout().isEmpty());
+            pdfDocument.addNewPage();
+        }
+    }
+
+    private static void addChapter(Document document, int chapter) {
+        Div heading = new Div().add(new Paragraph("Chapter " + chapter).setFontSize(20));
+        heading.setProperty(Property.ID, "chapter" + chapter);
+        document.add(heading);
+        for (int i = 0; i < 25; i++) {
+            document.add(new Paragraph("Paragraph " + i + " of chapter " + chapter + ". Lorem ipsum dolor sit amet, "
+                    + "consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna."));
+        }
+    }
+
+    private static class TargetCounterAwareTextRenderer extends TextRenderer {
+        private final String targetId;
+
+        public TargetCounterAwareTextRenderer(Text text, String targetId) {
+            super(text);
+            this.targetId = targetId;
+        }
+
+        @Override
+        public LayoutResult layout(LayoutContext layoutContext) {
+            Integer targetPageNumber = resolveTargetPageNumber(targetId);
+            if (targetPageNumber != null) {
+                setText(String.valueOf(targetPageNumber));
+            }
+            return super.layout(layoutContext);
+        }
+
+        @Override
+        public IRenderer getNextRenderer() {
+            return new TargetCounterAwareTextRenderer((Text) getModelElement(), targetId);
+        }
+    }
+}
@@ -222,7 +222,7 @@ public class FlexContainerSplitTest extends ExtendedITextTest {
 
     @Test
     @LogMessages(messages = {
-            @LogMessage(messageTemplate = IoLogMessageConstant.TYPOGRAPHY_NOT_FOUND, count = 553)
+            @LogMessage(messageTemplate = IoLogMessageConstant.TYPOGRAPHY_NOT_FOUND, count = 499)
     })
     public void rowWrapRtlStartTest() throws IOException, InterruptedException {
         String outFileName = DESTINATION_FOLDER + "rowWrapRtlStartTest.pdf";
@@ -244,7 +244,7 @@ public class FlexContainerSplitTest extends ExtendedITextTest {
 
     @Test
     @LogMessages(messages = {
-            @LogMessage(messageTemplate = IoLogMessageConstant.TYPOGRAPHY_NOT_FOUND, count = 553)
+            @LogMessage(messageTemplate = IoLogMessageConstant.TYPOGRAPHY_NOT_FOUND, count = 499)
     })
     public void reverseRowWrapRtlStartTest() throws IOException, InterruptedException {
         String outFileName = DESTINATION_FOLDER + "reverseRowWrapRtlStartTest.pdf";
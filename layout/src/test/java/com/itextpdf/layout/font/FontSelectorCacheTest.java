@@ -0,0 +1,119 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.font;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class FontSelectorCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void sharedCacheReturnsSameSelectorTest() {
+        FontSet fontSet = createFontSet();
+        FontProvider first = new FontProvider(fontSet, StandardFonts.HELVETICA);
+        FontProvider second = new FontProvider(fontSet, StandardFonts.HELVETICA, first.getFontSelectorCache());
+        List<String> families = Collections.singletonList(StandardFonts.COURIER);
+
+        FontSelector selector = first.getFontSelector(families, new FontCharacteristics());
+        Assertions.assertSame(selector, second.getFontSelector(families, new FontCharacteristics()));
+        Assertions.assertSame(first.getFontSelectorCache(), second.getFontSelectorCache());
+    }
+
+    @Test
+    public void sharedCacheDifferentDefaultFamilyTest() {
+        FontSet fontSet = createFontSet();
+        FontProvider first = new FontProvider(fontSet, StandardFonts.HELVETICA);
+        FontProvider second = new FontProvider(fontSet, StandardFonts.TIMES_ROMAN, first.getFontSelectorCache());
+        List<String> families = Collections.singletonList("unknown");
+
+        FontSelector firstSelector = first.getFontSelector(families, new FontCharacteristics());
+        FontSelector secondSelector = second.getFontSelector(families, new FontCharacteristics());
+        Assertions.assertNotSame(firstSelector, secondSelector);
+        Assertions.assertEquals(StandardFonts.HELVETICA, firstSelector.bestMatch().getDescriptor().getFontName());
+        Assertions.assertEquals(StandardFonts.TIMES_ROMAN, secondSelector.bestMatch().getDescriptor().getFontName());
+    }
+
+    @Test
+    public void cacheInvalidatedOnFontSetChangeTest() {
+        FontSet fontSet = createFontSet();
+        FontProvider provider = new FontProvider(fontSet, StandardFonts.HELVETICA);
+        List<String> families = Collections.singletonList(StandardFonts.COURIER);
+
+        FontSelector selector = provider.getFontSelector(families, new FontCharacteristics());
+        fontSet.addFont(StandardFonts.COURIER_BOLD);
+        Assertions.assertNotSame(selector, provider.getFontSelector(families, new FontCharacteristics()));
+    }
+
+    @Test
+    public void boundedCacheTest() {
+        FontSet fontSet = createFontSet();
+        FontProvider provider = new FontProvider(fontSet, StandardFonts.HELVETICA, new FontSelectorCache(fontSet, 1));
+        List<String> courier = Collections.singletonList(StandardFonts.COURIER);
+        List<String> times = Collections.singletonList(StandardFonts.TIMES_ROMAN);
+
+        FontSelector selector = provider.getFontSelector(courier, new FontCharacteristics());
+        Assertions.assertSame(selector, provider.getFontSelector(courier, new FontCharacteristics()));
+        provider.getFontSelector(times, new FontCharacteristics());
+        Assertions.assertNotSame(selector, provider.getFontSelector(courier, new FontCharacteristics()));
+    }
+
+    @Test
+    public void cacheForAnotherFontSetTest() {
+        FontSelectorCache cache = new FontSelectorCache(createFontSet());
+        Exception e = Assertions.assertThrows(PdfException.class,
+                () -> new FontProvider(createFontSet(), StandardFonts.HELVETICA, cache));
+        Assertions.assertEquals(LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_FONT_SET_MISMATCH, e.getMessage());
+    }
+
+    @Test
+    public void invalidMaxSizeTest() {
+        Exception e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new FontSelectorCache(new FontSet(), 0));
+        Assertions.assertEquals(LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_MAX_SIZE_SHALL_BE_POSITIVE,
+                e.getMessage());
+    }
+
+    @Test
+    public void nullFontSetTest() {
+        Exception e = Assertions.assertThrows(IllegalArgumentException.class, () -> new FontSelectorCache(null));
+        Assertions.assertEquals(LayoutExceptionMessageConstant.FONT_SELECTOR_CACHE_FONT_SET_CANNOT_BE_NULL,
+                e.getMessage());
+    }
+
+    private static FontSet createFontSet() {
+        FontSet fontSet = new FontSet();
+        fontSet.addFont(StandardFonts.HELVETICA);
+        fontSet.addFont(StandardFonts.TIMES_ROMAN);
+        fontSet.addFont(StandardFonts.COURIER);
+        return fontSet;
+    }
+}
@@ -22,9 +22,19 @@
  */
 package com.itextpdf.layout.hyphenation;
 
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.io.util.ResourceUtil;
 import com.itextpdf.test.ExtendedITextTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -56,4 +66,89 @@ public class HyphenationTreeTest extends ExtendedITextTest {
         String resultClassmapSc = new String(sc);
         Assertions.assertTrue(resultClassmapSc.contains(classPatterns));
     }
+
+    @Test
+    public void compiledPatternsRoundTripTest() throws HyphenationException, IOException {
+        HyphenationTree hyphenationTree = new HyphenationTree();
+        hyphenationTree.loadPatterns(ResourceUtil.getResourceStream(
+                HyphenationConstants.HYPHENATION_DEFAULT_RESOURCE + "en.xml"), "en");
+
+        ByteArrayOutputStream compiledPatterns = new ByteArrayOutputStream();
+        hyphenationTree.writeCompiledPatterns(compiledPatterns);
+        HyphenationTree compiledTree = new HyphenationTree();
+        compiledTree.loadCompiledPatterns(new ByteArrayInputStream(compiledPatterns.toByteArray()), "en");
+
+        Assertions.assertEquals(hyphenationTree.size(), compiledTree.size());
+        // "associate" is one of the hyphenation exceptions
+        String[] words = {"hyphenation", "associate", "declination", "performance", "tree-like", "cat"};
+        for (String word : words) {
+            Hyphenation expected = hyphenationTree.hyphenate(word, 2, 2);
+            Hyphenation actual = compiledTree.hyphenate(word, 2, 2);
+            Assertions.assertEquals(String.valueOf(expected), String.valueOf(actual));
+        }
+    }
+
+    @Test
+    public void loadCompiledPatternsFromXmlTest() throws IOException {
+        String sourceFilePath = SOURCE_FOLDER + "hyphen_pattern.xml";
+        HyphenationTree hyphenationTree = new HyphenationTree();
+        Assertions.assertThrows(HyphenationException.class,
+                () -> hyphenationTree.loadCompiledPatterns(
+                        FileUtil.getInputStreamForFile(sourceFilePath), sourceFilePath));
+    }
+
+    @Test
+    public void truncatedCompiledPatternsTest() throws HyphenationException, IOException {
+        HyphenationTree hyphenationTree = new HyphenationTree();
+        hyphenationTree.loadPatterns(SOURCE_FOLDER + "hyphen_pattern.xml");
+        ByteArrayOutputStream compiledPatterns = new ByteArrayOutputStream();
+        hyphenationTree.writeCompiledPatterns(compiledPatterns);
+        byte[] bytes = compiledPatterns.toByteArray();
+
+        HyphenationTree truncatedTree = new HyphenationTree();
+        Assertions.assertThrows(HyphenationException.class,
+                () -> truncatedTree.loadCompiledPatterns(new ByteArrayInputStream(bytes, 0, bytes.length / 2), "truncated"));
+        HyphenationTree compiledTree = Hyphenator.getCompiledHyphenationTree(new ByteArrayInputStream(bytes), "full");
+        Assertions.assertEquals(3, compiledTree.length);
+    }
+
+    @Test
+    public void oversizedArrayInCompiledPatternsTest() throws IOException {
+        ByteArrayOutputStream compiledPatterns = new ByteArrayOutputStream();
+        new HyphenationTree().writeCompiledPatterns(compiledPatterns);
+        byte[] bytes = compiledPatterns.toByteArray();
+        // The length of the first node array follows the signature, the version, the root, the free node
+        // and the length of the tree
+        final int lengthOffset = 20;
+        bytes[lengthOffset] = (byte) 0x7F;
+
+        HyphenationTree hyphenationTree = new HyphenationTree();
+        Exception e = Assertions.assertThrows(HyphenationException.class,
+                () -> hyphenationTree.loadCompiledPatterns(new ByteArrayInputStream(bytes), "oversized"));
+        Assertions.assertTrue(e.getMessage().contains("exceeds the maximum of " + CompiledPatternsUtil.MAX_LENGTH));
+    }
+
+    @Test
+    public void hyphenationTreeIsLoadedOnceForConcurrentRequestsTest() throws Exception {
+        Hyphenator.clearHyphenationTreeCache();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<HyphenationTree>> trees = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                trees.add(executor.submit(new Callable<HyphenationTree>() {
+                    @Override
+                    public HyphenationTree call() {
+                        return Hyphenator.getHyphenationTree("de", "DE", null);
+                    }
+                }));
+            }
+            HyphenationTree first = trees.get(0).get();
+            Assertions.assertNotNull(first);
+            for (Future<HyphenationTree> tree : trees) {
+                Assertions.assertSame(first, tree.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
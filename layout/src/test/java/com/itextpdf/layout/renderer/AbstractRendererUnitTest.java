@@ -44,6 +44,8 @@ import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.kernel.pdf.xobject.PdfXObject;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.DashedBorder;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.layout.LayoutArea;
 import com.itextpdf.layout.properties.Background;
@@ -667,6 +669,35 @@ public class AbstractRendererUnitTest extends ExtendedITextTest {
         }
     }
 
+    @Test
+    public void propertyOfClonedCellTest() {
+        Cell cell = new Cell().clone(false);
+        cell.setProperty(Property.CHARACTER_SPACING, 2f);
+        IRenderer renderer = cell.createRendererSubTree();
+        Assertions.assertEquals(2f, (float) renderer.<Float>getProperty(Property.CHARACTER_SPACING), 0);
+    }
+
+    @Test
+    public void propertyOfStyleOnlyTest() {
+        Style style = new Style();
+        style.setProperty(Property.WORD_SPACING, 3f);
+        Div div = new Div().addStyle(style);
+        IRenderer renderer = div.createRendererSubTree();
+        Assertions.assertEquals(3f, (float) renderer.<Float>getProperty(Property.WORD_SPACING), 0);
+    }
+
+    @Test
+    public void propertyOfElementOverridingGetPropertyTest() {
+        Div div = new Div() {
+            @Override
+            public <T1> T1 getProperty(int property) {
+                return property == Property.TEXT_RISE ? (T1) (Object) 4f : super.<T1>getProperty(property);
+            }
+        };
+        IRenderer renderer = div.createRendererSubTree();
+        Assertions.assertEquals(4f, (float) renderer.<Float>getProperty(Property.TEXT_RISE), 0);
+    }
+
     @Test
     //TODO DEVSIX-6372 Obtaining DocumentRenderer's margins results in a ClassCastException
     public void obtainingMarginsErrorTest() {
@@ -30,11 +30,15 @@ import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
 import com.itextpdf.layout.properties.OverflowPropertyValue;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
+
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
@@ -61,4 +65,32 @@ public class BlockRendererUnitTest extends ExtendedITextTest {
         // This test checks that there is log message and there is no NPE so assertions are not required
         Assertions.assertTrue(true);
     }
+
+    @Test
+    public void firstAreaIsNotCopiedForEachChildTest() {
+        RecordingDivRenderer renderer = new RecordingDivRenderer(new Div());
+        for (int i = 0; i < 3; i++) {
+            renderer.addChild(new Div().setHeight(10).createRendererSubTree());
+        }
+        renderer.layout(new LayoutContext(new LayoutArea(1, new Rectangle(500, 500))));
+
+        Assertions.assertEquals(3, renderer.initialLayoutBoxes.size());
+        Assertions.assertSame(renderer.initialLayoutBoxes.get(0), renderer.initialLayoutBoxes.get(1));
+        Assertions.assertSame(renderer.initialLayoutBoxes.get(0), renderer.initialLayoutBoxes.get(2));
+    }
+
+    private static class RecordingDivRenderer extends DivRenderer {
+        private final List<Rectangle> initialLayoutBoxes = new ArrayList<>();
+
+        RecordingDivRenderer(Div modelElement) {
+            super(modelElement);
+        }
+
+        @Override
+        Rectangle recalculateLayoutBoxBeforeChildLayout(Rectangle layoutBox, IRenderer childRenderer,
+                Rectangle initialLayoutBox) {
+            initialLayoutBoxes.add(initialLayoutBox);
+            return super.recalculateLayoutBoxBeforeChildLayout(layoutBox, childRenderer, initialLayoutBox);
+        }
+    }
 }
@@ -39,6 +39,9 @@ import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
 import com.itextpdf.layout.properties.AlignmentPropertyValue;
 import com.itextpdf.layout.properties.FlexDirectionPropertyValue;
 import com.itextpdf.layout.properties.FlexWrapPropertyValue;
@@ -2989,6 +2992,56 @@ public class FlexUtilTest extends ExtendedITextTest {
         Assertions.assertEquals(50.0f, info.minContent, EPS);
     }
 
+    @Test
+    public void linesBelowLayoutBoxAreNotSizedWhenSplitAllowedTest() {
+        List<Float> flexBasisValues = Arrays.asList(150f, 150f, 500f, 150f, 150f, 150f, 150f);
+        Rectangle bBox = new Rectangle(400, 100);
+
+        List<List<FlexItemInfo>> rectangleTable = FlexUtil.calculateChildrenRectangles(bBox,
+                createWrappedRowFlexContainer(flexBasisValues), true);
+
+        // The third line ends below the layout box, so the remaining items are returned as the last line unsized
+        Assertions.assertEquals(4, rectangleTable.size());
+        assertLine(rectangleTable.get(0), new float[] {150f, 150f}, 40f);
+        assertLine(rectangleTable.get(1), new float[] {500f}, 40f);
+        assertLine(rectangleTable.get(2), new float[] {150f, 150f}, 40f);
+        assertLine(rectangleTable.get(3), new float[] {0f, 0f}, 0f);
+
+        List<List<FlexItemInfo>> notSplitRectangleTable = FlexUtil.calculateChildrenRectangles(bBox,
+                createWrappedRowFlexContainer(flexBasisValues), false);
+        Assertions.assertEquals(4, notSplitRectangleTable.size());
+        for (int i = 0; i < 3; ++i) {
+            Assertions.assertEquals(rectangleTable.get(i).size(), notSplitRectangleTable.get(i).size());
+            for (int j = 0; j < rectangleTable.get(i).size(); ++j) {
+                Rectangle expected = notSplitRectangleTable.get(i).get(j).getRectangle();
+                Rectangle actual = rectangleTable.get(i).get(j).getRectangle();
+                Assertions.assertTrue(expected.equalsWithEpsilon(actual));
+            }
+        }
+        assertLine(notSplitRectangleTable.get(3), new float[] {150f, 150f}, 40f);
+    }
+
+    @Test
+    public void flexContainerSplitWithNotSizedLinesTest() {
+        FlexContainerRenderer flexContainerRenderer =
+                createWrappedRowFlexContainer(Arrays.asList(150f, 150f, 500f, 150f, 150f, 150f, 150f));
+        List<IRenderer> items = new ArrayList<>(flexContainerRenderer.getChildRenderers());
+
+        LayoutResult result = flexContainerRenderer.layout(
+                new LayoutContext(new LayoutArea(1, new Rectangle(400, 100))));
+
+        Assertions.assertEquals(LayoutResult.PARTIAL, result.getStatus());
+        Assertions.assertEquals(100f, result.getOccupiedArea().getBBox().getHeight(), EPS);
+        // The third line is split, the items of the fourth line are moved to the next area as is
+        Assertions.assertEquals(items.subList(0, 5), result.getSplitRenderer().getChildRenderers());
+        Assertions.assertEquals(40f, items.get(2).getOccupiedArea().getBBox().getHeight(), EPS);
+        Assertions.assertEquals(20f, items.get(3).getOccupiedArea().getBBox().getHeight(), EPS);
+        Assertions.assertEquals(20f, items.get(4).getOccupiedArea().getBBox().getHeight(), EPS);
+        List<IRenderer> overflowItems = result.getOverflowRenderer().getChildRenderers();
+        Assertions.assertEquals(4, overflowItems.size());
+        Assertions.assertEquals(items.subList(5, 7), overflowItems.subList(2, 4));
+    }
+
     private static FlexUtil.FlexItemCalculationInfo createFlexItemCalculationInfo(AbstractRenderer renderer) {
         return new FlexUtil.FlexItemCalculationInfo(renderer, 0, 0, 0, 0, false, false, 0);
     }
@@ -3044,4 +3097,34 @@ public class FlexUtilTest extends ExtendedITextTest {
 
         return FlexUtil.calculateChildrenRectangles(bBox, (FlexContainerRenderer) div.getRenderer());
     }
+
+    private static FlexContainerRenderer createWrappedRowFlexContainer(List<Float> flexBasisValues) {
+        Div div = new Div().setWidth(400);
+        div.setProperty(Property.FLEX_WRAP, FlexWrapPropertyValue.WRAP);
+
+        DocumentRenderer documentRenderer = new DocumentRenderer(
+                new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))));
+
+        FlexContainerRenderer flexContainerRenderer = new FlexContainerRenderer(div);
+        flexContainerRenderer.setParent(documentRenderer);
+        div.setNextRenderer(flexContainerRenderer);
+
+        for (Float flexBasis : flexBasisValues) {
+            Div flexItem = new Div().setHeight(40);
+            flexItem.setProperty(Property.FLEX_GROW, 0f);
+            flexItem.setProperty(Property.FLEX_SHRINK, 0f);
+            flexItem.setProperty(Property.FLEX_BASIS, UnitValue.createPointValue((float) flexBasis));
+            div.add(flexItem);
+            flexContainerRenderer.addChild(flexItem.createRendererSubTree().setParent(flexContainerRenderer));
+        }
+        return flexContainerRenderer;
+    }
+
+    private static void assertLine(List<FlexItemInfo> line, float[] expectedWidths, float expectedHeight) {
+        Assertions.assertEquals(expectedWidths.length, line.size());
+        for (int i = 0; i < expectedWidths.length; ++i) {
+            Assertions.assertEquals(expectedWidths[i], line.get(i).getRectangle().getWidth(), EPS);
+            Assertions.assertEquals(expectedHeight, line.get(i).getRectangle().getHeight(), EPS);
+        }
+    }
 }
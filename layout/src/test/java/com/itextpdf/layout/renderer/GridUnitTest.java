@@ -22,8 +22,13 @@
  */
 package com.itextpdf.layout.renderer;
 
+import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.properties.grid.AutoValue;
 import com.itextpdf.layout.properties.grid.GridFlow;
+import com.itextpdf.layout.properties.grid.GridValue;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.test.ExtendedITextTest;
 
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Tag;
 
 @Tag("UnitTest")
@@ -185,4 +191,132 @@ public class GridUnitTest extends ExtendedITextTest {
         Assertions.assertEquals(cell5, grid.getRows()[2][1].getValue());
         Assertions.assertEquals(cell6, grid.getRows()[0][2].getValue());
     }
+
+    @Test
+    public void rowDensePackingWithSpanningCellsTest() {
+        IRenderer wideCell1 = new TextRenderer(new Text("One"));
+        wideCell1.setProperty(Property.GRID_COLUMN_SPAN, 2);
+        IRenderer wideCell2 = new TextRenderer(new Text("Two"));
+        wideCell2.setProperty(Property.GRID_COLUMN_SPAN, 2);
+        IRenderer cell3 = new TextRenderer(new Text("Three"));
+        IRenderer fullRowCell = new TextRenderer(new Text("Four"));
+        fullRowCell.setProperty(Property.GRID_COLUMN_SPAN, 3);
+        IRenderer tallCell = new TextRenderer(new Text("Five"));
+        tallCell.setProperty(Property.GRID_ROW_SPAN, 2);
+        IRenderer cell6 = new TextRenderer(new Text("Six"));
+        IRenderer wideCell7 = new TextRenderer(new Text("Seven"));
+        wideCell7.setProperty(Property.GRID_COLUMN_SPAN, 2);
+        IRenderer cell8 = new TextRenderer(new Text("Eight"));
+
+        Grid grid = Grid.Builder.forItems(Arrays.asList(
+                wideCell1,
+                wideCell2,
+                cell3,
+                fullRowCell,
+                tallCell,
+                cell6,
+                wideCell7,
+                cell8
+        )).columns(3).rows(1).flow(GridFlow.ROW_DENSE).build();
+        Assertions.assertEquals(5, grid.getNumberOfRows());
+        Assertions.assertEquals(wideCell1, grid.getRows()[0][0].getValue());
+        Assertions.assertEquals(wideCell1, grid.getRows()[0][1].getValue());
+        Assertions.assertEquals(cell3, grid.getRows()[0][2].getValue());
+        Assertions.assertEquals(wideCell2, grid.getRows()[1][0].getValue());
+        Assertions.assertEquals(wideCell2, grid.getRows()[1][1].getValue());
+        Assertions.assertEquals(cell6, grid.getRows()[1][2].getValue());
+        Assertions.assertEquals(fullRowCell, grid.getRows()[2][0].getValue());
+        Assertions.assertEquals(fullRowCell, grid.getRows()[2][2].getValue());
+        Assertions.assertEquals(tallCell, grid.getRows()[3][0].getValue());
+        Assertions.assertEquals(wideCell7, grid.getRows()[3][1].getValue());
+        Assertions.assertEquals(wideCell7, grid.getRows()[3][2].getValue());
+        Assertions.assertEquals(tallCell, grid.getRows()[4][0].getValue());
+        Assertions.assertEquals(cell8, grid.getRows()[4][1].getValue());
+        Assertions.assertNull(grid.getRows()[4][2]);
+    }
+
+    @Test
+    public void columnDensePackingWithSpanningCellsTest() {
+        IRenderer tallCell1 = new TextRenderer(new Text("One"));
+        tallCell1.setProperty(Property.GRID_ROW_SPAN, 2);
+        IRenderer tallCell2 = new TextRenderer(new Text("Two"));
+        tallCell2.setProperty(Property.GRID_ROW_SPAN, 2);
+        IRenderer cell3 = new TextRenderer(new Text("Three"));
+        IRenderer fullColumnCell = new TextRenderer(new Text("Four"));
+        fullColumnCell.setProperty(Property.GRID_ROW_SPAN, 3);
+        IRenderer wideCell = new TextRenderer(new Text("Five"));
+        wideCell.setProperty(Property.GRID_COLUMN_SPAN, 2);
+        IRenderer cell6 = new TextRenderer(new Text("Six"));
+        IRenderer tallCell7 = new TextRenderer(new Text("Seven"));
+        tallCell7.setProperty(Property.GRID_ROW_SPAN, 2);
+        IRenderer cell8 = new TextRenderer(new Text("Eight"));
+
+        Grid grid = Grid.Builder.forItems(Arrays.asList(
+                tallCell1,
+                tallCell2,
+                cell3,
+                fullColumnCell,
+                wideCell,
+                cell6,
+                tallCell7,
+                cell8
+        )).columns(1).rows(3).flow(GridFlow.COLUMN_DENSE).build();
+        Assertions.assertEquals(5, grid.getNumberOfColumns());
+        Assertions.assertEquals(tallCell1, grid.getRows()[0][0].getValue());
+        Assertions.assertEquals(tallCell1, grid.getRows()[1][0].getValue());
+        Assertions.assertEquals(cell3, grid.getRows()[2][0].getValue());
+        Assertions.assertEquals(tallCell2, grid.getRows()[0][1].getValue());
+        Assertions.assertEquals(tallCell2, grid.getRows()[1][1].getValue());
+        Assertions.assertEquals(cell6, grid.getRows()[2][1].getValue());
+        Assertions.assertEquals(fullColumnCell, grid.getRows()[0][2].getValue());
+        Assertions.assertEquals(fullColumnCell, grid.getRows()[2][2].getValue());
+        Assertions.assertEquals(wideCell, grid.getRows()[0][3].getValue());
+        Assertions.assertEquals(tallCell7, grid.getRows()[1][3].getValue());
+        Assertions.assertEquals(tallCell7, grid.getRows()[2][3].getValue());
+        Assertions.assertEquals(wideCell, grid.getRows()[0][4].getValue());
+        Assertions.assertEquals(cell8, grid.getRows()[1][4].getValue());
+        Assertions.assertNull(grid.getRows()[2][4]);
+    }
+
+    @Test
+    public void trackSizingLaysOutEachCellOnceTest() {
+        LayoutCountingDivRenderer cell1 = new LayoutCountingDivRenderer(30);
+        LayoutCountingDivRenderer cell2 = new LayoutCountingDivRenderer(50);
+        LayoutCountingDivRenderer tallCell = new LayoutCountingDivRenderer(100);
+        tallCell.setProperty(Property.GRID_ROW_SPAN, 2);
+        LayoutCountingDivRenderer cell4 = new LayoutCountingDivRenderer(20);
+        LayoutCountingDivRenderer cell5 = new LayoutCountingDivRenderer(20);
+        Grid grid = Grid.Builder.forItems(Arrays.<IRenderer>asList(
+                cell1,
+                cell2,
+                tallCell,
+                cell4,
+                cell5
+        )).columns(2).rows(3).flow(GridFlow.ROW).build();
+        for (GridCell cell : grid.getUniqueGridCells(Grid.GridOrder.ROW)) {
+            cell.getLayoutArea().setWidth(100);
+        }
+
+        List<GridValue> rowsValues = Arrays.<GridValue>asList(AutoValue.VALUE, AutoValue.VALUE, AutoValue.VALUE);
+        List<Float> rows = new GridTrackSizer(grid, rowsValues, 0, -1, Grid.GridOrder.ROW).sizeTracks()
+                .getTrackSizes();
+        Assertions.assertEquals(Arrays.asList(50f, 50f, 50f), rows);
+        for (LayoutCountingDivRenderer renderer : Arrays.asList(cell1, cell2, tallCell, cell4, cell5)) {
+            Assertions.assertEquals(1, renderer.layoutsCount);
+        }
+    }
+
+    private static class LayoutCountingDivRenderer extends DivRenderer {
+        private int layoutsCount = 0;
+
+        LayoutCountingDivRenderer(float height) {
+            super(new Div().setHeight(height));
+        }
+
+        @Override
+        public LayoutResult layout(LayoutContext layoutContext) {
+            ++layoutsCount;
+            return super.layout(layoutContext);
+        }
+    }
 }
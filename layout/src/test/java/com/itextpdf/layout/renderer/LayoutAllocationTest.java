@@ -0,0 +1,99 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.properties.Transform;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class LayoutAllocationTest extends ExtendedITextTest {
+    // About 10.0 MB are allocated by one layout of the test document on JDK 17, the budget leaves 5% of headroom.
+    // Boxing the horizontal scaling for each glyph again would exceed it by about 1 MB.
+    private static final long LAYOUT_ALLOCATION_BUDGET = 10_500_000L;
+
+    private static final int MEASURED_LAYOUTS_COUNT = 5;
+
+    @Test
+    public void layoutAllocationBudgetTest() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        Assumptions.assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        // The first layout loads classes and fonts, which allocates much more than the layout itself
+        layoutTestDocument();
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_LAYOUTS_COUNT; i++) {
+            long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+            layoutTestDocument();
+            long allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            minAllocatedBytes = Math.min(minAllocatedBytes, allocatedBytes);
+        }
+        Assertions.assertTrue(minAllocatedBytes <= LAYOUT_ALLOCATION_BUDGET,
+                "Layout allocated " + minAllocatedBytes + " bytes, the budget is " + LAYOUT_ALLOCATION_BUDGET);
+    }
+
+    private static void layoutTestDocument() {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        Document document = new Document(pdfDocument);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            text.append("Lorem ipsum dolor sit amet. ");
+        }
+        for (int i = 0; i < 100; i++) {
+            Div div = new Div();
+            for (int j = 0; j < 5; j++) {
+                div.add(new Div().setHeight(2));
+            }
+            div.add(new Paragraph(text.toString()));
+            div.setProperty(Property.OUTLINE, new SolidBorder(ColorConstants.RED, 1));
+            div.setProperty(Property.TRANSFORM, new Transform(1));
+            document.add(div);
+        }
+        Table table = new Table(4);
+        for (int i = 0; i < 80; i++) {
+            table.addCell("Cell " + i);
+        }
+        document.add(table);
+        document.close();
+    }
+}
@@ -493,4 +493,40 @@ public class LineRendererUnitTest extends RendererUnitTest {
         Assertions.assertEquals(5, renderer.getText().getEnd());
         Assertions.assertEquals(0, renderer.getText().getIdx());
     }
+
+    @Test
+    public void overflowLinesLayoutAllChildrenOnceTest() {
+        Document dummyDocument = createDummyDocument();
+        LineRenderer lineRenderer = (LineRenderer) new LineRenderer().setParent(dummyDocument.getRenderer());
+        int wordsCount = 12;
+        for (int i = 0; i < wordsCount; i++) {
+            lineRenderer.addChild(new TextRenderer(new Text("word" + i + " ")));
+        }
+
+        int placedWordsCount = 0;
+        int linesCount = 0;
+        LineRenderer currentRenderer = lineRenderer;
+        LayoutResult result;
+        do {
+            result = currentRenderer.layout(new LayoutContext(createLayoutArea(100, 1000)));
+            LineRenderer placedRenderer = result.getStatus() == LayoutResult.FULL
+                    ? currentRenderer : (LineRenderer) result.getSplitRenderer();
+            Assertions.assertFalse(placedRenderer.getChildRenderers().isEmpty());
+            for (IRenderer child : placedRenderer.getChildRenderers()) {
+                Assertions.assertEquals("word" + placedWordsCount, ((TextRenderer) child).getText().toString().trim());
+                placedWordsCount++;
+            }
+            if (result.getOverflowRenderer() != null) {
+                for (IRenderer child : result.getOverflowRenderer().getChildRenderers()) {
+                    Assertions.assertSame(result.getOverflowRenderer(), child.getParent());
+                }
+            }
+            currentRenderer = (LineRenderer) result.getOverflowRenderer();
+            linesCount++;
+        } while (result.getStatus() == LayoutResult.PARTIAL);
+
+        Assertions.assertEquals(LayoutResult.FULL, result.getStatus());
+        Assertions.assertEquals(wordsCount, placedWordsCount);
+        Assertions.assertTrue(linesCount > 1);
+    }
 }
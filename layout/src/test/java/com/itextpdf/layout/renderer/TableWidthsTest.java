@@ -31,12 +31,14 @@ import com.itextpdf.layout.borders.SolidBorder;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.minmaxwidth.MinMaxWidth;
 import com.itextpdf.layout.properties.HorizontalAlignment;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
@@ -235,6 +237,97 @@ public class TableWidthsTest  extends ExtendedITextTest {
         return table;
     }
 
+    @Test
+    public void autoLayoutRowCountTest() {
+        int[] counter = new int[1];
+        Table table = createTableWithMinMaxWidthCountingCells(20, counter);
+        table.setAutoLayoutRowCount(3);
+        try (Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())))) {
+            doc.add(table);
+        }
+        // Only the cells of the first 3 rows are measured
+        Assertions.assertEquals(6, counter[0]);
+    }
+
+    @Test
+    public void autoLayoutAllRowsTest() {
+        int[] counter = new int[1];
+        Table table = createTableWithMinMaxWidthCountingCells(20, counter);
+        try (Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())))) {
+            doc.add(table);
+        }
+        Assertions.assertEquals(40, counter[0]);
+    }
+
+    @Test
+    public void nestedTableCellsMeasuredOnceTest() {
+        int[] counter = new int[1];
+        Table innerTable = createTableWithMinMaxWidthCountingCells(2, counter);
+        Table table = new Table(1);
+        table.addCell(new Cell().add(innerTable));
+        try (Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())))) {
+            doc.add(table);
+        }
+        // The inner cells are measured for the outer table columns and are not measured again
+        // when the inner table is laid out
+        Assertions.assertEquals(4, counter[0]);
+    }
+
+    @Test
+    public void cellMinMaxWidthRemeasuredAfterChangeTest() {
+        int[] counter = new int[1];
+        MinMaxWidthCountingCellRenderer cellRenderer = new MinMaxWidthCountingCellRenderer(new Cell(), counter);
+        try (Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())))) {
+            cellRenderer.setParent(doc.getRenderer());
+            cellRenderer.addChild(new Paragraph("Cell").createRendererSubTree());
+            MinMaxWidth initial = cellRenderer.getMinMaxWidthForTableLayout();
+            Assertions.assertEquals(initial.getMaxWidth(), cellRenderer.getMinMaxWidthForTableLayout().getMaxWidth());
+            Assertions.assertEquals(1, counter[0]);
+
+            cellRenderer.setProperty(Property.PADDING_LEFT, UnitValue.createPointValue(50));
+            MinMaxWidth padded = cellRenderer.getMinMaxWidthForTableLayout();
+            Assertions.assertEquals(initial.getAdditionalWidth() + 48, padded.getAdditionalWidth(), 1e-4);
+
+            cellRenderer.deleteOwnProperty(Property.PADDING_LEFT);
+            Assertions.assertEquals(initial.getAdditionalWidth(),
+                    cellRenderer.getMinMaxWidthForTableLayout().getAdditionalWidth(), 1e-4);
+
+            cellRenderer.addChild(new Paragraph("A much longer cell content").createRendererSubTree());
+            Assertions.assertTrue(cellRenderer.getMinMaxWidthForTableLayout().getMaxWidth() > initial.getMaxWidth());
+            Assertions.assertEquals(4, counter[0]);
+        }
+    }
+
+    private static Table createTableWithMinMaxWidthCountingCells(int rowCount, int[] counter) {
+        Table table = new Table(2);
+        for (int i = 0; i < rowCount * 2; i++) {
+            Cell cell = new Cell().add(new Paragraph("Cell " + i));
+            cell.setNextRenderer(new MinMaxWidthCountingCellRenderer(cell, counter));
+            table.addCell(cell);
+        }
+        return table;
+    }
+
+    private static class MinMaxWidthCountingCellRenderer extends CellRenderer {
+        private final int[] counter;
+
+        public MinMaxWidthCountingCellRenderer(Cell modelElement, int[] counter) {
+            super(modelElement);
+            this.counter = counter;
+        }
+
+        @Override
+        public IRenderer getNextRenderer() {
+            return new MinMaxWidthCountingCellRenderer((Cell) modelElement, counter);
+        }
+
+        @Override
+        public MinMaxWidth getMinMaxWidth() {
+            counter[0]++;
+            return super.getMinMaxWidth();
+        }
+    }
+
     private TableRenderer createTableRendererWithDiffColspan(int maxWidth) {
         Table table = createTableWithDiffColspan(maxWidth);
         TableRenderer tableRenderer = new TableRenderer(table);
@@ -181,6 +181,128 @@ public class TargetCounterHandlerTest extends ExtendedITextTest {
         Assertions.assertNull(new CompareTool().compareByContent(targetPdf, cmpPdf, DESTINATION_FOLDER, "diff"));
     }
 
+    @Test
+    public void incrementalRelayoutFallsBackToRelayoutTest() throws IOException, InterruptedException {
+        String targetPdf = DESTINATION_FOLDER + "incrementalRelayoutFallsBackToRelayoutTest.pdf";
+        String cmpPdf = SOURCE_FOLDER + "cmp_targetCounterHandlerEndToEndLayoutTest.pdf";
+        Document document = new Document(new PdfDocument(new PdfWriter(targetPdf)),
+                PageSize.A4, false);
+
+        Text pageNumPlaceholder = new Text("x");
+        String id = "1";
+        pageNumPlaceholder.setProperty(Property.ID, id);
+        pageNumPlaceholder.setNextRenderer(new TargetCounterAwareTextRenderer(pageNumPlaceholder));
+        Paragraph intro = new Paragraph("The paragraph is on page ").add(pageNumPlaceholder);
+        document.add(intro);
+
+        document.add(new AreaBreak());
+        Paragraph text = new Paragraph("This is main text");
+        text.setProperty(Property.ID, id);
+        text.setNextRenderer(new TargetCounterAwareParagraphRenderer(text));
+        document.add(text);
+
+        // The very first element depends on the target page, so the whole document is relaid out
+        document.incrementalRelayout();
+
+        document.close();
+
+        Assertions.assertNull(new CompareTool().compareByContent(targetPdf, cmpPdf, DESTINATION_FOLDER, "diff"));
+    }
+
+    @Test
+    public void incrementalRelayoutTest() throws IOException, InterruptedException {
+        String targetPdf = DESTINATION_FOLDER + "incrementalRelayoutTest.pdf";
+        String cmpPdf = DESTINATION_FOLDER + "cmp_incrementalRelayoutTest.pdf";
+
+        int[] fullRelayoutCounter = new int[2];
+        createDocumentWithTargetCounter(cmpPdf, false, fullRelayoutCounter);
+        int[] incrementalRelayoutCounter = new int[2];
+        createDocumentWithTargetCounter(targetPdf, true, incrementalRelayoutCounter);
+
+        Assertions.assertEquals(2 * fullRelayoutCounter[1], fullRelayoutCounter[0]);
+        // Paragraphs preceding the target-counter are not laid out again
+        Assertions.assertEquals(incrementalRelayoutCounter[1], incrementalRelayoutCounter[0]);
+        Assertions.assertNull(new CompareTool().compareByContent(targetPdf, cmpPdf, DESTINATION_FOLDER, "diff"));
+    }
+
+    @Test
+    public void incrementalRelayoutWithoutRequestedIdsTest() throws IOException {
+        String targetPdf = DESTINATION_FOLDER + "incrementalRelayoutWithoutRequestedIdsTest.pdf";
+        Document document = new Document(new PdfDocument(new PdfWriter(targetPdf)),
+                PageSize.A4, false);
+
+        int[] counter = new int[1];
+        for (int i = 0; i < FILLER_PARAGRAPHS_COUNT; i++) {
+            Paragraph paragraph = new Paragraph("Paragraph " + i);
+            paragraph.setProperty(Property.ID, "id" + i);
+            paragraph.setNextRenderer(new LayoutCountingParagraphRenderer(paragraph, counter));
+            document.add(paragraph);
+        }
+        DocumentRenderer documentRenderer = (DocumentRenderer) document.getRenderer();
+        Assertions.assertTrue(documentRenderer.isRelayoutRequired());
+        int layoutsCount = counter[0];
+
+        // Nothing requested the pages of the ids, so nothing is relaid out
+        document.incrementalRelayout();
+
+        Assertions.assertSame(documentRenderer, document.getRenderer());
+        Assertions.assertFalse(documentRenderer.isRelayoutRequired());
+        Assertions.assertEquals(layoutsCount, counter[0]);
+        document.close();
+    }
+
+    private static final int FILLER_PARAGRAPHS_COUNT = 60;
+
+    private static void createDocumentWithTargetCounter(String fileName, boolean incremental, int[] fillerLayoutCounter)
+            throws IOException {
+        Document document = new Document(new PdfDocument(new PdfWriter(fileName)), PageSize.A4, false);
+        for (int i = 0; i < FILLER_PARAGRAPHS_COUNT; i++) {
+            Paragraph filler = new Paragraph("Filler paragraph " + i);
+            filler.setNextRenderer(new LayoutCountingParagraphRenderer(filler, fillerLayoutCounter));
+            document.add(filler);
+        }
+
+        Text pageNumPlaceholder = new Text("x");
+        String id = "target";
+        pageNumPlaceholder.setProperty(Property.ID, id);
+        pageNumPlaceholder.setNextRenderer(new TargetCounterAwareTextRenderer(pageNumPlaceholder));
+        document.add(new Paragraph("The paragraph is on page ").add(pageNumPlaceholder));
+
+        document.add(new AreaBreak());
+        Paragraph text = new Paragraph("This is main text");
+        text.setProperty(Property.ID, id);
+        text.setNextRenderer(new TargetCounterAwareParagraphRenderer(text));
+        document.add(text);
+
+        fillerLayoutCounter[1] = fillerLayoutCounter[0];
+        if (incremental) {
+            document.incrementalRelayout();
+        } else {
+            document.relayout();
+        }
+        document.close();
+    }
+
+    private static class LayoutCountingParagraphRenderer extends ParagraphRenderer {
+        private final int[] counter;
+
+        public LayoutCountingParagraphRenderer(Paragraph modelElement, int[] counter) {
+            super(modelElement);
+            this.counter = counter;
+        }
+
+        @Override
+        public IRenderer getNextRenderer() {
+            return new LayoutCountingParagraphRenderer((Paragraph) modelElement, counter);
+        }
+
+        @Override
+        public LayoutResult layout(LayoutContext layoutContext) {
+            counter[0]++;
+            return super.layout(layoutContext);
+        }
+    }
+
     private static class TargetCounterAwareTextRenderer extends TextRenderer {
         public TargetCounterAwareTextRenderer(Text link) {
             super(link);
@@ -188,7 +310,7 @@ public class TargetCounterHandlerTest extends ExtendedITextTest {
 
         @Override
         public LayoutResult layout(LayoutContext layoutContext) {
-            Integer targetPageNumber = TargetCounterHandler.getPageByID(this, this.<String>getProperty(Property.ID));
+            Integer targetPageNumber = resolveTargetPageNumber(this.<String>getProperty(Property.ID));
             if (targetPageNumber != null) {
                 setText(String.valueOf(targetPageNumber));
             }
@@ -253,4 +253,19 @@ public class TargetCounterHandlerUnitTest extends ExtendedITextTest {
         Assertions.assertTrue(TargetCounterHandler.isValueDefinedForThisId(renderer, id));
         Assertions.assertFalse(TargetCounterHandler.isValueDefinedForThisId(renderer, notAddedId));
     }
+
+    @Test
+    public void onlyResolvedPagesAreRequestedTest() {
+        DocumentRenderer documentRenderer = new DocumentRenderer(null);
+        IRenderer renderer = new TextRenderer(new Text("renderer"));
+        renderer.setParent(documentRenderer);
+        TargetCounterHandler handler = documentRenderer.getTargetCounterHandler();
+
+        Assertions.assertNull(TargetCounterHandler.getPageByID(renderer, "id"));
+        Assertions.assertEquals(0, handler.getRequestedIdsCount());
+
+        Assertions.assertNull(TargetCounterHandler.resolvePageByID(renderer, "id"));
+        Assertions.assertNull(TargetCounterHandler.resolvePageByID(renderer, "id"));
+        Assertions.assertEquals(1, handler.getRequestedIdsCount());
+    }
 }
@@ -266,6 +266,18 @@ public class TextRendererTest extends RendererUnitTest {
         Assertions.assertFalse(TextRenderer.codePointIsOfSpecialScript(1091));
     }
 
+    @Test
+    public void specialScriptsDetectionMatchesUnicodeScriptTest() {
+        // the special scripts are in the first two planes, all but the first code point of each block
+        // are resolved from the already computed block type
+        for (int codePoint = 0; codePoint <= 0x1FFFF; codePoint++) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            boolean expected = Character.UnicodeScript.THAI == script || Character.UnicodeScript.KHMER == script
+                    || Character.UnicodeScript.LAO == script || Character.UnicodeScript.MYANMAR == script;
+            Assertions.assertEquals(expected, TextRenderer.codePointIsOfSpecialScript(codePoint));
+        }
+    }
+
     @Test
     public void overflowWrapAnywhereProperty() {
         Text text = new Text("wow");
@@ -0,0 +1,95 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of signing a batch of documents with {@link PdfPadesBatchSigner}.
+ *
+ * <p>
+ * Documents are referred to by their position in the batch, i.e. in order of
+ * {@link PdfPadesBatchSigner#addDocument(com.itextpdf.kernel.pdf.PdfReader, java.io.OutputStream, SignerProperties)}
+ * calls. A document which failed is excluded from the rest of the batch processing, while the other documents
+ * are still signed.
+ */
+public final class BatchSigningResult {
+    private final List<Exception> exceptions;
+
+    /**
+     * Creates the result of the batch signing.
+     *
+     * @param exceptions the exceptions which occurred while signing the documents of the batch,
+     *                   {@code null} elements stand for the documents which were signed successfully
+     */
+    BatchSigningResult(List<Exception> exceptions) {
+        this.exceptions = Collections.unmodifiableList(new ArrayList<>(exceptions));
+    }
+
+    /**
+     * Gets the number of documents in the batch.
+     *
+     * @return the number of documents in the batch
+     */
+    public int getDocumentsCount() {
+        return exceptions.size();
+    }
+
+    /**
+     * Checks whether all the documents of the batch were signed.
+     *
+     * @return {@code true} if all the documents were signed, {@code false} otherwise
+     */
+    public boolean isSuccessful() {
+        for (Exception exception : exceptions) {
+            if (exception != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the document was signed.
+     *
+     * @param index the position of the document in the batch
+     *
+     * @return {@code true} if the document was signed, {@code false} otherwise
+     */
+    public boolean isSigned(int index) {
+        return exceptions.get(index) == null;
+    }
+
+    /**
+     * Gets the exception which prevented the document from being signed.
+     *
+     * @param index the position of the document in the batch
+     *
+     * @return the exception or {@code null} if the document was signed
+     */
+    public Exception getException(int index) {
+        return exceptions.get(index);
+    }
+}
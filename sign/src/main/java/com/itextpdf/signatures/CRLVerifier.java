@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
+import java.security.cert.CRLException;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -50,6 +51,9 @@ public class CRLVerifier extends RootStoreVerifier {
     /** The list of CRLs to check for revocation date. */
     List<X509CRL> crls;
 
+    /** The indexes of the checked CRLs, so that the same CRL is not searched and verified for each certificate. */
+    private final CrlCache crlCache = new CrlCache();
+
     /**
      * Creates a CRLVerifier instance.
      * @param verifier	the next verifier in the chain
@@ -122,7 +126,7 @@ public class CRLVerifier extends RootStoreVerifier {
         if (crl.getIssuerX500Principal().equals(signCert.getIssuerX500Principal())
                 && signDate.before(crl.getNextUpdate())) {
             // the signing certificate may not be revoked
-            if (isSignatureValid(crl, issuerCert) && crl.isRevoked(signCert)) {
+            if (isSignatureValid(crl, issuerCert) && getCrlIndex(crl).isRevoked(signCert)) {
                 throw new VerificationException(signCert, "The certificate has been revoked.");
             }
             return true;
@@ -162,7 +166,7 @@ public class CRLVerifier extends RootStoreVerifier {
         // check if the CRL was issued by the issuer
         if (crlIssuer != null) {
             try {
-                crl.verify(crlIssuer.getPublicKey());
+                getCrlIndex(crl).verify(crlIssuer.getPublicKey());
                 return true;
             } catch (GeneralSecurityException e) {
                 LOGGER.warn("CRL not issued by the same authority as the certificate that is being checked");
@@ -176,7 +180,7 @@ public class CRLVerifier extends RootStoreVerifier {
             for (X509Certificate anchor : SignUtils.getCertificates(rootStore)) {
                 try {
                     // check if the crl was signed by a trusted party (indirect CRLs)
-                    crl.verify(anchor.getPublicKey());
+                    getCrlIndex(crl).verify(anchor.getPublicKey());
                     return true;
                 } catch (GeneralSecurityException e) {
                     // do nothing and continue
@@ -188,4 +192,13 @@ public class CRLVerifier extends RootStoreVerifier {
         }
         return false;
     }
+
+    private CrlIndex getCrlIndex(X509CRL crl) {
+        try {
+            return crlCache.getCrlIndex(crl);
+        } catch (CRLException e) {
+            // CRL which cannot be encoded is still indexed, but not cached.
+            return new CrlIndex(crl);
+        }
+    }
 }
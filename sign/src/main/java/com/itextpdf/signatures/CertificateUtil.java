@@ -46,6 +46,8 @@ import com.itextpdf.commons.bouncycastle.cert.ocsp.AbstractOCSPException;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.ICertificateID;
 import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationException;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.source.ByteBuffer;
 import com.itextpdf.kernel.crypto.OID;
 import com.itextpdf.signatures.logs.SignLogMessageConstant;
 
@@ -489,6 +491,86 @@ public class CertificateUtil {
         return certificate.getIssuerX500Principal().equals(certificate.getSubjectX500Principal());
     }
 
+    /**
+     * Gets the key identifier from the subject key identifier extension of the certificate.
+     *
+     * @param certificate the certificate to get the key identifier from
+     *
+     * @return the key identifier, or {@code null} if the certificate has no readable subject key identifier.
+     */
+    public static byte[] getSubjectKeyIdentifier(X509Certificate certificate) {
+        try {
+            IASN1Primitive extensionValue = getExtensionValue(certificate, OID.X509Extensions.SUBJECT_KEY_IDENTIFIER);
+            IASN1OctetString keyIdentifier = extensionValue == null ? null
+                    : FACTORY.createASN1OctetString(extensionValue);
+            return keyIdentifier == null ? null : keyIdentifier.getOctets();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the key identifier from the authority key identifier extension of the certificate.
+     * It is expected to be equal to the subject key identifier of the issuer certificate.
+     *
+     * @param certificate the certificate to get the authority key identifier from
+     *
+     * @return the key identifier, or {@code null} if the certificate has no readable authority key identifier.
+     */
+    public static byte[] getAuthorityKeyIdentifier(X509Certificate certificate) {
+        try {
+            IASN1Primitive extensionValue =
+                    getExtensionValue(certificate, OID.X509Extensions.AUTHORITY_KEY_IDENTIFIER);
+            IASN1Sequence sequence = extensionValue == null ? null : FACTORY.createASN1Sequence(extensionValue);
+            if (sequence == null) {
+                return null;
+            }
+            for (int i = 0; i < sequence.size(); i++) {
+                IASN1TaggedObject taggedObject = FACTORY.createASN1TaggedObject(sequence.getObjectAt(i));
+                // keyIdentifier [0] IMPLICIT KeyIdentifier
+                if (taggedObject != null && taggedObject.getTagNo() == 0) {
+                    return FACTORY.createASN1OctetString(taggedObject, false).getOctets();
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts an array of bytes, e.g. a key identifier, to a String of hexadecimal values.
+     *
+     * @param bytes a byte array
+     *
+     * @return the same bytes expressed as uppercase hexadecimal values
+     */
+    public static String convertToHex(byte[] bytes) {
+        ByteBuffer buf = new ByteBuffer();
+        for (byte b : bytes) {
+            buf.appendHex(b);
+        }
+        return PdfEncodings.convertToString(buf.toByteArray(), null).toUpperCase();
+    }
+
+    /**
+     * Checks whether the certificate is signed with the private key of the issuer certificate.
+     *
+     * @param certificate the certificate to check
+     * @param issuer      the possible issuer certificate
+     *
+     * @return {@code true} if the signature of the certificate is verified with the issuer public key,
+     * {@code false} otherwise
+     */
+    public static boolean isSignedBy(X509Certificate certificate, Certificate issuer) {
+        try {
+            certificate.verify(issuer.getPublicKey());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     // helper methods
 
     /**
@@ -0,0 +1,184 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import java.security.cert.CRLException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509CRL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe cache of {@link CrlIndex} instances keyed by the digest of the encoded CRL.
+ *
+ * <p>
+ * The same CRL is often met many times, e.g. in the DSS of several documents or when validating every
+ * certificate of a chain. This cache makes sure such a CRL is only parsed and indexed once.
+ * The least recently used indexes are evicted when the cache grows bigger than its capacity.
+ */
+public class CrlCache {
+
+    /**
+     * The default maximum number of cached CRL indexes.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final int capacity;
+    private final LinkedHashMap<String, CrlIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private long hitsCount;
+    private long missesCount;
+
+    /**
+     * Creates new {@link CrlCache} instance with {@link #DEFAULT_CAPACITY}.
+     */
+    public CrlCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates new {@link CrlCache} instance.
+     *
+     * @param capacity the maximum number of CRL indexes to keep
+     */
+    public CrlCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets {@link CrlIndex} for the encoded CRL, parsing the CRL only if it is not cached yet.
+     *
+     * @param encoded DER encoded CRL
+     *
+     * @return {@link CrlIndex} for the given CRL
+     *
+     * @throws CertificateException thrown if there's no X509 implementation in the provider
+     * @throws CRLException thrown when encountering errors when parsing the CRL
+     */
+    public CrlIndex getCrlIndex(byte[] encoded) throws CertificateException, CRLException {
+        String key = SignUtils.getSha256Hex(encoded);
+        CrlIndex index = get(key);
+        if (index == null) {
+            index = new CrlIndex((X509CRL) CertificateUtil.parseCrlFromBytes(encoded));
+            index = putIfAbsent(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets {@link CrlIndex} for the already parsed CRL, indexing the CRL only if it is not cached yet.
+     *
+     * <p>
+     * The CRL instances obtained from the cached indexes are found by identity, so that the CRL is neither
+     * encoded nor digested again. Other instances are looked up by the digest of their encoding.
+     *
+     * @param crl {@link X509CRL} to get the index for
+     *
+     * @return {@link CrlIndex} for the given CRL
+     *
+     * @throws CRLException thrown if the CRL cannot be encoded
+     */
+    public CrlIndex getCrlIndex(X509CRL crl) throws CRLException {
+        CrlIndex index = getByCrlInstance(crl);
+        if (index != null) {
+            return index;
+        }
+        String key = SignUtils.getSha256Hex(crl.getEncoded());
+        index = get(key);
+        if (index == null) {
+            index = putIfAbsent(key, new CrlIndex(crl));
+        }
+        return index;
+    }
+
+    /**
+     * Gets the number of cached CRL indexes.
+     *
+     * @return the number of cached CRL indexes
+     */
+    public synchronized int size() {
+        return indexes.size();
+    }
+
+    /**
+     * Gets the number of requested CRL indexes, which were found in the cache.
+     *
+     * @return the number of cache hits since the cache creation
+     */
+    public synchronized long getHitsCount() {
+        return hitsCount;
+    }
+
+    /**
+     * Gets the number of requested CRL indexes, which were not found in the cache and had to be created.
+     *
+     * @return the number of cache misses since the cache creation
+     */
+    public synchronized long getMissesCount() {
+        return missesCount;
+    }
+
+    /**
+     * Removes all the cached CRL indexes.
+     */
+    public synchronized void clear() {
+        indexes.clear();
+    }
+
+    private synchronized CrlIndex get(String key) {
+        CrlIndex index = indexes.get(key);
+        if (index == null) {
+            missesCount++;
+        } else {
+            hitsCount++;
+        }
+        return index;
+    }
+
+    private synchronized CrlIndex getByCrlInstance(X509CRL crl) {
+        String key = null;
+        for (Map.Entry<String, CrlIndex> entry : indexes.entrySet()) {
+            if (entry.getValue().getCrl() == crl) {
+                key = entry.getKey();
+                break;
+            }
+        }
+        if (key == null) {
+            return null;
+        }
+        hitsCount++;
+        // Access the entry by key to mark it as the most recently used one
+        return indexes.get(key);
+    }
+
+    private synchronized CrlIndex putIfAbsent(String key, CrlIndex index) {
+        CrlIndex existing = indexes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        indexes.put(key, index);
+        while (indexes.size() > capacity) {
+            indexes.remove(indexes.keySet().iterator().next());
+        }
+        return index;
+    }
+}
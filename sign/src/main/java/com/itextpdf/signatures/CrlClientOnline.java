@@ -58,6 +58,8 @@ public class CrlClientOnline implements ICrlClient {
      */
     protected List<URL> urls = new ArrayList<>();
 
+    private RevocationDataCache revocationDataCache;
+
     /**
      * Creates a CrlClientOnline instance that will try to find
      * a single CRL by walking through the certificate chain.
@@ -142,6 +144,12 @@ public class CrlClientOnline implements ICrlClient {
         }
         List<byte[]> ar = new ArrayList<>();
         for (URL urlt : urlList) {
+            byte[] cachedCrl = revocationDataCache == null ? null : revocationDataCache.getCrl(urlt.toString());
+            if (cachedCrl != null) {
+                ar.add(cachedCrl);
+                LOGGER.info("Added cached CRL found at: " + urlt);
+                continue;
+            }
             try {
                 LOGGER.info("Checking CRL: " + urlt);
                 InputStream inp = getCrlResponse(checkCert, urlt);
@@ -155,7 +163,11 @@ public class CrlClientOnline implements ICrlClient {
                     bout.write(buf, 0, n);
                 }
                 inp.close();
-                ar.add(bout.toByteArray());
+                byte[] crl = bout.toByteArray();
+                ar.add(crl);
+                if (revocationDataCache != null) {
+                    revocationDataCache.putCrl(urlt.toString(), crl);
+                }
                 LOGGER.info("Added CRL found at: " + urlt);
             } catch (Exception e) {
                 LOGGER.info(MessageFormatUtil.format(IoLogMessageConstant.INVALID_DISTRIBUTION_POINT,
@@ -165,6 +177,28 @@ public class CrlClientOnline implements ICrlClient {
         return ar;
     }
 
+    /**
+     * Sets {@link RevocationDataCache} to be used in order not to download the same CRLs repeatedly.
+     * The cache can be shared between several clients, including clients used concurrently.
+     *
+     * @param revocationDataCache {@link RevocationDataCache} to be used, or {@code null} to disable caching
+     *
+     * @return same instance of {@link CrlClientOnline}
+     */
+    public CrlClientOnline setRevocationDataCache(RevocationDataCache revocationDataCache) {
+        this.revocationDataCache = revocationDataCache;
+        return this;
+    }
+
+    /**
+     * Gets {@link RevocationDataCache} used by this client.
+     *
+     * @return {@link RevocationDataCache} used by this client, or {@code null} if caching is disabled
+     */
+    public RevocationDataCache getRevocationDataCache() {
+        return revocationDataCache;
+    }
+
     /**
      * Get CRL response represented as {@link InputStream}.
      * 
@@ -0,0 +1,148 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * Index over the entries of a parsed {@link X509CRL}.
+ *
+ * <p>
+ * The revoked certificate entries are read only once and stored in a map keyed by certificate issuer
+ * and serial number, so that every lookup takes constant time regardless of the CRL size and of the security
+ * provider which parsed the CRL. Signature verification results are remembered per public key, which allows
+ * to check the same CRL for many certificates without verifying its signature over and over again.
+ *
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class CrlIndex {
+
+    private final X509CRL crl;
+    private final X500Principal crlIssuer;
+    private final Map<String, X509CRLEntry> entries = new HashMap<>();
+    private final Set<PublicKey> verifiedKeys = new HashSet<>();
+
+    /**
+     * Creates new {@link CrlIndex} instance and indexes all the entries of the passed CRL.
+     *
+     * @param crl {@link X509CRL} to be indexed
+     */
+    public CrlIndex(X509CRL crl) {
+        this.crl = crl;
+        this.crlIssuer = crl.getIssuerX500Principal();
+        Set<? extends X509CRLEntry> revokedCertificates = crl.getRevokedCertificates();
+        if (revokedCertificates != null) {
+            for (X509CRLEntry entry : revokedCertificates) {
+                X500Principal entryIssuer = entry.getCertificateIssuer();
+                entries.put(createKey(entryIssuer == null ? crlIssuer : entryIssuer, entry.getSerialNumber()), entry);
+            }
+        }
+    }
+
+    /**
+     * Gets the indexed CRL.
+     *
+     * @return indexed {@link X509CRL}
+     */
+    public X509CRL getCrl() {
+        return crl;
+    }
+
+    /**
+     * Gets the number of indexed revoked certificate entries.
+     *
+     * @return the number of entries in the CRL
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the CRL entry for a certificate with the given serial number issued by the CRL issuer.
+     *
+     * @param serialNumber serial number of the certificate to look for
+     *
+     * @return {@link X509CRLEntry} or {@code null} if there is no such entry in the CRL
+     */
+    public X509CRLEntry getRevokedCertificate(BigInteger serialNumber) {
+        return entries.get(createKey(crlIssuer, serialNumber));
+    }
+
+    /**
+     * Gets the CRL entry for the given certificate. Entries of indirect CRLs are matched
+     * by the certificate issuer as well as by the serial number.
+     *
+     * @param certificate {@link X509Certificate} to look for
+     *
+     * @return {@link X509CRLEntry} or {@code null} if the certificate is not in the CRL
+     */
+    public X509CRLEntry getRevokedCertificate(X509Certificate certificate) {
+        return entries.get(createKey(certificate.getIssuerX500Principal(), certificate.getSerialNumber()));
+    }
+
+    /**
+     * Checks whether the given certificate is listed in the CRL.
+     *
+     * @param certificate {@link X509Certificate} to check
+     *
+     * @return {@code true} if the certificate is in the CRL, {@code false} otherwise
+     */
+    public boolean isRevoked(X509Certificate certificate) {
+        return getRevokedCertificate(certificate) != null;
+    }
+
+    /**
+     * Verifies that the CRL was signed using the private key that corresponds to the given public key.
+     * Successful verifications are remembered, so each key is only checked against the CRL once.
+     *
+     * @param key {@link PublicKey} of the CRL issuer
+     *
+     * @throws GeneralSecurityException if the CRL signature cannot be verified with the given key
+     */
+    public void verify(PublicKey key) throws GeneralSecurityException {
+        synchronized (verifiedKeys) {
+            if (verifiedKeys.contains(key)) {
+                return;
+            }
+        }
+        crl.verify(key);
+        synchronized (verifiedKeys) {
+            verifiedKeys.add(key);
+        }
+    }
+
+    private static String createKey(X500Principal issuer, BigInteger serialNumber) {
+        return issuer.getName(X500Principal.CANONICAL) + "#" + serialNumber.toString(16);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+/**
+ * Interface that needs to be implemented to sign many messages at once, for instance
+ * when the signing device supports bulk operations.
+ *
+ * <p>
+ * All the messages are signed with the same key, digest algorithm and signature algorithm.
+ */
+public interface IExternalBatchSignature {
+
+    /**
+     * Returns the digest algorithm.
+     *
+     * @return the digest algorithm (e.g. "SHA-1", "SHA-256,...").
+     */
+    String getDigestAlgorithmName();
+
+    /**
+     * Returns the signature algorithm used for signing, disregarding the digest function.
+     *
+     * @return the signature algorithm ("RSA", "DSA", "ECDSA", "Ed25519" or "Ed448").
+     */
+    String getSignatureAlgorithmName();
+
+    /**
+     * Return the algorithm parameters that need to be encoded together with the signature mechanism identifier.
+     * If there are no parameters, return `null`.
+     * A non-null value is required for RSASSA-PSS; see {@link RSASSAPSSMechanismParams}.
+     *
+     * @return algorithm parameters
+     */
+    ISignatureMechanismParams getSignatureMechanismParameters();
+
+    /**
+     * Signs the given messages using the encryption algorithm in combination with the hash algorithm.
+     *
+     * @param messages the messages to be hashed and signed
+     *
+     * @return signed message digests in the same order as the messages
+     *
+     * @throws GeneralSecurityException when requested cryptographic algorithm or security provider
+     * is not available
+     */
+    List<byte[]> sign(List<byte[]> messages) throws GeneralSecurityException;
+}
@@ -60,6 +60,9 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
 
     private final TrustedCertificatesStore trustedCertificatesStore = new TrustedCertificatesStore();
     private final Map<String, List<Certificate>> knownCertificates = new HashMap<>();
+    private final Map<String, List<Certificate>> knownCertificatesByKeyIdentifier = new HashMap<>();
+    private final Map<String, List<Certificate>> knownCertificatesWithoutKeyIdentifier = new HashMap<>();
+    private final Set<String> retrievedAiaUrls = new HashSet<>();
     private final IResourceRetriever resourceRetriever;
 
     /**
@@ -102,17 +105,13 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
                 i++;
             } else {
                 // Get missing certificates using AIA Extensions
-                String url = CertificateUtil.getIssuerCertURL(lastAddedCert);
-                Collection<Certificate> certificatesFromAIA = processCertificatesFromAIA(url);
-                if (certificatesFromAIA != null) {
-                    addKnownCertificates(certificatesFromAIA);
-                }
+                addCertificatesFromAIA(lastAddedCert);
                 // Retrieve Issuer from the certificate store
-                Certificate issuer = getIssuerFromCertificateSet(lastAddedCert, trustedCertificatesStore
-                        .getKnownCertificates(lastAddedCert.getIssuerX500Principal().getName()));
-                if (issuer == null || !isSignedBy(lastAddedCert, issuer)) {
-                    issuer = getIssuerFromCertificateSet(lastAddedCert, knownCertificates.get(
-                            lastAddedCert.getIssuerX500Principal().getName()));
+                Certificate issuer = getIssuerFromCertificateSet(lastAddedCert,
+                        trustedCertificatesStore.getPossibleIssuerCertificates(lastAddedCert));
+                if (issuer == null || !CertificateUtil.isSignedBy(lastAddedCert, issuer)) {
+                    issuer = getIssuerFromCertificateSet(lastAddedCert,
+                            getPossibleIssuersFromKnownCertificates(lastAddedCert));
                     if (issuer == null) {
                         // Unable to retrieve missing certificates
                         while (i < chain.length) {
@@ -182,17 +181,10 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
 
         List<List<X509Certificate>> allChains = new ArrayList<>();
         // Get missing certificates using AIA Extensions
-        String url = CertificateUtil.getIssuerCertURL(certificate);
-        Collection<Certificate> certificatesFromAIA = processCertificatesFromAIA(url);
-        if (certificatesFromAIA != null) {
-            addKnownCertificates(certificatesFromAIA);
-        }
-        Set<Certificate> possibleIssuers = trustedCertificatesStore
-                .getKnownCertificates(certificate.getIssuerX500Principal().getName());
-        if (knownCertificates.get(
-                certificate.getIssuerX500Principal().getName()) != null) {
-            possibleIssuers.addAll(knownCertificates.get(certificate.getIssuerX500Principal().getName()));
-        }
+        addCertificatesFromAIA(certificate);
+        Set<Certificate> possibleIssuers =
+                new HashSet<>(trustedCertificatesStore.getPossibleIssuerCertificates(certificate));
+        possibleIssuers.addAll(getPossibleIssuersFromKnownCertificates(certificate));
         if (possibleIssuers.isEmpty()) {
             List<List<X509Certificate>> singleChain = new ArrayList<>();
             List<X509Certificate> chain = new ArrayList<>();
@@ -353,6 +345,13 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
             String name = ((X509Certificate) certificate).getSubjectX500Principal().getName();
             List<Certificate> certs = knownCertificates.computeIfAbsent(name,k -> new ArrayList<>());
             certs.add(certificate);
+            byte[] subjectKeyIdentifier = CertificateUtil.getSubjectKeyIdentifier((X509Certificate) certificate);
+            if (subjectKeyIdentifier == null) {
+                knownCertificatesWithoutKeyIdentifier.computeIfAbsent(name, k -> new ArrayList<>()).add(certificate);
+            } else {
+                knownCertificatesByKeyIdentifier.computeIfAbsent(CertificateUtil.convertToHex(subjectKeyIdentifier),
+                        k -> new ArrayList<>()).add(certificate);
+            }
         }
     }
 
@@ -403,6 +402,60 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
         return SignUtils.readAllCerts(certsData, null);
     }
 
+    private void addCertificatesFromAIA(X509Certificate certificate) {
+        String url = CertificateUtil.getIssuerCertURL(certificate);
+        // Certificates are downloaded from each URL only once, after that they are taken from known certificates
+        if (retrievedAiaUrls.contains(url)) {
+            return;
+        }
+        Collection<Certificate> certificatesFromAIA = processCertificatesFromAIA(url);
+        if (certificatesFromAIA != null) {
+            retrievedAiaUrls.add(url);
+            addKnownCertificates(certificatesFromAIA);
+        }
+    }
+
+    private Collection<Certificate> getPossibleIssuersFromKnownCertificates(X509Certificate certificate) {
+        String issuerName = certificate.getIssuerX500Principal().getName();
+        List<Certificate> nameMatches = knownCertificates.get(issuerName);
+        if (nameMatches == null) {
+            return Collections.<Certificate>emptyList();
+        }
+        byte[] authorityKeyIdentifier = CertificateUtil.getAuthorityKeyIdentifier(certificate);
+        List<Certificate> keyMatches = authorityKeyIdentifier == null ? null
+                : knownCertificatesByKeyIdentifier.get(CertificateUtil.convertToHex(authorityKeyIdentifier));
+        if (keyMatches == null) {
+            return nameMatches;
+        }
+        List<Certificate> result = new ArrayList<>();
+        for (Certificate keyMatch : keyMatches) {
+            if (issuerName.equals(((X509Certificate) keyMatch).getSubjectX500Principal().getName())) {
+                result.add(keyMatch);
+            }
+        }
+        List<Certificate> withoutKeyIdentifier = knownCertificatesWithoutKeyIdentifier.get(issuerName);
+        int withoutKeyIdentifierCount = withoutKeyIdentifier == null ? 0 : withoutKeyIdentifier.size();
+        if (result.size() + withoutKeyIdentifierCount < nameMatches.size() && !isSignedByAny(certificate, result)) {
+            // The key identifier doesn't point to the issuer, so the other certificates with the issuer name
+            // shall not be skipped
+            return nameMatches;
+        }
+        // Certificates without subject key identifier can only be matched by name
+        if (withoutKeyIdentifier != null) {
+            result.addAll(withoutKeyIdentifier);
+        }
+        return result;
+    }
+
+    private static boolean isSignedByAny(X509Certificate certificate, Collection<Certificate> issuers) {
+        for (Certificate issuer : issuers) {
+            if (CertificateUtil.isSignedBy(certificate, issuer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Collection<Certificate> processCertificatesFromAIA(String url) {
         if (url == null) {
             // We don't have any URIs to the issuer certificates in AuthorityInfoAccess extension
@@ -416,15 +469,6 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
         }
     }
 
-    private static boolean isSignedBy(X509Certificate certificate, Certificate issuer) {
-        try {
-            certificate.verify(issuer.getPublicKey());
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     private static boolean isSignedBy(X509CRL crl, Certificate issuer) {
         try {
             crl.verify(issuer.getPublicKey());
@@ -438,7 +482,7 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
             Collection<Certificate> certs) {
         if (certs != null) {
             for (Certificate cert : certs) {
-                if (isSignedBy(lastAddedCert, cert)) {
+                if (CertificateUtil.isSignedBy(lastAddedCert, cert)) {
                     return cert;
                 }
             }
@@ -33,7 +33,6 @@ import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
 import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationException;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.io.font.PdfEncodings;
-import com.itextpdf.io.source.ByteBuffer;
 import com.itextpdf.kernel.crypto.OID.X509Extensions;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.CompressionConstants;
@@ -332,11 +331,7 @@ public class LtvVerification {
      * @return the same bytes expressed as hexadecimal values
      */
     public static String convertToHex(byte[] bytes) {
-        ByteBuffer buf = new ByteBuffer();
-        for (byte b : bytes) {
-            buf.appendHex(b);
-        }
-        return PdfEncodings.convertToString(buf.toByteArray(), null).toUpperCase();
+        return CertificateUtil.convertToHex(bytes);
     }
 
     /**
@@ -520,13 +515,23 @@ public class LtvVerification {
         PdfDictionary vrim = dss.getAsDictionary(PdfName.VRI);
         // delete old validations
         if (vrim != null) {
+            // streams are shared between validations, so keep the ones still referenced by other signatures
+            Set<PdfIndirectReference> keptReferences = new HashSet<>();
+            for (PdfName n : vrim.keySet()) {
+                PdfDictionary vri = vrim.getAsDictionary(n);
+                if (vri != null && !validated.containsKey(n)) {
+                    collectReferences(keptReferences, vri.getAsArray(PdfName.OCSP));
+                    collectReferences(keptReferences, vri.getAsArray(PdfName.CRL));
+                    collectReferences(keptReferences, vri.getAsArray(PdfName.Cert));
+                }
+            }
             for (PdfName n : vrim.keySet()) {
                 if (validated.containsKey(n)) {
                     PdfDictionary vri = vrim.getAsDictionary(n);
                     if (vri != null) {
-                        deleteOldReferences(ocsps, vri.getAsArray(PdfName.OCSP));
-                        deleteOldReferences(crls, vri.getAsArray(PdfName.CRL));
-                        deleteOldReferences(certs, vri.getAsArray(PdfName.Cert));
+                        deleteOldReferences(ocsps, vri.getAsArray(PdfName.OCSP), keptReferences);
+                        deleteOldReferences(crls, vri.getAsArray(PdfName.CRL), keptReferences);
+                        deleteOldReferences(certs, vri.getAsArray(PdfName.Cert), keptReferences);
                     }
                 }
             }
@@ -546,13 +551,27 @@ public class LtvVerification {
         outputDss(dss, vrim, ocsps, crls, certs);
     }
 
-    private static void deleteOldReferences(PdfArray all, PdfArray toDelete) {
+    private static void collectReferences(Set<PdfIndirectReference> references, PdfArray array) {
+        if (array == null) {
+            return;
+        }
+        for (PdfObject object : array) {
+            if (object.getIndirectReference() != null) {
+                references.add(object.getIndirectReference());
+            }
+        }
+    }
+
+    private static void deleteOldReferences(PdfArray all, PdfArray toDelete, Set<PdfIndirectReference> kept) {
         if (all == null || toDelete == null) {
             return;
         }
 
         for (PdfObject pi : toDelete) {
             final PdfIndirectReference pir = pi.getIndirectReference();
+            if (pir != null && kept.contains(pir)) {
+                continue;
+            }
 
             for (int i = 0; i < all.size(); i++) {
                 final PdfIndirectReference pod = all.get(i).getIndirectReference();
@@ -565,6 +584,37 @@ public class LtvVerification {
         }
     }
 
+    private static Map<String, PdfStream> indexStreams(PdfArray streams) {
+        Map<String, PdfStream> index = new HashMap<>();
+        for (int i = 0; i < streams.size(); i++) {
+            PdfStream stream = streams.getAsStream(i);
+            if (stream != null) {
+                byte[] bytes = stream.getBytes();
+                if (bytes != null) {
+                    String key = SignUtils.getSha256Hex(bytes);
+                    if (!index.containsKey(key)) {
+                        index.put(key, stream);
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    private PdfStream getOrAddStream(byte[] bytes, PdfArray dssArray, Map<String, PdfStream> index) {
+        String key = SignUtils.getSha256Hex(bytes);
+        PdfStream stream = index.get(key);
+        if (stream == null) {
+            stream = new PdfStream(bytes);
+            stream.setCompressionLevel(CompressionConstants.DEFAULT_COMPRESSION);
+            stream.makeIndirect(document);
+            dssArray.add(stream);
+            dssArray.setModified();
+            index.put(key, stream);
+        }
+        return stream;
+    }
+
     private void createDss() {
         outputDss(new PdfDictionary(), new PdfDictionary(), new PdfArray(), new PdfArray(), new PdfArray());
     }
@@ -574,33 +624,23 @@ public class LtvVerification {
         if (document.getPdfVersion().compareTo(PdfVersion.PDF_2_0) < 0) {
             catalog.addDeveloperExtension(PdfDeveloperExtension.ESIC_1_7_EXTENSIONLEVEL5);
         }
+        // index the streams already present in the DSS once, so that equal data is stored only once
+        Map<String, PdfStream> existingOcsps = indexStreams(ocsps);
+        Map<String, PdfStream> existingCrls = indexStreams(crls);
+        Map<String, PdfStream> existingCerts = indexStreams(certs);
         for (PdfName vkey : validated.keySet()) {
             PdfArray ocsp = new PdfArray();
             PdfArray crl = new PdfArray();
             PdfArray cert = new PdfArray();
             PdfDictionary vri = new PdfDictionary();
             for (byte[] b : validated.get(vkey).getCrls()) {
-                PdfStream ps = new PdfStream(b);
-                ps.setCompressionLevel(CompressionConstants.DEFAULT_COMPRESSION);
-                ps.makeIndirect(document);
-                crl.add(ps);
-                crls.add(ps);
-                crls.setModified();
+                crl.add(getOrAddStream(b, crls, existingCrls));
             }
             for (byte[] b : validated.get(vkey).getOcsps()) {
-                PdfStream ps = new PdfStream(b);
-                ps.setCompressionLevel(CompressionConstants.DEFAULT_COMPRESSION);
-                ocsp.add(ps);
-                ocsps.add(ps);
-                ocsps.setModified();
+                ocsp.add(getOrAddStream(b, ocsps, existingOcsps));
             }
             for (byte[] b : validated.get(vkey).getCerts()) {
-                PdfStream ps = new PdfStream(b);
-                ps.setCompressionLevel(CompressionConstants.DEFAULT_COMPRESSION);
-                ps.makeIndirect(document);
-                cert.add(ps);
-                certs.add(ps);
-                certs.setModified();
+                cert.add(getOrAddStream(b, certs, existingCerts));
             }
             if (!ocsp.isEmpty()) {
                 ocsp.makeIndirect(document);
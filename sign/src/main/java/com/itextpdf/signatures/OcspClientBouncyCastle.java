@@ -57,6 +57,8 @@ public class OcspClientBouncyCastle implements IOcspClientBouncyCastle {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(OcspClientBouncyCastle.class);
 
+    private RevocationDataCache revocationDataCache;
+
     /**
      * Creates new {@link OcspClientBouncyCastle} instance.
      */
@@ -64,6 +66,28 @@ public class OcspClientBouncyCastle implements IOcspClientBouncyCastle {
         // Empty constructor in order for default one to not be removed if another one is added.
     }
 
+    /**
+     * Sets {@link RevocationDataCache} to be used in order not to request the same OCSP responses repeatedly.
+     * The cache can be shared between several clients, including clients used concurrently.
+     *
+     * @param revocationDataCache {@link RevocationDataCache} to be used, or {@code null} to disable caching
+     *
+     * @return same instance of {@link OcspClientBouncyCastle}
+     */
+    public OcspClientBouncyCastle setRevocationDataCache(RevocationDataCache revocationDataCache) {
+        this.revocationDataCache = revocationDataCache;
+        return this;
+    }
+
+    /**
+     * Gets {@link RevocationDataCache} used by this client.
+     *
+     * @return {@link RevocationDataCache} used by this client, or {@code null} if caching is disabled
+     */
+    public RevocationDataCache getRevocationDataCache() {
+        return revocationDataCache;
+    }
+
 
     /**
      * {@inheritDoc}
@@ -71,6 +95,12 @@ public class OcspClientBouncyCastle implements IOcspClientBouncyCastle {
     @Override
     public IBasicOCSPResp getBasicOCSPResp(X509Certificate checkCert, X509Certificate rootCert, String url) {
         try {
+            byte[] cachedResponse = revocationDataCache == null || checkCert == null ? null
+                    : revocationDataCache.getOcspResponse(checkCert);
+            if (cachedResponse != null) {
+                return BOUNCY_CASTLE_FACTORY.createBasicOCSPResp(BOUNCY_CASTLE_FACTORY.createBasicOCSPResponse(
+                        BOUNCY_CASTLE_FACTORY.createASN1Primitive(cachedResponse)));
+            }
             IOCSPResp ocspResponse = getOcspResponse(checkCert, rootCert, url);
             if (ocspResponse == null) {
                 return null;
@@ -78,7 +108,11 @@ public class OcspClientBouncyCastle implements IOcspClientBouncyCastle {
             if (ocspResponse.getStatus() != BOUNCY_CASTLE_FACTORY.createOCSPResponseStatus().getSuccessful()) {
                 return null;
             }
-            return BOUNCY_CASTLE_FACTORY.createBasicOCSPResp(ocspResponse.getResponseObject());
+            IBasicOCSPResp basicResponse = BOUNCY_CASTLE_FACTORY.createBasicOCSPResp(ocspResponse.getResponseObject());
+            if (revocationDataCache != null) {
+                revocationDataCache.putOcspResponse(checkCert, basicResponse.getEncoded());
+            }
+            return basicResponse;
         } catch (Exception ex) {
             LOGGER.error(ex.getMessage());
         }
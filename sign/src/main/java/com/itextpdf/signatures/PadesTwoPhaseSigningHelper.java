@@ -311,14 +311,7 @@ public class PadesTwoPhaseSigningHelper {
         if (tsaClient == null) {
             throw new PdfException(SignExceptionMessageConstant.TSA_CLIENT_IS_MISSING);
         }
-        byte[] signatureDigest = tsaClient.getMessageDigest().digest(signature);
-        byte[] timestamp = tsaClient.getTimeStampToken(signatureDigest);
-        try (IASN1InputStream tempStream = FACTORY.createASN1InputStream(new ByteArrayInputStream(timestamp))) {
-            IASN1Sequence seq = FACTORY.createASN1Sequence(tempStream.readObject());
-            CmsAttribute timestampAttribute = new CmsAttribute(
-                    OID.AA_TIME_STAMP_TOKEN, FACTORY.createDERSet(seq));
-            cmsContainer.getSignerInfo().addUnSignedAttribute(timestampAttribute);
-        }
+        addSignatureTimestamp(tsaClient, signature, cmsContainer);
 
         try {
             PdfTwoPhaseSigner.addSignatureToPreparedDocument(
@@ -389,17 +382,26 @@ public class PadesTwoPhaseSigningHelper {
         }
     }
 
-    private byte[] setSignatureAlgorithmAndSignature(IExternalSignature externalSignature, CMSContainer cmsContainer)
-            throws IOException, GeneralSecurityException {
-        String signatureDigest = externalSignature.getDigestAlgorithmName();
+    static void addSignatureTimestamp(ITSAClient tsaClient, byte[] signature, CMSContainer cmsContainer)
+            throws Exception {
+        byte[] signatureDigest = tsaClient.getMessageDigest().digest(signature);
+        byte[] timestamp = tsaClient.getTimeStampToken(signatureDigest);
+        try (IASN1InputStream tempStream = FACTORY.createASN1InputStream(new ByteArrayInputStream(timestamp))) {
+            IASN1Sequence seq = FACTORY.createASN1Sequence(tempStream.readObject());
+            CmsAttribute timestampAttribute = new CmsAttribute(
+                    OID.AA_TIME_STAMP_TOKEN, FACTORY.createDERSet(seq));
+            cmsContainer.getSignerInfo().addUnSignedAttribute(timestampAttribute);
+        }
+    }
+
+    static void setSignatureAlgorithm(String signatureDigest, String providedSignatureAlgorithm,
+            ISignatureMechanismParams signatureMechanismParams, CMSContainer cmsContainer) throws IOException {
         String containerDigest = cmsContainer.getDigestAlgorithm().getAlgorithmOid();
-        String providedSignatureAlgorithm = externalSignature.getSignatureAlgorithmName();
         if (!DigestAlgorithms.getAllowedDigest(signatureDigest).equals(containerDigest)) {
             throw new PdfException(MessageFormatUtil.format(
                     SignExceptionMessageConstant.DIGEST_ALGORITHMS_ARE_NOT_SAME,
                     DigestAlgorithms.getDigest(containerDigest), signatureDigest));
         }
-        ISignatureMechanismParams signatureMechanismParams = externalSignature.getSignatureMechanismParameters();
         if (signatureMechanismParams == null) {
             cmsContainer.getSignerInfo().setSignatureAlgorithm(new AlgorithmIdentifier(
                     SignatureMechanisms.getSignatureMechanismOid(providedSignatureAlgorithm, signatureDigest)));
@@ -408,6 +410,12 @@ public class PadesTwoPhaseSigningHelper {
                     SignatureMechanisms.getSignatureMechanismOid(providedSignatureAlgorithm, signatureDigest),
                     signatureMechanismParams.toEncodable().toASN1Primitive()));
         }
+    }
+
+    private byte[] setSignatureAlgorithmAndSignature(IExternalSignature externalSignature, CMSContainer cmsContainer)
+            throws IOException, GeneralSecurityException {
+        setSignatureAlgorithm(externalSignature.getDigestAlgorithmName(), externalSignature.getSignatureAlgorithmName(),
+                externalSignature.getSignatureMechanismParameters(), cmsContainer);
 
         byte[] signedAttributes = cmsContainer.getSerializedSignedAttributes();
         byte[] signature = externalSignature.sign(signedAttributes);
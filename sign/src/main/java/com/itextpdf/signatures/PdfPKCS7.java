@@ -56,6 +56,9 @@ import com.itextpdf.commons.bouncycastle.asn1.x509.IAlgorithmIdentifier;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.ICertificateID;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.ISingleResp;
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.crypto.OID;
 import com.itextpdf.kernel.exceptions.PdfException;
@@ -65,6 +68,7 @@ import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
@@ -893,6 +897,30 @@ public class PdfPKCS7 {
         }
     }
 
+    /**
+     * Update the digest with the byte range of the source, e.g. the signed bytes of a PDF document.
+     * This method is used for verifying.
+     *
+     * @param source    the source to read the data from
+     * @param byteRange pairs of offsets and lengths which define the parts of the source to be digested
+     *
+     * @throws IOException        if the source can't be read
+     * @throws SignatureException on error
+     */
+    void updateByteRange(IRandomAccessSource source, long[] byteRange) throws IOException, SignatureException {
+        if (encapMessageContent != null || digestAttr != null || isTsp) {
+            DigestAlgorithms.updateDigests(source, byteRange, messageDigest);
+            return;
+        }
+        // PKCS#1 signature object consumes the signed data itself, so it can't be updated as a message digest
+        InputStream data = new RASInputStream(new RandomAccessSourceFactory().createRanged(source, byteRange));
+        byte[] buf = new byte[8192];
+        int read;
+        while ((read = data.read(buf, 0, buf.length)) > 0) {
+            sig.update(buf, 0, read);
+        }
+    }
+
     // adbe.x509.rsa_sha1 (PKCS#1)
 
     /**
@@ -0,0 +1,674 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.StampingProperties;
+import com.itextpdf.signatures.cms.AlgorithmIdentifier;
+import com.itextpdf.signatures.cms.CMSContainer;
+import com.itextpdf.signatures.cms.SignerInfo;
+import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.CRL;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * This class signs many documents with PaDES related profiles using the same signing certificate.
+ *
+ * <p>
+ * Work which does not depend on a particular document is done once per batch: the certificate chain is completed
+ * once, revocation data for the chain is requested once and shared by all the documents, and the signed attributes
+ * of all the documents are signed by a single {@link IExternalBatchSignature#sign(List)} call. Documents are
+ * prepared and finalized concurrently if an {@link ExecutorService} is provided.
+ *
+ * <p>
+ * A document which fails to be prepared or finalized doesn't prevent the other documents of the batch from being
+ * signed, the failure is reported in the returned {@link BatchSigningResult}. The readers and output streams of all
+ * the documents are closed when the batch is processed.
+ *
+ * <p>
+ * All the documents of the batch are kept prepared (in memory or in the temporary directory) until they are signed,
+ * so the size of one batch should match the amount of documents the signing device can handle in one operation.
+ */
+public class PdfPadesBatchSigner {
+    private final List<BatchDocument> documents = new ArrayList<>();
+
+    private IOcspClient ocspClient;
+    private ICrlClient crlClient;
+    private IIssuingCertificateRetriever issuingCertificateRetriever = new IssuingCertificateRetriever();
+    private ExecutorService executorService;
+    private int estimatedSize = -1;
+    private String temporaryDirectoryPath;
+    private String timestampSignatureName;
+    private StampingProperties stampingProperties = new StampingProperties().useAppendMode();
+    private final StampingProperties stampingPropertiesWithMetaInfo = (StampingProperties) new StampingProperties()
+            .useAppendMode().setEventCountingMetaInfo(new SignMetaInfo());
+
+    /**
+     * Creates an empty batch of documents to be signed.
+     */
+    public PdfPadesBatchSigner() {
+        // Empty constructor.
+    }
+
+    /**
+     * Adds a document to the batch. The document is read and written only when the batch is signed.
+     *
+     * @param reader           {@link PdfReader} instance to read original PDF file
+     * @param outputStream     {@link OutputStream} output stream to write the resulting PDF file into
+     * @param signerProperties {@link SignerProperties} properties to be used for signing this document,
+     *                         these properties can't be shared with other documents of the batch
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner addDocument(PdfReader reader, OutputStream outputStream,
+            SignerProperties signerProperties) {
+        documents.add(new BatchDocument(reader, outputStream, signerProperties));
+        return this;
+    }
+
+    /**
+     * Gets the number of documents which are waiting to be signed.
+     *
+     * @return the number of documents in the batch
+     */
+    public int getDocumentsCount() {
+        return documents.size();
+    }
+
+    /**
+     * Signs all the documents of the batch with PaDES Baseline-B Profile.
+     *
+     * @param chain             the chain of certificates to be used for signing operation
+     * @param externalSignature {@link IExternalBatchSignature} instance to be used for signing all the documents
+     *
+     * @return {@link BatchSigningResult} with the outcome of signing each document
+     *
+     * @throws GeneralSecurityException in case of signing related exceptions which affect the whole batch
+     * @throws IOException              in case of files related exceptions which affect the whole batch
+     */
+    public BatchSigningResult signWithBaselineBProfile(Certificate[] chain,
+            IExternalBatchSignature externalSignature) throws GeneralSecurityException, IOException {
+        return signBatch(chain, externalSignature, null, false, false);
+    }
+
+    /**
+     * Signs all the documents of the batch with PaDES Baseline-T Profile.
+     *
+     * @param chain             the chain of certificates to be used for signing operation
+     * @param externalSignature {@link IExternalBatchSignature} instance to be used for signing all the documents
+     * @param tsaClient         {@link ITSAClient} instance to be used for timestamp creation
+     *
+     * @return {@link BatchSigningResult} with the outcome of signing each document
+     *
+     * @throws GeneralSecurityException in case of signing related exceptions which affect the whole batch
+     * @throws IOException              in case of files related exceptions which affect the whole batch
+     */
+    public BatchSigningResult signWithBaselineTProfile(Certificate[] chain,
+            IExternalBatchSignature externalSignature, ITSAClient tsaClient)
+            throws GeneralSecurityException, IOException {
+        checkTsaClient(tsaClient);
+        return signBatch(chain, externalSignature, tsaClient, false, false);
+    }
+
+    /**
+     * Signs all the documents of the batch with PaDES Baseline-LT Profile.
+     *
+     * @param chain             the chain of certificates to be used for signing operation
+     * @param externalSignature {@link IExternalBatchSignature} instance to be used for signing all the documents
+     * @param tsaClient         {@link ITSAClient} instance to be used for timestamp creation
+     *
+     * @return {@link BatchSigningResult} with the outcome of signing each document
+     *
+     * @throws GeneralSecurityException in case of signing related exceptions which affect the whole batch
+     * @throws IOException              in case of files related exceptions which affect the whole batch
+     */
+    public BatchSigningResult signWithBaselineLTProfile(Certificate[] chain,
+            IExternalBatchSignature externalSignature, ITSAClient tsaClient)
+            throws GeneralSecurityException, IOException {
+        checkTsaClient(tsaClient);
+        return signBatch(chain, externalSignature, tsaClient, true, false);
+    }
+
+    /**
+     * Signs all the documents of the batch with PaDES Baseline-LTA Profile.
+     *
+     * @param chain             the chain of certificates to be used for signing operation
+     * @param externalSignature {@link IExternalBatchSignature} instance to be used for signing all the documents
+     * @param tsaClient         {@link ITSAClient} instance to be used for timestamp creation
+     *
+     * @return {@link BatchSigningResult} with the outcome of signing each document
+     *
+     * @throws GeneralSecurityException in case of signing related exceptions which affect the whole batch
+     * @throws IOException              in case of files related exceptions which affect the whole batch
+     */
+    public BatchSigningResult signWithBaselineLTAProfile(Certificate[] chain,
+            IExternalBatchSignature externalSignature, ITSAClient tsaClient)
+            throws GeneralSecurityException, IOException {
+        checkTsaClient(tsaClient);
+        return signBatch(chain, externalSignature, tsaClient, true, true);
+    }
+
+    /**
+     * Set {@link ExecutorService} to be used to prepare and finalize the documents of the batch concurrently.
+     * <p>
+     * If none is set, the documents are processed one by one in the calling thread.
+     *
+     * @param executorService {@link ExecutorService} to be used for concurrent processing
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Set {@link IOcspClient} to be used for LTV Verification.
+     * <p>
+     * This setter only has an effect if Baseline-LT or Baseline-LTA level signatures are created.
+     * The responses are requested once per certificate and reused for all the documents of the batch.
+     * If none is set, there will be an attempt to create default OCSP Client instance using the certificate chain.
+     *
+     * @param ocspClient {@link IOcspClient} instance to be used for LTV Verification
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setOcspClient(IOcspClient ocspClient) {
+        this.ocspClient = ocspClient;
+        return this;
+    }
+
+    /**
+     * Set {@link ICrlClient} to be used for LTV Verification.
+     * <p>
+     * This setter only has an effect if Baseline-LT or Baseline-LTA level signatures are created.
+     * The responses are requested once per certificate and reused for all the documents of the batch.
+     * If none is set, there will be an attempt to create default CRL Client instance using the certificate chain.
+     *
+     * @param crlClient {@link ICrlClient} instance to be used for LTV Verification
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setCrlClient(ICrlClient crlClient) {
+        this.crlClient = crlClient;
+        return this;
+    }
+
+    /**
+     * Set {@link IIssuingCertificateRetriever} to be used before main signing operation.
+     * <p>
+     * If none is set, {@link IssuingCertificateRetriever} instance will be used instead.
+     *
+     * @param issuingCertificateRetriever {@link IIssuingCertificateRetriever} instance to be used for getting missing
+     *                                    certificates in chain or CRL response issuer certificates.
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setIssuingCertificateRetriever(
+            IIssuingCertificateRetriever issuingCertificateRetriever) {
+        this.issuingCertificateRetriever = issuingCertificateRetriever;
+        return this;
+    }
+
+    /**
+     * Set certificate list to be used by the {@link IIssuingCertificateRetriever} to retrieve missing certificates.
+     *
+     * @param certificateList certificate list for getting missing certificates in chain
+     *                        or CRL response issuer certificates.
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setTrustedCertificates(List<Certificate> certificateList) {
+        this.issuingCertificateRetriever.setTrustedCertificates(certificateList);
+        return this;
+    }
+
+    /**
+     * Set estimated size of a signature to be applied.
+     * <p>
+     * This value will be used for all the documents of the batch. If none is set, the size is estimated
+     * once for the whole batch.
+     *
+     * @param estimatedSize amount of bytes to be used as estimated value
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setEstimatedSize(int estimatedSize) {
+        this.estimatedSize = estimatedSize;
+        return this;
+    }
+
+    /**
+     * Set temporary directory to be used for temporary files creation.
+     * <p>
+     * If none is set, temporary documents will be created in memory.
+     *
+     * @param temporaryDirectoryPath {@link String} representing relative or absolute path to the directory
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setTemporaryDirectoryPath(String temporaryDirectoryPath) {
+        this.temporaryDirectoryPath = temporaryDirectoryPath;
+        return this;
+    }
+
+    /**
+     * Set the name to be used for timestamp signature creation.
+     * <p>
+     * This setter is only relevant if Baseline-LTA level signatures are created.
+     * If none is set, randomly generated signature name will be used.
+     *
+     * @param timestampSignatureName {@link String} representing the name of a timestamp signature to be applied
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setTimestampSignatureName(String timestampSignatureName) {
+        this.timestampSignatureName = timestampSignatureName;
+        return this;
+    }
+
+    /**
+     * Set stamping properties to be used during main signing operation.
+     * <p>
+     * If none is set, stamping properties with append mode enabled will be used.
+     *
+     * @param stampingProperties {@link StampingProperties} instance to be used during main signing operation
+     *
+     * @return same instance of {@link PdfPadesBatchSigner}
+     */
+    public PdfPadesBatchSigner setStampingProperties(StampingProperties stampingProperties) {
+        this.stampingProperties = stampingProperties;
+        return this;
+    }
+
+    private BatchSigningResult signBatch(Certificate[] chain, IExternalBatchSignature externalSignature,
+            ITSAClient tsaClient, boolean addLtvData, boolean addDocumentTimestamp)
+            throws GeneralSecurityException, IOException {
+        final List<BatchDocument> batch = new ArrayList<>(documents);
+        documents.clear();
+        if (batch.isEmpty()) {
+            return new BatchSigningResult(Collections.<Exception>emptyList());
+        }
+        Certificate[] fullChain = issuingCertificateRetriever.retrieveMissingCertificates(chain);
+        final X509Certificate[] x509FullChain = Arrays.asList(fullChain).toArray(new X509Certificate[0]);
+        final String digestAlgorithm = externalSignature.getDigestAlgorithmName();
+        final String digestAlgorithmOid = DigestAlgorithms.getAllowedDigest(digestAlgorithm);
+        final int signatureSize = estimatedSize < 0
+                ? estimateSignatureSize(x509FullChain, digestAlgorithmOid, tsaClient) : estimatedSize;
+
+        // Documents are finalized concurrently, while the retriever may be not thread-safe
+        final IIssuingCertificateRetriever sharedRetriever =
+                new SynchronizedIssuingCertificateRetriever(issuingCertificateRetriever);
+        try {
+            for (BatchDocument document : batch) {
+                document.setPadesSigner(createPadesSigner(document, sharedRetriever));
+            }
+            if (addLtvData) {
+                shareRevocationClients(batch, x509FullChain[0]);
+            }
+            forEachDocument(batch, document -> prepareDocument(document, x509FullChain, digestAlgorithm,
+                    digestAlgorithmOid, signatureSize));
+
+            // Documents which failed to be prepared are not signed
+            List<BatchDocument> preparedBatch = new ArrayList<>(batch.size());
+            for (BatchDocument document : batch) {
+                if (document.getException() == null) {
+                    preparedBatch.add(document);
+                }
+            }
+            if (!preparedBatch.isEmpty()) {
+                signPreparedDocuments(preparedBatch, externalSignature, digestAlgorithm);
+                forEachDocument(preparedBatch, document -> finalizeDocument(document, tsaClient, addLtvData,
+                        addDocumentTimestamp));
+            }
+        } finally {
+            for (BatchDocument document : batch) {
+                document.close();
+            }
+        }
+        List<Exception> exceptions = new ArrayList<>(batch.size());
+        for (BatchDocument document : batch) {
+            exceptions.add(document.getException());
+        }
+        return new BatchSigningResult(exceptions);
+    }
+
+    private static void signPreparedDocuments(List<BatchDocument> batch, IExternalBatchSignature externalSignature,
+            String digestAlgorithm) throws GeneralSecurityException, IOException {
+        List<byte[]> signedAttributes = new ArrayList<>(batch.size());
+        for (BatchDocument document : batch) {
+            PadesTwoPhaseSigningHelper.setSignatureAlgorithm(digestAlgorithm,
+                    externalSignature.getSignatureAlgorithmName(),
+                    externalSignature.getSignatureMechanismParameters(), document.getCmsContainer());
+            signedAttributes.add(document.getCmsContainer().getSerializedSignedAttributes());
+        }
+        List<byte[]> signatures = externalSignature.sign(signedAttributes);
+        if (signatures == null || signatures.size() != batch.size()) {
+            throw new PdfException(MessageFormatUtil.format(
+                    SignExceptionMessageConstant.BATCH_SIGNATURE_COUNT_MISMATCH,
+                    signatures == null ? 0 : signatures.size(), batch.size()));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).getCmsContainer().getSignerInfo().setSignature(signatures.get(i));
+        }
+    }
+
+    private PdfPadesSigner createPadesSigner(BatchDocument document, IIssuingCertificateRetriever retriever) {
+        PdfPadesSigner padesSigner = new PdfPadesSigner(document.getReader(), document.getOutputStream());
+        padesSigner.setOcspClient(ocspClient);
+        padesSigner.setCrlClient(crlClient);
+        padesSigner.setStampingProperties(stampingProperties);
+        padesSigner.setTemporaryDirectoryPath(temporaryDirectoryPath);
+        padesSigner.setTimestampSignatureName(timestampSignatureName);
+        padesSigner.setIssuingCertificateRetriever(retriever);
+        return padesSigner;
+    }
+
+    private static void shareRevocationClients(List<BatchDocument> batch, X509Certificate signingCertificate) {
+        PdfPadesSigner firstSigner = batch.get(0).getPadesSigner();
+        firstSigner.createRevocationClients(signingCertificate, true);
+        IOcspClient sharedOcspClient = new ReusableOcspClient(firstSigner.getOcspClient());
+        ICrlClient sharedCrlClient = new ReusableCrlClient(firstSigner.getCrlClient());
+        for (BatchDocument document : batch) {
+            document.getPadesSigner().setOcspClient(sharedOcspClient).setCrlClient(sharedCrlClient);
+        }
+    }
+
+    private int estimateSignatureSize(X509Certificate[] x509FullChain, String digestAlgorithmOid,
+            ITSAClient tsaClient) throws GeneralSecurityException, IOException {
+        CMSContainer cms = createCmsContainer(x509FullChain, digestAlgorithmOid);
+        MessageDigest messageDigest = MessageDigest.getInstance(DigestAlgorithms.getDigest(digestAlgorithmOid));
+        int signatureSize = (messageDigest.getDigestLength() + (int) cms.getSizeEstimation()) * 2 + 2;
+        if (tsaClient != null) {
+            signatureSize += tsaClient.getTokenSizeEstimate();
+        }
+        return signatureSize;
+    }
+
+    private void prepareDocument(BatchDocument document, X509Certificate[] x509FullChain, String digestAlgorithm,
+            String digestAlgorithmOid, int signatureSize) throws GeneralSecurityException, IOException {
+        CMSContainer cms = createCmsContainer(x509FullChain, digestAlgorithmOid);
+        try (OutputStream preparedDocument = document.getPadesSigner().createOutputStream()) {
+            PdfTwoPhaseSigner pdfTwoPhaseSigner = new PdfTwoPhaseSigner(document.getReader(), preparedDocument);
+            pdfTwoPhaseSigner.setStampingProperties(stampingProperties);
+            byte[] digest = pdfTwoPhaseSigner.prepareDocumentForSignature(document.getSignerProperties(),
+                    digestAlgorithm, PdfName.Adobe_PPKLite, PdfName.ETSI_CAdES_DETACHED, signatureSize, true);
+            cms.getSignerInfo().setMessageDigest(digest);
+        }
+        document.setCmsContainer(cms);
+    }
+
+    private void finalizeDocument(BatchDocument document, ITSAClient tsaClient, boolean addLtvData,
+            boolean addDocumentTimestamp) throws Exception {
+        PdfPadesSigner padesSigner = document.getPadesSigner();
+        CMSContainer cms = document.getCmsContainer();
+        String fieldName = document.getSignerProperties().getFieldName();
+        OutputStream outputStream = document.getOutputStream();
+        if (tsaClient != null) {
+            PadesTwoPhaseSigningHelper.addSignatureTimestamp(tsaClient, cms.getSignerInfo().getSignatureData(),
+                    cms);
+        }
+        try (InputStream preparedDocument = padesSigner.createInputStream()) {
+            if (!addLtvData) {
+                PdfTwoPhaseSigner.addSignatureToPreparedDocument(new PdfReader(preparedDocument), fieldName,
+                        outputStream, cms);
+                return;
+            }
+            try (OutputStream signedDocument = padesSigner.createOutputStream()) {
+                PdfTwoPhaseSigner.addSignatureToPreparedDocument(new PdfReader(preparedDocument), fieldName,
+                        signedDocument, cms);
+            }
+        }
+        try (InputStream signedDocument = padesSigner.createInputStream();
+                PdfDocument pdfDocument = new PdfDocument(new PdfReader(signedDocument),
+                        new PdfWriter(addDocumentTimestamp ? padesSigner.createOutputStream() : outputStream),
+                        stampingPropertiesWithMetaInfo)) {
+            padesSigner.performLtvVerification(pdfDocument, Collections.singletonList(fieldName),
+                    LtvVerification.RevocationDataNecessity.REQUIRED_FOR_SIGNING_CERTIFICATE);
+            if (addDocumentTimestamp) {
+                padesSigner.performTimestamping(pdfDocument, outputStream, tsaClient);
+            }
+        }
+    }
+
+    private static CMSContainer createCmsContainer(X509Certificate[] x509FullChain, String digestAlgorithmOid)
+            throws GeneralSecurityException {
+        CMSContainer cms = new CMSContainer();
+        SignerInfo signerInfo = new SignerInfo();
+        signerInfo.setSigningCertificateAndAddToSignedAttributes(x509FullChain[0], digestAlgorithmOid);
+        signerInfo.setDigestAlgorithm(new AlgorithmIdentifier(digestAlgorithmOid));
+        cms.addCertificates(x509FullChain);
+        cms.setSignerInfo(signerInfo);
+        return cms;
+    }
+
+    private void forEachDocument(List<BatchDocument> batch, IDocumentTask task) {
+        if (executorService == null) {
+            for (BatchDocument document : batch) {
+                runTask(task, document);
+            }
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (BatchDocument document : batch) {
+            futures.add(executorService.submit(() -> runTask(task, document)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                for (Future<?> remaining : futures) {
+                    remaining.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new PdfException(SignExceptionMessageConstant.BATCH_SIGNING_INTERRUPTED, e);
+            } catch (ExecutionException e) {
+                // Exceptions are collected by the task itself, so only errors can get here
+                throw new PdfException(e.getCause());
+            }
+        }
+    }
+
+    private static void runTask(IDocumentTask task, BatchDocument document) {
+        try {
+            task.run(document);
+        } catch (Exception e) {
+            document.setException(e);
+        }
+    }
+
+    private static void checkTsaClient(ITSAClient tsaClient) {
+        if (tsaClient == null) {
+            throw new PdfException(SignExceptionMessageConstant.TSA_CLIENT_IS_MISSING);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IDocumentTask {
+        void run(BatchDocument document) throws Exception;
+    }
+
+    private static final class BatchDocument {
+        private final PdfReader reader;
+        private final OutputStream outputStream;
+        private final SignerProperties signerProperties;
+        private PdfPadesSigner padesSigner;
+        private CMSContainer cmsContainer;
+        private Exception exception;
+
+        BatchDocument(PdfReader reader, OutputStream outputStream, SignerProperties signerProperties) {
+            this.reader = reader;
+            this.outputStream = outputStream;
+            this.signerProperties = signerProperties;
+        }
+
+        PdfReader getReader() {
+            return reader;
+        }
+
+        OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        SignerProperties getSignerProperties() {
+            return signerProperties;
+        }
+
+        PdfPadesSigner getPadesSigner() {
+            return padesSigner;
+        }
+
+        void setPadesSigner(PdfPadesSigner padesSigner) {
+            this.padesSigner = padesSigner;
+        }
+
+        CMSContainer getCmsContainer() {
+            return cmsContainer;
+        }
+
+        void setCmsContainer(CMSContainer cmsContainer) {
+            this.cmsContainer = cmsContainer;
+        }
+
+        Exception getException() {
+            return exception;
+        }
+
+        void setException(Exception exception) {
+            // The first exception is the cause of the document failure, the later ones are its consequences
+            if (this.exception == null) {
+                this.exception = exception;
+            }
+        }
+
+        void close() {
+            if (padesSigner != null) {
+                padesSigner.deleteTempFiles();
+            }
+            try {
+                reader.close();
+            } catch (IOException e) {
+                setException(e);
+            }
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                setException(e);
+            }
+        }
+    }
+
+    private static final class ReusableOcspClient implements IOcspClient {
+        private final IOcspClient ocspClient;
+        private final Map<String, byte[]> responses = new HashMap<>();
+
+        ReusableOcspClient(IOcspClient ocspClient) {
+            this.ocspClient = ocspClient;
+        }
+
+        @Override
+        public synchronized byte[] getEncoded(X509Certificate checkCert, X509Certificate issuerCert, String url) {
+            String key = createKey(checkCert, url);
+            if (!responses.containsKey(key)) {
+                responses.put(key, ocspClient.getEncoded(checkCert, issuerCert, url));
+            }
+            return responses.get(key);
+        }
+    }
+
+    private static final class ReusableCrlClient implements ICrlClient {
+        private final ICrlClient crlClient;
+        private final Map<String, Collection<byte[]>> responses = new HashMap<>();
+
+        ReusableCrlClient(ICrlClient crlClient) {
+            this.crlClient = crlClient;
+        }
+
+        @Override
+        public synchronized Collection<byte[]> getEncoded(X509Certificate checkCert, String url)
+                throws CertificateEncodingException {
+            String key = createKey(checkCert, url);
+            if (!responses.containsKey(key)) {
+                responses.put(key, crlClient.getEncoded(checkCert, url));
+            }
+            return responses.get(key);
+        }
+    }
+
+    private static final class SynchronizedIssuingCertificateRetriever implements IIssuingCertificateRetriever {
+        private final IIssuingCertificateRetriever retriever;
+
+        SynchronizedIssuingCertificateRetriever(IIssuingCertificateRetriever retriever) {
+            this.retriever = retriever;
+        }
+
+        @Override
+        public synchronized Certificate[] retrieveMissingCertificates(Certificate[] chain) {
+            return retriever.retrieveMissingCertificates(chain);
+        }
+
+        @Override
+        public synchronized Certificate[] getCrlIssuerCertificates(CRL crl) {
+            return retriever.getCrlIssuerCertificates(crl);
+        }
+
+        @Override
+        public synchronized Certificate[][] getCrlIssuerCertificatesByName(CRL crl) {
+            return retriever.getCrlIssuerCertificatesByName(crl);
+        }
+
+        @Override
+        public synchronized void setTrustedCertificates(Collection<Certificate> certificates) {
+            retriever.setTrustedCertificates(certificates);
+        }
+    }
+
+    private static String createKey(X509Certificate certificate, String url) {
+        return certificate.getIssuerX500Principal().getName() + "#" + certificate.getSerialNumber().toString(16)
+                + "#" + url;
+    }
+}
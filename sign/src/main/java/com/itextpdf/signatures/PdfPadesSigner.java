@@ -64,6 +64,7 @@ public class PdfPadesSigner {
     
     private IOcspClient ocspClient = null;
     private ICrlClient crlClient;
+    private RevocationDataCache revocationDataCache;
     private IIssuingCertificateRetriever issuingCertificateRetriever = new IssuingCertificateRetriever();
     private int estimatedSize = 0;
     private String timestampSignatureName;
@@ -382,6 +383,22 @@ public class PdfPadesSigner {
         return this;
     }
 
+    /**
+     * Set {@link RevocationDataCache} to be used by default OCSP and CRL clients.
+     * <p>
+     * This setter is only relevant if Baseline-LT Profile level or higher is used and no custom
+     * OCSP and CRL clients are set. The cache can be shared between several signers
+     * in order not to download the same revocation data for every signature.
+     *
+     * @param revocationDataCache {@link RevocationDataCache} instance to be used by default revocation clients
+     *
+     * @return same instance of {@link PdfPadesSigner}
+     */
+    public PdfPadesSigner setRevocationDataCache(RevocationDataCache revocationDataCache) {
+        this.revocationDataCache = revocationDataCache;
+        return this;
+    }
+
     /**
      * Set {@link IExternalDigest} to be used for main signing operation.
      * <p>
@@ -484,13 +501,21 @@ public class PdfPadesSigner {
             }
         }
         if (crlClient == null) {
-            crlClient = new CrlClientOnline();
+            crlClient = new CrlClientOnline().setRevocationDataCache(revocationDataCache);
         }
         if (ocspClient == null) {
-            ocspClient = new OcspClientBouncyCastle();
+            ocspClient = new OcspClientBouncyCastle().setRevocationDataCache(revocationDataCache);
         }
     }
 
+    IOcspClient getOcspClient() {
+        return ocspClient;
+    }
+
+    ICrlClient getCrlClient() {
+        return crlClient;
+    }
+
     private void performSignDetached(SignerProperties signerProperties, boolean isFinal,
             IExternalSignature externalSignature, Certificate[] chain, ITSAClient tsaClient)
             throws GeneralSecurityException, IOException {
@@ -660,8 +660,7 @@ public class PdfSigner {
         if (signaturePolicy != null) {
             sgn.setSignaturePolicy(signaturePolicy);
         }
-        InputStream data = getRangeStream();
-        byte[] hash = DigestAlgorithms.digest(data, SignUtils.getMessageDigest(hashAlgorithm, externalDigest));
+        byte[] hash = digestRange(SignUtils.getMessageDigest(hashAlgorithm, externalDigest));
         List<byte[]> ocspList = new ArrayList<>();
         if (chain.length > 1 && ocspClient != null) {
             for (int j = 0; j < chain.length - 1; ++j) {
@@ -790,14 +789,7 @@ public class PdfSigner {
         Map<PdfName, Integer> exc = new HashMap<>();
         exc.put(PdfName.Contents, contentEstimated * 2 + 2);
         preClose(exc);
-        InputStream data = getRangeStream();
-        MessageDigest messageDigest = tsa.getMessageDigest();
-        byte[] buf = new byte[4096];
-        int n;
-        while ((n = data.read(buf)) > 0) {
-            messageDigest.update(buf, 0, n);
-        }
-        byte[] tsImprint = messageDigest.digest();
+        byte[] tsImprint = digestRange(tsa.getMessageDigest());
         byte[] tsToken;
         try {
             tsToken = tsa.getTimeStampToken(tsImprint);
@@ -1167,6 +1159,20 @@ public class PdfSigner {
         return new RASInputStream(randomAccessSource);
     }
 
+    /**
+     * Digests the bytes that are hashable when using external signatures, reading them directly from
+     * the underlying source in large blocks.
+     *
+     * @param messageDigest {@link MessageDigest} to be used
+     *
+     * @return the digest of the bytes to be signed
+     *
+     * @throws IOException if some I/O problem occurs
+     */
+    byte[] digestRange(MessageDigest messageDigest) throws IOException {
+        return DigestAlgorithms.digest(getUnderlyingSource(), range, messageDigest)[0];
+    }
+
     /**
      * This is the last method to be called when using external signatures. The general sequence is:
      * preClose(), getDocumentBytes() and close().
@@ -1575,6 +1581,7 @@ public class PdfSigner {
         private final PdfReader reader;
         private final String fieldName;
         private final OutputStream outs;
+        private final File preparedDocument;
         private IRandomAccessSource readerSource;
         private long[] gaps;
 
@@ -1583,6 +1590,7 @@ public class PdfSigner {
             this.fieldName = fieldName;
             this.outs = outs;
             this.document = null;
+            this.preparedDocument = null;
         }
 
         public SignatureApplier(PdfDocument document, String fieldName, OutputStream outs) {
@@ -1590,15 +1598,37 @@ public class PdfSigner {
             this.fieldName = fieldName;
             this.outs = outs;
             this.reader = null;
+            this.preparedDocument = null;
+        }
+
+        /**
+         * Creates the applier which writes the signature directly into the reserved space of the prepared file,
+         * without copying the rest of the document.
+         */
+        public SignatureApplier(File preparedDocument, String fieldName) throws IOException {
+            this(new PdfReader(preparedDocument), preparedDocument, fieldName);
+        }
+
+        SignatureApplier(PdfReader reader, File preparedDocument, String fieldName) {
+            this.reader = reader;
+            this.fieldName = fieldName;
+            this.outs = null;
+            this.document = null;
+            this.preparedDocument = preparedDocument;
         }
 
         public void apply(ISignatureDataProvider signatureDataProvider) throws IOException, GeneralSecurityException {
+            if (preparedDocument != null && applyInReadingMode(signatureDataProvider)) {
+                return;
+            }
             StampingProperties properties = new StampingProperties().preserveEncryption();
             properties.registerDependency(IMacContainerLocator.class, new SignatureMacContainerLocator());
             // This IdleOutputStream writer does nothing and only required to be able to apply MAC if needed.
             try (PdfWriter dummyWriter = new PdfWriter(new IdleOutputStream())) {
                 if (document == null) {
-                    try (PdfDocument newDocument = new PdfDocument(reader, dummyWriter, properties)) {
+                    // The reader of the prepared file has already been used to check the encryption
+                    PdfReader stampingReader = preparedDocument == null ? reader : new PdfReader(preparedDocument);
+                    try (PdfDocument newDocument = new PdfDocument(stampingReader, dummyWriter, properties)) {
                         apply(newDocument, signatureDataProvider);
                     }
                 } else {
@@ -1615,6 +1645,25 @@ public class PdfSigner {
             }
         }
 
+        /**
+         * Writes the signature into the prepared file opened in reading mode, so that only the objects needed
+         * to find the signature are read and nothing is written except the signature itself. MAC can only be
+         * embedded into the signature when the document is opened in stamping mode, so encrypted documents,
+         * which may be protected with MAC, are not handled.
+         *
+         * @return true if the signature was applied, false if the document is to be opened in stamping mode
+         */
+        private boolean applyInReadingMode(ISignatureDataProvider signatureDataProvider)
+                throws IOException, GeneralSecurityException {
+            try (PdfDocument newDocument = new PdfDocument(reader)) {
+                if (reader.isEncrypted()) {
+                    return false;
+                }
+                apply(newDocument, signatureDataProvider);
+                return true;
+            }
+        }
+
         void apply(PdfDocument document, ISignatureDataProvider signatureDataProvider)
                 throws IOException, GeneralSecurityException {
             SignatureUtil signatureUtil = new SignatureUtil(document);
@@ -1653,7 +1702,6 @@ public class PdfSigner {
             if (spaceAvailable < signedContent.length) {
                 throw new PdfException(SignExceptionMessageConstant.AVAILABLE_SPACE_IS_NOT_ENOUGH_FOR_SIGNATURE);
             }
-            StreamUtil.copyBytes(readerSource, 0, gaps[1] + 1, outs);
             ByteBuffer bb = new ByteBuffer(spaceAvailable * 2);
             for (byte bi : signedContent) {
                 bb.appendHex(bi);
@@ -1663,9 +1711,19 @@ public class PdfSigner {
                 bb.append((byte) 48);
             }
             byte[] bbArr = bb.toByteArray();
-            outs.write(bbArr);
-            StreamUtil.copyBytes(readerSource, gaps[2] - 1, gaps[3] + 1, outs);
-            document.close();
+            if (preparedDocument == null) {
+                StreamUtil.copyBytes(readerSource, 0, gaps[1] + 1, outs);
+                outs.write(bbArr);
+                StreamUtil.copyBytes(readerSource, gaps[2] - 1, gaps[3] + 1, outs);
+                document.close();
+            } else {
+                // The file is not read anymore, only the reserved space between the '<' and '>' is overwritten.
+                document.close();
+                try (RandomAccessFile file = FileUtil.getRandomAccessFile(preparedDocument)) {
+                    file.seek(gaps[1] + 1);
+                    file.write(bbArr);
+                }
+            }
         }
 
         public InputStream getDataToSign() throws IOException {
@@ -22,7 +22,6 @@
  */
 package com.itextpdf.signatures;
 
-import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.mac.IMacContainerLocator;
 import com.itextpdf.kernel.pdf.PdfDeveloperExtension;
@@ -36,8 +35,8 @@ import com.itextpdf.kernel.pdf.StampingProperties;
 import com.itextpdf.signatures.cms.CMSContainer;
 import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
@@ -180,6 +179,50 @@ public class PdfTwoPhaseSigner {
         applier.apply(a -> signedContent);
     }
 
+    /**
+     * Adds an existing signature to a prepared PDF file, overwriting the reserved space in place.
+     *
+     * <p>
+     * Unlike {@link #addSignatureToPreparedDocument(PdfReader, String, OutputStream, CMSContainer)}, the document
+     * is not copied into a new file, only the signature placeholder is written, so the cost doesn't depend on
+     * the document size. The file is modified even if its original content is still needed, so make a copy first
+     * in such a case.
+     *
+     * @param preparedDocument the prepared PDF file, which is modified
+     * @param fieldName        the field to sign. It must be the last field
+     * @param cmsContainer     the finalized CMS container
+     *
+     * @throws IOException              if some I/O problem occurs.
+     * @throws GeneralSecurityException if some problem during apply security algorithms occurs.
+     */
+    public static void addSignatureToPreparedDocument(File preparedDocument, String fieldName,
+            CMSContainer cmsContainer) throws IOException, GeneralSecurityException {
+        PdfSigner.SignatureApplier applier = new PdfSigner.SignatureApplier(preparedDocument, fieldName);
+        applier.apply(a -> cmsContainer.serialize());
+    }
+
+    /**
+     * Adds an existing signature to a prepared PDF file, overwriting the reserved space in place.
+     *
+     * <p>
+     * Unlike {@link #addSignatureToPreparedDocument(PdfReader, String, OutputStream, byte[])}, the document
+     * is not copied into a new file, only the signature placeholder is written, so the cost doesn't depend on
+     * the document size. The file is modified even if its original content is still needed, so make a copy first
+     * in such a case.
+     *
+     * @param preparedDocument the prepared PDF file, which is modified
+     * @param fieldName        the field to sign. It must be the last field
+     * @param signedContent    the bytes for the signed data
+     *
+     * @throws IOException              if some I/O problem occurs.
+     * @throws GeneralSecurityException if some problem during apply security algorithms occurs.
+     */
+    public static void addSignatureToPreparedDocument(File preparedDocument, String fieldName,
+            byte[] signedContent) throws IOException, GeneralSecurityException {
+        PdfSigner.SignatureApplier applier = new PdfSigner.SignatureApplier(preparedDocument, fieldName);
+        applier.apply(a -> signedContent);
+    }
+
     /**
      * Use the external digest to inject specific digest implementations
      *
@@ -236,8 +279,7 @@ public class PdfTwoPhaseSigner {
         exc.put(PdfName.Contents, estimatedSize * 2 + 2);
         pdfSigner.preClose(exc);
 
-        InputStream data = pdfSigner.getRangeStream();
-        byte[] digest = DigestAlgorithms.digest(data, messageDigest);
+        byte[] digest = pdfSigner.digestRange(messageDigest);
         byte[] paddedSig = new byte[estimatedSize];
 
         if (document.getDiContainer().getInstance(IMacContainerLocator.class).isMacContainerLocated()) {
@@ -0,0 +1,300 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
+import com.itextpdf.commons.bouncycastle.cert.ocsp.ISingleResp;
+import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.signatures.logs.SignLogMessageConstant;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread-safe cache of revocation data, which can be shared between {@link CrlClientOnline} and
+ * {@link OcspClientBouncyCastle} instances in order not to download the same CRLs and OCSP responses
+ * over and over again.
+ *
+ * <p>
+ * CRLs are cached by their URL, OCSP responses are cached by issuer and serial number of the checked certificate.
+ * An entry is only returned between its thisUpdate and nextUpdate times. Revocation data without nextUpdate
+ * are not cached at all, since there is no way to tell for how long they stay fresh.
+ *
+ * <p>
+ * Optionally, the cache can be persisted to a local directory, so that the data survive application restarts
+ * and can be shared between processes.
+ */
+public class RevocationDataCache {
+
+    private static final IBouncyCastleFactory BOUNCY_CASTLE_FACTORY = BouncyCastleFactoryCreator.getFactory();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RevocationDataCache.class);
+
+    private static final String CRL_FILE_EXTENSION = ".crl";
+    private static final String OCSP_FILE_EXTENSION = ".ocsp";
+
+    private final Map<String, CacheEntry> crls = new ConcurrentHashMap<>();
+    private final Map<String, CacheEntry> ocspResponses = new ConcurrentHashMap<>();
+    private final String directory;
+
+    /**
+     * Creates new {@link RevocationDataCache} instance which keeps revocation data in memory only.
+     */
+    public RevocationDataCache() {
+        this(null);
+    }
+
+    /**
+     * Creates new {@link RevocationDataCache} instance which additionally persists revocation data
+     * to the specified directory.
+     *
+     * @param directory path to the directory to store revocation data in, or {@code null} to keep the data
+     *                  in memory only. The directory is created if it doesn't exist
+     */
+    public RevocationDataCache(String directory) {
+        this.directory = directory;
+        if (directory != null) {
+            FileUtil.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Gets cached CRL which was downloaded from the specified URL.
+     *
+     * @param url the URL the CRL was downloaded from
+     *
+     * @return DER-encoded CRL, or {@code null} if there is no fresh CRL for this URL in the cache
+     */
+    public byte[] getCrl(String url) {
+        return get(crls, url, CRL_FILE_EXTENSION, true);
+    }
+
+    /**
+     * Puts CRL downloaded from the specified URL into the cache.
+     *
+     * @param url the URL the CRL was downloaded from
+     * @param crl DER-encoded CRL
+     *
+     * @return {@code true} if the CRL was cached, {@code false} if it can't be parsed,
+     * has no nextUpdate or is already outdated
+     */
+    public boolean putCrl(String url, byte[] crl) {
+        return put(crls, url, CRL_FILE_EXTENSION, createCrlEntry(crl));
+    }
+
+    /**
+     * Gets cached OCSP response for the specified certificate.
+     *
+     * @param checkCert the certificate the OCSP response is requested for
+     *
+     * @return DER-encoded BasicOCSPResponse, or {@code null} if there is no fresh response in the cache
+     */
+    public byte[] getOcspResponse(X509Certificate checkCert) {
+        return get(ocspResponses, createOcspKey(checkCert), OCSP_FILE_EXTENSION, false);
+    }
+
+    /**
+     * Puts OCSP response for the specified certificate into the cache.
+     *
+     * @param checkCert         the certificate the OCSP response was requested for
+     * @param basicOcspResponse DER-encoded BasicOCSPResponse
+     *
+     * @return {@code true} if the response was cached, {@code false} if it can't be parsed,
+     * has no nextUpdate or is already outdated
+     */
+    public boolean putOcspResponse(X509Certificate checkCert, byte[] basicOcspResponse) {
+        return put(ocspResponses, createOcspKey(checkCert), OCSP_FILE_EXTENSION,
+                createOcspEntry(basicOcspResponse));
+    }
+
+    /**
+     * Gets the number of revocation data entries kept in memory.
+     *
+     * @return the number of cached CRLs and OCSP responses
+     */
+    public int size() {
+        return crls.size() + ocspResponses.size();
+    }
+
+    /**
+     * Removes all revocation data from the cache, including persisted data.
+     */
+    public void clear() {
+        crls.clear();
+        ocspResponses.clear();
+        if (directory != null) {
+            for (File file : FileUtil.listFilesInDirectoryByFilter(directory, file -> isCacheFile(file.getName()))) {
+                FileUtil.deleteFile(file);
+            }
+        }
+    }
+
+    private byte[] get(Map<String, CacheEntry> entries, String key, String extension, boolean isCrl) {
+        Date now = DateTimeUtil.getCurrentTimeDate();
+        CacheEntry entry = entries.get(key);
+        if (entry == null && directory != null) {
+            entry = readEntry(key, extension, isCrl);
+            if (entry != null) {
+                entries.put(key, entry);
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isFresh(now)) {
+            if (!now.before(entry.getNextUpdate())) {
+                entries.remove(key, entry);
+                if (directory != null) {
+                    FileUtil.deleteFile(getFile(key, extension));
+                }
+            }
+            return null;
+        }
+        return entry.getEncoded();
+    }
+
+    private boolean put(Map<String, CacheEntry> entries, String key, String extension, CacheEntry entry) {
+        if (entry == null || !DateTimeUtil.getCurrentTimeDate().before(entry.getNextUpdate())) {
+            return false;
+        }
+        entries.put(key, entry);
+        if (directory != null) {
+            writeEntry(key, extension, entry);
+        }
+        return true;
+    }
+
+    private CacheEntry readEntry(String key, String extension, boolean isCrl) {
+        File file = getFile(key, extension);
+        if (!file.exists()) {
+            return null;
+        }
+        try (InputStream in = FileUtil.getInputStreamForFile(file)) {
+            byte[] encoded = StreamUtil.inputStreamToArray(in);
+            return isCrl ? createCrlEntry(encoded) : createOcspEntry(encoded);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void writeEntry(String key, String extension, CacheEntry entry) {
+        File file = getFile(key, extension);
+        try (OutputStream out = FileUtil.getFileOutputStream(file)) {
+            out.write(entry.getEncoded());
+        } catch (Exception e) {
+            LOGGER.warn(MessageFormatUtil.format(SignLogMessageConstant.UNABLE_TO_PERSIST_REVOCATION_DATA,
+                    file.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    private File getFile(String key, String extension) {
+        String fileName = SignUtils.getSha256Hex(key.getBytes(StandardCharsets.UTF_8)) + extension;
+        return FileUtil.constructFileByDirectoryAndName(directory, fileName);
+    }
+
+    private static boolean isCacheFile(String fileName) {
+        return fileName.endsWith(CRL_FILE_EXTENSION) || fileName.endsWith(OCSP_FILE_EXTENSION);
+    }
+
+
+    private static String createOcspKey(X509Certificate checkCert) {
+        return checkCert.getIssuerX500Principal().getName() + "#" + checkCert.getSerialNumber().toString(16);
+    }
+
+    private static CacheEntry createCrlEntry(byte[] encoded) {
+        try {
+            X509CRL crl = (X509CRL) CertificateUtil.parseCrlFromBytes(encoded);
+            if (crl.getNextUpdate() == null) {
+                return null;
+            }
+            return new CacheEntry(encoded, crl.getThisUpdate(), crl.getNextUpdate());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static CacheEntry createOcspEntry(byte[] encoded) {
+        try {
+            IBasicOCSPResp basicResponse = BOUNCY_CASTLE_FACTORY.createBasicOCSPResp(
+                    BOUNCY_CASTLE_FACTORY.createBasicOCSPResponse(BOUNCY_CASTLE_FACTORY.createASN1Primitive(encoded)));
+            ISingleResp[] responses = basicResponse.getResponses();
+            if (responses.length == 0) {
+                return null;
+            }
+            Date thisUpdate = null;
+            Date nextUpdate = null;
+            for (ISingleResp response : responses) {
+                if (response.getNextUpdate() == null) {
+                    return null;
+                }
+                if (thisUpdate == null || thisUpdate.before(response.getThisUpdate())) {
+                    thisUpdate = response.getThisUpdate();
+                }
+                if (nextUpdate == null || nextUpdate.after(response.getNextUpdate())) {
+                    nextUpdate = response.getNextUpdate();
+                }
+            }
+            return new CacheEntry(encoded, thisUpdate, nextUpdate);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final byte[] encoded;
+        private final Date thisUpdate;
+        private final Date nextUpdate;
+
+        CacheEntry(byte[] encoded, Date thisUpdate, Date nextUpdate) {
+            this.encoded = encoded;
+            this.thisUpdate = thisUpdate;
+            this.nextUpdate = nextUpdate;
+        }
+
+        byte[] getEncoded() {
+            return encoded;
+        }
+
+        Date getNextUpdate() {
+            return nextUpdate;
+        }
+
+        boolean isFresh(Date now) {
+            return !now.before(thisUpdate) && now.before(nextUpdate);
+        }
+    }
+}
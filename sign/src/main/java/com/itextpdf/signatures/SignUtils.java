@@ -42,6 +42,7 @@ import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationExcept
 import com.itextpdf.commons.bouncycastle.tsp.AbstractTSPException;
 import com.itextpdf.commons.bouncycastle.tsp.ITimeStampToken;
 import com.itextpdf.commons.utils.Base64;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfEncryption;
 import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
@@ -130,6 +131,27 @@ final class SignUtils {
         return externalDigest.getMessageDigest(hashAlgorithm);
     }
 
+    /**
+     * Calculates the SHA-256 digest of the data as a lowercase hexadecimal string, to be used as a key
+     * identifying the data in the caches and indexes.
+     *
+     * @param data the data to digest
+     * @return the hexadecimal digest of the data
+     */
+    static String getSha256Hex(byte[] data) {
+        byte[] digest;
+        try {
+            digest = getMessageDigest(DigestAlgorithms.SHA256).digest(data);
+        } catch (GeneralSecurityException e) {
+            throw new PdfException(e);
+        }
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
     static InputStream getHttpResponse(URL urlt) throws IOException {
         HttpURLConnection con = (HttpURLConnection) urlt.openConnection();
         if (con.getResponseCode() / 100 != 2) {
@@ -30,7 +30,6 @@ import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.io.source.RASInputStream;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
-import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.source.WindowRandomAccessSource;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfArray;
@@ -193,26 +192,13 @@ public class SignatureUtil {
 
     /* Updates the /ByteRange with the provided value */
     private void updateByteRange(PdfPKCS7 pkcs7, PdfSignature signature) {
-        PdfArray b = signature.getByteRange();
-        RandomAccessFileOrArray rf = document.getReader().getSafeFile();
-        InputStream rg = null;
+        long[] byteRange = signature.getByteRange().toLongArray();
+        // the source view is based on a Safe view, so there is nothing to close afterwards
+        IRandomAccessSource source = document.getReader().getSafeFile().createSourceView();
         try {
-            rg = new RASInputStream(
-                    new RandomAccessSourceFactory().createRanged(rf.createSourceView(), b.toLongArray()));
-            byte[] buf = new byte[8192];
-            int rd;
-            while ((rd = rg.read(buf, 0, buf.length)) > 0) {
-                pkcs7.update(buf, 0, rd);
-            }
+            pkcs7.updateByteRange(source, byteRange);
         } catch (Exception e) {
             throw new PdfException(e);
-        } finally {
-            try {
-                if (rg != null) rg.close();
-            } catch (IOException e) {
-                // this really shouldn't ever happen - the source view we use is based on a Safe view, which is a no-op anyway
-                throw new PdfException(e);
-            }
         }
     }
 
@@ -32,6 +32,10 @@ public final class SignExceptionMessageConstant {
             + "the digest.";
     public static final String AVAILABLE_SPACE_IS_NOT_ENOUGH_FOR_SIGNATURE = "Available space is not enough for "
             + "signature.";
+    public static final String BATCH_SIGNATURE_COUNT_MISMATCH = "External batch signature returned {0} "
+            + "signatures for {1} documents.";
+    public static final String BATCH_SIGNING_INTERRUPTED = "Batch signing was interrupted while waiting for "
+            + "concurrent signing tasks.";
     public static final String TOKEN_ESTIMATION_SIZE_IS_NOT_LARGE_ENOUGH = "Timestamp token estimation size is not " 
             + "large enough to accommodate the entire timestamp token. Timestamp token estimation size is: {0} bytes, " 
             + "however real timestamp token size is: {1} bytes.";
@@ -94,6 +98,8 @@ public final class SignExceptionMessageConstant {
     public static final String UNKNOWN_HASH_ALGORITHM = "Unknown hash algorithm: {0}.";
     public static final String COULD_NOT_DETERMINE_SIGNATURE_MECHANISM_OID =
             "Could not determine OID for signature algorithm {0} with digest {1}.";
+    public static final String VALIDATION_INTERRUPTED = "Validation was interrupted while waiting for "
+            + "concurrent validation tasks.";
     public static final String VERIFICATION_ALREADY_OUTPUT = "Verification already output.";
 
     public static final String ALGO_REQUIRES_SPECIFIC_HASH =
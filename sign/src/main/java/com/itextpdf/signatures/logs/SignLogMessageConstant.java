@@ -32,6 +32,7 @@ public final class SignLogMessageConstant {
             + "access extension. Those won't be included into the certificate chain.";
     public static final String REVOCATION_DATA_NOT_ADDED_VALIDITY_ASSURED =
             "Revocation data for certificate: \"{0}\" is not added due to validity assured - short term extension.";
+    public static final String UNABLE_TO_PERSIST_REVOCATION_DATA = "Unable to persist revocation data to {0}: {1}";
     public static final String UNABLE_TO_PARSE_REV_INFO = "Unable to parse signed data revocation info item " +
             "since it is incorrect or unsupported (e.g. SCVP Request and Response).";
     public static final String VALID_CERTIFICATE_IS_REVOKED = "The certificate was valid on the verification date, " +
@@ -31,7 +31,9 @@ import com.itextpdf.commons.bouncycastle.asn1.x509.IIssuingDistributionPoint;
 import com.itextpdf.commons.bouncycastle.asn1.x509.IReasonFlags;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.commons.utils.SystemUtil;
 import com.itextpdf.signatures.CertificateUtil;
+import com.itextpdf.signatures.CrlIndex;
 import com.itextpdf.signatures.IssuingCertificateRetriever;
 import com.itextpdf.signatures.TimestampConstants;
 import com.itextpdf.signatures.logs.SignLogMessageConstant;
@@ -42,11 +44,13 @@ import com.itextpdf.signatures.validation.extensions.DynamicBasicConstraintsExte
 import com.itextpdf.signatures.validation.report.CertificateReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 
 import java.io.IOException;
 import java.security.cert.Certificate;
+import java.security.cert.CRLException;
 import java.security.cert.CRLReason;
 import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
@@ -125,6 +129,19 @@ public class CRLValidator {
      */
     public void validate(ValidationReport report, ValidationContext context, X509Certificate certificate, X509CRL crl,
             Date validationDate, Date responseGenerationDate) {
+        long start = SystemUtil.getRelativeTimeMillis();
+        try {
+            validateCrl(report, context, certificate, crl, validationDate, responseGenerationDate);
+        } finally {
+            ValidationMetrics metrics = builder.getValidationMetrics();
+            if (metrics != null) {
+                metrics.recordDuration(ValidationMetrics.CRL_VALIDATION, SystemUtil.getRelativeTimeMillis() - start);
+            }
+        }
+    }
+
+    private void validateCrl(ValidationReport report, ValidationContext context, X509Certificate certificate,
+            X509CRL crl, Date validationDate, Date responseGenerationDate) {
         ValidationContext localContext = context.setValidatorContext(ValidatorContext.CRL_VALIDATOR);
 
         if (CertificateUtil.isSelfSigned(certificate)) {
@@ -190,11 +207,13 @@ public class CRLValidator {
             interimReasonsMask |= (int) reasonsMask;
         }
 
+        CrlIndex crlIndex = getCrlIndex(crl);
+
         // Verify the CRL issuer.
-        verifyCrlIntegrity(report, localContext, certificate, crl, responseGenerationDate);
+        verifyCrlIntegrity(report, localContext, certificate, crlIndex, responseGenerationDate);
 
         // Check the status of the certificate.
-        verifyRevocation(report, certificate, validationDate, crl);
+        verifyRevocation(report, certificate, validationDate, crlIndex);
 
         if (report.getValidationResult() == ValidationReport.ValidationResult.VALID) {
             checkedReasonsMask.put(certificate, interimReasonsMask);
@@ -208,9 +227,18 @@ public class CRLValidator {
         }
     }
 
+    private CrlIndex getCrlIndex(X509CRL crl) {
+        try {
+            return builder.getCrlCache().getCrlIndex(crl);
+        } catch (CRLException e) {
+            // CRL which cannot be encoded is still indexed, but not cached.
+            return new CrlIndex(crl);
+        }
+    }
+
     private static void verifyRevocation(ValidationReport report, X509Certificate certificate,
-            Date verificationDate, X509CRL crl) {
-        X509CRLEntry revocation = crl.getRevokedCertificate(certificate.getSerialNumber());
+            Date verificationDate, CrlIndex crlIndex) {
+        X509CRLEntry revocation = crlIndex.getRevokedCertificate(certificate.getSerialNumber());
         if (revocation != null) {
             Date revocationDate = revocation.getRevocationDate();
             if (verificationDate.before(revocationDate)) {
@@ -223,7 +251,7 @@ public class CRLValidator {
                         ReportItemStatus.INFO));
             } else {
                 report.addReportItem(new CertificateReportItem(certificate, CRL_CHECK, MessageFormatUtil.format(
-                        CERTIFICATE_REVOKED, crl.getIssuerX500Principal(), revocation.getRevocationDate()),
+                        CERTIFICATE_REVOKED, crlIndex.getCrl().getIssuerX500Principal(), revocation.getRevocationDate()),
                         ReportItemStatus.INVALID));
             }
         }
@@ -279,10 +307,10 @@ public class CRLValidator {
     }
 
     private void verifyCrlIntegrity(ValidationReport report, ValidationContext context, X509Certificate certificate,
-            X509CRL crl, Date responseGenerationDate) {
+            CrlIndex crlIndex, Date responseGenerationDate) {
         Certificate[][] certificateSets = null;
         try {
-            certificateSets = certificateRetriever.getCrlIssuerCertificatesByName(crl);
+            certificateSets = certificateRetriever.getCrlIssuerCertificatesByName(crlIndex.getCrl());
         } catch (RuntimeException e) {
             report.addReportItem(new CertificateReportItem(certificate, CRL_CHECK, CRL_ISSUER_REQUEST_FAILED, e,
                     ReportItemStatus.INDETERMINATE));
@@ -312,7 +340,7 @@ public class CRLValidator {
                         CRL_CHECK, CRL_ISSUER_NO_COMMON_ROOT, ReportItemStatus.INDETERMINATE));
                 continue;
             }
-            onExceptionLog(() -> crl.verify(crlIssuer.getPublicKey()), candidateReport,
+            onExceptionLog(() -> crlIndex.verify(crlIssuer.getPublicKey()), candidateReport,
                     e -> new CertificateReportItem(certificate, CRL_CHECK, CRL_INVALID, e,
                             ReportItemStatus.INDETERMINATE));
             ValidationReport responderReport = new ValidationReport();
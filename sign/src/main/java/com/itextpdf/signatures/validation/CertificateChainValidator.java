@@ -23,6 +23,7 @@
 package com.itextpdf.signatures.validation;
 
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.commons.utils.SystemUtil;
 import com.itextpdf.signatures.IssuingCertificateRetriever;
 import com.itextpdf.signatures.validation.context.CertificateSource;
 import com.itextpdf.signatures.validation.context.ValidationContext;
@@ -30,6 +31,7 @@ import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.extensions.CertificateExtension;
 import com.itextpdf.signatures.validation.extensions.DynamicCertificateExtension;
 import com.itextpdf.signatures.validation.report.CertificateReportItem;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
@@ -78,6 +80,7 @@ public class CertificateChainValidator {
     private final SignatureValidationProperties properties;
     private final IssuingCertificateRetriever certificateRetriever;
     private final RevocationDataValidator revocationDataValidator;
+    private final ValidationMetrics metrics;
 
     /**
      * Create new instance of {@link CertificateChainValidator}.
@@ -88,6 +91,7 @@ public class CertificateChainValidator {
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
         this.revocationDataValidator = builder.getRevocationDataValidator();
+        this.metrics = builder.getValidationMetrics();
     }
 
     /**
@@ -120,7 +124,12 @@ public class CertificateChainValidator {
      */
     public ValidationReport validate(ValidationReport result, ValidationContext context, X509Certificate certificate,
             Date validationDate) {
-        return validate(result, context, certificate, validationDate, 0);
+        long start = SystemUtil.getRelativeTimeMillis();
+        try {
+            return validate(result, context, certificate, validationDate, 0);
+        } finally {
+            recordDuration(ValidationMetrics.CERTIFICATE_CHAIN_VALIDATION, start);
+        }
     }
 
     private ValidationReport validate(ValidationReport result, ValidationContext context, X509Certificate certificate,
@@ -214,6 +223,12 @@ public class CertificateChainValidator {
         return false;
     }
 
+    private void recordDuration(String name, long start) {
+        if (metrics != null) {
+            metrics.recordDuration(name, SystemUtil.getRelativeTimeMillis() - start);
+        }
+    }
+
     private boolean stopValidation(ValidationReport result, ValidationContext context) {
         return !properties.getContinueAfterFailure(context)
                 && result.getValidationResult() == ValidationReport.ValidationResult.INVALID;
@@ -263,12 +278,15 @@ public class CertificateChainValidator {
     private void validateChain(ValidationReport result, ValidationContext context, X509Certificate certificate,
             Date validationDate, int certificateChainSize) {
         List<X509Certificate> issuerCertificates;
+        long retrievalStart = SystemUtil.getRelativeTimeMillis();
         try {
             issuerCertificates = certificateRetriever.retrieveIssuerCertificate(certificate);
         } catch (RuntimeException e) {
             result.addReportItem(new CertificateReportItem(certificate, CERTIFICATE_CHECK,
                     ISSUER_RETRIEVAL_FAILED, e, ReportItemStatus.INDETERMINATE));
             return;
+        } finally {
+            recordDuration(ValidationMetrics.ISSUER_RETRIEVAL, retrievalStart);
         }
         if (issuerCertificates.isEmpty()) {
             result.addReportItem(new CertificateReportItem(certificate, CERTIFICATE_CHECK, MessageFormatUtil.format(
@@ -278,6 +296,7 @@ public class CertificateChainValidator {
         ValidationReport[] candidateReports = new ValidationReport[issuerCertificates.size()];
         for (int i = 0; i < issuerCertificates.size(); i++) {
             candidateReports[i] = new ValidationReport();
+            long verificationStart = SystemUtil.getRelativeTimeMillis();
             try {
                 certificate.verify(issuerCertificates.get(i).getPublicKey());
             } catch (GeneralSecurityException e) {
@@ -292,6 +311,8 @@ public class CertificateChainValidator {
                                 issuerCertificates.get(i).getSubjectX500Principal(),
                                 certificate.getSubjectX500Principal()), e, ReportItemStatus.INVALID));
                 continue;
+            } finally {
+                recordDuration(ValidationMetrics.CERTIFICATE_SIGNATURE_VERIFICATION, verificationStart);
             }
             this.validate(candidateReports[i], context.setCertificateSource(CertificateSource.CERT_ISSUER),
                     issuerCertificates.get(i), validationDate, certificateChainSize + 1);
@@ -25,14 +25,11 @@ package com.itextpdf.signatures.validation;
 import com.itextpdf.commons.actions.contexts.IMetaInfo;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.commons.utils.Pair;
+import com.itextpdf.commons.utils.SystemUtil;
 import com.itextpdf.forms.PdfAcroForm;
 import com.itextpdf.forms.fields.PdfFormAnnotationUtil;
 import com.itextpdf.forms.fields.PdfFormCreator;
 import com.itextpdf.forms.fields.PdfFormField;
-import com.itextpdf.io.source.RASInputStream;
-import com.itextpdf.io.source.RandomAccessFileOrArray;
-import com.itextpdf.io.source.WindowRandomAccessSource;
-import com.itextpdf.kernel.pdf.DocumentProperties;
 import com.itextpdf.kernel.pdf.DocumentRevision;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
@@ -41,8 +38,6 @@ import com.itextpdf.kernel.pdf.PdfIndirectReference;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfNumber;
 import com.itextpdf.kernel.pdf.PdfObject;
-import com.itextpdf.kernel.pdf.PdfReader;
-import com.itextpdf.kernel.pdf.PdfReader.StrictnessLevel;
 import com.itextpdf.kernel.pdf.PdfRevisionsReader;
 import com.itextpdf.kernel.pdf.PdfStream;
 import com.itextpdf.kernel.pdf.PdfString;
@@ -53,11 +48,11 @@ import com.itextpdf.signatures.validation.context.ValidationContext;
 import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.report.ReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -150,6 +145,7 @@ public class DocumentRevisionsValidator {
 
     private final Set<String> lockedFields = new HashSet<>();
     private final SignatureValidationProperties properties;
+    private final ValidationMetrics metrics;
     private IMetaInfo metaInfo = new ValidationMetaInfo();
     private AccessPermissions accessPermissions = AccessPermissions.ANNOTATION_MODIFICATION;
     private AccessPermissions requestedAccessPermissions = AccessPermissions.UNSPECIFIED;
@@ -159,6 +155,7 @@ public class DocumentRevisionsValidator {
     private Set<PdfDictionary> removedTaggedObjects;
     private Set<PdfDictionary> addedTaggedObjects;
     private Pair<Set<PdfIndirectReference>, Set<PdfIndirectReference>> usuallyModifiedObjects;
+    private RevisionDocuments revisionDocuments;
 
     /**
      * Creates new instance of {@link DocumentRevisionsValidator}.
@@ -167,6 +164,7 @@ public class DocumentRevisionsValidator {
      */
     protected DocumentRevisionsValidator(ValidatorChainBuilder chainBuilder) {
         this.properties = chainBuilder.getProperties();
+        this.metrics = chainBuilder.getValidationMetrics();
     }
 
     /**
@@ -231,9 +229,26 @@ public class DocumentRevisionsValidator {
      */
     ValidationReport validateAllDocumentRevisions(ValidationContext context, PdfDocument document,
                                                   String signatureName) {
+        // Revisions are walked from the oldest to the newest one and each of them is needed in several checks,
+        // so two latest revision documents are kept opened instead of parsing revisions over and over again.
+        revisionDocuments = new RevisionDocuments(document, metaInfo, 2);
+        long start = SystemUtil.getRelativeTimeMillis();
+        try {
+            return validateAllDocumentRevisions(context, document, signatureName, new ValidationReport());
+        } finally {
+            revisionDocuments.close();
+            revisionDocuments = null;
+            if (metrics != null) {
+                metrics.recordDuration(ValidationMetrics.DOCUMENT_REVISIONS_VALIDATION,
+                        SystemUtil.getRelativeTimeMillis() - start);
+            }
+        }
+    }
+
+    private ValidationReport validateAllDocumentRevisions(ValidationContext context, PdfDocument document,
+            String signatureName, ValidationReport report) {
         resetClassFields();
         ValidationContext localContext = context.setValidatorContext(ValidatorContext.DOCUMENT_REVISIONS_VALIDATOR);
-        ValidationReport report = new ValidationReport();
         PdfRevisionsReader revisionsReader = new PdfRevisionsReader(document.getReader());
         revisionsReader.setEventCountingMetaInfo(metaInfo);
         List<DocumentRevision> documentRevisions;
@@ -395,13 +410,6 @@ public class DocumentRevisionsValidator {
                 requestedAccessPermissions;
     }
 
-    private static InputStream createInputStreamFromRevision(PdfDocument originalDocument, DocumentRevision revision) {
-        RandomAccessFileOrArray raf = originalDocument.getReader().getSafeFile();
-        WindowRandomAccessSource source = new WindowRandomAccessSource(
-                raf.createSourceView(), 0, revision.getEofOffset());
-        return new RASInputStream(source);
-    }
-
     private static boolean isLinearizedPdf(PdfDocument originalDocument) {
         for (int i = 0; i < originalDocument.getNumberOfPdfObjects(); ++i) {
             PdfObject object = originalDocument.getPdfObject(i);
@@ -574,12 +582,17 @@ public class DocumentRevisionsValidator {
 
     private boolean createDocumentAndPerformOperation(DocumentRevision revision, PdfDocument originalDocument,
             ValidationReport report, Function<PdfDocument, Boolean> operation) {
-        try (InputStream inputStream = createInputStreamFromRevision(originalDocument, revision);
-                PdfReader reader = new PdfReader(inputStream, originalDocument.getReader().getPropertiesCopy())
-                        .setStrictnessLevel(StrictnessLevel.CONSERVATIVE);
-                PdfDocument documentWithRevision = new PdfDocument(reader,
-                        new DocumentProperties().setEventCountingMetaInfo(metaInfo))) {
-            return (boolean) operation.apply(documentWithRevision);
+        if (revisionDocuments == null) {
+            try (PdfDocument documentWithRevision = RevisionDocuments.open(originalDocument, revision, metaInfo)) {
+                return (boolean) operation.apply(documentWithRevision);
+            } catch (IOException | RuntimeException exception) {
+                report.addReportItem(new ReportItem(DOC_MDP_CHECK, REVISIONS_READING_EXCEPTION, exception,
+                        ReportItemStatus.INDETERMINATE));
+                return false;
+            }
+        }
+        try {
+            return (boolean) operation.apply(revisionDocuments.getDocument(revision));
         } catch (IOException | RuntimeException exception) {
             report.addReportItem(new ReportItem(DOC_MDP_CHECK, REVISIONS_READING_EXCEPTION, exception,
                     ReportItemStatus.INDETERMINATE));
@@ -31,6 +31,7 @@ import com.itextpdf.commons.bouncycastle.cert.ocsp.IRevokedStatus;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.ISingleResp;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.commons.utils.SystemUtil;
 import com.itextpdf.signatures.CertificateUtil;
 import com.itextpdf.signatures.IssuingCertificateRetriever;
 import com.itextpdf.signatures.TimestampConstants;
@@ -41,6 +42,7 @@ import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.report.CertificateReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 
@@ -119,6 +121,20 @@ public class OCSPValidator {
      */
     public void validate(ValidationReport report, ValidationContext context, X509Certificate certificate,
             ISingleResp singleResp, IBasicOCSPResp ocspResp, Date validationDate, Date responseGenerationDate) {
+        long start = SystemUtil.getRelativeTimeMillis();
+        try {
+            validateResponse(report, context, certificate, singleResp, ocspResp, validationDate,
+                    responseGenerationDate);
+        } finally {
+            ValidationMetrics metrics = builder.getValidationMetrics();
+            if (metrics != null) {
+                metrics.recordDuration(ValidationMetrics.OCSP_VALIDATION, SystemUtil.getRelativeTimeMillis() - start);
+            }
+        }
+    }
+
+    private void validateResponse(ValidationReport report, ValidationContext context, X509Certificate certificate,
+            ISingleResp singleResp, IBasicOCSPResp ocspResp, Date validationDate, Date responseGenerationDate) {
         ValidationContext localContext = context.setValidatorContext(ValidatorContext.OCSP_VALIDATOR);
         if (CertificateUtil.isSelfSigned(certificate)) {
             report.addReportItem(
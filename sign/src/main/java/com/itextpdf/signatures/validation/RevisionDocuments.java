@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation;
+
+import com.itextpdf.commons.actions.contexts.IMetaInfo;
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.io.source.WindowRandomAccessSource;
+import com.itextpdf.kernel.pdf.DocumentProperties;
+import com.itextpdf.kernel.pdf.DocumentRevision;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfReader.StrictnessLevel;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a small window of opened revision documents of the same original document, so that each revision
+ * is only parsed once while revisions are walked from the oldest to the newest one.
+ *
+ * <p>
+ * Revisions are identified by their EOF offset, which is also the length of the revision in the original
+ * document. The least recently used document is closed when the window is full.
+ */
+final class RevisionDocuments {
+    private final PdfDocument originalDocument;
+    private final IMetaInfo metaInfo;
+    private final int capacity;
+    private final LinkedHashMap<Long, PdfDocument> documents = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates new {@link RevisionDocuments} instance.
+     *
+     * @param originalDocument the document which revisions are opened
+     * @param metaInfo         {@link IMetaInfo} to use for opened documents
+     * @param capacity         the maximum number of simultaneously opened revision documents
+     */
+    RevisionDocuments(PdfDocument originalDocument, IMetaInfo metaInfo, int capacity) {
+        this.originalDocument = originalDocument;
+        this.metaInfo = metaInfo;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the document for the given revision, opening it if it isn't opened yet.
+     * The returned document is closed by this class and shall not be closed by the caller.
+     *
+     * @param revision {@link DocumentRevision} to get the document for
+     *
+     * @return {@link PdfDocument} which contains the revision and all the previous ones
+     *
+     * @throws IOException if the revision cannot be read
+     */
+    PdfDocument getDocument(DocumentRevision revision) throws IOException {
+        Long key = revision.getEofOffset();
+        PdfDocument document = documents.get(key);
+        if (document == null) {
+            document = open(originalDocument, revision, metaInfo);
+            documents.put(key, document);
+            closeLeastRecentlyUsed();
+        }
+        return document;
+    }
+
+    /**
+     * Closes all the opened revision documents.
+     */
+    void close() {
+        List<PdfDocument> toClose = new ArrayList<>(documents.values());
+        documents.clear();
+        for (PdfDocument document : toClose) {
+            document.close();
+        }
+    }
+
+    /**
+     * Opens the document which contains the given revision and all the previous ones.
+     *
+     * @param originalDocument the document which revision is opened
+     * @param revision         {@link DocumentRevision} to open
+     * @param metaInfo         {@link IMetaInfo} to use for the opened document
+     *
+     * @return new {@link PdfDocument}, which shall be closed by the caller
+     *
+     * @throws IOException if the revision cannot be read
+     */
+    static PdfDocument open(PdfDocument originalDocument, DocumentRevision revision, IMetaInfo metaInfo)
+            throws IOException {
+        RandomAccessFileOrArray raf = originalDocument.getReader().getSafeFile();
+        WindowRandomAccessSource source = new WindowRandomAccessSource(
+                raf.createSourceView(), 0, revision.getEofOffset());
+        PdfReader reader = new PdfReader(new RASInputStream(source), originalDocument.getReader().getPropertiesCopy())
+                .setStrictnessLevel(StrictnessLevel.CONSERVATIVE);
+        try {
+            return new PdfDocument(reader, new DocumentProperties().setEventCountingMetaInfo(metaInfo));
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private void closeLeastRecentlyUsed() {
+        Iterator<Map.Entry<Long, PdfDocument>> iterator = documents.entrySet().iterator();
+        while (documents.size() > capacity && iterator.hasNext()) {
+            PdfDocument document = iterator.next().getValue();
+            iterator.remove();
+            document.close();
+        }
+    }
+}
@@ -28,8 +28,10 @@ import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.ISingleResp;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.commons.utils.SystemUtil;
 import com.itextpdf.kernel.crypto.OID;
 import com.itextpdf.signatures.CertificateUtil;
+import com.itextpdf.signatures.CrlCache;
 import com.itextpdf.signatures.CrlClientOnline;
 import com.itextpdf.signatures.ICrlClient;
 import com.itextpdf.signatures.IOcspClient;
@@ -42,6 +44,7 @@ import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.report.CertificateReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 
 import java.io.IOException;
@@ -185,12 +188,23 @@ public class RevocationDataValidator {
             }
         }
 
-        // Collect revocation data.
-        List<OcspResponseValidationInfo> ocspResponses = retrieveAllOCSPResponses(report, localContext, certificate);
-        ocspResponses = ocspResponses.stream().sorted((o1, o2) -> o2.singleResp.getThisUpdate().compareTo(
-                o1.singleResp.getThisUpdate())).collect(Collectors.toList());
-
-        List<CrlValidationInfo> crlResponses = retrieveAllCRLResponses(report, localContext, certificate);
+        // Collect revocation data. OCSP responses and CRLs are retrieved independently, so it can be done
+        // concurrently, the retrieval logs are merged in the same order as for sequential retrieval.
+        List<OcspResponseValidationInfo> allOcspResponses = new ArrayList<>();
+        List<CrlValidationInfo> crlResponses = new ArrayList<>();
+        ValidationReport ocspRetrievalReport = new ValidationReport();
+        ValidationReport crlRetrievalReport = new ValidationReport();
+        try {
+            ValidationTasks.runAll(builder.getExecutorService(),
+                    () -> allOcspResponses.addAll(retrieveAllOCSPResponses(ocspRetrievalReport, localContext,
+                            certificate)),
+                    () -> crlResponses.addAll(retrieveAllCRLResponses(crlRetrievalReport, localContext,
+                            certificate)));
+        } finally {
+            report.merge(ocspRetrievalReport).merge(crlRetrievalReport);
+        }
+        List<OcspResponseValidationInfo> ocspResponses = allOcspResponses.stream().sorted((o1, o2) ->
+                o2.singleResp.getThisUpdate().compareTo(o1.singleResp.getThisUpdate())).collect(Collectors.toList());
 
         // Try to check responderCert for revocation using provided responder OCSP/CRL clients or
         // Authority Information Access for OCSP responses and CRL Distribution Points for CRL responses
@@ -237,19 +251,34 @@ public class RevocationDataValidator {
 
     private static List<CrlValidationInfo> retrieveAllCRLResponsesUsingClient(ValidationReport report,
                                                                               X509Certificate certificate,
-                                                                              ICrlClient crlClient) {
+                                                                              ICrlClient crlClient,
+                                                                              CrlCache crlCache,
+                                                                              ValidationMetrics onlineMetrics) {
         List<CrlValidationInfo> crlResponses = new ArrayList<>();
         if (crlClient instanceof ValidationCrlClient) {
             ValidationCrlClient validationCrlClient = (ValidationCrlClient) crlClient;
             crlResponses.addAll(validationCrlClient.getCrls().values());
         } else {
+            long start = SystemUtil.getRelativeTimeMillis();
             Collection<byte[]> crlBytesCollection = onExceptionLog(() ->
                     crlClient.getEncoded(certificate, null), Collections.<byte[]>emptyList(), report, e ->
                     new CertificateReportItem(certificate, REVOCATION_DATA_CHECK,
                             MessageFormatUtil.format(CRL_CLIENT_FAILURE, crlClient), e, ReportItemStatus.INFO));
+            if (onlineMetrics != null) {
+                onlineMetrics.recordDuration(ValidationMetrics.ONLINE_CRL_RETRIEVAL,
+                        SystemUtil.getRelativeTimeMillis() - start);
+                if (crlBytesCollection != null) {
+                    long crlBytesCount = 0;
+                    for (byte[] crlBytes : crlBytesCollection) {
+                        crlBytesCount += crlBytes.length;
+                    }
+                    onlineMetrics.addToCounter(ValidationMetrics.ONLINE_CRLS, crlBytesCollection.size());
+                    onlineMetrics.addToCounter(ValidationMetrics.ONLINE_CRL_BYTES, crlBytesCount);
+                }
+            }
             for (byte[] crlBytes : crlBytesCollection) {
                 onExceptionLog(() ->
-                        crlResponses.add(new CrlValidationInfo((X509CRL) CertificateUtil.parseCrlFromBytes(crlBytes),
+                        crlResponses.add(new CrlValidationInfo(crlCache.getCrlIndex(crlBytes).getCrl(),
                                 DateTimeUtil.getCurrentTimeDate(), TimeBasedContext.PRESENT)), report, e ->
                         new CertificateReportItem(certificate, REVOCATION_DATA_CHECK,
                                 MessageFormatUtil.format(CANNOT_PARSE_CRL, crlClient), e, ReportItemStatus.INFO));
@@ -354,8 +383,7 @@ public class RevocationDataValidator {
         if (SignatureValidationProperties.OnlineFetching.ALWAYS_FETCH == onlineFetching) {
             for (X509Certificate issuerCert : issuerCerts) {
                 onRuntimeExceptionLog(() -> {
-                    IBasicOCSPResp basicOCSPResp = builder.getOcspClient().getBasicOCSPResp(certificate,
-                            issuerCert, null);
+                    IBasicOCSPResp basicOCSPResp = retrieveOcspResponseOnline(certificate, issuerCert);
                     fillOcspResponses(ocspResponses, basicOCSPResp, DateTimeUtil.getCurrentTimeDate(),
                             TimeBasedContext.PRESENT);
                 }, report, e -> new CertificateReportItem(certificate, REVOCATION_DATA_CHECK,
@@ -370,37 +398,81 @@ public class RevocationDataValidator {
             X509Certificate certificate) {
         List<CrlValidationInfo> crlResponses = new ArrayList<>();
         for (ICrlClient crlClient : crlClients) {
-            crlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, crlClient));
+            crlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, crlClient,
+                    builder.getCrlCache(), null));
         }
         SignatureValidationProperties.OnlineFetching onlineFetching = properties.getRevocationOnlineFetching(
                 context.setValidatorContext(ValidatorContext.CRL_VALIDATOR));
         if (SignatureValidationProperties.OnlineFetching.ALWAYS_FETCH == onlineFetching) {
-            crlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, builder.getCrlClient()));
+            crlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, builder.getCrlClient(),
+                    builder.getCrlCache(), builder.getValidationMetrics()));
         }
         // Sort all the CRL responses available based on the most recent revocation data.
         return crlResponses.stream().sorted((o1, o2) -> o2.crl.getThisUpdate().compareTo(o1.crl.getThisUpdate()))
                 .collect(Collectors.toList());
     }
 
+    private IBasicOCSPResp retrieveOcspResponseOnline(X509Certificate certificate, X509Certificate issuerCert) {
+        ValidationMetrics metrics = builder.getValidationMetrics();
+        long start = SystemUtil.getRelativeTimeMillis();
+        IBasicOCSPResp basicOCSPResp = null;
+        try {
+            basicOCSPResp = builder.getOcspClient().getBasicOCSPResp(certificate, issuerCert, null);
+        } finally {
+            if (metrics != null) {
+                metrics.recordDuration(ValidationMetrics.ONLINE_OCSP_RETRIEVAL,
+                        SystemUtil.getRelativeTimeMillis() - start);
+            }
+        }
+        if (metrics != null && basicOCSPResp != null) {
+            metrics.addToCounter(ValidationMetrics.ONLINE_OCSP_RESPONSES, 1);
+            try {
+                metrics.addToCounter(ValidationMetrics.ONLINE_OCSP_BYTES, basicOCSPResp.getEncoded().length);
+            } catch (IOException e) {
+                // The size of the response, which cannot be encoded, is not counted.
+            }
+        }
+        return basicOCSPResp;
+    }
+
     private void tryToFetchRevInfoOnline(ValidationReport report, ValidationContext context,
                                          X509Certificate certificate,
                                          List<CrlValidationInfo> onlineCrlResponses,
                                          List<OcspResponseValidationInfo> onlineOcspResponses) {
+        // Online CRL and OCSP requests are independent and can be sent concurrently.
+        ValidationReport crlRetrievalReport = new ValidationReport();
+        ValidationReport ocspRetrievalReport = new ValidationReport();
+        try {
+            ValidationTasks.runAll(builder.getExecutorService(),
+                    () -> fetchCrlResponsesOnline(crlRetrievalReport, context, certificate, onlineCrlResponses),
+                    () -> fetchOcspResponsesOnline(ocspRetrievalReport, context, certificate, onlineOcspResponses));
+        } finally {
+            report.merge(crlRetrievalReport).merge(ocspRetrievalReport);
+        }
+    }
+
+    private void fetchCrlResponsesOnline(ValidationReport report, ValidationContext context,
+                                         X509Certificate certificate, List<CrlValidationInfo> onlineCrlResponses) {
         SignatureValidationProperties.OnlineFetching crlOnlineFetching = properties.getRevocationOnlineFetching(
                 context.setValidatorContext(ValidatorContext.CRL_VALIDATOR));
         if (SignatureValidationProperties.OnlineFetching.FETCH_IF_NO_OTHER_DATA_AVAILABLE == crlOnlineFetching) {
             // Sort all the CRL responses available based on the most recent revocation data.
-            onlineCrlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, builder.getCrlClient())
+            onlineCrlResponses.addAll(retrieveAllCRLResponsesUsingClient(report, certificate, builder.getCrlClient(),
+                    builder.getCrlCache(), builder.getValidationMetrics())
                     .stream().sorted((o1, o2) ->
                             o2.crl.getThisUpdate().compareTo(o1.crl.getThisUpdate())).collect(Collectors.toList()));
         }
+    }
+
+    private void fetchOcspResponsesOnline(ValidationReport report, ValidationContext context,
+                                          X509Certificate certificate,
+                                          List<OcspResponseValidationInfo> onlineOcspResponses) {
         SignatureValidationProperties.OnlineFetching ocspOnlineFetching = properties.getRevocationOnlineFetching(
                 context.setValidatorContext(ValidatorContext.OCSP_VALIDATOR));
         if (SignatureValidationProperties.OnlineFetching.FETCH_IF_NO_OTHER_DATA_AVAILABLE == ocspOnlineFetching) {
             for (X509Certificate issuerCert : certificateRetriever.retrieveIssuerCertificate(certificate)) {
                 onRuntimeExceptionLog(() -> {
-                    IBasicOCSPResp basicOCSPResp = builder.getOcspClient().getBasicOCSPResp(certificate,
-                            issuerCert, null);
+                    IBasicOCSPResp basicOCSPResp = retrieveOcspResponseOnline(certificate, issuerCert);
                     List<OcspResponseValidationInfo> ocspResponses = new ArrayList<>();
                     fillOcspResponses(ocspResponses, basicOCSPResp, DateTimeUtil.getCurrentTimeDate(),
                             TimeBasedContext.PRESENT);
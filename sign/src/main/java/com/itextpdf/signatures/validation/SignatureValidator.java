@@ -30,6 +30,8 @@ import com.itextpdf.commons.bouncycastle.asn1.tsp.ITSTInfo;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.AbstractOCSPException;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.commons.utils.SystemUtil;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.DocumentProperties;
 import com.itextpdf.kernel.pdf.PdfArray;
@@ -52,11 +54,13 @@ import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.report.CertificateReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem;
 import com.itextpdf.signatures.validation.report.ReportItem.ReportItemStatus;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.GeneralSecurityException;
 import java.security.cert.CRL;
 import java.security.cert.Certificate;
@@ -67,6 +71,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RunnableFuture;
 
 import static com.itextpdf.signatures.validation.SafeCalling.onExceptionLog;
 import static com.itextpdf.signatures.validation.SafeCalling.onRuntimeExceptionLog;
@@ -157,20 +163,7 @@ public class SignatureValidator {
             throw new PdfException(VALIDATION_PERFORMED);
         }
         validationPerformed = true;
-        ValidationReport report = new ValidationReport();
-        onRuntimeExceptionLog(() -> {
-            documentRevisionsValidator.setEventCountingMetaInfo(metaInfo);
-            ValidationReport revisionsValidationReport =
-                    documentRevisionsValidator.validateAllDocumentRevisions(validationContext, originalDocument);
-            report.merge(revisionsValidationReport);
-        }, report, e ->
-                new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_VALIDATION_FAILED, e, ReportItemStatus.INDETERMINATE));
-
-        if (stopValidation(report, validationContext)) {
-            return report;
-        }
-
-        return report.merge(validate(null));
+        return validateDocument(null);
     }
 
     /**
@@ -185,26 +178,16 @@ public class SignatureValidator {
             throw new PdfException(VALIDATION_PERFORMED);
         }
         validationPerformed = true;
-        ValidationReport report = new ValidationReport();
-        onRuntimeExceptionLog(() -> {
-            documentRevisionsValidator.setEventCountingMetaInfo(metaInfo);
-            ValidationReport revisionsValidationReport =
-                    documentRevisionsValidator.validateAllDocumentRevisions(validationContext, originalDocument,
-                            signatureName);
-            report.merge(revisionsValidationReport);
-        }, report, e ->
-                new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_VALIDATION_FAILED, e, ReportItemStatus.INDETERMINATE));
-
-        if (stopValidation(report, validationContext)) {
-            return report;
-        }
-
-        return report.merge(validate(signatureName));
+        return validateDocument(signatureName);
     }
 
     ValidationReport validateLatestSignature(PdfDocument document) {
+        return validateLatestSignature(document, verifyLatestSignature(document));
+    }
+
+    private ValidationReport validateLatestSignature(PdfDocument document, SignatureVerification verification) {
         ValidationReport validationReport = new ValidationReport();
-        PdfPKCS7 pkcs7 = mathematicallyVerifySignature(validationReport, document);
+        PdfPKCS7 pkcs7 = reportSignatureVerification(validationReport, document, verification);
         updateValidationClients(pkcs7, validationReport, validationContext, document);
         // We only retrieve not signed revocation data at the very beginning of signature processing.
         retrieveNotSignedRevocationInfoFromSignatureContainer(pkcs7, validationContext);
@@ -285,6 +268,44 @@ public class SignatureValidator {
                 validationReport.getValidationResult() == ValidationResult.INDETERMINATE, reason.toString());
     }
 
+    private ValidationReport validateDocument(String signatureName) {
+        ValidationMetrics metrics = builder.getValidationMetrics();
+        if (metrics == null) {
+            return validateRevisionsAndSignatures(signatureName);
+        }
+        long start = SystemUtil.getRelativeTimeMillis();
+        long crlCacheHits = builder.getCrlCache().getHitsCount();
+        long crlCacheMisses = builder.getCrlCache().getMissesCount();
+        try {
+            return validateRevisionsAndSignatures(signatureName);
+        } finally {
+            metrics.recordDuration(ValidationMetrics.SIGNATURE_VALIDATION, SystemUtil.getRelativeTimeMillis() - start);
+            // The cache can be shared with other validations running at the same time, their lookups count as well.
+            metrics.addToCounter(ValidationMetrics.CRL_CACHE_HITS, builder.getCrlCache().getHitsCount() - crlCacheHits);
+            metrics.addToCounter(ValidationMetrics.CRL_CACHE_MISSES,
+                    builder.getCrlCache().getMissesCount() - crlCacheMisses);
+        }
+    }
+
+    private ValidationReport validateRevisionsAndSignatures(String signatureName) {
+        ValidationReport report = new ValidationReport();
+        onRuntimeExceptionLog(() -> {
+            documentRevisionsValidator.setEventCountingMetaInfo(metaInfo);
+            ValidationReport revisionsValidationReport = signatureName == null
+                    ? documentRevisionsValidator.validateAllDocumentRevisions(validationContext, originalDocument)
+                    : documentRevisionsValidator.validateAllDocumentRevisions(validationContext, originalDocument,
+                            signatureName);
+            report.merge(revisionsValidationReport);
+        }, report, e ->
+                new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_VALIDATION_FAILED, e, ReportItemStatus.INDETERMINATE));
+
+        if (stopValidation(report, validationContext)) {
+            return report;
+        }
+
+        return report.merge(validate(signatureName));
+    }
+
     private ValidationReport validate(String signatureName) {
         ValidationReport validationReport = new ValidationReport();
         boolean validateSingleSignature = signatureName != null;
@@ -292,25 +313,43 @@ public class SignatureValidator {
         SignatureUtil util = new SignatureUtil(originalDocument);
         List<String> signatureNames = util.getSignatureNames();
         Collections.reverse(signatureNames);
+        if (validateSingleSignature && signatureNames.contains(signatureName)) {
+            // Revisions older than the requested signature do not affect its validation.
+            signatureNames = signatureNames.subList(0, signatureNames.indexOf(signatureName) + 1);
+        }
 
-        for (String fieldName : signatureNames) {
-            ValidationReport subReport = new ValidationReport();
-            try (PdfDocument doc = new PdfDocument(
-                    new PdfReader(util.extractRevision(fieldName), originalDocument.getReader().getPropertiesCopy())
-                            .setStrictnessLevel(PdfReader.StrictnessLevel.CONSERVATIVE),
-                    new DocumentProperties().setEventCountingMetaInfo(metaInfo))) {
-                subReport.merge(validateLatestSignature(doc));
-            } catch (IOException | RuntimeException e) {
-                subReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_RETRIEVAL_FAILED,
-                        e, ReportItemStatus.INDETERMINATE));
-            }
-            if (!validateSingleSignature) {
-                validationReport.merge(subReport);
-                if (stopValidation(subReport, validationContext)) {
-                    return validationReport;
+        // With executor, the next revisions are opened and mathematically verified concurrently in advance,
+        // the rest of the validation depends on the previous signatures and stays sequential.
+        RevisionsInProgress revisionsInProgress = builder.getExecutorService() == null ? null
+                : new RevisionsInProgress(builder.getExecutorService(), util, signatureNames);
+        try {
+            for (String fieldName : signatureNames) {
+                ValidationReport subReport = new ValidationReport();
+                VerifiedRevision revision = null;
+                try {
+                    revision = revisionsInProgress == null ? openRevision(util.extractRevision(fieldName))
+                            : revisionsInProgress.next();
+                    subReport.merge(validateLatestSignature(revision.getDocument(), revision.getVerification()));
+                } catch (IOException | RuntimeException e) {
+                    subReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_RETRIEVAL_FAILED,
+                            e, ReportItemStatus.INDETERMINATE));
+                } finally {
+                    if (revision != null) {
+                        revision.getDocument().close();
+                    }
+                }
+                if (!validateSingleSignature) {
+                    validationReport.merge(subReport);
+                    if (stopValidation(subReport, validationContext)) {
+                        return validationReport;
+                    }
+                } else if (fieldName.equals(signatureName)) {
+                    return subReport;
                 }
-            } else if (fieldName.equals(signatureName)) {
-                return subReport;
+            }
+        } finally {
+            if (revisionsInProgress != null) {
+                revisionsInProgress.closeRemaining();
             }
         }
         if (validateSingleSignature) {
@@ -321,6 +360,32 @@ public class SignatureValidator {
         return validationReport;
     }
 
+    private VerifiedRevision openRevision(InputStream revision) throws IOException {
+        ValidationMetrics metrics = builder.getValidationMetrics();
+        long start = SystemUtil.getRelativeTimeMillis();
+        PdfDocument document = new PdfDocument(
+                new PdfReader(revision, originalDocument.getReader().getPropertiesCopy())
+                        .setStrictnessLevel(PdfReader.StrictnessLevel.CONSERVATIVE),
+                new DocumentProperties().setEventCountingMetaInfo(metaInfo));
+        if (metrics != null) {
+            metrics.recordDuration(ValidationMetrics.REVISION_PARSING, SystemUtil.getRelativeTimeMillis() - start);
+            start = SystemUtil.getRelativeTimeMillis();
+        }
+        SignatureVerification verification;
+        try {
+            verification = verifyLatestSignature(document);
+        } catch (RuntimeException e) {
+            document.close();
+            throw e;
+        } finally {
+            if (metrics != null) {
+                metrics.recordDuration(ValidationMetrics.SIGNATURE_INTEGRITY_VERIFICATION,
+                        SystemUtil.getRelativeTimeMillis() - start);
+            }
+        }
+        return new VerifiedRevision(document, verification);
+    }
+
     private void findValidationClients() {
         for (IOcspClient ocspClient : this.properties.getOcspClients()) {
             if (ocspClient.getClass() == ValidationOcspClient.class) {
@@ -336,11 +401,28 @@ public class SignatureValidator {
         }
     }
 
-    private PdfPKCS7 mathematicallyVerifySignature(ValidationReport validationReport, PdfDocument document) {
+    private static SignatureVerification verifyLatestSignature(PdfDocument document) {
         SignatureUtil signatureUtil = new SignatureUtil(document);
         List<String> signatures = signatureUtil.getSignatureNames();
         String latestSignatureName = signatures.get(signatures.size() - 1);
         PdfPKCS7 pkcs7 = signatureUtil.readSignatureData(latestSignatureName);
+        boolean coversWholeDocument = signatureUtil.signatureCoversWholeDocument(latestSignatureName);
+        boolean verified = false;
+        Exception verificationException = null;
+        try {
+            verified = pkcs7.verifySignatureIntegrityAndAuthenticity();
+        } catch (GeneralSecurityException | RuntimeException e) {
+            verificationException = e;
+        }
+        return new SignatureVerification(latestSignatureName, pkcs7, coversWholeDocument, verified,
+                verificationException);
+    }
+
+    private PdfPKCS7 reportSignatureVerification(ValidationReport validationReport, PdfDocument document,
+            SignatureVerification verification) {
+        SignatureUtil signatureUtil = new SignatureUtil(document);
+        String latestSignatureName = verification.getSignatureName();
+        PdfPKCS7 pkcs7 = verification.getPkcs7();
         validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION,
                 MessageFormatUtil.format(VALIDATING_SIGNATURE_NAME, latestSignatureName), ReportItemStatus.INFO));
         if (pkcs7.isTsp()) {
@@ -351,18 +433,17 @@ public class SignatureValidator {
                     signatureUtil.getSignature(latestSignatureName).getContents().getValueBytes(), latestSignatureName,
                     lastKnownPoE);
         }
-        if (!signatureUtil.signatureCoversWholeDocument(latestSignatureName)) {
+        if (!verification.isCoversWholeDocument()) {
             validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION,
                     MessageFormatUtil.format(DOCUMENT_IS_NOT_COVERED, latestSignatureName), ReportItemStatus.INVALID));
         }
-        try {
-            if (!pkcs7.verifySignatureIntegrityAndAuthenticity()) {
-                validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
-                        CANNOT_VERIFY_SIGNATURE, latestSignatureName), ReportItemStatus.INVALID));
-            }
-        } catch (GeneralSecurityException | RuntimeException e) {
+        if (verification.getVerificationException() != null) {
+            validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
+                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), verification.getVerificationException(),
+                    ReportItemStatus.INVALID));
+        } else if (!verification.isVerified()) {
             validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
-                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), e, ReportItemStatus.INVALID));
+                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), ReportItemStatus.INVALID));
         }
         return pkcs7;
     }
@@ -504,7 +585,7 @@ public class SignatureValidator {
                     PdfStream crlStream = crls.getAsStream(i);
                     onExceptionLog(() ->
                             validationCrlClient.addCrl(
-                                    (X509CRL) CertificateUtil.parseCrlFromBytes(crlStream.getBytes()),
+                                    builder.getCrlCache().getCrlIndex(crlStream.getBytes()).getCrl(),
                                     lastKnownPoE, context.getTimeBasedContext()), validationReport, e ->
                             new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
                                     CANNOT_PARSE_CRL_FROM_DSS, crlStream), e, ReportItemStatus.INFO));
@@ -538,4 +619,123 @@ public class SignatureValidator {
         return !properties.getContinueAfterFailure(validationContext)
                 && result.getValidationResult() == ValidationResult.INVALID;
     }
+
+    private static final class SignatureVerification {
+        private final String signatureName;
+        private final PdfPKCS7 pkcs7;
+        private final boolean coversWholeDocument;
+        private final boolean verified;
+        private final Exception verificationException;
+
+        SignatureVerification(String signatureName, PdfPKCS7 pkcs7, boolean coversWholeDocument, boolean verified,
+                Exception verificationException) {
+            this.signatureName = signatureName;
+            this.pkcs7 = pkcs7;
+            this.coversWholeDocument = coversWholeDocument;
+            this.verified = verified;
+            this.verificationException = verificationException;
+        }
+
+        String getSignatureName() {
+            return signatureName;
+        }
+
+        PdfPKCS7 getPkcs7() {
+            return pkcs7;
+        }
+
+        boolean isCoversWholeDocument() {
+            return coversWholeDocument;
+        }
+
+        boolean isVerified() {
+            return verified;
+        }
+
+        Exception getVerificationException() {
+            return verificationException;
+        }
+    }
+
+    /**
+     * Revisions which are opened and mathematically verified on the executor ahead of their sequential validation.
+     * Only a window of the next revisions is in progress at a time, so that a document with many signatures
+     * is not held in memory once per revision.
+     */
+    private final class RevisionsInProgress {
+        private final ExecutorService executor;
+        private final SignatureUtil util;
+        private final List<String> signatureNames;
+        private final List<RunnableFuture<VerifiedRevision>> revisions = new ArrayList<>();
+        private final int maxRevisionsInProgress = Math.max(1, Runtime.getRuntime().availableProcessors());
+        private int consumedRevisions;
+
+        RevisionsInProgress(ExecutorService executor, SignatureUtil util, List<String> signatureNames) {
+            this.executor = executor;
+            this.util = util;
+            this.signatureNames = signatureNames;
+        }
+
+        /**
+         * Gets the next revision in the order of the signature names and starts verifying the following ones.
+         *
+         * @return the next {@link VerifiedRevision}
+         *
+         * @throws IOException if the revision cannot be read
+         */
+        VerifiedRevision next() throws IOException {
+            int index = consumedRevisions++;
+            submitRevisions(index + 1 + maxRevisionsInProgress);
+            return ValidationTasks.waitForTaskResult(revisions.get(index));
+        }
+
+        /**
+         * Waits for the revisions, which were started but not consumed, and closes them.
+         */
+        void closeRemaining() {
+            for (int i = consumedRevisions; i < revisions.size(); i++) {
+                try {
+                    ValidationTasks.waitFor(revisions.get(i)).getDocument().close();
+                } catch (RuntimeException e) {
+                    // The revision is not validated anyway.
+                }
+            }
+        }
+
+        private void submitRevisions(int limit) {
+            while (revisions.size() < Math.min(limit, signatureNames.size())) {
+                // The original document is only read in the calling thread, the tasks work on their own copies.
+                byte[] revisionBytes;
+                try {
+                    revisionBytes = StreamUtil.inputStreamToArray(
+                            util.extractRevision(signatureNames.get(revisions.size())));
+                } catch (IOException | RuntimeException e) {
+                    revisions.add(ValidationTasks.submit(executor, () -> {
+                        throw e;
+                    }));
+                    continue;
+                }
+                revisions.add(ValidationTasks.<VerifiedRevision>submit(executor,
+                        () -> openRevision(new ByteArrayInputStream(revisionBytes))));
+            }
+        }
+    }
+
+    private static final class VerifiedRevision {
+        private final PdfDocument document;
+        private final SignatureVerification verification;
+
+        VerifiedRevision(PdfDocument document, SignatureVerification verification) {
+            this.document = document;
+            this.verification = verification;
+        }
+
+        PdfDocument getDocument() {
+            return document;
+        }
+
+        SignatureVerification getVerification() {
+            return verification;
+        }
+    }
 }
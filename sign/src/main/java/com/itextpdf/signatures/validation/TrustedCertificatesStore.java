@@ -22,6 +22,8 @@
  */
 package com.itextpdf.signatures.validation;
 
+import com.itextpdf.signatures.CertificateUtil;
+
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.Collection;
@@ -40,6 +42,8 @@ public class TrustedCertificatesStore {
     private final Map<String, Set<Certificate>> timestampTrustedCertificates = new HashMap<>();
     private final Map<String, Set<Certificate>> crlTrustedCertificates = new HashMap<>();
     private final Map<String, Set<Certificate>> caTrustedCertificates = new HashMap<>();
+    private final Map<String, Set<Certificate>> certificatesByKeyIdentifier = new HashMap<>();
+    private final Map<String, Set<Certificate>> certificatesWithoutKeyIdentifier = new HashMap<>();
 
     /**
      * Add collection of certificates to be trusted for any possible usage.
@@ -49,6 +53,7 @@ public class TrustedCertificatesStore {
     public void addGenerallyTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
             addCertificateToMap(certificate, generallyTrustedCertificates);
+            addCertificateToKeyIdentifierIndex(certificate);
         }
     }
 
@@ -62,6 +67,7 @@ public class TrustedCertificatesStore {
     public void addOcspTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
             addCertificateToMap(certificate, ocspTrustedCertificates);
+            addCertificateToKeyIdentifierIndex(certificate);
         }
     }
 
@@ -75,6 +81,7 @@ public class TrustedCertificatesStore {
     public void addCrlTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
             addCertificateToMap(certificate, crlTrustedCertificates);
+            addCertificateToKeyIdentifierIndex(certificate);
         }
     }
 
@@ -88,6 +95,7 @@ public class TrustedCertificatesStore {
     public void addTimestampTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
             addCertificateToMap(certificate, timestampTrustedCertificates);
+            addCertificateToKeyIdentifierIndex(certificate);
         }
     }
 
@@ -100,6 +108,7 @@ public class TrustedCertificatesStore {
     public void addCATrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
             addCertificateToMap(certificate, caTrustedCertificates);
+            addCertificateToKeyIdentifierIndex(certificate);
         }
     }
 
@@ -235,6 +244,49 @@ public class TrustedCertificatesStore {
         return result;
     }
 
+    /**
+     * Get certificates, if any, which may be the issuer of the provided certificate.
+     *
+     * <p>
+     * If the provided certificate has an authority key identifier, the candidates are looked up by the subject key
+     * identifier, so that only certificates with the matching key are returned even if many certificates share
+     * the same subject name. Certificates without subject key identifier are matched by name only.
+     * If nothing is found by the key identifier, or none of the found certificates has signed the provided
+     * certificate, e.g. because the key identifiers are computed differently, all certificates with the issuer
+     * name are returned.
+     *
+     * @param certificate {@link X509Certificate} for which issuer candidates shall be found
+     *
+     * @return set of {@link Certificate} which may be the issuer of the provided certificate
+     */
+    public Set<Certificate> getPossibleIssuerCertificates(X509Certificate certificate) {
+        String issuerName = certificate.getIssuerX500Principal().getName();
+        byte[] authorityKeyIdentifier = CertificateUtil.getAuthorityKeyIdentifier(certificate);
+        if (authorityKeyIdentifier == null) {
+            return getKnownCertificates(issuerName);
+        }
+        Set<Certificate> result = new HashSet<>();
+        Set<Certificate> keyMatches = certificatesByKeyIdentifier.get(
+                CertificateUtil.convertToHex(authorityKeyIdentifier));
+        if (keyMatches != null) {
+            for (Certificate keyMatch : keyMatches) {
+                if (issuerName.equals(((X509Certificate) keyMatch).getSubjectX500Principal().getName())) {
+                    result.add(keyMatch);
+                }
+            }
+        }
+        Set<Certificate> nameMatches = getKnownCertificates(issuerName);
+        Set<Certificate> withoutKeyIdentifier = certificatesWithoutKeyIdentifier.get(issuerName);
+        int withoutKeyIdentifierCount = withoutKeyIdentifier == null ? 0 : withoutKeyIdentifier.size();
+        if (result.size() + withoutKeyIdentifierCount < nameMatches.size() && !isSignedByAny(certificate, result)) {
+            // The key identifier doesn't point to the issuer, so the other certificates with the issuer name
+            // shall not be skipped
+            return nameMatches;
+        }
+        addMatched(result, certificatesWithoutKeyIdentifier, issuerName);
+        return result;
+    }
+
     /**
      * Get all the certificates, which where provided to this storage as trusted certificate.
      *
@@ -300,6 +352,17 @@ public class TrustedCertificatesStore {
         set.add(certificate);
     }
 
+    private void addCertificateToKeyIdentifierIndex(Certificate certificate) {
+        byte[] subjectKeyIdentifier = CertificateUtil.getSubjectKeyIdentifier((X509Certificate) certificate);
+        if (subjectKeyIdentifier == null) {
+            addCertificateToMap(certificate, certificatesWithoutKeyIdentifier);
+        } else {
+            Set<Certificate> set = certificatesByKeyIdentifier.computeIfAbsent(
+                    CertificateUtil.convertToHex(subjectKeyIdentifier), k -> new HashSet<>());
+            set.add(certificate);
+        }
+    }
+
     private static boolean mapContainsCertificate(Certificate certificate, Map<String, Set<Certificate>> map) {
         Set<Certificate> set = map.get(((X509Certificate) certificate).getSubjectX500Principal().getName());
         if (set == null) {
@@ -308,6 +371,15 @@ public class TrustedCertificatesStore {
         return set.contains(certificate);
     }
 
+    private static boolean isSignedByAny(X509Certificate certificate, Set<Certificate> issuers) {
+        for (Certificate issuer : issuers) {
+            if (CertificateUtil.isSignedBy(certificate, issuer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static void addMatched(Set<Certificate> target, Map<String, Set<Certificate>> source,
             String certificateName) {
         Set<Certificate> subset = source.get(certificateName);
@@ -0,0 +1,154 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+
+/**
+ * Utility class to run independent validation tasks, either one after another
+ * or concurrently using {@link ExecutorService} from {@link ValidatorChainBuilder}.
+ *
+ * <p>
+ * A thread waiting for a task runs it itself if the executor has not started it yet. The tasks can therefore
+ * wait for their own subtasks even on a bounded executor, which is busy with the waiting tasks.
+ */
+final class ValidationTasks {
+
+    private ValidationTasks() {
+        // Private constructor so that no instances are created.
+    }
+
+    /**
+     * Runs the tasks and waits for all of them to finish. If executor is {@code null}, the tasks are
+     * run in the calling thread in the order they are passed. The first failure is rethrown
+     * after all the tasks are finished.
+     *
+     * @param executor {@link ExecutorService} to run the tasks with, or {@code null}
+     * @param tasks    the tasks to run
+     */
+    static void runAll(ExecutorService executor, Runnable... tasks) {
+        if (executor == null) {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+            return;
+        }
+        List<RunnableFuture<Object>> futures = new ArrayList<>(tasks.length);
+        for (Runnable task : tasks) {
+            RunnableFuture<Object> future = new FutureTask<>(task, null);
+            executor.execute(future);
+            futures.add(future);
+        }
+        // All the tasks are awaited even if some of them fail, so that none of them is still running on return.
+        RuntimeException failure = null;
+        for (RunnableFuture<Object> future : futures) {
+            try {
+                waitFor(future);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Submits the task to the executor.
+     *
+     * @param executor {@link ExecutorService} to run the task with
+     * @param task     the task to run
+     * @param <T>      type of the task result
+     *
+     * @return {@link RunnableFuture} of the task to be passed to {@link #waitFor(RunnableFuture)}
+     */
+    static <T> RunnableFuture<T> submit(ExecutorService executor, Callable<T> task) {
+        RunnableFuture<T> future = new FutureTask<>(task);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Waits for the task to finish and gets its result. The task is run in the calling thread,
+     * if the executor has not started it yet.
+     *
+     * @param future {@link RunnableFuture} of the task
+     * @param <T>    type of the task result
+     *
+     * @return the result of the task
+     */
+    static <T> T waitFor(RunnableFuture<T> future) {
+        try {
+            return waitForTaskResult(future);
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+    }
+
+    /**
+     * Waits for the task to finish and gets its result. Unlike {@link #waitFor(RunnableFuture)},
+     * {@link IOException} thrown by the task is rethrown as is, so it is reported the same way as if the task
+     * was run in the calling thread.
+     *
+     * @param future {@link RunnableFuture} of the task
+     * @param <T>    type of the task result
+     *
+     * @return the result of the task
+     *
+     * @throws IOException if the task has thrown it
+     */
+    static <T> T waitForTaskResult(RunnableFuture<T> future) throws IOException {
+        // Does nothing if the task is already started by the executor
+        future.run();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(SignExceptionMessageConstant.VALIDATION_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PdfException(cause);
+        }
+    }
+}
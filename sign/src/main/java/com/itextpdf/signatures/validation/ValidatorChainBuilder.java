@@ -28,6 +28,9 @@ import com.itextpdf.signatures.ICrlClient;
 import com.itextpdf.signatures.IOcspClientBouncyCastle;
 import com.itextpdf.signatures.IssuingCertificateRetriever;
 import com.itextpdf.signatures.OcspClientBouncyCastle;
+import com.itextpdf.signatures.CrlCache;
+import com.itextpdf.signatures.RevocationDataCache;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.xml.AdESReportAggregator;
 import com.itextpdf.signatures.validation.report.xml.NullAdESReportAggregator;
 import com.itextpdf.signatures.validation.report.xml.PadesValidationReport;
@@ -38,6 +41,7 @@ import java.io.Writer;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 /**
@@ -55,6 +59,10 @@ public class ValidatorChainBuilder {
     private Supplier<DocumentRevisionsValidator> documentRevisionsValidatorFactory;
     private Supplier<IOcspClientBouncyCastle> ocspClientFactory;
     private Supplier<ICrlClient> crlClientFactory;
+    private RevocationDataCache revocationDataCache;
+    private CrlCache crlCache = new CrlCache();
+    private ExecutorService executorService;
+    private ValidationMetrics validationMetrics;
 
     private Collection<Certificate> trustedCertificates;
     private Collection<Certificate> knownCertificates;
@@ -71,8 +79,8 @@ public class ValidatorChainBuilder {
         crlValidatorFactory = () -> buildCRLValidator();
         resourceRetrieverFactory = () -> new DefaultResourceRetriever();
         documentRevisionsValidatorFactory = () -> buildDocumentRevisionsValidator();
-        ocspClientFactory = () -> new OcspClientBouncyCastle();
-        crlClientFactory = () -> new CrlClientOnline();
+        ocspClientFactory = () -> new OcspClientBouncyCastle().setRevocationDataCache(revocationDataCache);
+        crlClientFactory = () -> new CrlClientOnline().setRevocationDataCache(revocationDataCache);
     }
 
     /**
@@ -263,6 +271,69 @@ public class ValidatorChainBuilder {
         return this;
     }
 
+    /**
+     * Use this {@link RevocationDataCache} in the default OCSP and CRL clients, which are used
+     * when no custom client factories are set. The cache can be shared between several builders and signers
+     * in order not to download the same revocation data repeatedly.
+     *
+     * @param revocationDataCache the {@link RevocationDataCache} to use
+     *
+     * @return the current ValidatorChainBuilder.
+     */
+    public ValidatorChainBuilder withRevocationDataCache(RevocationDataCache revocationDataCache) {
+        this.revocationDataCache = revocationDataCache;
+        return this;
+    }
+
+    /**
+     * Use this {@link CrlCache} to keep parsed and indexed CRLs. By default, each builder has its own cache,
+     * sharing one cache between several builders prevents parsing the same big CRLs again for each of them.
+     *
+     * @param crlCache the {@link CrlCache} to use
+     *
+     * @return the current ValidatorChainBuilder.
+     */
+    public ValidatorChainBuilder withCrlCache(CrlCache crlCache) {
+        this.crlCache = crlCache;
+        return this;
+    }
+
+    /**
+     * Use this {@link ExecutorService} to run independent validation steps concurrently.
+     *
+     * <p>
+     * When set, the revisions of the document are parsed and the signatures are mathematically verified
+     * in parallel, while the results are still reported in the same order as in sequential validation.
+     * Revocation data from different sources is retrieved concurrently as well. The executor is not shut down
+     * by the validators. By default, no executor is used and everything is validated in the calling thread.
+     *
+     * <p>
+     * Any executor can be used, including a bounded one, which also runs the validations themselves: a validation
+     * waiting for its steps runs those the executor has not started yet in its own thread.
+     *
+     * @param executorService the {@link ExecutorService} to use, or {@code null} to validate sequentially
+     *
+     * @return the current ValidatorChainBuilder.
+     */
+    public ValidatorChainBuilder withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Use this {@link ValidationMetrics} to collect timings and counters of the validation steps, e.g. how much time
+     * was spent building certificate chains or retrieving revocation data online. By default, no metrics are
+     * collected.
+     *
+     * @param validationMetrics the {@link ValidationMetrics} to record to, or {@code null} to disable metrics
+     *
+     * @return the current ValidatorChainBuilder.
+     */
+    public ValidatorChainBuilder withValidationMetrics(ValidationMetrics validationMetrics) {
+        this.validationMetrics = validationMetrics;
+        return this;
+    }
+
     /**
      * Adds known certificates to the {@link IssuingCertificateRetriever}.
      *
@@ -312,6 +383,33 @@ public class ValidatorChainBuilder {
         return certificateRetrieverFactory.get();
     }
 
+    /**
+     * Retrieves the explicitly added or automatically created {@link CrlCache} instance.
+     *
+     * @return the explicitly added or automatically created {@link CrlCache} instance.
+     */
+    public CrlCache getCrlCache() {
+        return crlCache;
+    }
+
+    /**
+     * Retrieves the explicitly added {@link ExecutorService} instance.
+     *
+     * @return the explicitly added {@link ExecutorService} instance, or {@code null} if validation is sequential.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Retrieves the explicitly added {@link ValidationMetrics} instance.
+     *
+     * @return the explicitly added {@link ValidationMetrics} instance, or {@code null} if metrics are not collected.
+     */
+    public ValidationMetrics getValidationMetrics() {
+        return validationMetrics;
+    }
+
     /**
      * Retrieves the explicitly added or automatically created {@link SignatureValidationProperties} instance.
      *
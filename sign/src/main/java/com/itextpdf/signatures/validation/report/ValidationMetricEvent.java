@@ -0,0 +1,88 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation.report;
+
+import com.itextpdf.commons.actions.IEvent;
+
+/**
+ * Event sent by {@link ValidationMetrics} for each recorded value, when sending events is enabled.
+ */
+public class ValidationMetricEvent implements IEvent {
+    private final String name;
+    private final MetricType type;
+    private final long value;
+
+    /**
+     * Creates new {@link ValidationMetricEvent} instance.
+     *
+     * @param name  the name of the validation step or the counter
+     * @param type  {@link MetricType} of the recorded value
+     * @param value the duration in milliseconds or the value added to the counter
+     */
+    public ValidationMetricEvent(String name, MetricType type, long value) {
+        this.name = name;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Gets the name of the validation step or the counter, e.g. {@link ValidationMetrics#OCSP_VALIDATION}.
+     *
+     * @return the name of the recorded metric
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the recorded value.
+     *
+     * @return {@link MetricType} of the recorded value
+     */
+    public MetricType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the recorded value.
+     *
+     * @return the duration in milliseconds or the value added to the counter
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Type of the recorded value.
+     */
+    public enum MetricType {
+        /**
+         * Duration of a single invocation of a validation step in milliseconds.
+         */
+        DURATION,
+        /**
+         * Value added to a counter.
+         */
+        COUNTER
+    }
+}
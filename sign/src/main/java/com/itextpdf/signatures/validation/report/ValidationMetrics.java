@@ -0,0 +1,268 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation.report;
+
+import com.itextpdf.commons.actions.EventManager;
+import com.itextpdf.signatures.validation.report.ValidationMetricEvent.MetricType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Timings and counters collected during signature validation.
+ *
+ * <p>
+ * Metrics are only collected when an instance is passed to
+ * {@link com.itextpdf.signatures.validation.ValidatorChainBuilder#withValidationMetrics(ValidationMetrics)}.
+ * Durations are measured in milliseconds and include the time spent in nested validations, e.g. the duration
+ * of the certificate chain validation includes revocation data validation of the chain. The same instance can be
+ * shared between several validations, the collected values are accumulated then.
+ */
+public class ValidationMetrics {
+    /**
+     * Time spent in {@code SignatureValidator}, i.e. the whole validation of the document signatures.
+     */
+    public static final String SIGNATURE_VALIDATION = "SignatureValidator";
+
+    /**
+     * Time spent in {@code DocumentRevisionsValidator}.
+     */
+    public static final String DOCUMENT_REVISIONS_VALIDATION = "DocumentRevisionsValidator";
+
+    /**
+     * Time spent parsing the document revisions covered by the signatures.
+     */
+    public static final String REVISION_PARSING = "RevisionParsing";
+
+    /**
+     * Time spent verifying signature integrity, i.e. digesting the signed ranges and verifying the signatures.
+     */
+    public static final String SIGNATURE_INTEGRITY_VERIFICATION = "SignatureIntegrityVerification";
+
+    /**
+     * Time spent in {@code CertificateChainValidator}.
+     */
+    public static final String CERTIFICATE_CHAIN_VALIDATION = "CertificateChainValidator";
+
+    /**
+     * Time spent looking for the issuer certificates while building certificate chains.
+     */
+    public static final String ISSUER_RETRIEVAL = "IssuerRetrieval";
+
+    /**
+     * Time spent verifying certificate signatures with the public keys of the issuers.
+     */
+    public static final String CERTIFICATE_SIGNATURE_VERIFICATION = "CertificateSignatureVerification";
+
+    /**
+     * Time spent in {@code OCSPValidator}.
+     */
+    public static final String OCSP_VALIDATION = "OCSPValidator";
+
+    /**
+     * Time spent in {@code CRLValidator}.
+     */
+    public static final String CRL_VALIDATION = "CRLValidator";
+
+    /**
+     * Time spent retrieving OCSP responses online.
+     */
+    public static final String ONLINE_OCSP_RETRIEVAL = "OnlineOcspRetrieval";
+
+    /**
+     * Time spent retrieving CRLs online.
+     */
+    public static final String ONLINE_CRL_RETRIEVAL = "OnlineCrlRetrieval";
+
+    /**
+     * Number of OCSP responses retrieved online.
+     */
+    public static final String ONLINE_OCSP_RESPONSES = "OnlineOcspResponses";
+
+    /**
+     * Number of bytes of the OCSP responses retrieved online.
+     */
+    public static final String ONLINE_OCSP_BYTES = "OnlineOcspBytes";
+
+    /**
+     * Number of CRLs retrieved online.
+     */
+    public static final String ONLINE_CRLS = "OnlineCrls";
+
+    /**
+     * Number of bytes of the CRLs retrieved online.
+     */
+    public static final String ONLINE_CRL_BYTES = "OnlineCrlBytes";
+
+    /**
+     * Number of CRLs, which were already parsed and indexed in the {@link com.itextpdf.signatures.CrlCache}.
+     */
+    public static final String CRL_CACHE_HITS = "CrlCacheHits";
+
+    /**
+     * Number of CRLs, which had to be parsed and indexed because they were not in the
+     * {@link com.itextpdf.signatures.CrlCache}.
+     */
+    public static final String CRL_CACHE_MISSES = "CrlCacheMisses";
+
+    private final Map<String, Long> durations = new HashMap<>();
+    private final Map<String, Long> invocations = new HashMap<>();
+    private final Map<String, Long> counters = new HashMap<>();
+    private final boolean sendEvents;
+
+    /**
+     * Creates new {@link ValidationMetrics} instance, which doesn't send any events.
+     */
+    public ValidationMetrics() {
+        this(false);
+    }
+
+    /**
+     * Creates new {@link ValidationMetrics} instance.
+     *
+     * @param sendEvents if {@code true}, each recorded value is also sent to the {@link EventManager}
+     *                   as {@link ValidationMetricEvent}
+     */
+    public ValidationMetrics(boolean sendEvents) {
+        this.sendEvents = sendEvents;
+    }
+
+    /**
+     * Records a single measured duration of a validation step.
+     *
+     * @param name     the name of the validation step, e.g. {@link #CERTIFICATE_CHAIN_VALIDATION}
+     * @param duration the duration in milliseconds
+     */
+    public void recordDuration(String name, long duration) {
+        synchronized (this) {
+            add(durations, name, duration);
+            add(invocations, name, 1);
+        }
+        if (sendEvents) {
+            EventManager.getInstance().onEvent(new ValidationMetricEvent(name, MetricType.DURATION, duration));
+        }
+    }
+
+    /**
+     * Adds a value to the counter.
+     *
+     * @param name  the name of the counter, e.g. {@link #ONLINE_CRL_BYTES}
+     * @param value the value to add
+     */
+    public void addToCounter(String name, long value) {
+        synchronized (this) {
+            add(counters, name, value);
+        }
+        if (sendEvents) {
+            EventManager.getInstance().onEvent(new ValidationMetricEvent(name, MetricType.COUNTER, value));
+        }
+    }
+
+    /**
+     * Gets the total duration of all the recorded invocations of the validation step.
+     *
+     * @param name the name of the validation step
+     *
+     * @return the total duration in milliseconds, {@code 0} if nothing was recorded
+     */
+    public synchronized long getDuration(String name) {
+        return get(durations, name);
+    }
+
+    /**
+     * Gets the number of recorded invocations of the validation step.
+     *
+     * @param name the name of the validation step
+     *
+     * @return the number of recorded invocations
+     */
+    public synchronized long getInvocationsCount(String name) {
+        return get(invocations, name);
+    }
+
+    /**
+     * Gets the value of the counter.
+     *
+     * @param name the name of the counter
+     *
+     * @return the value of the counter, {@code 0} if nothing was recorded
+     */
+    public synchronized long getCounter(String name) {
+        return get(counters, name);
+    }
+
+    /**
+     * Gets the total durations of all the recorded validation steps.
+     *
+     * @return a sorted copy of the map from the validation step name to its total duration in milliseconds
+     */
+    public synchronized Map<String, Long> getDurations() {
+        return new TreeMap<>(durations);
+    }
+
+    /**
+     * Gets the values of all the recorded counters.
+     *
+     * @return a sorted copy of the map from the counter name to its value
+     */
+    public synchronized Map<String, Long> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public synchronized void clear() {
+        durations.clear();
+        invocations.clear();
+        counters.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder("ValidationMetrics{durations=[");
+        for (Map.Entry<String, Long> entry : new TreeMap<>(durations).entrySet()) {
+            sb.append('\n').append(entry.getKey()).append(": ").append(entry.getValue()).append(" ms, ")
+                    .append(get(invocations, entry.getKey())).append(" invocations");
+        }
+        sb.append("], counters=[");
+        for (Map.Entry<String, Long> entry : new TreeMap<>(counters).entrySet()) {
+            sb.append('\n').append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private static void add(Map<String, Long> values, String name, long value) {
+        values.put(name, get(values, name) + value);
+    }
+
+    private static long get(Map<String, Long> values, String name) {
+        Long value = values.get(name);
+        return value == null ? 0 : (long) value;
+    }
+}
@@ -80,4 +80,18 @@ public class CertificateUtilTest extends ExtendedITextTest {
 
         Assertions.assertTrue(crls.isEmpty());
     }
+
+    @Test
+    public void keyIdentifiersTest() throws CertificateException, IOException {
+        X509Certificate signCert =
+                (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+
+        Assertions.assertEquals("5D2A7175AEDDD8BE59BA20B16691C97636535CEE",
+                CertificateUtil.convertToHex(CertificateUtil.getSubjectKeyIdentifier(rootCert)));
+        Assertions.assertArrayEquals(CertificateUtil.getSubjectKeyIdentifier(rootCert),
+                CertificateUtil.getAuthorityKeyIdentifier(signCert));
+        Assertions.assertEquals("CF8D49A3C1FF1C0AB184C37F8A7BA12AE2D953C8",
+                CertificateUtil.convertToHex(CertificateUtil.getSubjectKeyIdentifier(signCert)));
+    }
 }
@@ -0,0 +1,187 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.X509MockCertificate;
+import com.itextpdf.signatures.testutils.builder.TestCrlBuilder;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.cert.CRLReason;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import javax.security.auth.x500.X500Principal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleUnitTest")
+public class CrlIndexTest extends ExtendedITextTest {
+    private static final String CERTS_SRC = "./src/test/resources/com/itextpdf/signatures/certs/";
+    private static final IBouncyCastleFactory FACTORY = BouncyCastleFactoryCreator.getFactory();
+    private static final char[] PASSWORD = "testpassphrase".toCharArray();
+
+    private static X509Certificate caCert;
+    private static PrivateKey caPrivateKey;
+    private static X509Certificate checkCert;
+    private static X509Certificate intermediateCert;
+
+    @BeforeAll
+    public static void before() throws Exception {
+        caCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+        caPrivateKey = PemFileHelper.readFirstKey(CERTS_SRC + "rootRsa.pem", PASSWORD);
+        checkCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+        intermediateCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "intermediateRsa.pem")[0];
+    }
+
+    @Test
+    public void revokedCertificateLookupTest() throws Exception {
+        Date revocationDate = DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), -1);
+        TestCrlBuilder builder = new TestCrlBuilder(caCert, caPrivateKey);
+        builder.addCrlEntry(checkCert, revocationDate, FACTORY.createCRLReason().getKeyCompromise());
+        CrlIndex index = new CrlIndex((X509CRL) CertificateUtil.parseCrlFromBytes(builder.makeCrl()));
+
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertTrue(index.isRevoked(checkCert));
+        Assertions.assertFalse(index.isRevoked(caCert));
+        X509CRLEntry entry = index.getRevokedCertificate(checkCert.getSerialNumber());
+        Assertions.assertNotNull(entry);
+        Assertions.assertEquals(CRLReason.KEY_COMPROMISE, entry.getRevocationReason());
+        Assertions.assertEquals(index.getCrl().getRevokedCertificate(checkCert.getSerialNumber()), entry);
+        Assertions.assertNull(index.getRevokedCertificate(caCert.getSerialNumber()));
+    }
+
+    @Test
+    public void issuerNameInDifferentFormTest() throws Exception {
+        Date revocationDate = DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), -1);
+        TestCrlBuilder builder = new TestCrlBuilder(caCert, caPrivateKey);
+        builder.addCrlEntry(checkCert, revocationDate, FACTORY.createCRLReason().getKeyCompromise());
+        CrlIndex index = new CrlIndex((X509CRL) CertificateUtil.parseCrlFromBytes(builder.makeCrl()));
+
+        // the same issuer name differing only in the case of the attribute values
+        final X500Principal issuer = new X500Principal(caCert.getSubjectX500Principal().getName().toUpperCase());
+        Assertions.assertNotEquals(caCert.getSubjectX500Principal().getName(), issuer.getName());
+        X509Certificate certificate = new X509MockCertificate() {
+            @Override
+            public BigInteger getSerialNumber() {
+                return checkCert.getSerialNumber();
+            }
+
+            @Override
+            public X500Principal getIssuerX500Principal() {
+                return issuer;
+            }
+        };
+        Assertions.assertTrue(index.isRevoked(certificate));
+    }
+
+    @Test
+    public void emptyCrlTest() throws Exception {
+        CrlIndex index = new CrlIndex(
+                (X509CRL) CertificateUtil.parseCrlFromBytes(new TestCrlBuilder(caCert, caPrivateKey).makeCrl()));
+
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertFalse(index.isRevoked(checkCert));
+    }
+
+    @Test
+    public void verifyTest() throws Exception {
+        CrlIndex index = new CrlIndex(
+                (X509CRL) CertificateUtil.parseCrlFromBytes(new TestCrlBuilder(caCert, caPrivateKey).makeCrl()));
+
+        Assertions.assertDoesNotThrow(() -> index.verify(caCert.getPublicKey()));
+        // Second verification is served from memory.
+        Assertions.assertDoesNotThrow(() -> index.verify(caCert.getPublicKey()));
+        Assertions.assertThrows(GeneralSecurityException.class, () -> index.verify(checkCert.getPublicKey()));
+    }
+
+    @Test
+    public void crlIsParsedOnceTest() throws Exception {
+        byte[] crl = new TestCrlBuilder(caCert, caPrivateKey).makeCrl();
+        CrlCache cache = new CrlCache();
+
+        CrlIndex first = cache.getCrlIndex(crl);
+        CrlIndex second = cache.getCrlIndex(crl.clone());
+        CrlIndex third = cache.getCrlIndex(first.getCrl());
+
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(first, third);
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void crlInstanceIsFoundByIdentityTest() throws Exception {
+        X509CRL crl = (X509CRL) CertificateUtil.parseCrlFromBytes(new TestCrlBuilder(caCert, caPrivateKey).makeCrl());
+        CrlCache cache = new CrlCache();
+
+        CrlIndex first = cache.getCrlIndex(crl);
+        CrlIndex second = cache.getCrlIndex(crl);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(crl, first.getCrl());
+        Assertions.assertEquals(1, cache.getMissesCount());
+        Assertions.assertEquals(1, cache.getHitsCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedIndexIsEvictedTest() throws Exception {
+        CrlCache cache = new CrlCache(2);
+        byte[] first = new TestCrlBuilder(caCert, caPrivateKey).makeCrl();
+        TestCrlBuilder secondBuilder = new TestCrlBuilder(caCert, caPrivateKey);
+        secondBuilder.addCrlEntry(checkCert, FACTORY.createCRLReason().getKeyCompromise());
+        byte[] second = secondBuilder.makeCrl();
+        TestCrlBuilder thirdBuilder = new TestCrlBuilder(caCert, caPrivateKey);
+        thirdBuilder.addCrlEntry(intermediateCert, FACTORY.createCRLReason().getKeyCompromise());
+        byte[] third = thirdBuilder.makeCrl();
+
+        CrlIndex firstIndex = cache.getCrlIndex(first);
+        CrlIndex secondIndex = cache.getCrlIndex(second);
+        // Touch the first index, so that the second one becomes the least recently used.
+        cache.getCrlIndex(first);
+        cache.getCrlIndex(third);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertSame(firstIndex, cache.getCrlIndex(first));
+        Assertions.assertNotSame(secondIndex, cache.getCrlIndex(second));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidCrlTest() {
+        CrlCache cache = new CrlCache();
+
+        Assertions.assertThrows(Exception.class, () -> cache.getCrlIndex(new byte[] {1, 2, 3}));
+        Assertions.assertEquals(0, cache.size());
+    }
+}
@@ -24,12 +24,18 @@ package com.itextpdf.signatures;
 
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.Security;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -81,4 +87,55 @@ public class DigestAlgorithmsTest extends ExtendedITextTest {
         String oid = "1.2.156.10197.1.401";
         Assertions.assertEquals(FIPS_MODE ? oid : name, DigestAlgorithms.getDigest(oid));
     }
+
+    @Test
+    public void digestByteRangeTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(3 * (1 << 20) + 17);
+        long[] byteRange = new long[] {0, 1000, 1200, data.length - 1200};
+        byte[] expected = digestRangedStream(data, byteRange, "SHA256");
+        byte[] actual = DigestAlgorithms.digest(new RandomAccessSourceFactory().createSource(data), byteRange,
+                DigestAlgorithms.getMessageDigest("SHA256", BOUNCY_CASTLE_FACTORY.getProviderName()))[0];
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void digestByteRangeWithSeveralDigestsTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(5000);
+        long[] byteRange = new long[] {10, 90, 200, 4800};
+        String provider = BOUNCY_CASTLE_FACTORY.getProviderName();
+        byte[][] actual = DigestAlgorithms.digest(new RandomAccessSourceFactory().createSource(data), byteRange,
+                DigestAlgorithms.getMessageDigest("SHA256", provider),
+                DigestAlgorithms.getMessageDigest("SHA512", provider));
+        Assertions.assertEquals(2, actual.length);
+        Assertions.assertArrayEquals(digestRangedStream(data, byteRange, "SHA256"), actual[0]);
+        Assertions.assertArrayEquals(digestRangedStream(data, byteRange, "SHA512"), actual[1]);
+    }
+
+    @Test
+    public void digestByteRangeBeyondSourceTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(100);
+        IRandomAccessSource source = new RandomAccessSourceFactory().createSource(data);
+        byte[] actual = DigestAlgorithms.digest(source, new long[] {0, 150},
+                DigestAlgorithms.getMessageDigest("SHA256", BOUNCY_CASTLE_FACTORY.getProviderName()))[0];
+        byte[] expected = DigestAlgorithms.getMessageDigest("SHA256", BOUNCY_CASTLE_FACTORY.getProviderName())
+                .digest(data);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    private static byte[] digestRangedStream(byte[] data, long[] byteRange, String hashAlgorithm)
+            throws IOException, GeneralSecurityException {
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        MessageDigest messageDigest = DigestAlgorithms.getMessageDigest(hashAlgorithm,
+                BOUNCY_CASTLE_FACTORY.getProviderName());
+        return DigestAlgorithms.digest(new RASInputStream(factory.createRanged(factory.createSource(data), byteRange)),
+                messageDigest);
+    }
+
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + i / 256);
+        }
+        return data;
+    }
 }
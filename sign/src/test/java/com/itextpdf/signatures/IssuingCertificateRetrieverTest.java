@@ -24,6 +24,9 @@ package com.itextpdf.signatures;
 
 import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.SignTestPortUtil;
+import com.itextpdf.signatures.testutils.cert.TestCertificateBuilder;
+import com.itextpdf.signatures.validation.TrustedCertificatesStore;
 import com.itextpdf.signatures.validation.ValidatorChainBuilder;
 import com.itextpdf.signatures.validation.mocks.MockResourceRetriever;
 import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
@@ -32,9 +35,15 @@ import com.itextpdf.test.ExtendedITextTest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.security.KeyPair;
+import java.security.PrivateKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
@@ -68,4 +77,95 @@ class IssuingCertificateRetrieverTest extends ExtendedITextTest {
         Assertions.assertEquals("http://test.example.com/example-ca/certs/ca/ca.crt", urlsCalled.get(0).toString());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void issuerCertificatesFromAIARetrievedOnceTest() throws CertificateException, IOException {
+        Certificate[] cert = PemFileHelper.readFirstChain(CERTS_SRC + "intermediate.pem");
+        Certificate rootCert = PemFileHelper.readFirstChain(CERTS_SRC + "root.pem")[0];
+        final List<URL> urlsCalled = new ArrayList<>();
+
+        MockResourceRetriever mockRetriever = new MockResourceRetriever();
+        mockRetriever.onGetInputStreamByUrl(u ->  {
+            urlsCalled.add(u);
+            try {
+                return FileUtil.getInputStreamForFile(CERTS_SRC + "root.pem");
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading certificate.", e);
+            }
+        });
+        IssuingCertificateRetriever retriever = new IssuingCertificateRetriever(mockRetriever);
+        List<X509Certificate> firstIssuers = retriever.retrieveIssuerCertificate(cert[0]);
+        List<X509Certificate> secondIssuers = retriever.retrieveIssuerCertificate(cert[0]);
+
+        Assertions.assertEquals(1, urlsCalled.size());
+        Assertions.assertEquals(Collections.singletonList(rootCert), firstIssuers);
+        Assertions.assertEquals(firstIssuers, secondIssuers);
+    }
+
+    @Test
+    public void possibleIssuerCertificatesByKeyIdentifierTest() throws CertificateException, IOException {
+        X509Certificate intermediateCert =
+                (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "intermediate.pem")[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "root.pem")[0];
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+        X509Certificate rootRsaCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+
+        TrustedCertificatesStore store = new TrustedCertificatesStore();
+        store.addGenerallyTrustedCertificates(Arrays.<Certificate>asList(rootCert, intermediateCert));
+        store.addCATrustedCertificates(Collections.<Certificate>singletonList(rootRsaCert));
+
+        Assertions.assertEquals(Collections.singleton(rootCert), store.getPossibleIssuerCertificates(intermediateCert));
+        Assertions.assertEquals(Collections.singleton(rootRsaCert), store.getPossibleIssuerCertificates(signCert));
+        Assertions.assertEquals(Collections.singleton(rootCert), store.getPossibleIssuerCertificates(rootCert));
+    }
+
+    @Test
+    public void buildCertificateChainsWithKnownCertificatesTest() throws CertificateException, IOException {
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+        X509Certificate rootRsaCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+        Certificate rootCert = PemFileHelper.readFirstChain(CERTS_SRC + "root.pem")[0];
+
+        IssuingCertificateRetriever retriever = new IssuingCertificateRetriever();
+        retriever.addKnownCertificates(Arrays.<Certificate>asList(rootCert, rootRsaCert));
+        List<X509Certificate[]> chains = retriever.buildCertificateChains(signCert);
+
+        Assertions.assertEquals(1, chains.size());
+        Assertions.assertArrayEquals(new X509Certificate[] {signCert, rootRsaCert}, chains.get(0));
+    }
+
+    @Test
+    public void possibleIssuersFallBackToNameMatchesTest() throws Exception {
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+        X509Certificate rootRsaCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+        PrivateKey rootRsaKey = PemFileHelper.readFirstKey(CERTS_SRC + "rootRsa.pem", PASSWORD);
+        X509Certificate otherCaCert =
+                (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "intermediateRsa.pem")[0];
+        PrivateKey otherCaKey = PemFileHelper.readFirstKey(CERTS_SRC + "intermediateRsa.pem", PASSWORD);
+        String issuerName = "C=BY,L=Minsk,O=iText,OU=test,CN=iTextTestRoot";
+
+        // The real issuer key, but a subject key identifier which doesn't match the authority key identifier.
+        X509Certificate issuerCert = new TestCertificateBuilder(rootRsaCert.getPublicKey(), otherCaCert, otherCaKey,
+                issuerName).buildAuthorizedOCSPResponderCert(true);
+        // The matching key identifier, but another key.
+        KeyPair otherKeyPair = SignTestPortUtil.buildRSA2048KeyPairGenerator().generateKeyPair();
+        X509Certificate misleadingCert = new TestCertificateBuilder(otherKeyPair.getPublic(), rootRsaCert,
+                rootRsaKey, issuerName).buildAuthorizedOCSPResponderCert(true);
+
+        Assertions.assertEquals(signCert.getIssuerX500Principal(), issuerCert.getSubjectX500Principal());
+        Assertions.assertEquals(signCert.getIssuerX500Principal(), misleadingCert.getSubjectX500Principal());
+        Assertions.assertArrayEquals(CertificateUtil.getAuthorityKeyIdentifier(signCert),
+                CertificateUtil.getSubjectKeyIdentifier(misleadingCert));
+        Assertions.assertFalse(Arrays.equals(CertificateUtil.getAuthorityKeyIdentifier(signCert),
+                CertificateUtil.getSubjectKeyIdentifier(issuerCert)));
+
+        TrustedCertificatesStore store = new TrustedCertificatesStore();
+        store.addCATrustedCertificates(Arrays.<Certificate>asList(issuerCert, misleadingCert));
+        Assertions.assertEquals(new HashSet<>(Arrays.<Certificate>asList(issuerCert, misleadingCert)),
+                store.getPossibleIssuerCertificates(signCert));
+
+        IssuingCertificateRetriever retriever = new IssuingCertificateRetriever();
+        retriever.addKnownCertificates(Arrays.<Certificate>asList(misleadingCert, issuerCert));
+        Assertions.assertArrayEquals(new Certificate[] {signCert, issuerCert},
+                retriever.retrieveMissingCertificates(new Certificate[] {signCert}));
+    }
+}
@@ -25,10 +25,13 @@ package com.itextpdf.signatures;
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
 import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
 import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfVersion;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -36,10 +39,14 @@ import com.itextpdf.kernel.pdf.WriterProperties;
 import com.itextpdf.test.ExtendedITextTest;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.Security;
+import java.util.HashSet;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
@@ -166,6 +173,57 @@ public class PdfTwoPhaseSignerUnitTest extends ExtendedITextTest {
         }
     }
 
+    @Test
+    public void addSignatureInPlaceDoesNotReadPagesTest() throws IOException, GeneralSecurityException {
+        String preparedFileName = DESTINATION_FOLDER + "addSignatureInPlaceDoesNotReadPagesTest.pdf";
+        ByteArrayOutputStream sourceDocument = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(sourceDocument))) {
+            for (int i = 0; i < 3; i++) {
+                document.addNewPage();
+            }
+        }
+        SignerProperties signerProperties = new SignerProperties();
+        try (OutputStream outputStream = FileUtil.getFileOutputStream(preparedFileName)) {
+            new PdfTwoPhaseSigner(new PdfReader(new ByteArrayInputStream(sourceDocument.toByteArray())),
+                    outputStream).prepareDocumentForSignature(signerProperties, DigestAlgorithms.SHA256,
+                    PdfName.Adobe_PPKLite, PdfName.Adbe_pkcs7_detached, 8079, false);
+        }
+        String fieldName = signerProperties.getFieldName();
+
+        Set<Integer> pageObjectNumbers = new HashSet<>();
+        try (PdfDocument preparedDocument = new PdfDocument(new PdfReader(preparedFileName))) {
+            for (int i = 1; i <= preparedDocument.getNumberOfPages(); i++) {
+                pageObjectNumbers.add(preparedDocument.getPage(i).getPdfObject().getIndirectReference()
+                        .getObjNumber());
+            }
+        }
+        File preparedFile = new File(preparedFileName);
+        long preparedFileLength = preparedFile.length();
+
+        Set<Integer> readObjectNumbers = new HashSet<>();
+        PdfReader recordingReader = new PdfReader(preparedFile) {
+            @Override
+            protected PdfObject readObject(PdfIndirectReference reference) {
+                readObjectNumbers.add(reference.getObjNumber());
+                return super.readObject(reference);
+            }
+        };
+        byte[] testData = ByteUtils.getIsoBytes("Some data to test the signature addition with");
+        new PdfSigner.SignatureApplier(recordingReader, preparedFile, fieldName).apply(applier -> testData);
+
+        Assertions.assertEquals(3, pageObjectNumbers.size());
+        for (Integer pageObjectNumber : pageObjectNumbers) {
+            Assertions.assertFalse(readObjectNumbers.contains(pageObjectNumber));
+        }
+        Assertions.assertEquals(preparedFileLength, preparedFile.length());
+        try (PdfDocument resultDoc = new PdfDocument(new PdfReader(preparedFileName))) {
+            byte[] content = new SignatureUtil(resultDoc).getSignature(fieldName).getContents().getValueBytes();
+            for (int i = 0; i < testData.length; i++) {
+                Assertions.assertEquals(testData[i], content[i]);
+            }
+        }
+    }
+
     private static byte[] createSimpleDocument() {
         return createSimpleDocument(PdfVersion.PDF_1_7);
     }
@@ -0,0 +1,217 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.commons.bouncycastle.cert.ocsp.AbstractOCSPException;
+import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationException;
+import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.builder.TestCrlBuilder;
+import com.itextpdf.signatures.testutils.builder.TestOcspResponseBuilder;
+import com.itextpdf.signatures.testutils.client.AdvancedTestOcspClient;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.PrivateKey;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleIntegrationTest")
+public class RevocationDataCacheTest extends ExtendedITextTest {
+    private static final String CERTS_SRC = "./src/test/resources/com/itextpdf/signatures/certs/";
+    private static final String DESTINATION_FOLDER = "./target/test/com/itextpdf/signatures/RevocationDataCacheTest/";
+    private static final char[] PASSWORD = "testpassphrase".toCharArray();
+    private static final String CRL_URL = "http://localhost/test.crl";
+
+    private static X509Certificate caCert;
+    private static PrivateKey caPrivateKey;
+    private static X509Certificate checkCert;
+
+    @BeforeAll
+    public static void before() throws Exception {
+        createOrClearDestinationFolder(DESTINATION_FOLDER);
+        caCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "rootRsa.pem")[0];
+        caPrivateKey = PemFileHelper.readFirstKey(CERTS_SRC + "rootRsa.pem", PASSWORD);
+        checkCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "signCertRsa01.pem")[0];
+    }
+
+    @Test
+    public void crlIsDownloadedOnceForSeveralClientsTest() throws Exception {
+        byte[] crl = createCrl(DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), 1));
+        RevocationDataCache cache = new RevocationDataCache();
+        List<URL> downloads = new ArrayList<>();
+
+        Collection<byte[]> first = new CountingCrlClient(crl, downloads).setRevocationDataCache(cache)
+                .getEncoded(checkCert, CRL_URL);
+        Collection<byte[]> second = new CountingCrlClient(crl, downloads).setRevocationDataCache(cache)
+                .getEncoded(checkCert, CRL_URL);
+
+        Assertions.assertEquals(1, downloads.size());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertArrayEquals(crl, first.iterator().next());
+        Assertions.assertArrayEquals(crl, second.iterator().next());
+    }
+
+    @Test
+    public void outdatedCrlIsNotCachedTest() throws Exception {
+        byte[] crl = createCrl(DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), -1));
+        RevocationDataCache cache = new RevocationDataCache();
+        List<URL> downloads = new ArrayList<>();
+        CrlClientOnline client = new CountingCrlClient(crl, downloads).setRevocationDataCache(cache);
+
+        client.getEncoded(checkCert, CRL_URL);
+        client.getEncoded(checkCert, CRL_URL);
+
+        Assertions.assertEquals(2, downloads.size());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void crlIsNotReturnedBeforeThisUpdateTest() throws Exception {
+        Date now = DateTimeUtil.getCurrentTimeDate();
+        TestCrlBuilder builder = new TestCrlBuilder(caCert, caPrivateKey, DateTimeUtil.addDaysToDate(now, 1));
+        builder.setNextUpdate(DateTimeUtil.addDaysToDate(now, 2));
+        RevocationDataCache cache = new RevocationDataCache();
+
+        Assertions.assertTrue(cache.putCrl(CRL_URL, builder.makeCrl()));
+        Assertions.assertNull(cache.getCrl(CRL_URL));
+    }
+
+    @Test
+    public void invalidDataIsNotCachedTest() {
+        RevocationDataCache cache = new RevocationDataCache();
+
+        Assertions.assertFalse(cache.putCrl(CRL_URL, new byte[] {1, 2, 3}));
+        Assertions.assertFalse(cache.putOcspResponse(checkCert, new byte[0]));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void persistedCrlIsReusedTest() throws Exception {
+        String directory = DESTINATION_FOLDER + "persistedCrlIsReusedTest";
+        byte[] crl = createCrl(DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), 1));
+        List<URL> downloads = new ArrayList<>();
+
+        new CountingCrlClient(crl, downloads).setRevocationDataCache(new RevocationDataCache(directory))
+                .getEncoded(checkCert, CRL_URL);
+        RevocationDataCache restoredCache = new RevocationDataCache(directory);
+        Collection<byte[]> restored = new CountingCrlClient(crl, downloads).setRevocationDataCache(restoredCache)
+                .getEncoded(checkCert, CRL_URL);
+
+        Assertions.assertEquals(1, downloads.size());
+        Assertions.assertArrayEquals(crl, restored.iterator().next());
+
+        restoredCache.clear();
+        Assertions.assertEquals(0, FileUtil.listFilesInDirectory(directory, false).length);
+        Assertions.assertNull(new RevocationDataCache(directory).getCrl(CRL_URL));
+    }
+
+    @Test
+    public void ocspResponseIsRequestedOnceTest() throws Exception {
+        Date now = DateTimeUtil.getCurrentTimeDate();
+        RevocationDataCache cache = new RevocationDataCache();
+        CountingOcspClient client = new CountingOcspClient(DateTimeUtil.addDaysToDate(now, 1));
+        client.setRevocationDataCache(cache);
+
+        byte[] first = client.getEncoded(checkCert, caCert, "http://localhost/ocsp");
+        byte[] second = client.getEncoded(checkCert, caCert, "http://localhost/ocsp");
+
+        Assertions.assertNotNull(first);
+        Assertions.assertArrayEquals(first, second);
+        Assertions.assertEquals(1, client.getRequestsCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void outdatedOcspResponseIsNotCachedTest() throws Exception {
+        Date now = DateTimeUtil.getCurrentTimeDate();
+        RevocationDataCache cache = new RevocationDataCache();
+        CountingOcspClient client = new CountingOcspClient(DateTimeUtil.addDaysToDate(now, -1));
+        client.setRevocationDataCache(cache);
+
+        client.getEncoded(checkCert, caCert, "http://localhost/ocsp");
+        client.getEncoded(checkCert, caCert, "http://localhost/ocsp");
+
+        Assertions.assertEquals(2, client.getRequestsCount());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    private static byte[] createCrl(Date nextUpdate) throws Exception {
+        TestCrlBuilder builder = new TestCrlBuilder(caCert, caPrivateKey,
+                DateTimeUtil.addDaysToDate(DateTimeUtil.getCurrentTimeDate(), -2));
+        builder.setNextUpdate(nextUpdate);
+        return builder.makeCrl();
+    }
+
+    private static class CountingCrlClient extends CrlClientOnline {
+        private final byte[] crl;
+        private final List<URL> downloads;
+
+        CountingCrlClient(byte[] crl, List<URL> downloads) {
+            this.crl = crl;
+            this.downloads = downloads;
+        }
+
+        @Override
+        protected InputStream getCrlResponse(X509Certificate cert, URL urlt) {
+            downloads.add(urlt);
+            return new ByteArrayInputStream(crl);
+        }
+    }
+
+    private static class CountingOcspClient extends AdvancedTestOcspClient {
+        private int requestsCount = 0;
+
+        CountingOcspClient(Date nextUpdate) throws CertificateEncodingException, IOException {
+            TestOcspResponseBuilder builder = new TestOcspResponseBuilder(caCert, caPrivateKey);
+            Date now = DateTimeUtil.getCurrentTimeDate();
+            builder.setThisUpdate(DateTimeUtil.getCalendar(DateTimeUtil.addDaysToDate(now, -2)));
+            builder.setNextUpdate(DateTimeUtil.getCalendar(nextUpdate));
+            addBuilderForCertIssuer(checkCert, builder);
+        }
+
+        int getRequestsCount() {
+            return requestsCount;
+        }
+
+        @Override
+        protected InputStream createRequestAndResponse(X509Certificate checkCert, X509Certificate rootCert,
+                String url) throws IOException, AbstractOperatorCreationException, AbstractOCSPException,
+                CertificateEncodingException {
+            ++requestsCount;
+            return super.createRequestAndResponse(checkCert, rootCert, url);
+        }
+    }
+}
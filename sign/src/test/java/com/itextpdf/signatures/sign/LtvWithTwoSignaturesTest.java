@@ -26,6 +26,7 @@ import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
 import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationException;
 import com.itextpdf.commons.bouncycastle.pkcs.AbstractPKCSException;
+import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -35,6 +36,8 @@ import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.StampingProperties;
 import com.itextpdf.signatures.LtvVerification;
 import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.TimeTestUtil;
+import com.itextpdf.signatures.testutils.builder.TestCrlBuilder;
 import com.itextpdf.signatures.testutils.client.TestCrlClient;
 import com.itextpdf.signatures.testutils.client.TestOcspClient;
 import com.itextpdf.test.ExtendedITextTest;
@@ -43,6 +46,8 @@ import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -84,7 +89,11 @@ public class LtvWithTwoSignaturesTest extends ExtendedITextTest {
         TestOcspClient testOcspClient = new TestOcspClient()
                 .addBuilderForCertIssuer(interCert, interPrivateKey)
                 .addBuilderForCertIssuer(caCert, caPrivateKey);
-        TestCrlClient testCrlClient = new TestCrlClient().addBuilderForCertIssuer(caCert, caPrivateKey);
+        // The CRL has fixed update dates, so the same CRL is generated for both signatures
+        TestCrlBuilder crlBuilder = new TestCrlBuilder(caCert, caPrivateKey,
+                DateTimeUtil.addDaysToDate(TimeTestUtil.TEST_DATE_TIME, -1));
+        crlBuilder.setNextUpdate(DateTimeUtil.addDaysToDate(TimeTestUtil.TEST_DATE_TIME, 30));
+        TestCrlClient testCrlClient = new TestCrlClient().addBuilderForCertIssuer(crlBuilder);
 
         addLtvInfo(srcFileName, ltvFileName, "Signature1", testOcspClient, testCrlClient);
         addLtvInfo(ltvFileName, ltvFileName2, "Signature2", testOcspClient, testCrlClient);
@@ -104,11 +113,65 @@ public class LtvWithTwoSignaturesTest extends ExtendedITextTest {
 
         PdfArray certs = dssDictionary.getAsArray(PdfName.Certs);
         Assertions.assertNotNull(certs);
-        Assertions.assertEquals(5, certs.size());
+        // the certificate shared by both signatures is stored only once
+        Assertions.assertEquals(4, certs.size());
+        assertStreamsAreDistinct(certs);
 
         PdfArray crls = dssDictionary.getAsArray(PdfName.CRLs);
         Assertions.assertNotNull(crls);
-        Assertions.assertEquals(2, crls.size());
+        // the CRL shared by both signatures is stored only once
+        Assertions.assertEquals(1, crls.size());
+        assertStreamsAreDistinct(crls);
+    }
+
+    @Test
+    public void updateLtvInfoKeepsSharedStreams() throws GeneralSecurityException, java.io.IOException,
+            AbstractPKCSException, AbstractOperatorCreationException {
+        String caCertFileName = certsSrc + "rootRsa.pem";
+        String interCertFileName = certsSrc + "intermediateRsa.pem";
+        String srcFileName = sourceFolder + "signedTwice.pdf";
+        String ltvFileName = destinationFolder + "updateLtvInfo01.pdf";
+        String ltvFileName2 = destinationFolder + "updateLtvInfo02.pdf";
+        String ltvFileName3 = destinationFolder + "updateLtvInfo03.pdf";
+
+        X509Certificate caCert = (X509Certificate) PemFileHelper.readFirstChain(caCertFileName)[0];
+        PrivateKey caPrivateKey = PemFileHelper.readFirstKey(caCertFileName, password);
+
+        X509Certificate interCert = (X509Certificate) PemFileHelper.readFirstChain(interCertFileName)[0];
+        PrivateKey interPrivateKey = PemFileHelper.readFirstKey(interCertFileName, password);
+
+        TestOcspClient testOcspClient = new TestOcspClient()
+                .addBuilderForCertIssuer(interCert, interPrivateKey)
+                .addBuilderForCertIssuer(caCert, caPrivateKey);
+        TestCrlClient testCrlClient = new TestCrlClient().addBuilderForCertIssuer(caCert, caPrivateKey);
+
+        addLtvInfo(srcFileName, ltvFileName, "Signature1", testOcspClient, testCrlClient);
+        addLtvInfo(ltvFileName, ltvFileName2, "Signature2", testOcspClient, testCrlClient);
+        // replacing the validation data of the first signature must not drop the streams the second one uses
+        addLtvInfo(ltvFileName2, ltvFileName3, "Signature1", testOcspClient, testCrlClient);
+
+        try (PdfDocument document = new PdfDocument(new PdfReader(ltvFileName3))) {
+            PdfDictionary dssDictionary = document.getCatalog().getPdfObject().getAsDictionary(PdfName.DSS);
+            PdfDictionary vri = dssDictionary.getAsDictionary(PdfName.VRI);
+            Assertions.assertEquals(2, vri.size());
+
+            PdfArray certs = dssDictionary.getAsArray(PdfName.Certs);
+            assertStreamsAreDistinct(certs);
+            for (PdfName key : vri.keySet()) {
+                PdfArray vriCerts = vri.getAsDictionary(key).getAsArray(PdfName.Cert);
+                for (int i = 0; i < vriCerts.size(); i++) {
+                    Assertions.assertTrue(certs.contains(vriCerts.get(i, false)));
+                }
+            }
+        }
+    }
+
+    private static void assertStreamsAreDistinct(PdfArray streams) {
+        Set<String> streamsData = new HashSet<>();
+        for (int i = 0; i < streams.size(); i++) {
+            streamsData.add(LtvVerification.convertToHex(streams.getAsStream(i).getBytes()));
+        }
+        Assertions.assertEquals(streams.size(), streamsData.size());
     }
 
     private void addLtvInfo(String src, String dest, String sigName, TestOcspClient testOcspClient,
@@ -0,0 +1,453 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.sign;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.forms.form.element.SignatureFieldAppearance;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.signatures.BatchSigningResult;
+import com.itextpdf.signatures.IExternalBatchSignature;
+import com.itextpdf.signatures.IOcspClient;
+import com.itextpdf.signatures.ISignatureMechanismParams;
+import com.itextpdf.signatures.IssuingCertificateRetriever;
+import com.itextpdf.signatures.PdfPadesBatchSigner;
+import com.itextpdf.signatures.PrivateKeySignature;
+import com.itextpdf.signatures.SignerProperties;
+import com.itextpdf.signatures.TestSignUtils;
+import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
+import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.SignaturesCompareTool;
+import com.itextpdf.signatures.testutils.client.TestCrlClient;
+import com.itextpdf.signatures.testutils.client.TestOcspClient;
+import com.itextpdf.signatures.testutils.client.TestTsaClient;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.LogMessage;
+import com.itextpdf.test.annotations.LogMessages;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleIntegrationTest")
+public class PdfPadesBatchSignerTest extends ExtendedITextTest {
+    private static final IBouncyCastleFactory FACTORY = BouncyCastleFactoryCreator.getFactory();
+
+    private static final String certsSrc = "./src/test/resources/com/itextpdf/signatures/sign/PdfPadesBatchSignerTest/certs/";
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/signatures/sign/PdfPadesBatchSignerTest/";
+    private static final String destinationFolder = "./target/test/com/itextpdf/signatures/sign/PdfPadesBatchSignerTest/";
+
+    private static final char[] PASSWORD = "testpassphrase".toCharArray();
+    private static final int DOCUMENTS_COUNT = 3;
+
+    @BeforeAll
+    public static void before() {
+        Security.addProvider(FACTORY.getProvider());
+        createOrClearDestinationFolder(destinationFolder);
+    }
+
+    @Test
+    public void batchSigningBaselineBTest() throws Exception {
+        String fileName = "batchSigningBaselineBTest";
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String cmpFileName = sourceFolder + "cmp_" + fileName + ".pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+
+        PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner();
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            batchSigner.addDocument(new PdfReader(srcFileName),
+                    FileUtil.getFileOutputStream(destinationFolder + fileName + i + ".pdf"), createSignerProperties());
+        }
+        Assertions.assertEquals(DOCUMENTS_COUNT, batchSigner.getDocumentsCount());
+
+        TestBatchSignature batchSignature = new TestBatchSignature(signPrivateKey);
+        BatchSigningResult result = batchSigner.signWithBaselineBProfile(certChain, batchSignature);
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(DOCUMENTS_COUNT, result.getDocumentsCount());
+
+        Assertions.assertEquals(0, batchSigner.getDocumentsCount());
+        Assertions.assertEquals(1, batchSignature.getSignCallsCount());
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            String outFileName = destinationFolder + fileName + i + ".pdf";
+            TestSignUtils.basicCheckSignedDoc(outFileName, "Signature1");
+            Assertions.assertNull(SignaturesCompareTool.compareSignatures(outFileName, cmpFileName));
+        }
+    }
+
+    @Test
+    public void batchSigningBaselineTConcurrentlyTest() throws Exception {
+        String fileName = "batchSigningBaselineTTest";
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String cmpFileName = sourceFolder + "cmp_" + fileName + ".pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String tsaCertFileName = certsSrc + "tsCertRsa.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+        Certificate[] tsaChain = PemFileHelper.readFirstChain(tsaCertFileName);
+        PrivateKey tsaPrivateKey = PemFileHelper.readFirstKey(tsaCertFileName, PASSWORD);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(DOCUMENTS_COUNT);
+        try {
+            PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner().setExecutorService(executorService)
+                    .setTemporaryDirectoryPath(destinationFolder);
+            for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+                batchSigner.addDocument(new PdfReader(srcFileName),
+                        FileUtil.getFileOutputStream(destinationFolder + fileName + i + ".pdf"),
+                        createSignerProperties());
+            }
+            batchSigner.signWithBaselineTProfile(certChain, new TestBatchSignature(signPrivateKey),
+                    new TestTsaClient(Arrays.asList(tsaChain), tsaPrivateKey));
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            String outFileName = destinationFolder + fileName + i + ".pdf";
+            TestSignUtils.basicCheckSignedDoc(outFileName, "Signature1");
+            Assertions.assertNull(SignaturesCompareTool.compareSignatures(outFileName, cmpFileName));
+        }
+    }
+
+    @Test
+    public void batchSigningBaselineLTATest() throws Exception {
+        String fileName = "batchSigningBaselineLTATest";
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String cmpFileName = sourceFolder + "cmp_" + fileName + ".pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String tsaCertFileName = certsSrc + "tsCertRsa.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+        Certificate[] tsaChain = PemFileHelper.readFirstChain(tsaCertFileName);
+        PrivateKey tsaPrivateKey = PemFileHelper.readFirstKey(tsaCertFileName, PASSWORD);
+        PrivateKey caPrivateKey = PemFileHelper.readFirstKey(rootCertFileName, PASSWORD);
+
+        TestCrlClient crlClient = new TestCrlClient().addBuilderForCertIssuer(rootCert, caPrivateKey);
+        TestOcspClient testOcspClient = new TestOcspClient().addBuilderForCertIssuer(rootCert, caPrivateKey);
+        List<BigInteger> requestedSerialNumbers = Collections.synchronizedList(new ArrayList<>());
+        IOcspClient ocspClient = (checkCert, issuerCert, url) -> {
+            requestedSerialNumbers.add(checkCert.getSerialNumber());
+            return testOcspClient.getEncoded(checkCert, issuerCert, url);
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(DOCUMENTS_COUNT);
+        try {
+            PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner().setExecutorService(executorService)
+                    .setCrlClient(crlClient).setOcspClient(ocspClient).setTimestampSignatureName("timestampSig1");
+            for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+                batchSigner.addDocument(new PdfReader(srcFileName),
+                        FileUtil.getFileOutputStream(destinationFolder + fileName + i + ".pdf"),
+                        createSignerProperties());
+            }
+            batchSigner.signWithBaselineLTAProfile(certChain, new TestBatchSignature(signPrivateKey),
+                    new TestTsaClient(Arrays.asList(tsaChain), tsaPrivateKey));
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            String outFileName = destinationFolder + fileName + i + ".pdf";
+            TestSignUtils.basicCheckSignedDoc(outFileName, "Signature1");
+            Assertions.assertNull(SignaturesCompareTool.compareSignatures(outFileName, cmpFileName));
+        }
+        // Revocation data of each certificate is requested once for the whole batch.
+        Assertions.assertFalse(requestedSerialNumbers.isEmpty());
+        Assertions.assertEquals(new HashSet<>(requestedSerialNumbers).size(), requestedSerialNumbers.size());
+    }
+
+    @Test
+    public void issuingCertificateRetrieverIsNotUsedConcurrentlyTest() throws Exception {
+        String fileName = "issuingCertificateRetrieverIsNotUsedConcurrentlyTest";
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String tsaCertFileName = certsSrc + "tsCertRsa.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+        Certificate[] tsaChain = PemFileHelper.readFirstChain(tsaCertFileName);
+        PrivateKey tsaPrivateKey = PemFileHelper.readFirstKey(tsaCertFileName, PASSWORD);
+        PrivateKey caPrivateKey = PemFileHelper.readFirstKey(rootCertFileName, PASSWORD);
+
+        AtomicInteger callsCount = new AtomicInteger();
+        AtomicInteger callsInProgress = new AtomicInteger();
+        AtomicBoolean concurrentCallDetected = new AtomicBoolean(false);
+        IssuingCertificateRetriever retriever = new IssuingCertificateRetriever() {
+            @Override
+            public Certificate[] retrieveMissingCertificates(Certificate[] chain) {
+                callsCount.incrementAndGet();
+                if (callsInProgress.incrementAndGet() > 1) {
+                    concurrentCallDetected.set(true);
+                }
+                try {
+                    Thread.sleep(20);
+                    return super.retrieveMissingCertificates(chain);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return chain;
+                } finally {
+                    callsInProgress.decrementAndGet();
+                }
+            }
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(DOCUMENTS_COUNT);
+        try {
+            PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner().setExecutorService(executorService)
+                    .setIssuingCertificateRetriever(retriever)
+                    .setCrlClient(new TestCrlClient().addBuilderForCertIssuer(rootCert, caPrivateKey))
+                    .setOcspClient(new TestOcspClient().addBuilderForCertIssuer(rootCert, caPrivateKey));
+            for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+                batchSigner.addDocument(new PdfReader(srcFileName),
+                        FileUtil.getFileOutputStream(destinationFolder + fileName + i + ".pdf"),
+                        createSignerProperties());
+            }
+            batchSigner.signWithBaselineLTProfile(certChain, new TestBatchSignature(signPrivateKey),
+                    new TestTsaClient(Arrays.asList(tsaChain), tsaPrivateKey));
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            TestSignUtils.basicCheckSignedDoc(destinationFolder + fileName + i + ".pdf", "Signature1");
+        }
+        Assertions.assertTrue(callsCount.get() > DOCUMENTS_COUNT);
+        Assertions.assertFalse(concurrentCallDetected.get());
+    }
+
+    @Test
+    @LogMessages(messages = @LogMessage(
+            messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT_WITH_CAUSE))
+    public void failingDocumentInTheMiddleOfBatchTest() throws Exception {
+        String fileName = "failingDocumentInTheMiddleOfBatchTest";
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String cmpFileName = sourceFolder + "cmp_batchSigningBaselineBTest.pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+
+        List<CloseTrackingOutputStream> outputStreams = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(DOCUMENTS_COUNT);
+        BatchSigningResult result;
+        TestBatchSignature batchSignature = new TestBatchSignature(signPrivateKey);
+        try {
+            PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner().setExecutorService(executorService);
+            for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+                PdfReader reader = i == 1
+                        ? new PdfReader(new ByteArrayInputStream(
+                                "%PDF-1.7\nbroken".getBytes(StandardCharsets.ISO_8859_1)))
+                        : new PdfReader(srcFileName);
+                CloseTrackingOutputStream outputStream = new CloseTrackingOutputStream(
+                        FileUtil.getFileOutputStream(destinationFolder + fileName + i + ".pdf"));
+                outputStreams.add(outputStream);
+                batchSigner.addDocument(reader, outputStream, createSignerProperties());
+            }
+            result = batchSigner.signWithBaselineBProfile(certChain, batchSignature);
+        } finally {
+            executorService.shutdown();
+        }
+
+        Assertions.assertEquals(DOCUMENTS_COUNT, result.getDocumentsCount());
+        Assertions.assertFalse(result.isSuccessful());
+        Assertions.assertFalse(result.isSigned(1));
+        Assertions.assertNotNull(result.getException(1));
+        Assertions.assertEquals(DOCUMENTS_COUNT - 1, batchSignature.getSignedMessagesCount());
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            Assertions.assertTrue(outputStreams.get(i).isClosed());
+            if (i != 1) {
+                Assertions.assertTrue(result.isSigned(i));
+                Assertions.assertNull(result.getException(i));
+                String outFileName = destinationFolder + fileName + i + ".pdf";
+                TestSignUtils.basicCheckSignedDoc(outFileName, "Signature1");
+                Assertions.assertNull(SignaturesCompareTool.compareSignatures(outFileName, cmpFileName));
+            }
+        }
+    }
+
+    @Test
+    public void signatureCountMismatchTest() throws Exception {
+        String srcFileName = sourceFolder + "helloWorldDoc.pdf";
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        String rootCertFileName = certsSrc + "rootRsa.pem";
+
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertFileName)[0];
+        Certificate[] certChain = new X509Certificate[] {signCert, rootCert};
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+
+        PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner();
+        for (int i = 0; i < DOCUMENTS_COUNT; i++) {
+            batchSigner.addDocument(new PdfReader(srcFileName), new ByteArrayOutputStream(),
+                    createSignerProperties());
+        }
+        TestBatchSignature batchSignature = new TestBatchSignature(signPrivateKey) {
+            @Override
+            public List<byte[]> sign(List<byte[]> messages) throws GeneralSecurityException {
+                return super.sign(messages.subList(1, messages.size()));
+            }
+        };
+
+        Exception exception = Assertions.assertThrows(PdfException.class,
+                () -> batchSigner.signWithBaselineBProfile(certChain, batchSignature));
+        Assertions.assertEquals(MessageFormatUtil.format(SignExceptionMessageConstant.BATCH_SIGNATURE_COUNT_MISMATCH,
+                DOCUMENTS_COUNT - 1, DOCUMENTS_COUNT), exception.getMessage());
+    }
+
+    @Test
+    public void missingTsaClientTest() throws Exception {
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        PrivateKey signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+
+        PdfPadesBatchSigner batchSigner = new PdfPadesBatchSigner();
+        Exception exception = Assertions.assertThrows(PdfException.class,
+                () -> batchSigner.signWithBaselineTProfile(new Certificate[] {signCert},
+                        new TestBatchSignature(signPrivateKey), null));
+        Assertions.assertEquals(SignExceptionMessageConstant.TSA_CLIENT_IS_MISSING, exception.getMessage());
+    }
+
+    private static SignerProperties createSignerProperties() {
+        SignerProperties signerProperties = new SignerProperties();
+        signerProperties.setFieldName("Signature1");
+        SignatureFieldAppearance appearance = new SignatureFieldAppearance(SignerProperties.IGNORED_ID)
+                .setContent("Approval test signature.\nCreated by iText.");
+        signerProperties.setPageRect(new Rectangle(50, 650, 200, 100))
+                .setSignatureAppearance(appearance);
+        return signerProperties;
+    }
+
+    private static class TestBatchSignature implements IExternalBatchSignature {
+        private final PrivateKeySignature signature;
+        private int signCallsCount = 0;
+        private int signedMessagesCount = 0;
+
+        TestBatchSignature(PrivateKey privateKey) {
+            this.signature = new PrivateKeySignature(privateKey, DigestAlgorithms.SHA256, FACTORY.getProviderName());
+        }
+
+        @Override
+        public String getDigestAlgorithmName() {
+            return signature.getDigestAlgorithmName();
+        }
+
+        @Override
+        public String getSignatureAlgorithmName() {
+            return signature.getSignatureAlgorithmName();
+        }
+
+        @Override
+        public ISignatureMechanismParams getSignatureMechanismParameters() {
+            return signature.getSignatureMechanismParameters();
+        }
+
+        @Override
+        public List<byte[]> sign(List<byte[]> messages) throws GeneralSecurityException {
+            signCallsCount++;
+            signedMessagesCount += messages.size();
+            List<byte[]> signatures = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                signatures.add(signature.sign(message));
+            }
+            return signatures;
+        }
+
+        int getSignCallsCount() {
+            return signCallsCount;
+        }
+
+        int getSignedMessagesCount() {
+            return signedMessagesCount;
+        }
+    }
+
+    private static class CloseTrackingOutputStream extends FilterOutputStream {
+        private boolean closed = false;
+
+        CloseTrackingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+    }
+}
@@ -58,6 +58,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -282,6 +284,42 @@ public class TwoPhaseSigningTest extends ExtendedITextTest {
                 SOURCE_FOLDER + "cmp_2PhaseCompleteCycle.pdf"));
     }
 
+    @Test
+    public void testCompletionInPlace() throws IOException, GeneralSecurityException {
+        byte[] signData = new byte[4096];
+        try (InputStream signdataS = FileUtil.getInputStreamForFile(SOURCE_FOLDER + "signeddata.bin")) {
+            signdataS.read(signData);
+        }
+        String preparedDocument = SOURCE_FOLDER + "2PhasePreparedSignature.pdf";
+        String signedDocument = DESTINATION_FOLDER + "2PhaseCompletionInPlace.pdf";
+        FileUtil.copy(preparedDocument, signedDocument);
+
+        PdfTwoPhaseSigner.addSignatureToPreparedDocument(new File(signedDocument), FIELD_NAME, signData);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (PdfReader reader = new PdfReader(new File(preparedDocument))) {
+            PdfTwoPhaseSigner.addSignatureToPreparedDocument(reader, FIELD_NAME, expected, signData);
+        }
+        Assertions.assertArrayEquals(expected.toByteArray(), Files.readAllBytes(Paths.get(signedDocument)));
+        Assertions.assertNull(SignaturesCompareTool.compareSignatures(signedDocument,
+                SOURCE_FOLDER + "cmp_2PhaseCompleteCycle.pdf"));
+    }
+
+    @Test
+    public void testCompletionInPlaceWithNotEnoughSpace() throws IOException {
+        byte[] signData = new byte[20000];
+        String preparedDocument = SOURCE_FOLDER + "2PhasePreparedSignature.pdf";
+        String signedDocument = DESTINATION_FOLDER + "2PhaseCompletionInPlaceNotEnoughSpace.pdf";
+        FileUtil.copy(preparedDocument, signedDocument);
+
+        Exception e = Assertions.assertThrows(PdfException.class, () ->
+                PdfTwoPhaseSigner.addSignatureToPreparedDocument(new File(signedDocument), FIELD_NAME, signData));
+        Assertions.assertEquals(SignExceptionMessageConstant.AVAILABLE_SPACE_IS_NOT_ENOUGH_FOR_SIGNATURE,
+                e.getMessage());
+        Assertions.assertArrayEquals(Files.readAllBytes(Paths.get(preparedDocument)),
+                Files.readAllBytes(Paths.get(signedDocument)));
+    }
+
     @Test
     // Android-Conversion-Ignore-Test (TODO DEVSIX-8113 Fix signatures tests)
     public void testWithCMS() throws IOException, GeneralSecurityException {
@@ -0,0 +1,81 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation;
+
+import com.itextpdf.kernel.pdf.DocumentRevision;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfRevisionsReader;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class RevisionDocumentsTest extends ExtendedITextTest {
+    private static final String SOURCE_FOLDER =
+            "./src/test/resources/com/itextpdf/signatures/validation/DocumentRevisionsValidatorTest/";
+
+    @Test
+    public void revisionIsOpenedOnceTest() throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfReader(SOURCE_FOLDER + "multipleRevisionsDocument.pdf"))) {
+            List<DocumentRevision> revisions = new PdfRevisionsReader(document.getReader()).getAllRevisions();
+            RevisionDocuments revisionDocuments = new RevisionDocuments(document, new ValidationMetaInfo(), 2);
+
+            PdfDocument first = revisionDocuments.getDocument(revisions.get(0));
+            PdfDocument second = revisionDocuments.getDocument(revisions.get(1));
+
+            Assertions.assertSame(first, revisionDocuments.getDocument(revisions.get(0)));
+            Assertions.assertSame(second, revisionDocuments.getDocument(revisions.get(1)));
+            Assertions.assertNotSame(first, second);
+
+            revisionDocuments.close();
+            Assertions.assertTrue(first.isClosed());
+            Assertions.assertTrue(second.isClosed());
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedRevisionIsClosedTest() throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfReader(SOURCE_FOLDER + "multipleRevisionsDocument.pdf"))) {
+            List<DocumentRevision> revisions = new PdfRevisionsReader(document.getReader()).getAllRevisions();
+            Assertions.assertTrue(revisions.size() > 2);
+            RevisionDocuments revisionDocuments = new RevisionDocuments(document, new ValidationMetaInfo(), 2);
+
+            PdfDocument first = revisionDocuments.getDocument(revisions.get(0));
+            PdfDocument second = revisionDocuments.getDocument(revisions.get(1));
+            PdfDocument third = revisionDocuments.getDocument(revisions.get(2));
+
+            Assertions.assertTrue(first.isClosed());
+            Assertions.assertFalse(second.isClosed());
+            Assertions.assertFalse(third.isClosed());
+            Assertions.assertEquals(revisions.get(2).getEofOffset(), third.getReader().getFileLength());
+
+            revisionDocuments.close();
+            Assertions.assertTrue(third.isClosed());
+        }
+    }
+}
@@ -83,6 +83,8 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -662,6 +664,52 @@ public class RevocationDataValidatorTest extends ExtendedITextTest {
         Assertions.assertEquals(crlClient.getCalls().get(0).responses.get(1), mockCrlValidator.calls.get(0).crl);
     }
 
+    @Test
+    public void retrieveRevocationDataConcurrentlyTest() throws GeneralSecurityException, IOException {
+        Date checkDate = TimeTestUtil.TEST_DATE_TIME;
+
+        TestOcspResponseBuilder ocspBuilder = new TestOcspResponseBuilder(responderCert, ocspRespPrivateKey);
+        ocspBuilder.setProducedAt(checkDate);
+        ocspBuilder.setThisUpdate(DateTimeUtil.getCalendar(DateTimeUtil.addDaysToDate(checkDate, 1)));
+        ocspBuilder.setNextUpdate(DateTimeUtil.getCalendar(DateTimeUtil.addDaysToDate(checkDate, 3)));
+        TestOcspClientWrapper ocspClient = new TestOcspClientWrapper(
+                new TestOcspClient().addBuilderForCertIssuer(caCert, ocspBuilder));
+
+        TestCrlBuilder crlBuilder = new TestCrlBuilder(caCert, caPrivateKey, checkDate);
+        crlBuilder.setNextUpdate(DateTimeUtil.addDaysToDate(checkDate, 2));
+        TestCrlClientWrapper crlClient = new TestCrlClientWrapper(new TestCrlClient()
+                .addBuilderForCertIssuer(crlBuilder));
+
+        certificateRetriever.addTrustedCertificates(Collections.singletonList(caCert));
+        parameters.setRevocationOnlineFetching(ValidatorContexts.all(), CertificateSources.all(),
+                TimeBasedContexts.all(), SignatureValidationProperties.OnlineFetching.NEVER_FETCH);
+        mockCrlValidator.onCallDo(c ->
+                c.report.addReportItem(new ReportItem("1", "2", ReportItem.ReportItemStatus.INDETERMINATE)));
+        mockOCSPValidator.onCallDo(c ->
+                c.report.addReportItem(new ReportItem("1", "2", ReportItem.ReportItemStatus.INDETERMINATE)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ValidationReport report = new ValidationReport();
+        try {
+            validatorChainBuilder.withExecutorService(executor).buildRevocationDataValidator()
+                    .addCrlClient(crlClient)
+                    .addOcspClient(ocspClient)
+                    .validate(report, baseContext, checkCert, checkDate);
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, ocspClient.getCalls().size());
+        Assertions.assertEquals(1, crlClient.getCalls().size());
+        Assertions.assertEquals(ocspClient.getCalls().get(0).response, mockOCSPValidator.calls.get(0).ocspResp);
+        Assertions.assertEquals(crlClient.getCalls().get(0).responses.get(0), mockCrlValidator.calls.get(0).crl);
+        // Responses are still validated starting from the most recent one.
+        Assertions.assertFalse(
+                mockOCSPValidator.calls.get(0).timeStamp.after(mockCrlValidator.calls.get(0).timeStamp));
+        AssertValidationReport.assertThat(report, a -> a
+                .hasStatus(ValidationResult.INDETERMINATE));
+    }
+
 @Test
     public void responsesFromValidationClientArePassedTest() throws GeneralSecurityException, IOException {
         Date checkDate = TimeTestUtil.TEST_DATE_TIME;
@@ -23,11 +23,15 @@
 package com.itextpdf.signatures.validation;
 
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.actions.EventManager;
+import com.itextpdf.commons.actions.IEventHandler;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
 import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationException;
 import com.itextpdf.commons.bouncycastle.pkcs.AbstractPKCSException;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.kernel.crypto.CryptoUtil;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -38,6 +42,7 @@ import com.itextpdf.signatures.IOcspClient;
 import com.itextpdf.signatures.IssuingCertificateRetriever;
 import com.itextpdf.signatures.testutils.PemFileHelper;
 import com.itextpdf.signatures.testutils.builder.TestOcspResponseBuilder;
+import com.itextpdf.signatures.testutils.client.TestCrlClient;
 import com.itextpdf.signatures.testutils.client.TestOcspClient;
 import com.itextpdf.signatures.validation.context.CertificateSource;
 import com.itextpdf.signatures.validation.context.CertificateSources;
@@ -47,6 +52,8 @@ import com.itextpdf.signatures.validation.context.ValidatorContext;
 import com.itextpdf.signatures.validation.context.ValidatorContexts;
 import com.itextpdf.signatures.validation.mocks.MockRevocationDataValidator;
 import com.itextpdf.signatures.validation.report.ReportItem;
+import com.itextpdf.signatures.validation.report.ValidationMetricEvent;
+import com.itextpdf.signatures.validation.report.ValidationMetrics;
 import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 import com.itextpdf.test.ExtendedITextTest;
@@ -54,6 +61,7 @@ import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -62,6 +70,8 @@ import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
 import java.security.Security;
@@ -72,6 +82,10 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -211,6 +225,55 @@ public class SignatureValidatorIntegrationTest extends ExtendedITextTest {
         );
     }
 
+    @Test
+    public void validationMetricsTest() throws GeneralSecurityException, IOException,
+            AbstractOperatorCreationException, AbstractPKCSException {
+        String chainName = CERTS_SRC + "validCertsChain.pem";
+        Certificate[] certificateChain = PemFileHelper.readFirstChain(chainName);
+        X509Certificate rootCert = (X509Certificate) certificateChain[2];
+        PrivateKey rootPrivateKey = PemFileHelper.readFirstKey(CERTS_SRC + "rootCertKey.pem", PASSWORD);
+
+        List<ValidationMetricEvent> events = new ArrayList<>();
+        IEventHandler handler = event -> {
+            if (event instanceof ValidationMetricEvent) {
+                events.add((ValidationMetricEvent) event);
+            }
+        };
+        ValidationMetrics metrics = new ValidationMetrics(true);
+        EventManager.getInstance().register(handler);
+        try (PdfDocument document = new PdfDocument(new PdfReader(SOURCE_FOLDER + "validDoc.pdf"))) {
+            certificateRetriever.setTrustedCertificates(Collections.singletonList(rootCert));
+            addRevDataClients();
+            TestCrlClient crlClient = new TestCrlClient().addBuilderForCertIssuer(rootCert, rootPrivateKey);
+            builder.withCrlClient(() -> crlClient).withValidationMetrics(metrics);
+            parameters.setRevocationOnlineFetching(ValidatorContexts.of(ValidatorContext.CRL_VALIDATOR),
+                    CertificateSources.all(), TimeBasedContexts.all(),
+                    SignatureValidationProperties.OnlineFetching.ALWAYS_FETCH);
+
+            builder.buildSignatureValidator(document).validateSignatures();
+        } finally {
+            EventManager.getInstance().unregister(handler);
+        }
+
+        Assertions.assertEquals(1, metrics.getInvocationsCount(ValidationMetrics.SIGNATURE_VALIDATION));
+        Assertions.assertEquals(1, metrics.getInvocationsCount(ValidationMetrics.DOCUMENT_REVISIONS_VALIDATION));
+        Assertions.assertEquals(1, metrics.getInvocationsCount(ValidationMetrics.REVISION_PARSING));
+        Assertions.assertEquals(1, metrics.getInvocationsCount(ValidationMetrics.SIGNATURE_INTEGRITY_VERIFICATION));
+        Assertions.assertTrue(metrics.getInvocationsCount(ValidationMetrics.CERTIFICATE_CHAIN_VALIDATION) > 0);
+        Assertions.assertTrue(metrics.getInvocationsCount(ValidationMetrics.ISSUER_RETRIEVAL) > 0);
+        Assertions.assertTrue(metrics.getInvocationsCount(ValidationMetrics.CERTIFICATE_SIGNATURE_VERIFICATION) > 0);
+        Assertions.assertTrue(metrics.getInvocationsCount(ValidationMetrics.OCSP_VALIDATION) > 0);
+        Assertions.assertTrue(metrics.getInvocationsCount(ValidationMetrics.ONLINE_CRL_RETRIEVAL) > 0);
+        Assertions.assertEquals(0, metrics.getInvocationsCount(ValidationMetrics.ONLINE_OCSP_RETRIEVAL));
+        Assertions.assertTrue(metrics.getCounter(ValidationMetrics.ONLINE_CRLS) > 0);
+        Assertions.assertTrue(metrics.getCounter(ValidationMetrics.ONLINE_CRL_BYTES) > 0);
+        Assertions.assertTrue(metrics.getCounter(ValidationMetrics.CRL_CACHE_HITS)
+                + metrics.getCounter(ValidationMetrics.CRL_CACHE_MISSES) > 0);
+        Assertions.assertTrue(metrics.getDuration(ValidationMetrics.SIGNATURE_VALIDATION)
+                >= metrics.getDuration(ValidationMetrics.DOCUMENT_REVISIONS_VALIDATION));
+        Assertions.assertFalse(events.isEmpty());
+    }
+
     @Test
     public void shortValidityCertsWithOcspTest() throws GeneralSecurityException, IOException {
         String rootCertName = CERTS_SRC + "short_validity_root_cert.pem";
@@ -721,6 +784,124 @@ public class SignatureValidatorIntegrationTest extends ExtendedITextTest {
         }
     }
 
+    @Test
+    public void validateSignaturesConcurrentlyTest() throws Exception {
+        String trustedCertsFileName = CERTS_SRC + "trustedCerts.pem";
+        Certificate[] trustedCerts = PemFileHelper.readFirstChain(trustedCertsFileName);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"))) {
+            ValidationReport sequentialReport = new ValidatorChainBuilder()
+                    .withTrustedCertificates(Arrays.asList(trustedCerts))
+                    .withRevocationDataValidatorFactory(() -> new MockRevocationDataValidator())
+                    .buildSignatureValidator(document).validateSignatures();
+            ValidationReport concurrentReport = new ValidatorChainBuilder()
+                    .withTrustedCertificates(Arrays.asList(trustedCerts))
+                    .withRevocationDataValidatorFactory(() -> new MockRevocationDataValidator())
+                    .withExecutorService(executor)
+                    .buildSignatureValidator(document).validateSignatures();
+
+            Assertions.assertEquals(ValidationResult.VALID, concurrentReport.getValidationResult());
+            Assertions.assertEquals(sequentialReport.toString(), concurrentReport.toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void validateOnSingleThreadExecutorTest() throws Exception {
+        String trustedCertsFileName = CERTS_SRC + "trustedCerts.pem";
+        Certificate[] trustedCerts = PemFileHelper.readFirstChain(trustedCertsFileName);
+
+        // The validation itself occupies the only thread of the executor, so it has to run its own steps
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"))) {
+            ValidatorChainBuilder builder = new ValidatorChainBuilder()
+                    .withTrustedCertificates(Arrays.asList(trustedCerts))
+                    .withRevocationDataValidatorFactory(() -> new MockRevocationDataValidator())
+                    .withExecutorService(executor);
+            Future<ValidationReport> validation = executor.submit(
+                    () -> builder.buildSignatureValidator(document).validateSignatures());
+
+            Assertions.assertEquals(ValidationResult.VALID, validation.get(30, TimeUnit.SECONDS).getValidationResult());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void unreadableRevisionsConcurrentlyTest() throws Exception {
+        String trustedCertsFileName = CERTS_SRC + "trustedCerts.pem";
+        Certificate[] trustedCerts = PemFileHelper.readFirstChain(trustedCertsFileName);
+        byte[] documentBytes = Files.readAllBytes(Paths.get(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ValidationReport sequentialReport = validateWithUnreadableRevisions(documentBytes,
+                    new ValidatorChainBuilder().withTrustedCertificates(Arrays.asList(trustedCerts))
+                            .withRevocationDataValidatorFactory(() -> new MockRevocationDataValidator()));
+            ValidationReport concurrentReport = validateWithUnreadableRevisions(documentBytes,
+                    new ValidatorChainBuilder().withTrustedCertificates(Arrays.asList(trustedCerts))
+                            .withRevocationDataValidatorFactory(() -> new MockRevocationDataValidator())
+                            .withExecutorService(executor));
+
+            AssertValidationReport.assertThat(concurrentReport, a -> a
+                    .hasStatus(ValidationResult.INDETERMINATE)
+                    .hasLogItems(2, l -> l
+                            .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                            .withMessage(SignatureValidator.REVISIONS_RETRIEVAL_FAILED)
+                            .withExceptionCauseType(IOException.class)));
+            Assertions.assertEquals(sequentialReport.toString(), concurrentReport.toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ValidationReport validateWithUnreadableRevisions(byte[] documentBytes,
+            ValidatorChainBuilder builder) throws IOException {
+        UnreadableHeaderSource source = new UnreadableHeaderSource(documentBytes);
+        try (PdfDocument document = new PdfDocument(new PdfReader(source, new ReaderProperties()))) {
+            // The document itself is already read, only the revisions, which start with the header, are not readable
+            source.setHeaderUnreadable();
+            return builder.buildSignatureValidator(document).validateSignatures();
+        }
+    }
+
+    @Test
+    public void validateSingleSignatureConcurrentlyTest() throws Exception {
+        String rootCertName = CERTS_SRC + "root_cert.pem";
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(rootCertName)[0];
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ValidationReport report;
+        try (PdfDocument document = new PdfDocument(new PdfReader(SOURCE_FOLDER + "validateSingleSignature1.pdf"))) {
+            certificateRetriever.setTrustedCertificates(Collections.singletonList(rootCert));
+            addRevDataClients();
+            builder.withExecutorService(executor);
+
+            report = builder.buildSignatureValidator(document).validateSignature("Signature2");
+        } finally {
+            executor.shutdown();
+        }
+
+        AssertValidationReport.assertThat(report, a -> a
+                .hasStatus(ValidationResult.INVALID)
+                .hasNumberOfLogs(4).hasNumberOfFailures(1)
+                .hasLogItem(al -> al
+                        .withCheckName(DocumentRevisionsValidator.DOC_MDP_CHECK)
+                        .withMessage(DocumentRevisionsValidator.PAGE_ANNOTATIONS_MODIFIED)
+                        .withStatus(ReportItem.ReportItemStatus.INVALID))
+                .hasLogItem(al -> al
+                        .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                        .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "Signature2"))
+                .hasLogItem(al -> al
+                        .withCheckName(OCSPValidator.OCSP_CHECK)
+                        .withMessage(OCSPValidator.OCSP_RESPONDER_IS_CA))
+        );
+    }
+
     private void addRevDataClients()
             throws AbstractOperatorCreationException, IOException, AbstractPKCSException, CertificateException {
         String chainName = CERTS_SRC + "validCertsChain.pem";
@@ -747,4 +928,47 @@ public class SignatureValidatorIntegrationTest extends ExtendedITextTest {
         parameters.setRevocationOnlineFetching(ValidatorContexts.all(), CertificateSources.all(),
                 TimeBasedContexts.all(), SignatureValidationProperties.OnlineFetching.NEVER_FETCH);
     }
+
+    private static class UnreadableHeaderSource implements IRandomAccessSource {
+        private static final int HEADER_LENGTH = 8;
+
+        private final IRandomAccessSource source;
+        private boolean headerUnreadable;
+
+        UnreadableHeaderSource(byte[] bytes) {
+            this.source = new RandomAccessSourceFactory().createSource(bytes);
+        }
+
+        void setHeaderUnreadable() {
+            headerUnreadable = true;
+        }
+
+        @Override
+        public int get(long position) throws IOException {
+            checkPosition(position);
+            return source.get(position);
+        }
+
+        @Override
+        public int get(long position, byte[] bytes, int off, int len) throws IOException {
+            checkPosition(position);
+            return source.get(position, bytes, off, len);
+        }
+
+        @Override
+        public long length() {
+            return source.length();
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+
+        private void checkPosition(long position) throws IOException {
+            if (headerUnreadable && position < HEADER_LENGTH) {
+                throw new IOException("The header cannot be read.");
+            }
+        }
+    }
 }
@@ -25,6 +25,7 @@ package com.itextpdf.signatures.validation.mocks;
 import com.itextpdf.signatures.validation.TrustedCertificatesStore;
 
 import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -47,6 +48,7 @@ public class MockTrustedCertificatesStore extends TrustedCertificatesStore {
     public List<String> getCertificateTrustedForTimestampCalls =  new ArrayList<>();
     public List<String> getCertificateTrustedForCACalls =  new ArrayList<>();
     public List<String> getKnownCertificateCalls =  new ArrayList<>();
+    public List<X509Certificate> getPossibleIssuerCertificatesCalls =  new ArrayList<>();
     public int getAllTrustedCertificatesCallCount = 0;
 
     private Function<Certificate, Boolean> isCertificateGenerallyTrustedHandler;
@@ -60,6 +62,7 @@ public class MockTrustedCertificatesStore extends TrustedCertificatesStore {
     private Function<String, Set<Certificate>> getCertificateTrustedForTimestampHandler;
     private Function<String, Set<Certificate>> getCertificateTrustedForCAHandler;
     private Function<String, Set<Certificate>> getKnownCertificateHandler;
+    private Function<X509Certificate, Set<Certificate>> getPossibleIssuerCertificatesHandler;
     private Supplier<Collection<Certificate>> getAllTrustedCertificatesHandler;
 
 
@@ -202,6 +205,18 @@ public class MockTrustedCertificatesStore extends TrustedCertificatesStore {
         return null;
     }
 
+    @Override
+    public Set<Certificate> getPossibleIssuerCertificates(X509Certificate certificate) {
+        getPossibleIssuerCertificatesCalls.add(certificate);
+        if (getPossibleIssuerCertificatesHandler != null) {
+            return getPossibleIssuerCertificatesHandler.apply(certificate);
+        }
+        if (wrapped != null) {
+            return wrapped.getPossibleIssuerCertificates(certificate);
+        }
+        return null;
+    }
+
     @Override
     public Collection<Certificate> getAllTrustedCertificates() {
         getAllTrustedCertificatesCallCount++;
@@ -260,6 +275,11 @@ public class MockTrustedCertificatesStore extends TrustedCertificatesStore {
         getKnownCertificateHandler = callBack;
         return this;
     }
+    public MockTrustedCertificatesStore onGetPossibleIssuerCertificatesDo(
+            Function<X509Certificate, Set<Certificate>> callBack) {
+        getPossibleIssuerCertificatesHandler = callBack;
+        return this;
+    }
     public MockTrustedCertificatesStore onGetAllTrustedCertificatesDo(Supplier<Collection<Certificate>> callBack) {
         getAllTrustedCertificatesHandler = callBack;
         return this;
@@ -0,0 +1,102 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation.report;
+
+import com.itextpdf.commons.actions.EventManager;
+import com.itextpdf.commons.actions.IEventHandler;
+import com.itextpdf.signatures.validation.report.ValidationMetricEvent.MetricType;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ValidationMetricsTest extends ExtendedITextTest {
+
+    @Test
+    public void recordDurationsTest() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordDuration(ValidationMetrics.OCSP_VALIDATION, 5);
+        metrics.recordDuration(ValidationMetrics.OCSP_VALIDATION, 7);
+        metrics.recordDuration(ValidationMetrics.CRL_VALIDATION, 3);
+
+        Assertions.assertEquals(12, metrics.getDuration(ValidationMetrics.OCSP_VALIDATION));
+        Assertions.assertEquals(2, metrics.getInvocationsCount(ValidationMetrics.OCSP_VALIDATION));
+        Assertions.assertEquals(3, metrics.getDuration(ValidationMetrics.CRL_VALIDATION));
+        Assertions.assertEquals(1, metrics.getInvocationsCount(ValidationMetrics.CRL_VALIDATION));
+        Assertions.assertEquals(0, metrics.getDuration(ValidationMetrics.CERTIFICATE_CHAIN_VALIDATION));
+        Assertions.assertEquals(0, metrics.getInvocationsCount(ValidationMetrics.CERTIFICATE_CHAIN_VALIDATION));
+        Assertions.assertEquals(2, metrics.getDurations().size());
+        Assertions.assertTrue(metrics.getCounters().isEmpty());
+    }
+
+    @Test
+    public void countersTest() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.addToCounter(ValidationMetrics.ONLINE_CRL_BYTES, 100);
+        metrics.addToCounter(ValidationMetrics.ONLINE_CRL_BYTES, 50);
+        metrics.addToCounter(ValidationMetrics.ONLINE_CRLS, 2);
+
+        Assertions.assertEquals(150, metrics.getCounter(ValidationMetrics.ONLINE_CRL_BYTES));
+        Assertions.assertEquals(2, metrics.getCounter(ValidationMetrics.ONLINE_CRLS));
+        Assertions.assertEquals(0, metrics.getCounter(ValidationMetrics.ONLINE_OCSP_BYTES));
+        Assertions.assertEquals(2, metrics.getCounters().size());
+        Assertions.assertTrue(metrics.getDurations().isEmpty());
+
+        metrics.clear();
+        Assertions.assertEquals(0, metrics.getCounter(ValidationMetrics.ONLINE_CRL_BYTES));
+        Assertions.assertTrue(metrics.getCounters().isEmpty());
+    }
+
+    @Test
+    public void eventsTest() {
+        List<ValidationMetricEvent> events = new ArrayList<>();
+        IEventHandler handler = event -> {
+            if (event instanceof ValidationMetricEvent) {
+                events.add((ValidationMetricEvent) event);
+            }
+        };
+        EventManager.getInstance().register(handler);
+        try {
+            new ValidationMetrics().recordDuration(ValidationMetrics.OCSP_VALIDATION, 5);
+            Assertions.assertTrue(events.isEmpty());
+
+            ValidationMetrics metrics = new ValidationMetrics(true);
+            metrics.recordDuration(ValidationMetrics.OCSP_VALIDATION, 5);
+            metrics.addToCounter(ValidationMetrics.ONLINE_OCSP_BYTES, 10);
+        } finally {
+            EventManager.getInstance().unregister(handler);
+        }
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(ValidationMetrics.OCSP_VALIDATION, events.get(0).getName());
+        Assertions.assertEquals(MetricType.DURATION, events.get(0).getType());
+        Assertions.assertEquals(5, events.get(0).getValue());
+        Assertions.assertEquals(ValidationMetrics.ONLINE_OCSP_BYTES, events.get(1).getName());
+        Assertions.assertEquals(MetricType.COUNTER, events.get(1).getType());
+        Assertions.assertEquals(10, events.get(1).getValue());
+    }
+}